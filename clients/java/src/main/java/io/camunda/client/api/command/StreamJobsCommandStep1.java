@@ -104,5 +104,23 @@ public interface StreamJobsCommandStep1 {
      *     it to the broker.
      */
     StreamJobsCommandStep3 fetchVariables(String... fetchVariables);
+
+    /**
+     * Set the maximum number of jobs which may be pushed to this stream before the consumer
+     * completed, failed, or yielded some of them.
+     *
+     * <p>This is used to control the backpressure of the stream. When the maximum is reached, the
+     * broker stops pushing jobs to this stream and pushes them again once the consumer is done with
+     * some of the pushed jobs. Note that all streams with the same job type, worker name, timeout,
+     * fetched variables, and tenants share the same maximum.
+     *
+     * <p>If no maximum is set, or if it's zero or less, then the number of pushed jobs isn't
+     * limited.
+     *
+     * @param maxJobsActive the maximum number of active jobs pushed to this stream
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    StreamJobsCommandStep3 maxJobsActive(int maxJobsActive);
   }
 }
@@ -19,6 +19,7 @@ import io.camunda.client.api.CamundaFuture;
 import io.camunda.client.api.ExperimentalApi;
 import io.camunda.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.client.api.command.FailJobCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
@@ -74,6 +75,25 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(ActivatedJob job);
 
+  /**
+   * Command to complete several jobs at once.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(firstJobKey, json)
+   *  .addJob(secondJobKey)
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs are completed with one request per partition instead of one request per job. A job
+   * which can't be completed doesn't fail the others; check the results of the response to see
+   * which jobs were completed.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
@@ -111,7 +111,8 @@ public interface JobWorkerBuilderStep1 {
      * <p>This is used to control the backpressure of the worker. When the maximum is reached then
      * the worker will stop activating new jobs in order to not overwhelm the client and give other
      * workers the chance to work on the jobs. The worker will try to activate new jobs again when
-     * jobs are completed (or marked as failed).
+     * jobs are completed (or marked as failed). If streaming is enabled, the maximum is also
+     * advertised to the broker, which then stops pushing jobs to the worker once it's reached.
      *
      * <p>If no maximum is set then the default, from the {@link CamundaClientConfiguration}, is
      * used.
@@ -242,6 +243,31 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Opt-in feature to batch the job commands which the handler sends through the {@link
+     * JobClient} it is given. Instead of sending one request per completion right away, the
+     * completions are queued and sent together, once either {@code maxBatchSize} completions are
+     * queued, or once the oldest queued completion waited for {@code batchWindow}. Fail and throw
+     * error commands are not batched, but like the batches, they are only sent while there are less
+     * than {@code maxInFlightRequests} requests in flight.
+     *
+     * <p>The futures returned by the commands' {@code send()} complete once the respective request
+     * is answered. Handlers which don't wait on them are free to work on the next job while the
+     * batch fills up. Note that the request timeout of a completion command is ignored, as it is
+     * sent as part of a batch.
+     *
+     * <p>At most {@code maxJobsActive} commands are queued; while the queue is full, {@code send()}
+     * blocks the handler until a batch was sent. Closing the worker or the client sends the queued
+     * commands right away and waits for them to be answered.
+     *
+     * @param batchWindow how long a completion waits for other completions at most
+     * @param maxBatchSize the maximum amount of completions sent with one request
+     * @param maxInFlightRequests the maximum amount of job command requests in flight at once
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 commandBatching(
+        Duration batchWindow, int maxBatchSize, int maxInFlightRequests);
+
     /**
      * Open the worker and start to work on available tasks.
      *
@@ -39,6 +39,22 @@ public interface JobWorkerMetrics {
    */
   default void jobHandled(final int count) {}
 
+  /**
+   * Called every time the amount of job commands waiting to be sent changes. Only called if the
+   * worker batches its job commands.
+   *
+   * @param count the amount of job commands waiting to be sent
+   */
+  default void jobCommandsQueued(final int count) {}
+
+  /**
+   * Called every time a batch of job completions is sent. Only called if the worker batches its job
+   * commands.
+   *
+   * @param count the amount of job completions in the batch
+   */
+  default void jobCompletionsBatched(final int count) {}
+
   /**
    * Returns a new builder for the Micrometer bridge.
    *
@@ -32,6 +32,9 @@ import io.micrometer.core.instrument.Tag;
  * <ul>
  *   <li>A counter for the jobs activated count
  *   <li>A counter for the jobs handled count
+ *   <li>A gauge for the job commands waiting to be sent, if the worker batches its job commands
+ *   <li>A distribution summary of the job completion batch sizes, if the worker batches its job
+ *       commands
  * </ul>
  *
  * From these counters you can derive the rate of jobs activated, the rate of jobs handled, and
@@ -78,6 +81,24 @@ public interface MicrometerJobWorkerMetricsBuilder {
       public String asString() {
         return "zeebe.client.worker.job.handled";
       }
+    },
+
+    /** Gauge backing the {@link JobWorkerMetrics#jobCommandsQueued(int)} count. */
+    JOB_COMMANDS_QUEUED {
+      @Override
+      public String asString() {
+        return "zeebe.client.worker.job.commands.queued";
+      }
+    },
+
+    /**
+     * Distribution summary backing the {@link JobWorkerMetrics#jobCompletionsBatched(int)} count.
+     */
+    JOB_COMPLETION_BATCH_SIZE {
+      @Override
+      public String asString() {
+        return "zeebe.client.worker.job.completion.batch.size";
+      }
     }
   }
 }
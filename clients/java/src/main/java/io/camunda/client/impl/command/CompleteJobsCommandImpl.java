@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.command;
+
+import io.camunda.client.CredentialsProvider.StatusCode;
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.JsonMapper;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1.CompleteJobsCommandStep2;
+import io.camunda.client.api.command.FinalCommandStep;
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.impl.RetriableClientFutureImpl;
+import io.camunda.client.impl.response.CompleteJobsResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest.Builder;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class CompleteJobsCommandImpl
+    implements CompleteJobsCommandStep1, CompleteJobsCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final Builder builder;
+  private final Predicate<StatusCode> retryPredicate;
+  private Duration requestTimeout;
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    builder = CompleteJobsRequest.newBuilder();
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 addJob(final long jobKey) {
+    builder.addJobs(CompleteJobRequest.newBuilder().setJobKey(jobKey));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 addJob(final ActivatedJob job) {
+    ArgumentUtil.ensureNotNull("job", job);
+    return addJob(job.getKey());
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 addJob(final long jobKey, final String variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.addJobs(
+        CompleteJobRequest.newBuilder()
+            .setJobKey(jobKey)
+            .setVariables(jsonMapper.validateJson("variables", variables)));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep2 addJob(final long jobKey, final Object variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.addJobs(
+        CompleteJobRequest.newBuilder()
+            .setJobKey(jobKey)
+            .setVariables(jsonMapper.toJson(variables)));
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<CompleteJobsResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public CamundaFuture<CompleteJobsResponse> send() {
+    final CompleteJobsRequest request = builder.build();
+
+    final RetriableClientFutureImpl<CompleteJobsResponse, GatewayOuterClass.CompleteJobsResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CompleteJobsResponseImpl::new,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final CompleteJobsRequest request,
+      final StreamObserver<GatewayOuterClass.CompleteJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request, streamObserver);
+  }
+}
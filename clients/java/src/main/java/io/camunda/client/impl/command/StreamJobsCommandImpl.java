@@ -148,6 +148,12 @@ public final class StreamJobsCommandImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public StreamJobsCommandStep3 maxJobsActive(final int maxJobsActive) {
+    builder.setMaxJobsActive(maxJobsActive);
+    return this;
+  }
+
   @Override
   public StreamJobsCommandStep3 tenantId(final String tenantId) {
     customTenantIds.add(tenantId);
@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.JsonMapper;
+import io.camunda.client.api.command.ActivateJobsCommandStep1;
+import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
+import io.camunda.client.api.command.FailJobCommandStep1;
+import io.camunda.client.api.command.FailJobCommandStep1.FailJobCommandStep2;
+import io.camunda.client.api.command.FinalCommandStep;
+import io.camunda.client.api.command.StreamJobsCommandStep1;
+import io.camunda.client.api.command.ThrowErrorCommandStep1;
+import io.camunda.client.api.command.ThrowErrorCommandStep1.ThrowErrorCommandStep2;
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.response.CompleteJobResponse;
+import io.camunda.client.api.response.FailJobResponse;
+import io.camunda.client.api.worker.JobClient;
+import io.camunda.client.impl.command.CommandWithVariables;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The job client handed to the handlers of a worker which batches its job commands. Completions are
+ * coalesced by the {@link JobCommandBatcher}; fail and throw error commands are sent through it to
+ * respect its limit of requests in flight. All other commands are sent directly.
+ */
+final class BatchingJobClient implements JobClient {
+
+  private final JobClient delegate;
+  private final JsonMapper jsonMapper;
+  private final JobCommandBatcher batcher;
+
+  BatchingJobClient(
+      final JobClient delegate, final JsonMapper jsonMapper, final JobCommandBatcher batcher) {
+    this.delegate = delegate;
+    this.jsonMapper = jsonMapper;
+    this.batcher = batcher;
+  }
+
+  @Override
+  public CompleteJobCommandStep1 newCompleteCommand(final long jobKey) {
+    return new BatchedCompleteJobCommand(jsonMapper, jobKey, batcher);
+  }
+
+  @Override
+  public CompleteJobCommandStep1 newCompleteCommand(final ActivatedJob job) {
+    return newCompleteCommand(job.getKey());
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return delegate.newCompleteJobsCommand();
+  }
+
+  @Override
+  public FailJobCommandStep1 newFailCommand(final long jobKey) {
+    return new BatchedFailJobCommand(delegate.newFailCommand(jobKey), batcher);
+  }
+
+  @Override
+  public FailJobCommandStep1 newFailCommand(final ActivatedJob job) {
+    return newFailCommand(job.getKey());
+  }
+
+  @Override
+  public ThrowErrorCommandStep1 newThrowErrorCommand(final long jobKey) {
+    return new BatchedThrowErrorCommand(delegate.newThrowErrorCommand(jobKey), batcher);
+  }
+
+  @Override
+  public ThrowErrorCommandStep1 newThrowErrorCommand(final ActivatedJob job) {
+    return newThrowErrorCommand(job.getKey());
+  }
+
+  @Override
+  public ActivateJobsCommandStep1 newActivateJobsCommand() {
+    return delegate.newActivateJobsCommand();
+  }
+
+  @Override
+  public StreamJobsCommandStep1 newStreamJobsCommand() {
+    return delegate.newStreamJobsCommand();
+  }
+
+  private static final class BatchedCompleteJobCommand
+      extends CommandWithVariables<CompleteJobCommandStep1> implements CompleteJobCommandStep1 {
+
+    private final long jobKey;
+    private final JobCommandBatcher batcher;
+    private String variables;
+
+    private BatchedCompleteJobCommand(
+        final JsonMapper jsonMapper, final long jobKey, final JobCommandBatcher batcher) {
+      super(jsonMapper);
+      this.jobKey = jobKey;
+      this.batcher = batcher;
+    }
+
+    @Override
+    public FinalCommandStep<CompleteJobResponse> requestTimeout(final Duration requestTimeout) {
+      // ignored, as the completion is sent with a batch, which uses the default request timeout
+      return this;
+    }
+
+    @Override
+    public CamundaFuture<CompleteJobResponse> send() {
+      return batcher.complete(jobKey, variables);
+    }
+
+    @Override
+    protected CompleteJobCommandStep1 setVariablesInternal(final String variables) {
+      this.variables = variables;
+      return this;
+    }
+  }
+
+  private static final class BatchedFailJobCommand
+      implements FailJobCommandStep1, FailJobCommandStep2 {
+
+    private final FailJobCommandStep1 command;
+    private final JobCommandBatcher batcher;
+    private FailJobCommandStep2 commandStep2;
+    private FinalCommandStep<FailJobResponse> finalCommand;
+
+    private BatchedFailJobCommand(
+        final FailJobCommandStep1 command, final JobCommandBatcher batcher) {
+      this.command = command;
+      this.batcher = batcher;
+    }
+
+    @Override
+    public FailJobCommandStep2 retries(final int remainingRetries) {
+      commandStep2 = command.retries(remainingRetries);
+      finalCommand = commandStep2;
+      return this;
+    }
+
+    @Override
+    public FailJobCommandStep2 retryBackoff(final Duration backoffTimeout) {
+      commandStep2.retryBackoff(backoffTimeout);
+      return this;
+    }
+
+    @Override
+    public FailJobCommandStep2 errorMessage(final String errorMsg) {
+      commandStep2.errorMessage(errorMsg);
+      return this;
+    }
+
+    @Override
+    public FailJobCommandStep2 variables(final InputStream variables) {
+      commandStep2.variables(variables);
+      return this;
+    }
+
+    @Override
+    public FailJobCommandStep2 variables(final String variables) {
+      commandStep2.variables(variables);
+      return this;
+    }
+
+    @Override
+    public FailJobCommandStep2 variables(final Map<String, Object> variables) {
+      commandStep2.variables(variables);
+      return this;
+    }
+
+    @Override
+    public FailJobCommandStep2 variables(final Object variables) {
+      commandStep2.variables(variables);
+      return this;
+    }
+
+    @Override
+    public FailJobCommandStep2 variable(final String key, final Object value) {
+      commandStep2.variable(key, value);
+      return this;
+    }
+
+    @Override
+    public FinalCommandStep<FailJobResponse> requestTimeout(final Duration requestTimeout) {
+      finalCommand = commandStep2.requestTimeout(requestTimeout);
+      return this;
+    }
+
+    @Override
+    public CamundaFuture<FailJobResponse> send() {
+      return batcher.submit(finalCommand);
+    }
+  }
+
+  private static final class BatchedThrowErrorCommand
+      implements ThrowErrorCommandStep1, ThrowErrorCommandStep2 {
+
+    private final ThrowErrorCommandStep1 command;
+    private final JobCommandBatcher batcher;
+    private ThrowErrorCommandStep2 commandStep2;
+    private FinalCommandStep<Void> finalCommand;
+
+    private BatchedThrowErrorCommand(
+        final ThrowErrorCommandStep1 command, final JobCommandBatcher batcher) {
+      this.command = command;
+      this.batcher = batcher;
+    }
+
+    @Override
+    public ThrowErrorCommandStep2 errorCode(final String errorCode) {
+      commandStep2 = command.errorCode(errorCode);
+      finalCommand = commandStep2;
+      return this;
+    }
+
+    @Override
+    public ThrowErrorCommandStep2 errorMessage(final String errorMsg) {
+      commandStep2.errorMessage(errorMsg);
+      return this;
+    }
+
+    @Override
+    public ThrowErrorCommandStep2 variables(final InputStream variables) {
+      commandStep2.variables(variables);
+      return this;
+    }
+
+    @Override
+    public ThrowErrorCommandStep2 variables(final String variables) {
+      commandStep2.variables(variables);
+      return this;
+    }
+
+    @Override
+    public ThrowErrorCommandStep2 variables(final Map<String, Object> variables) {
+      commandStep2.variables(variables);
+      return this;
+    }
+
+    @Override
+    public ThrowErrorCommandStep2 variables(final Object variables) {
+      commandStep2.variables(variables);
+      return this;
+    }
+
+    @Override
+    public ThrowErrorCommandStep2 variable(final String key, final Object value) {
+      commandStep2.variable(key, value);
+      return this;
+    }
+
+    @Override
+    public FinalCommandStep<Void> requestTimeout(final Duration requestTimeout) {
+      finalCommand = commandStep2.requestTimeout(requestTimeout);
+      return this;
+    }
+
+    @Override
+    public CamundaFuture<Void> send() {
+      return batcher.submit(finalCommand);
+    }
+  }
+}
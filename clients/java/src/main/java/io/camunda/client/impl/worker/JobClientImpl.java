@@ -20,6 +20,7 @@ import io.camunda.client.CredentialsProvider.StatusCode;
 import io.camunda.client.api.JsonMapper;
 import io.camunda.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.client.api.command.FailJobCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1;
 import io.camunda.client.api.command.ThrowErrorCommandStep1;
@@ -27,6 +28,7 @@ import io.camunda.client.api.response.ActivatedJob;
 import io.camunda.client.api.worker.JobClient;
 import io.camunda.client.impl.command.ActivateJobsCommandImpl;
 import io.camunda.client.impl.command.CompleteJobCommandImpl;
+import io.camunda.client.impl.command.CompleteJobsCommandImpl;
 import io.camunda.client.impl.command.FailJobCommandImpl;
 import io.camunda.client.impl.command.StreamJobsCommandImpl;
 import io.camunda.client.impl.command.ThrowErrorCommandImpl;
@@ -66,6 +68,12 @@ public final class JobClientImpl implements JobClient {
     return newCompleteCommand(job.getKey());
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return new CompleteJobsCommandImpl(
+        asyncStub, jsonMapper, config.getDefaultRequestTimeout(), retryPredicate);
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return new FailJobCommandImpl(
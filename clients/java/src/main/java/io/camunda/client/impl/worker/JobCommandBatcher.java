@@ -0,0 +1,484 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.command.ClientException;
+import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1.CompleteJobsCommandStep2;
+import io.camunda.client.api.command.FinalCommandStep;
+import io.camunda.client.api.response.CompleteJobResponse;
+import io.camunda.client.api.response.CompleteJobResult;
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.api.worker.JobClient;
+import io.camunda.client.api.worker.JobWorkerMetrics;
+import io.camunda.client.impl.CamundaClientFutureImpl;
+import io.camunda.client.impl.Loggers;
+import io.camunda.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+
+/**
+ * Coalesces the job completions of a worker into batches, and bounds how many job command requests
+ * are in flight at once.
+ *
+ * <p>A completion waits until either enough completions are queued to fill a batch, or until the
+ * batch window of the oldest queued completion elapsed. All queued completions are then sent with a
+ * single {@link JobClient#newCompleteJobsCommand()}. Other job commands, e.g. to fail a job or to
+ * throw an error, can't be batched; they are sent right away, but share the limit of requests in
+ * flight with the batches. While that limit is reached, all commands stay queued.
+ *
+ * <p>The futures returned to the caller are completed once the respective request is answered, such
+ * that handlers may still wait for their command to be acknowledged if they want to.
+ *
+ * <p>Gateways of older versions don't implement {@link JobClient#newCompleteJobsCommand()}. Once a
+ * batch is rejected as unimplemented, the completions of it and of all later batches are sent as
+ * single {@link JobClient#newCompleteCommand(long)} requests instead. These are sent all at once,
+ * without waiting for each other, and count as a single request in flight.
+ *
+ * <p>At most {@code maxQueuedCommands} commands are queued. Once the queue is full, the caller is
+ * blocked until a batch was sent, such that a handler can't take on another job while its worker's
+ * commands pile up. On close, all queued commands are sent right away, and the caller is blocked
+ * until they are answered or the close timeout elapsed.
+ */
+final class JobCommandBatcher implements Closeable {
+
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+  private static final CompleteJobResponse COMPLETED =
+      new CompleteJobResponseImpl(GatewayOuterClass.CompleteJobResponse.getDefaultInstance());
+
+  private final JobClient jobClient;
+  private final ScheduledExecutorService scheduler;
+  private final long batchWindowMs;
+  private final int maxBatchSize;
+  private final int maxInFlightRequests;
+  private final int maxQueuedCommands;
+  private final long closeTimeoutNanos;
+  private final JobWorkerMetrics metrics;
+
+  // all below is guarded by this
+  private final Deque<PendingCompletion> completions = new ArrayDeque<>();
+  private final Deque<PendingCommand<?>> commands = new ArrayDeque<>();
+  private int inFlightRequests;
+  private boolean isFlushScheduled;
+  private boolean isFlushDue;
+  private boolean isClosed;
+  // set if the close timeout elapsed; from then on, no more commands are accepted
+  private boolean isTerminated;
+  // set once the gateway rejected a batch as unimplemented; from then on, jobs are completed singly
+  private volatile boolean isBatchingUnsupported;
+
+  JobCommandBatcher(
+      final JobClient jobClient,
+      final ScheduledExecutorService scheduler,
+      final Duration batchWindow,
+      final int maxBatchSize,
+      final int maxInFlightRequests,
+      final int maxQueuedCommands,
+      final Duration closeTimeout,
+      final JobWorkerMetrics metrics) {
+    this.jobClient = jobClient;
+    this.scheduler = scheduler;
+    batchWindowMs = batchWindow.toMillis();
+    this.maxBatchSize = maxBatchSize;
+    this.maxInFlightRequests = maxInFlightRequests;
+    // a full batch must always fit into the queue, otherwise it would never be sent
+    this.maxQueuedCommands = Math.max(maxQueuedCommands, maxBatchSize);
+    closeTimeoutNanos = closeTimeout.toNanos();
+    this.metrics = metrics;
+  }
+
+  /**
+   * Queues the completion of the given job, to be sent with the next batch. Blocks while the queue
+   * is full.
+   *
+   * @param jobKey the key of the job to complete
+   * @param variables the variables (JSON) to complete the job with, or null if there are none
+   * @return a future which is completed once the batch containing the completion is answered
+   */
+  CamundaFuture<CompleteJobResponse> complete(final long jobKey, final String variables) {
+    final CamundaClientFutureImpl<CompleteJobResponse, ?> future = new CamundaClientFutureImpl<>();
+    final List<Runnable> requests;
+    synchronized (this) {
+      if (!awaitQueueCapacity(future)) {
+        return future;
+      }
+
+      completions.add(new PendingCompletion(jobKey, variables, future));
+      requests = pollRequests();
+    }
+
+    requests.forEach(Runnable::run);
+    return future;
+  }
+
+  /**
+   * Queues a job command which can't be batched, to be sent as soon as the limit of requests in
+   * flight allows it. Blocks while the queue is full.
+   *
+   * @param command the command to send
+   * @return a future which is completed once the command is answered
+   */
+  <T> CamundaFuture<T> submit(final FinalCommandStep<T> command) {
+    final CamundaClientFutureImpl<T, ?> future = new CamundaClientFutureImpl<>();
+    final List<Runnable> requests;
+    synchronized (this) {
+      if (!awaitQueueCapacity(future)) {
+        return future;
+      }
+
+      commands.add(new PendingCommand<>(command, future));
+      requests = pollRequests();
+    }
+
+    requests.forEach(Runnable::run);
+    return future;
+  }
+
+  /**
+   * Sends all queued completions without waiting for the batch window to elapse, and waits until
+   * all queued and in-flight commands are answered. Commands which are still queued once the close
+   * timeout elapsed are failed.
+   */
+  @Override
+  public void close() {
+    final List<Runnable> requests;
+    synchronized (this) {
+      isClosed = true;
+      requests = pollRequests();
+    }
+
+    requests.forEach(Runnable::run);
+    awaitPendingRequests();
+  }
+
+  private void awaitPendingRequests() {
+    final List<CamundaClientFutureImpl<?, ?>> abandoned = new ArrayList<>();
+    synchronized (this) {
+      final long deadline = System.nanoTime() + closeTimeoutNanos;
+      long remainingNanos = closeTimeoutNanos;
+      while (hasPendingRequests() && remainingNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        remainingNanos = deadline - System.nanoTime();
+      }
+
+      if (!hasPendingRequests()) {
+        return;
+      }
+
+      isTerminated = true;
+      completions.forEach(completion -> abandoned.add(completion.future));
+      commands.forEach(command -> abandoned.add(command.future));
+      completions.clear();
+      commands.clear();
+      metrics.jobCommandsQueued(0);
+      notifyAll();
+    }
+
+    LOG.warn(
+        "Expected to send all queued job commands on close, but {} were still queued after {} ms;"
+            + " failing them",
+        abandoned.size(),
+        TimeUnit.NANOSECONDS.toMillis(closeTimeoutNanos));
+    final ClientException error =
+        new ClientException("Job command was not sent, as the job worker was closed");
+    abandoned.forEach(future -> future.completeExceptionally(error));
+  }
+
+  /**
+   * Waits until there is room in the queue. Must be called while holding the monitor.
+   *
+   * @return true if the command may be queued, false if the future was failed instead
+   */
+  private boolean awaitQueueCapacity(final CamundaClientFutureImpl<?, ?> future) {
+    while (!isTerminated && completions.size() + commands.size() >= maxQueuedCommands) {
+      try {
+        wait();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        future.completeExceptionally(
+            new ClientException("Interrupted while waiting to queue the job command", e));
+        return false;
+      }
+    }
+
+    if (isTerminated) {
+      future.completeExceptionally(
+          new ClientException("Job command was not sent, as the job worker was closed"));
+      return false;
+    }
+
+    return true;
+  }
+
+  private boolean hasPendingRequests() {
+    return inFlightRequests > 0 || !completions.isEmpty() || !commands.isEmpty();
+  }
+
+  private void onBatchWindowElapsed() {
+    final List<Runnable> requests;
+    synchronized (this) {
+      isFlushScheduled = false;
+      isFlushDue = true;
+      requests = pollRequests();
+    }
+
+    requests.forEach(Runnable::run);
+  }
+
+  private void onRequestDone() {
+    final List<Runnable> requests;
+    synchronized (this) {
+      inFlightRequests--;
+      requests = pollRequests();
+    }
+
+    requests.forEach(Runnable::run);
+  }
+
+  /**
+   * Takes as many requests from the queues as the limit of requests in flight allows. The returned
+   * requests must be sent outside the monitor, as their callbacks may be invoked synchronously.
+   * Wakes up the callers waiting for room in the queue or for the close to finish.
+   */
+  private List<Runnable> pollRequests() {
+    final List<Runnable> requests = new ArrayList<>();
+    while (inFlightRequests < maxInFlightRequests) {
+      if (!commands.isEmpty()) {
+        final PendingCommand<?> command = commands.poll();
+        requests.add(command::send);
+      } else if (isBatchReady()) {
+        requests.add(pollBatch());
+      } else {
+        break;
+      }
+
+      inFlightRequests++;
+    }
+
+    if (completions.isEmpty()) {
+      isFlushDue = false;
+    } else if (!isFlushDue && !isFlushScheduled && !isClosed) {
+      scheduleFlush();
+    }
+
+    metrics.jobCommandsQueued(completions.size() + commands.size());
+    notifyAll();
+    return requests;
+  }
+
+  private boolean isBatchReady() {
+    return completions.size() >= maxBatchSize || (isFlushDue || isClosed) && !completions.isEmpty();
+  }
+
+  private Runnable pollBatch() {
+    final List<PendingCompletion> batch = new ArrayList<>(maxBatchSize);
+    while (batch.size() < maxBatchSize && !completions.isEmpty()) {
+      batch.add(completions.poll());
+    }
+
+    metrics.jobCompletionsBatched(batch.size());
+    return () -> sendBatch(batch);
+  }
+
+  private void scheduleFlush() {
+    try {
+      scheduler.schedule(this::onBatchWindowElapsed, batchWindowMs, TimeUnit.MILLISECONDS);
+      isFlushScheduled = true;
+    } catch (final RejectedExecutionException e) {
+      LOG.debug("Expected to schedule the next batch of job completions, sending it right away", e);
+      isFlushDue = true;
+    }
+  }
+
+  private void sendBatch(final List<PendingCompletion> batch) {
+    if (isBatchingUnsupported) {
+      sendSingleCompletions(batch);
+      return;
+    }
+
+    final CompleteJobsCommandStep1 command = jobClient.newCompleteJobsCommand();
+    CompleteJobsCommandStep2 batchCommand = null;
+    for (final PendingCompletion completion : batch) {
+      batchCommand =
+          completion.variables == null
+              ? command.addJob(completion.jobKey)
+              : command.addJob(completion.jobKey, completion.variables);
+    }
+
+    try {
+      batchCommand
+          .send()
+          .whenComplete(
+              (response, error) -> {
+                if (error != null && Status.fromThrowable(error).getCode() == Code.UNIMPLEMENTED) {
+                  onBatchingUnsupported(batch);
+                  return;
+                }
+
+                onBatchCompleted(batch, response, error);
+                onRequestDone();
+              });
+    } catch (final Exception e) {
+      onBatchCompleted(batch, null, e);
+      onRequestDone();
+    }
+  }
+
+  private void onBatchingUnsupported(final List<PendingCompletion> batch) {
+    if (!isBatchingUnsupported) {
+      isBatchingUnsupported = true;
+      LOG.warn(
+          "Expected to complete jobs in batches, but the gateway does not support it; completing"
+              + " them one by one instead");
+    }
+
+    sendSingleCompletions(batch);
+  }
+
+  /**
+   * Sends a complete command for each job of the batch, without waiting for the previous ones to be
+   * answered. The batch counts as a single request in flight until all of them are answered.
+   */
+  private void sendSingleCompletions(final List<PendingCompletion> batch) {
+    final AtomicInteger remaining = new AtomicInteger(batch.size());
+    for (final PendingCompletion completion : batch) {
+      try {
+        final CompleteJobCommandStep1 command = jobClient.newCompleteCommand(completion.jobKey);
+        if (completion.variables != null) {
+          command.variables(completion.variables);
+        }
+
+        command
+            .send()
+            .whenComplete(
+                (response, error) ->
+                    onSingleCompletionDone(completion, response, error, remaining));
+      } catch (final Exception e) {
+        onSingleCompletionDone(completion, null, e, remaining);
+      }
+    }
+  }
+
+  private void onSingleCompletionDone(
+      final PendingCompletion completion,
+      final CompleteJobResponse response,
+      final Throwable error,
+      final AtomicInteger remaining) {
+    if (error != null) {
+      completion.future.completeExceptionally(error);
+    } else {
+      completion.future.complete(response);
+    }
+
+    if (remaining.decrementAndGet() == 0) {
+      onRequestDone();
+    }
+  }
+
+  private void onBatchCompleted(
+      final List<PendingCompletion> batch,
+      final CompleteJobsResponse response,
+      final Throwable error) {
+    if (error != null) {
+      batch.forEach(completion -> completion.future.completeExceptionally(error));
+      return;
+    }
+
+    final Map<Long, CompleteJobResult> results = new HashMap<>();
+    response.getResults().forEach(result -> results.put(result.getJobKey(), result));
+    for (final PendingCompletion completion : batch) {
+      final CompleteJobResult result = results.get(completion.jobKey);
+      if (result == null) {
+        completion.future.completeExceptionally(
+            new ClientException(
+                String.format(
+                    "Expected to receive the result of completing job with key '%d', but it was"
+                        + " missing in the response",
+                    completion.jobKey)));
+      } else if (result.isCompleted()) {
+        completion.future.complete(COMPLETED);
+      } else {
+        completion.future.completeExceptionally(new ClientException(result.getReason()));
+      }
+    }
+  }
+
+  private static final class PendingCompletion {
+    private final long jobKey;
+    private final String variables;
+    private final CamundaClientFutureImpl<CompleteJobResponse, ?> future;
+
+    private PendingCompletion(
+        final long jobKey,
+        final String variables,
+        final CamundaClientFutureImpl<CompleteJobResponse, ?> future) {
+      this.jobKey = jobKey;
+      this.variables = variables;
+      this.future = future;
+    }
+  }
+
+  private final class PendingCommand<T> {
+    private final FinalCommandStep<T> command;
+    private final CamundaClientFutureImpl<T, ?> future;
+
+    private PendingCommand(
+        final FinalCommandStep<T> command, final CamundaClientFutureImpl<T, ?> future) {
+      this.command = command;
+      this.future = future;
+    }
+
+    private void send() {
+      try {
+        command
+            .send()
+            .whenComplete(
+                (response, error) -> {
+                  if (error != null) {
+                    future.completeExceptionally(error);
+                  } else {
+                    future.complete(response);
+                  }
+                  onRequestDone();
+                });
+      } catch (final Exception e) {
+        future.completeExceptionally(e);
+        onRequestDone();
+      }
+    }
+  }
+}
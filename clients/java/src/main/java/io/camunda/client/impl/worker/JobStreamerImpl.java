@@ -46,6 +46,7 @@ final class JobStreamerImpl implements JobStreamer {
   private final Duration timeout;
   private final List<String> fetchVariables;
   private final List<String> tenantIds;
+  private final int maxJobsActive;
   private final Duration requestTimeout;
   private final BackoffSupplier backoffSupplier;
   private final ScheduledExecutorService executor;
@@ -70,6 +71,7 @@ final class JobStreamerImpl implements JobStreamer {
       final Duration timeout,
       final List<String> fetchVariables,
       final List<String> tenantIds,
+      final int maxJobsActive,
       final Duration requestTimeout,
       final BackoffSupplier backoffSupplier,
       final ScheduledExecutorService executor) {
@@ -79,6 +81,7 @@ final class JobStreamerImpl implements JobStreamer {
     this.timeout = timeout;
     this.fetchVariables = fetchVariables;
     this.tenantIds = tenantIds;
+    this.maxJobsActive = maxJobsActive;
     this.requestTimeout = requestTimeout;
     this.backoffSupplier = backoffSupplier;
     this.executor = executor;
@@ -159,7 +162,8 @@ final class JobStreamerImpl implements JobStreamer {
             .consumer(jobConsumer)
             .workerName(workerName)
             .tenantIds(tenantIds)
-            .timeout(timeout);
+            .timeout(timeout)
+            .maxJobsActive(maxJobsActive);
 
     if (fetchVariables != null) {
       command = command.fetchVariables(fetchVariables);
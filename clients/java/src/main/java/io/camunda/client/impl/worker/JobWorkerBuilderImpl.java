@@ -21,6 +21,7 @@ import static io.camunda.client.impl.command.ArgumentUtil.ensureNotNullNorEmpty;
 import static io.camunda.client.impl.command.ArgumentUtil.ensurePositive;
 
 import io.camunda.client.CamundaClientConfiguration;
+import io.camunda.client.api.JsonMapper;
 import io.camunda.client.api.worker.BackoffSupplier;
 import io.camunda.client.api.worker.JobClient;
 import io.camunda.client.api.worker.JobHandler;
@@ -43,7 +44,9 @@ public final class JobWorkerBuilderImpl
   public static final BackoffSupplier DEFAULT_BACKOFF_SUPPLIER =
       BackoffSupplier.newBackoffBuilder().build();
   public static final Duration DEFAULT_STREAMING_TIMEOUT = Duration.ofHours(8);
+  public static final Duration COMMAND_BATCHER_CLOSE_TIMEOUT = Duration.ofSeconds(10);
   private final JobClient jobClient;
+  private final JsonMapper jsonMapper;
   private final ScheduledExecutorService executorService;
   private final List<Closeable> closeables;
   private String jobType;
@@ -60,6 +63,9 @@ public final class JobWorkerBuilderImpl
   private boolean enableStreaming;
   private Duration streamingTimeout;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
+  private Duration commandBatchWindow;
+  private int maxCommandBatchSize;
+  private int maxInFlightCommandRequests;
 
   public JobWorkerBuilderImpl(
       final CamundaClientConfiguration configuration,
@@ -67,6 +73,7 @@ public final class JobWorkerBuilderImpl
       final ScheduledExecutorService executorService,
       final List<Closeable> closeables) {
     this.jobClient = jobClient;
+    jsonMapper = configuration.getJsonMapper();
     this.executorService = executorService;
     this.closeables = closeables;
 
@@ -164,6 +171,15 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 commandBatching(
+      final Duration batchWindow, final int maxBatchSize, final int maxInFlightRequests) {
+    commandBatchWindow = batchWindow;
+    maxCommandBatchSize = maxBatchSize;
+    maxInFlightCommandRequests = maxInFlightRequests;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -173,7 +189,33 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactoryImpl(jobClient, handler);
+    final JobClient handlerJobClient;
+    final JobCommandBatcher batcher;
+    if (commandBatchWindow != null) {
+      ensurePositive("commandBatchWindow", commandBatchWindow);
+      ensureGreaterThan("maxCommandBatchSize", maxCommandBatchSize, 0);
+      ensureGreaterThan("maxInFlightCommandRequests", maxInFlightCommandRequests, 0);
+
+      // queued completions count against maxJobsActive, as a handler is blocked while the queue
+      // is full
+      batcher =
+          new JobCommandBatcher(
+              jobClient,
+              executorService,
+              commandBatchWindow,
+              maxCommandBatchSize,
+              maxInFlightCommandRequests,
+              maxJobsActive,
+              COMMAND_BATCHER_CLOSE_TIMEOUT,
+              metrics);
+      handlerJobClient = new BatchingJobClient(jobClient, jsonMapper, batcher);
+    } else {
+      batcher = null;
+      handlerJobClient = jobClient;
+    }
+
+    final JobRunnableFactory jobRunnableFactory =
+        new JobRunnableFactoryImpl(handlerJobClient, handler);
     final JobPoller jobPoller =
         new JobPollerImpl(
             jobClient,
@@ -199,6 +241,7 @@ public final class JobWorkerBuilderImpl
               timeout,
               fetchVariables,
               getTenantIds(),
+              maxJobsActive,
               streamingTimeout,
               backoffSupplier,
               executorService);
@@ -218,7 +261,8 @@ public final class JobWorkerBuilderImpl
             jobStreamer,
             backoffSupplier,
             metrics,
-            jobExecutor);
+            jobExecutor,
+            batcher);
     closeables.add(jobWorker);
     return jobWorker;
   }
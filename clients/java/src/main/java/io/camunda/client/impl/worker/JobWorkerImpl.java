@@ -73,6 +73,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private final JobStreamer jobStreamer;
   private final BackoffSupplier backoffSupplier;
   private final JobWorkerMetrics metrics;
+  private final JobCommandBatcher commandBatcher;
 
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
@@ -92,6 +93,34 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final BackoffSupplier backoffSupplier,
       final JobWorkerMetrics metrics,
       final Executor jobExecutor) {
+    this(
+        maxJobsActive,
+        executor,
+        pollInterval,
+        jobHandlerFactory,
+        jobPoller,
+        jobStreamer,
+        backoffSupplier,
+        metrics,
+        jobExecutor,
+        null);
+  }
+
+  /**
+   * @param commandBatcher the batcher of the job commands sent by the handler, or null if they are
+   *     not batched; it is closed with the worker
+   */
+  JobWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobHandlerFactory,
+      final JobPoller jobPoller,
+      final JobStreamer jobStreamer,
+      final BackoffSupplier backoffSupplier,
+      final JobWorkerMetrics metrics,
+      final Executor jobExecutor,
+      final JobCommandBatcher commandBatcher) {
     this.maxJobsActive = maxJobsActive;
     activationThreshold = Math.round(maxJobsActive * 0.3f);
     remainingJobs = new AtomicInteger(0);
@@ -103,6 +132,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     initialPollInterval = pollInterval.toMillis();
     this.backoffSupplier = backoffSupplier;
     this.metrics = metrics;
+    this.commandBatcher = commandBatcher;
 
     claimableJobPoller = new AtomicReference<>(jobPoller);
     this.pollInterval = initialPollInterval;
@@ -129,6 +159,10 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   public void close() {
     acquiringJobs.set(false);
     jobStreamer.close();
+    if (commandBatcher != null) {
+      // sends the queued job commands and waits for their responses
+      commandBatcher.close();
+    }
   }
 
   /**
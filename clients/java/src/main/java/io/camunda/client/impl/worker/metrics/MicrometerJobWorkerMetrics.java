@@ -17,19 +17,31 @@ package io.camunda.client.impl.worker.metrics;
 
 import io.camunda.client.api.worker.JobWorkerMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
 
   private final Counter jobActivatedCounter;
   private final Counter jobHandledCounter;
+  private final AtomicInteger jobCommandsQueued;
+  private final DistributionSummary jobCompletionBatchSize;
 
   public MicrometerJobWorkerMetrics(
-      final Counter jobActivatedCounter, final Counter jobHandledCounter) {
+      final Counter jobActivatedCounter,
+      final Counter jobHandledCounter,
+      final AtomicInteger jobCommandsQueued,
+      final DistributionSummary jobCompletionBatchSize) {
     this.jobActivatedCounter =
         Objects.requireNonNull(jobActivatedCounter, "must specify a job activated counter");
     this.jobHandledCounter =
         Objects.requireNonNull(jobHandledCounter, "must specify a job handled counter");
+    this.jobCommandsQueued =
+        Objects.requireNonNull(jobCommandsQueued, "must specify a job commands queued gauge");
+    this.jobCompletionBatchSize =
+        Objects.requireNonNull(
+            jobCompletionBatchSize, "must specify a job completion batch size summary");
   }
 
   @Override
@@ -41,4 +53,14 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
   public void jobHandled(final int count) {
     jobHandledCounter.increment(count);
   }
+
+  @Override
+  public void jobCommandsQueued(final int count) {
+    jobCommandsQueued.set(count);
+  }
+
+  @Override
+  public void jobCompletionsBatched(final int count) {
+    jobCompletionBatchSize.record(count);
+  }
 }
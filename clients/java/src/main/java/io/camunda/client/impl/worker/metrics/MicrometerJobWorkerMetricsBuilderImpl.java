@@ -18,10 +18,12 @@ package io.camunda.client.impl.worker.metrics;
 import io.camunda.client.api.worker.JobWorkerMetrics;
 import io.camunda.client.api.worker.metrics.MicrometerJobWorkerMetricsBuilder;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class MicrometerJobWorkerMetricsBuilderImpl
     implements MicrometerJobWorkerMetricsBuilder {
@@ -44,6 +46,11 @@ public final class MicrometerJobWorkerMetricsBuilderImpl
   public JobWorkerMetrics build() {
     final Counter jobActivatedCounter = meterRegistry.counter(Names.JOB_ACTIVATED.asString(), tags);
     final Counter jobHandledCounter = meterRegistry.counter(Names.JOB_HANDLED.asString(), tags);
-    return new MicrometerJobWorkerMetrics(jobActivatedCounter, jobHandledCounter);
+    final AtomicInteger jobCommandsQueued =
+        meterRegistry.gauge(Names.JOB_COMMANDS_QUEUED.asString(), tags, new AtomicInteger());
+    final DistributionSummary jobCompletionBatchSize =
+        meterRegistry.summary(Names.JOB_COMPLETION_BATCH_SIZE.asString(), tags);
+    return new MicrometerJobWorkerMetrics(
+        jobActivatedCounter, jobHandledCounter, jobCommandsQueued, jobCompletionBatchSize);
   }
 }
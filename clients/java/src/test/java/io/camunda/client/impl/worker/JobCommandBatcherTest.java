@@ -0,0 +1,418 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.command.ClientException;
+import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1.CompleteJobsCommandStep2;
+import io.camunda.client.api.command.FinalCommandStep;
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.response.CompleteJobResponse;
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.api.worker.JobClient;
+import io.camunda.client.api.worker.JobWorkerMetrics;
+import io.camunda.client.impl.CamundaClientFutureImpl;
+import io.camunda.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.client.impl.response.CompleteJobsResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.awaitility.Awaitility;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class JobCommandBatcherTest {
+
+  private static final Duration BATCH_WINDOW = Duration.ofMillis(10);
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final DeterministicScheduler scheduler = new DeterministicScheduler();
+  private final JobClient jobClient = mock(JobClient.class);
+  private final List<TestCompleteJobsCommand> sentBatches = new CopyOnWriteArrayList<>();
+  private final TestJobWorkerMetrics metrics = new TestJobWorkerMetrics();
+
+  @BeforeEach
+  void beforeEach() {
+    when(jobClient.newCompleteJobsCommand()).thenAnswer(i -> new TestCompleteJobsCommand());
+  }
+
+  @Test
+  void shouldSendFullBatchRightAway() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(2, 1);
+
+    // when
+    batcher.complete(1, null);
+    batcher.complete(2, "{\"foo\":\"bar\"}");
+
+    // then
+    assertThat(sentBatches).hasSize(1);
+    assertThat(sentBatches.get(0).jobKeys).containsExactly(1L, 2L);
+    assertThat(sentBatches.get(0).variables).containsExactly(null, "{\"foo\":\"bar\"}");
+  }
+
+  @Test
+  void shouldSendBatchOnceWindowElapsed() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(10, 1);
+    batcher.complete(1, null);
+    batcher.complete(2, null);
+
+    // when
+    scheduler.tick(BATCH_WINDOW.toMillis() - 1, TimeUnit.MILLISECONDS);
+    final int sentBeforeWindow = sentBatches.size();
+    scheduler.tick(1, TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(sentBeforeWindow).isZero();
+    assertThat(sentBatches).hasSize(1);
+    assertThat(sentBatches.get(0).jobKeys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldSendQueuedCompletionsOnClose() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(10, 1);
+    batcher.complete(1, null);
+
+    // when
+    final CompletableFuture<Void> closed = CompletableFuture.runAsync(batcher::close);
+
+    // then
+    Awaitility.await("batch is sent on close").until(() -> sentBatches, hasSize(1));
+    assertThat(sentBatches.get(0).jobKeys).containsExactly(1L);
+    sentBatches.get(0).respond(1L);
+    assertThat(closed).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldAwaitRequestsInFlightOnClose() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(1, 1);
+    final CamundaFuture<CompleteJobResponse> inFlight = batcher.complete(1, null);
+    final CamundaFuture<CompleteJobResponse> queued = batcher.complete(2, null);
+
+    // when
+    final CompletableFuture<Void> closed = CompletableFuture.runAsync(batcher::close);
+    sentBatches.get(0).respond(1L);
+    Awaitility.await("queued batch is sent").until(() -> sentBatches, hasSize(2));
+    final boolean closedBeforeLastResponse = closed.isDone();
+    sentBatches.get(1).respond(2L);
+
+    // then
+    assertThat(closedBeforeLastResponse).isFalse();
+    assertThat(closed).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(inFlight.toCompletableFuture()).isCompleted();
+    assertThat(queued.toCompletableFuture()).isCompleted();
+  }
+
+  @Test
+  void shouldFailQueuedCommandsOnceCloseTimedOut() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(1, 1, 100, Duration.ofMillis(10));
+    batcher.complete(1, null);
+    final CamundaFuture<CompleteJobResponse> queued = batcher.complete(2, null);
+
+    // when
+    batcher.close();
+
+    // then
+    assertThat(sentBatches).hasSize(1);
+    assertThat(queued.toCompletableFuture())
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(Exception.class)
+        .withCauseInstanceOf(ClientException.class);
+    assertThat(batcher.complete(3, null).toCompletableFuture()).isCompletedExceptionally();
+  }
+
+  @Test
+  void shouldBlockWhileQueueIsFull() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(1, 1, 1, CLOSE_TIMEOUT);
+    batcher.complete(1, null);
+    batcher.complete(2, null);
+
+    // when
+    final CompletableFuture<CamundaFuture<CompleteJobResponse>> blocked =
+        CompletableFuture.supplyAsync(() -> batcher.complete(3, null));
+    assertThatThrownBy(() -> blocked.get(100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    sentBatches.get(0).respond(1L);
+
+    // then
+    assertThat(blocked).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(sentBatches).hasSize(2);
+    assertThat(sentBatches.get(1).jobKeys).containsExactly(2L);
+  }
+
+  @Test
+  void shouldLimitRequestsInFlight() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(1, 1);
+    batcher.complete(1, null);
+    batcher.complete(2, null);
+    final int sentWhileInFlight = sentBatches.size();
+
+    // when
+    sentBatches.get(0).respond(1L);
+
+    // then
+    assertThat(sentWhileInFlight).isOne();
+    assertThat(sentBatches).hasSize(2);
+    assertThat(sentBatches.get(1).jobKeys).containsExactly(2L);
+  }
+
+  @Test
+  void shouldCompleteFuturesWithTheirResult() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(2, 1);
+    final CamundaFuture<CompleteJobResponse> completed = batcher.complete(1, null);
+    final CamundaFuture<CompleteJobResponse> notCompleted = batcher.complete(2, null);
+
+    // when
+    sentBatches.get(0).respond(1L);
+
+    // then
+    assertThat(completed.toCompletableFuture()).isCompleted();
+    assertThat(notCompleted.toCompletableFuture())
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(Exception.class)
+        .withCauseInstanceOf(ClientException.class)
+        .withMessageContaining("not found");
+  }
+
+  @Test
+  void shouldFailAllFuturesOfFailedBatch() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(2, 1);
+    final CamundaFuture<CompleteJobResponse> first = batcher.complete(1, null);
+    final CamundaFuture<CompleteJobResponse> second = batcher.complete(2, null);
+
+    // when
+    sentBatches.get(0).future.completeExceptionally(new ClientException("unavailable"));
+
+    // then
+    assertThat(first.toCompletableFuture()).isCompletedExceptionally();
+    assertThat(second.toCompletableFuture()).isCompletedExceptionally();
+  }
+
+  @Test
+  void shouldCompleteJobsSinglyIfBatchingIsUnimplemented() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(2, 1);
+    final CompleteJobCommandStep1 firstCommand = mockCompleteCommand(1);
+    final CompleteJobCommandStep1 secondCommand = mockCompleteCommand(2);
+    final CamundaFuture<CompleteJobResponse> first = batcher.complete(1, null);
+    final CamundaFuture<CompleteJobResponse> second = batcher.complete(2, "{\"foo\":1}");
+
+    // when
+    sentBatches
+        .get(0)
+        .future
+        .completeExceptionally(new StatusRuntimeException(Status.UNIMPLEMENTED));
+
+    // then
+    verify(firstCommand, never()).variables(anyString());
+    verify(secondCommand).variables("{\"foo\":1}");
+    verify(firstCommand).send();
+    verify(secondCommand).send();
+    assertThat(first.toCompletableFuture()).isCompleted();
+    assertThat(second.toCompletableFuture()).isCompleted();
+  }
+
+  @Test
+  void shouldNotSendFurtherBatchesOnceBatchingIsUnimplemented() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(1, 1);
+    final CompleteJobCommandStep1 firstCommand = mockCompleteCommand(1);
+    final CompleteJobCommandStep1 secondCommand = mockCompleteCommand(2);
+    batcher.complete(1, null);
+    sentBatches
+        .get(0)
+        .future
+        .completeExceptionally(new StatusRuntimeException(Status.UNIMPLEMENTED));
+
+    // when
+    final CamundaFuture<CompleteJobResponse> second = batcher.complete(2, null);
+
+    // then
+    assertThat(sentBatches).hasSize(1);
+    verify(firstCommand, times(1)).send();
+    verify(secondCommand).send();
+    assertThat(second.toCompletableFuture()).isCompleted();
+  }
+
+  @Test
+  void shouldSendOtherCommandsWithinTheLimitOfRequestsInFlight() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(1, 1);
+    final CamundaClientFutureImpl<Void, ?> commandFuture = new CamundaClientFutureImpl<>();
+    final FinalCommandStep<Void> command = mock(FinalCommandStep.class);
+    when(command.send()).thenReturn(commandFuture);
+    batcher.complete(1, null);
+
+    // when
+    final CamundaFuture<Void> result = batcher.submit(command);
+    verify(command, never()).send();
+    sentBatches.get(0).respond(1L);
+    commandFuture.complete(null);
+
+    // then
+    verify(command).send();
+    assertThat(result.toCompletableFuture()).isCompleted();
+  }
+
+  @Test
+  void shouldReportQueueDepthAndBatchSize() {
+    // given
+    final JobCommandBatcher batcher = createBatcher(2, 1);
+
+    // when
+    batcher.complete(1, null);
+    final int queuedBeforeBatch = metrics.queued;
+    batcher.complete(2, null);
+
+    // then
+    assertThat(queuedBeforeBatch).isOne();
+    assertThat(metrics.queued).isZero();
+    assertThat(metrics.batchSizes).containsExactly(2);
+  }
+
+  /** Mocks the single complete command of the given job, which is answered right away. */
+  private CompleteJobCommandStep1 mockCompleteCommand(final long jobKey) {
+    final CompleteJobCommandStep1 command = mock(CompleteJobCommandStep1.class);
+    final CamundaClientFutureImpl<CompleteJobResponse, ?> future = new CamundaClientFutureImpl<>();
+    future.complete(new CompleteJobResponseImpl(null));
+    when(command.variables(anyString())).thenReturn(command);
+    when(command.send()).thenReturn(future);
+    when(jobClient.newCompleteCommand(jobKey)).thenReturn(command);
+    return command;
+  }
+
+  private JobCommandBatcher createBatcher(final int maxBatchSize, final int maxInFlightRequests) {
+    return createBatcher(maxBatchSize, maxInFlightRequests, 100, CLOSE_TIMEOUT);
+  }
+
+  private JobCommandBatcher createBatcher(
+      final int maxBatchSize,
+      final int maxInFlightRequests,
+      final int maxQueuedCommands,
+      final Duration closeTimeout) {
+    return new JobCommandBatcher(
+        jobClient,
+        scheduler,
+        BATCH_WINDOW,
+        maxBatchSize,
+        maxInFlightRequests,
+        maxQueuedCommands,
+        closeTimeout,
+        metrics);
+  }
+
+  private static final class TestJobWorkerMetrics implements JobWorkerMetrics {
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private int queued;
+
+    @Override
+    public void jobCommandsQueued(final int count) {
+      queued = count;
+    }
+
+    @Override
+    public void jobCompletionsBatched(final int count) {
+      batchSizes.add(count);
+    }
+  }
+
+  private final class TestCompleteJobsCommand
+      implements CompleteJobsCommandStep1, CompleteJobsCommandStep2 {
+    private final List<Long> jobKeys = new ArrayList<>();
+    private final List<String> variables = new ArrayList<>();
+    private final CamundaClientFutureImpl<CompleteJobsResponse, ?> future =
+        new CamundaClientFutureImpl<>();
+
+    @Override
+    public CompleteJobsCommandStep2 addJob(final long jobKey) {
+      jobKeys.add(jobKey);
+      variables.add(null);
+      return this;
+    }
+
+    @Override
+    public CompleteJobsCommandStep2 addJob(final ActivatedJob job) {
+      return addJob(job.getKey());
+    }
+
+    @Override
+    public CompleteJobsCommandStep2 addJob(final long jobKey, final String variables) {
+      jobKeys.add(jobKey);
+      this.variables.add(variables);
+      return this;
+    }
+
+    @Override
+    public CompleteJobsCommandStep2 addJob(final long jobKey, final Object variables) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FinalCommandStep<CompleteJobsResponse> requestTimeout(final Duration requestTimeout) {
+      return this;
+    }
+
+    @Override
+    public CamundaFuture<CompleteJobsResponse> send() {
+      sentBatches.add(this);
+      return future;
+    }
+
+    /** Answers the batch, such that only the given jobs were completed. */
+    private void respond(final Long... completedJobKeys) {
+      final List<Long> completed = Arrays.asList(completedJobKeys);
+      final GatewayOuterClass.CompleteJobsResponse.Builder response =
+          GatewayOuterClass.CompleteJobsResponse.newBuilder();
+      for (final long jobKey : jobKeys) {
+        response.addResults(
+            GatewayOuterClass.CompleteJobResult.newBuilder()
+                .setJobKey(jobKey)
+                .setCompleted(completed.contains(jobKey))
+                .setReason(completed.contains(jobKey) ? "" : "not found"));
+      }
+      future.complete(new CompleteJobsResponseImpl(response.build()));
+    }
+  }
+}
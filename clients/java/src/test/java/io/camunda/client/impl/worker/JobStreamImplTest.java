@@ -115,6 +115,7 @@ final class JobStreamImplTest {
             .addFetchVariable("foo")
             .addFetchVariable("bar")
             .addTenantIds("test-tenant")
+            .setMaxJobsActive(32)
             .build();
 
     // when
@@ -184,6 +185,7 @@ final class JobStreamImplTest {
         Duration.ofSeconds(10),
         Arrays.asList("foo", "bar"),
         Arrays.asList("test-tenant"),
+        32,
         Duration.ofHours(8),
         ignored -> 10_000L,
         scheduler);
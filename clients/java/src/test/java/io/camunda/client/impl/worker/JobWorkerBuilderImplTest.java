@@ -188,6 +188,29 @@ class JobWorkerBuilderImplTest {
     verify(lastStep, atLeast(1)).requestTimeout(Duration.ofHours(8));
   }
 
+  @Test
+  void shouldAdvertiseMaxJobsActiveOnStream() {
+    // given
+    final StreamJobsCommandStep3 lastStep = Mockito.mock(Answers.RETURNS_SELF);
+    Mockito.when(jobClient.newStreamJobsCommand().jobType(anyString()).consumer(any()))
+        .thenReturn(lastStep);
+    Mockito.when(lastStep.tenantIds(anyList())).thenReturn(lastStep);
+    Mockito.when(lastStep.send()).thenReturn(Mockito.mock());
+
+    // when
+    jobWorkerBuilder
+        .jobType("type")
+        .handler((c, j) -> {})
+        .timeout(1)
+        .name("test")
+        .maxJobsActive(30)
+        .streamEnabled(true)
+        .open();
+
+    // then
+    verify(lastStep, atLeast(1)).maxJobsActive(30);
+  }
+
   @Test
   void shouldForwardDefaultTenantIdOnPoll() {
     // given
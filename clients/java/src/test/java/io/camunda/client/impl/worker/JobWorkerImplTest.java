@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.camunda.client.CamundaClient;
+import io.camunda.client.api.response.CompleteJobResponse;
 import io.camunda.client.api.worker.JobHandler;
 import io.camunda.client.api.worker.JobWorker;
 import io.camunda.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
@@ -33,6 +34,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
@@ -49,11 +53,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.awaitility.Awaitility;
 import org.hamcrest.Matchers;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -97,6 +105,11 @@ public final class JobWorkerImplTest {
             new CamundaClientBuilderImpl(), channel, GatewayGrpc.newStub(channel));
   }
 
+  @After
+  public void tearDown() {
+    gateway.responseScheduler.shutdownNow();
+  }
+
   @Test
   public void shouldBackoffWhenGatewayRespondsWithResourceExhausted() {
     // given a gateway that responds with some jobs
@@ -277,6 +290,31 @@ public final class JobWorkerImplTest {
     }
   }
 
+  @Test
+  public void shouldSendPendingCompletionsWhenClientIsClosed() {
+    // given a worker which batches its completions for longer than the test runs
+    final List<Future<CompleteJobResponse>> completions = new CopyOnWriteArrayList<>();
+    client
+        .newWorker()
+        .jobType("t")
+        .handler((c, j) -> completions.add(c.newCompleteCommand(j).send().toCompletableFuture()))
+        .pollInterval(Duration.ofHours(1))
+        .streamEnabled(true)
+        .commandBatching(Duration.ofHours(1), 10, 1)
+        .open();
+    Awaitility.await("We need to wait until the streams have been opened")
+        .until(() -> !gateway.openStreams.isEmpty());
+    gateway.pushJobs(TestData.jobs(3));
+    Awaitility.await("Handler should see all jobs").until(() -> completions, Matchers.hasSize(3));
+
+    // when
+    client.close();
+
+    // then
+    assertThat(gateway.completedJobKeys).containsExactlyInAnyOrder(0L, 1L, 2L);
+    assertThat(completions).allSatisfy(future -> assertThat(future).succeedsWithin(Duration.ZERO));
+  }
+
   /**
    * This mocked gateway is able to record metrics on polling for new jobs and easily switch how it
    * responds to polling.
@@ -291,6 +329,9 @@ public final class JobWorkerImplTest {
 
     private final Map<StreamActivatedJobsRequest, StreamObserver<ActivatedJob>> openStreams =
         new HashMap<>();
+    private final List<Long> completedJobKeys = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService responseScheduler =
+        Executors.newSingleThreadScheduledExecutor();
     private final Object responsesLock = new Object();
     private boolean isInErrorMode = false;
     private ActivateJobsResponse pollSuccessResponse = ActivateJobsResponse.newBuilder().build();
@@ -337,6 +378,30 @@ public final class JobWorkerImplTest {
       observer.setOnCloseHandler(() -> openStreams.remove(request));
     }
 
+    @Override
+    public void completeJobs(
+        final CompleteJobsRequest request,
+        final StreamObserver<CompleteJobsResponse> responseObserver) {
+      final CompleteJobsResponse.Builder response = CompleteJobsResponse.newBuilder();
+      request
+          .getJobsList()
+          .forEach(
+              job -> {
+                completedJobKeys.add(job.getJobKey());
+                response.addResults(
+                    CompleteJobResult.newBuilder().setJobKey(job.getJobKey()).setCompleted(true));
+              });
+
+      // answer with a delay, such that the request is still in flight when the client is closed
+      responseScheduler.schedule(
+          () -> {
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+          },
+          100,
+          TimeUnit.MILLISECONDS);
+    }
+
     public void respondWith(final List<ActivatedJob> jobs) {
       synchronized (responsesLock) {
         System.out.println("Now responding with jobs");
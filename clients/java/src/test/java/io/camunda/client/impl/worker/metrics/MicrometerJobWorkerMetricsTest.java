@@ -18,6 +18,8 @@ package io.camunda.client.impl.worker.metrics;
 import io.camunda.client.api.worker.JobWorkerMetrics;
 import io.camunda.client.api.worker.metrics.MicrometerJobWorkerMetricsBuilder.Names;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -58,6 +60,33 @@ final class MicrometerJobWorkerMetricsTest {
         .has(hasCount(3));
   }
 
+  @Test
+  void shouldReportQueuedJobCommands() {
+    // when
+    metrics.jobCommandsQueued(4);
+
+    // then
+    Assertions.assertThat(
+            meterRegistry.find(Names.JOB_COMMANDS_QUEUED.asString()).tags(tags).gauge())
+        .isNotNull()
+        .extracting(Gauge::value)
+        .isEqualTo(4.0);
+  }
+
+  @Test
+  void shouldRecordCompletionBatchSizes() {
+    // when
+    metrics.jobCompletionsBatched(2);
+    metrics.jobCompletionsBatched(6);
+
+    // then
+    final DistributionSummary summary =
+        meterRegistry.find(Names.JOB_COMPLETION_BATCH_SIZE.asString()).tags(tags).summary();
+    Assertions.assertThat(summary).isNotNull();
+    Assertions.assertThat(summary.count()).isEqualTo(2);
+    Assertions.assertThat(summary.totalAmount()).isEqualTo(8.0);
+  }
+
   private Condition<MeterRegistry> hasCounter(final Names name, final Iterable<Tag> tags) {
     return VerboseCondition.verboseCondition(
         registry -> registry.find(name.asString()).tags(tags).counter() != null,
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.response.CompleteJobResult;
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.util.ClientTest;
+import io.camunda.client.util.JsonUtil;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final ActivatedJob job = Mockito.mock(ActivatedJob.class);
+    Mockito.when(job.getKey()).thenReturn(13L);
+
+    // when
+    client.newCompleteJobsCommand().addJob(12).addJob(job).send().join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey, CompleteJobRequest::getVariables)
+        .containsExactly(tuple(12L, ""), tuple(13L, ""));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldCompleteJobsWithVariables() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    client
+        .newCompleteJobsCommand()
+        .addJob(12, json)
+        .addJob(13, Collections.singletonMap("foo", "bar"))
+        .send()
+        .join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    JsonUtil.assertEquality(request.getJobs(0).getVariables(), json);
+    JsonUtil.assertEquality(request.getJobs(1).getVariables(), "{\"foo\": \"bar\"}");
+  }
+
+  @Test
+  public void shouldReturnResultPerJob() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        GatewayOuterClass.CompleteJobResult.newBuilder().setJobKey(12).setCompleted(true).build(),
+        GatewayOuterClass.CompleteJobResult.newBuilder()
+            .setJobKey(13)
+            .setCompleted(false)
+            .setReason("not found")
+            .build());
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().addJob(12).addJob(13).send().join();
+
+    // then
+    assertThat(response.getResults())
+        .extracting(
+            CompleteJobResult::getJobKey,
+            CompleteJobResult::isCompleted,
+            CompleteJobResult::getReason)
+        .containsExactly(tuple(12L, true, ""), tuple(13L, false, "not found"));
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client.newCompleteJobsCommand().addJob(12).requestTimeout(requestTimeout).send().join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
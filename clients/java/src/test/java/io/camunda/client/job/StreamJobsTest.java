@@ -199,6 +199,7 @@ public final class StreamJobsTest extends ClientTest {
         .isEqualTo(client.getConfiguration().getDefaultJobTimeout().toMillis());
     assertThat(request.getWorker()).isEqualTo(client.getConfiguration().getDefaultJobWorkerName());
     assertThat(request.getFetchVariableList()).isEmpty();
+    assertThat(request.getMaxJobsActive()).isZero();
   }
 
   @Test
@@ -231,6 +232,22 @@ public final class StreamJobsTest extends ClientTest {
     assertThat(request.getWorker()).isEqualTo("testWorker");
   }
 
+  @Test
+  public void shouldSetMaxJobsActive() {
+    // when
+    client
+        .newStreamJobsCommand()
+        .jobType("foo")
+        .consumer(ignored -> {})
+        .maxJobsActive(32)
+        .send()
+        .join();
+
+    // then
+    final StreamActivatedJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getMaxJobsActive()).isEqualTo(32);
+  }
+
   @Test
   public void shouldSetRequestTimeout() {
     // given
@@ -28,6 +28,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -82,6 +85,7 @@ import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public final class RecordingGatewayService extends GatewayImplBase {
 
@@ -116,6 +120,20 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        r ->
+            CompleteJobsResponse.newBuilder()
+                .addAllResults(
+                    r.getJobsList().stream()
+                        .map(
+                            job ->
+                                CompleteJobResult.newBuilder()
+                                    .setJobKey(job.getJobKey())
+                                    .setCompleted(true)
+                                    .build())
+                        .collect(Collectors.toList()))
+                .build());
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
@@ -325,6 +343,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
@@ -539,6 +564,12 @@ public final class RecordingGatewayService extends GatewayImplBase {
                 .build());
   }
 
+  public void onCompleteJobsRequest(final CompleteJobResult... results) {
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        request -> CompleteJobsResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+  }
+
   public void onActivateJobsRequest(final ActivatedJob... activatedJobs) {
     addRequestHandler(
         ActivateJobsRequest.class,
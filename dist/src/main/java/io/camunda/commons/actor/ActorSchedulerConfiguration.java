@@ -10,6 +10,8 @@ package io.camunda.commons.actor;
 import io.camunda.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.util.VisibleForTesting;
+import java.util.function.Supplier;
+import org.agrona.concurrent.IdleStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,15 +47,42 @@ public final class ActorSchedulerConfiguration {
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setIoBoundVirtualThreads(schedulerConfiguration.virtualIoThreads())
             .setMetricsEnabled(metricsEnabled)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
+            .setCpuBoundIdleStrategySupplier(schedulerConfiguration.cpuIdleStrategySupplier())
+            .setIoBoundIdleStrategySupplier(schedulerConfiguration.ioIdleStrategySupplier())
             .build();
     scheduler.start();
 
     return scheduler;
   }
 
+  /**
+   * @param cpuIdleStrategySupplier idle strategy of the CPU bound threads, or null to use the
+   *     shared {@link IdleStrategySupplier}
+   * @param ioIdleStrategySupplier idle strategy of the I/O bound threads, or null to use the shared
+   *     {@link IdleStrategySupplier}
+   * @param virtualIoThreads whether the I/O bound threads are virtual threads
+   */
   public record SchedulerConfiguration(
-      int cpuThreads, int ioThreads, boolean metricsEnabled, String prefix, String nodeId) {}
+      int cpuThreads,
+      int ioThreads,
+      boolean metricsEnabled,
+      String prefix,
+      String nodeId,
+      Supplier<IdleStrategy> cpuIdleStrategySupplier,
+      Supplier<IdleStrategy> ioIdleStrategySupplier,
+      boolean virtualIoThreads) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String prefix,
+        final String nodeId) {
+      this(cpuThreads, ioThreads, metricsEnabled, prefix, nodeId, null, null, false);
+    }
+  }
 }
@@ -15,9 +15,13 @@ import io.camunda.commons.configuration.WorkingDirectoryConfiguration.WorkingDir
 import io.camunda.commons.job.JobHandlerConfiguration.ActivateJobHandlerConfiguration;
 import io.camunda.zeebe.broker.clustering.ClusterConfigFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.broker.system.configuration.ThreadsCfg.IdleStrategyCfg;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled.RestGatewayDisabled;
+import io.camunda.zeebe.scheduler.AdaptiveIdleStrategy;
 import java.time.Duration;
+import java.util.function.Supplier;
+import org.agrona.concurrent.IdleStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.context.LifecycleProperties;
@@ -69,7 +73,30 @@ public final class BrokerBasedConfiguration {
     final var ioThreads = threadCfg.getIoThreadCount();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads,
+        ioThreads,
+        metricsEnabled,
+        "Broker",
+        nodeId,
+        idleStrategySupplier(threadCfg.getCpuIdleStrategy()),
+        idleStrategySupplier(threadCfg.getIoIdleStrategy()),
+        threadCfg.isEnableVirtualIoThreads());
+  }
+
+  private static Supplier<IdleStrategy> idleStrategySupplier(final IdleStrategyCfg cfg) {
+    return switch (cfg.getType()) {
+      case BACKOFF -> null;
+      case ADAPTIVE ->
+          () ->
+              new AdaptiveIdleStrategy(
+                  cfg.getMaxSpins(),
+                  cfg.getMaxYields(),
+                  cfg.getMinParkPeriod().toNanos(),
+                  cfg.getMaxParkPeriod().toNanos(),
+                  cfg.getSpinThreshold().toNanos(),
+                  cfg.getYieldThreshold().toNanos());
+    };
   }
 
   @ConditionalOnProperty(prefix = "zeebe.broker.gateway", name = "enable", havingValue = "false")
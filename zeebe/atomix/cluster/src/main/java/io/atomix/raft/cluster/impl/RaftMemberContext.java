@@ -35,20 +35,26 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final boolean appendPipeliningEnabled;
+  private final int maxInFlightSnapshotChunks;
   private boolean open = true;
   private long term;
   private long configIndex;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private ByteBuffer acknowledgedSnapshotChunk;
+  private long snapshotReplicationVersion;
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendBytes;
+  private long resetVersion;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +64,13 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final boolean appendPipeliningEnabled,
+      final int maxInFlightSnapshotChunks) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.appendPipeliningEnabled = appendPipeliningEnabled;
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
   }
 
   /** Resets the member state. */
@@ -68,13 +78,17 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    acknowledgedSnapshotChunk = null;
+    snapshotReplicationVersion++;
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    inFlightAppendBytes = 0;
+    resetVersion++;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -144,7 +158,9 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an append request can be sent to the member.
+   * Returns a boolean indicating whether an append request can be sent to the member. If append
+   * pipelining is enabled, requests are sent as long as the window of in-flight requests isn't
+   * full; otherwise, they are additionally paced by the member's average append latency.
    *
    * @return Indicates whether an append request can be sent to the member.
    */
@@ -153,8 +169,9 @@ public final class RaftMemberContext {
         && (inFlightAppendCount == 0
             || (appendSucceeded
                 && inFlightAppendCount < maxAppendsPerMember
-                && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                    >= appendTime));
+                && (appendPipeliningEnabled
+                    || System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
+                        >= appendTime)));
   }
 
   /**
@@ -187,7 +204,17 @@ public final class RaftMemberContext {
 
   /** Starts an append request to the member. */
   public void startAppend() {
+    startAppend(0);
+  }
+
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes The approximate size of the entries sent with the request.
+   */
+  public void startAppend(final long bytes) {
     inFlightAppendCount++;
+    inFlightAppendBytes += bytes;
     appendTime = System.currentTimeMillis();
   }
 
@@ -200,12 +227,43 @@ public final class RaftMemberContext {
    * Completes an append request to the member.
    *
    * @param time The time in milliseconds for the append.
+   * @param bytes The approximate size of the entries sent with the request.
    */
-  public void completeAppend(final long time) {
+  public void completeAppend(final long time, final long bytes) {
     inFlightAppendCount--;
+    inFlightAppendBytes = Math.max(0, inFlightAppendBytes - bytes);
     timeStats.addValue(time);
   }
 
+  /**
+   * Returns the number of append requests sent to the member which weren't answered yet.
+   *
+   * @return The number of in-flight append requests.
+   */
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
+  }
+
+  /**
+   * Returns the approximate size of the entries sent to the member which weren't acknowledged yet.
+   *
+   * @return The number of in-flight bytes.
+   */
+  public long getInFlightAppendBytes() {
+    return inFlightAppendBytes;
+  }
+
+  /**
+   * Returns the version of the member's next index, which is incremented whenever the next index is
+   * reset. As multiple append requests may be in flight, responses to requests sent before the last
+   * reset are outdated, and must not reset the next index again.
+   *
+   * @return The version of the member's next index.
+   */
+  public long getResetVersion() {
+    return resetVersion;
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -231,17 +289,26 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open && inFlightInstallCount < maxInFlightSnapshotChunks;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount = Math.max(0, inFlightInstallCount - 1);
+  }
+
+  /**
+   * Returns the number of install requests which were sent to the member but not yet answered.
+   *
+   * @return the number of in-flight install requests
+   */
+  public int getInFlightInstallCount() {
+    return inFlightInstallCount;
   }
 
   /**
@@ -274,10 +341,11 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendingBytes", inFlightAppendBytes)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -418,6 +486,57 @@ public final class RaftMemberContext {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns the ID of the next chunk the member acknowledged to expect, from where the snapshot
+   * replication is resumed if a chunk fails to be sent.
+   *
+   * @return the ID of the next acknowledged chunk, or null if no chunk was acknowledged yet
+   */
+  public ByteBuffer getAcknowledgedSnapshotChunk() {
+    return acknowledgedSnapshotChunk;
+  }
+
+  /**
+   * Records that the member expects the given chunk next.
+   *
+   * @param nextChunkId the ID of the next chunk the member expects
+   */
+  public void acknowledgeSnapshotChunk(final ByteBuffer nextChunkId) {
+    acknowledgedSnapshotChunk = nextChunkId;
+  }
+
+  /**
+   * Returns the version of the snapshot replication to the member. The version changes whenever the
+   * replication is resumed or restarted, such that responses to install requests which were sent
+   * before can be recognized as stale.
+   *
+   * @return the current snapshot replication version
+   */
+  public long getSnapshotReplicationVersion() {
+    return snapshotReplicationVersion;
+  }
+
+  /**
+   * Continues the snapshot replication from the given chunk, discarding all chunks in flight.
+   *
+   * @param chunkId the ID of the next chunk to send; if null, starts again from the first chunk
+   */
+  public void resumeSnapshotReplication(final ByteBuffer chunkId) {
+    nextSnapshotChunk = chunkId;
+    snapshotReplicationVersion++;
+  }
+
+  /**
+   * Restarts the snapshot replication from the first chunk of the latest snapshot, discarding all
+   * chunks in flight.
+   */
+  public void restartSnapshotReplication() {
+    nextSnapshotIndex = 0;
+    nextSnapshotChunk = null;
+    acknowledgedSnapshotChunk = null;
+    snapshotReplicationVersion++;
+  }
+
   /**
    * Returns the member response time.
    *
@@ -480,6 +599,7 @@ public final class RaftMemberContext {
   }
 
   public void reset(final long index) {
+    resetVersion++;
     final var nextIndex = reader.seek(index - 1);
     if (nextIndex == index - 1) {
       currentEntry = reader.next();
@@ -64,6 +64,7 @@ import io.atomix.raft.roles.LeaderRole;
 import io.atomix.raft.roles.PassiveRole;
 import io.atomix.raft.roles.PromotableRole;
 import io.atomix.raft.roles.RaftRole;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.StorageException;
 import io.atomix.raft.storage.log.RaftLog;
@@ -402,6 +403,18 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public boolean isAppendPipeliningEnabled() {
+    return partitionConfig.isAppendPipeliningEnabled();
+  }
+
+  public int getMaxInFlightSnapshotChunks() {
+    return partitionConfig.getMaxInFlightSnapshotChunks();
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return partitionConfig.getSnapshotChunkCompression();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import io.prometheus.client.Histogram.Timer;
+
+public final class GroupCommitFlusherMetrics extends RaftMetrics {
+  private static final String TRIGGER_LABEL = "trigger";
+
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_flush_latency")
+          .help("Time it takes to flush a batch of entries to disk")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.5, 1)
+          .register();
+
+  private static final Histogram BATCH_ENTRIES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_batch_entries")
+          .help("Number of entries flushed together in a single batch")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500)
+          .register();
+
+  private static final Histogram BATCH_BYTES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_batch_bytes")
+          .help("Number of bytes flushed together in a single batch")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .exponentialBuckets(1024, 4, 8)
+          .register();
+
+  private static final Counter BATCH_TRIGGER =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_batch_trigger")
+          .help("Number of flushed batches by what triggered the flush: bytes, entries or deadline")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL, TRIGGER_LABEL)
+          .register();
+
+  private final Histogram.Child flushLatency;
+  private final Histogram.Child batchEntries;
+  private final Histogram.Child batchBytes;
+
+  public GroupCommitFlusherMetrics(final String partitionName) {
+    super(partitionName);
+    flushLatency = FLUSH_LATENCY.labels(partitionGroupName, partition);
+    batchEntries = BATCH_ENTRIES.labels(partitionGroupName, partition);
+    batchBytes = BATCH_BYTES.labels(partitionGroupName, partition);
+  }
+
+  public Timer startFlushTimer() {
+    return flushLatency.startTimer();
+  }
+
+  public void observeBatch(final long entries, final long bytes, final String trigger) {
+    batchEntries.observe(entries);
+    batchBytes.observe(bytes);
+    BATCH_TRIGGER.labels(partitionGroupName, partition, trigger).inc();
+  }
+}
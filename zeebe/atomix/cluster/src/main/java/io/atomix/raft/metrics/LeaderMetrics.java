@@ -54,6 +54,24 @@ public class LeaderMetrics extends RaftMetrics {
           .help("The number of non-replicated entries for a given followers")
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
+  private static final Gauge IN_FLIGHT_APPENDS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_entries_in_flight")
+          .help(
+              "The number of append requests sent to a follower which weren't answered yet, i.e. the occupancy of the append window")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Gauge IN_FLIGHT_APPEND_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_entries_in_flight_bytes")
+          .help(
+              "The approximate size in bytes of the entries sent to a follower which weren't acknowledged yet")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
   private static final Counter COMMIT_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -88,6 +106,12 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeInFlightAppends(
+      final String memberId, final int inFlightAppends, final long inFlightBytes) {
+    IN_FLIGHT_APPENDS.labels(memberId, partitionGroupName, partition).set(inFlightAppends);
+    IN_FLIGHT_APPEND_BYTES.labels(memberId, partitionGroupName, partition).set(inFlightBytes);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
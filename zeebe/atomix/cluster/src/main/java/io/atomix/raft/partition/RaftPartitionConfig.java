@@ -16,6 +16,7 @@
  */
 package io.atomix.raft.partition;
 
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.raft.zeebe.EntryValidator;
 import java.time.Duration;
 
@@ -26,15 +27,20 @@ public class RaftPartitionConfig {
   private static final Duration DEFAULT_SNAPSHOT_REQUEST_TIMEOUT = Duration.ofMillis(2500);
   private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
   private static final boolean DEFAULT_PRIORITY_ELECTION = true;
+  private static final boolean DEFAULT_APPEND_PIPELINING = false;
   private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(5);
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
+  private static final SnapshotChunkCompression DEFAULT_SNAPSHOT_CHUNK_COMPRESSION =
+      SnapshotChunkCompression.NONE;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean appendPipeliningEnabled = DEFAULT_APPEND_PIPELINING;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -45,6 +51,8 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
+  private SnapshotChunkCompression snapshotChunkCompression = DEFAULT_SNAPSHOT_CHUNK_COMPRESSION;
 
   /**
    * Returns the Raft leader election timeout.
@@ -102,6 +110,21 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isAppendPipeliningEnabled() {
+    return appendPipeliningEnabled;
+  }
+
+  /**
+   * Enables pipelining of append requests. If enabled, the leader sends up to {@link
+   * #getMaxAppendsPerFollower()} append requests to a follower without waiting for their responses,
+   * instead of pacing them by the follower's average append latency.
+   *
+   * @param enable whether to pipeline append requests
+   */
+  public void setAppendPipeliningEnabled(final boolean enable) {
+    appendPipeliningEnabled = enable;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -144,6 +167,34 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  /**
+   * Sets how many snapshot chunks the leader sends to a follower without waiting for their
+   * responses. With the default of one, each chunk is only sent once the previous one was
+   * acknowledged.
+   *
+   * @param maxInFlightSnapshotChunks the maximum number of unacknowledged chunks per follower
+   */
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return snapshotChunkCompression;
+  }
+
+  /**
+   * Sets the codec with which the leader compresses snapshot chunks sent to followers.
+   *
+   * @param snapshotChunkCompression the compression codec of snapshot chunks
+   */
+  public void setSnapshotChunkCompression(final SnapshotChunkCompression snapshotChunkCompression) {
+    this.snapshotChunkCompression = snapshotChunkCompression;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -220,6 +271,8 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", appendPipeliningEnabled="
+        + appendPipeliningEnabled
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
@@ -228,6 +281,10 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", maxInFlightSnapshotChunks="
+        + maxInFlightSnapshotChunks
+        + ", snapshotChunkCompression="
+        + snapshotChunkCompression
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
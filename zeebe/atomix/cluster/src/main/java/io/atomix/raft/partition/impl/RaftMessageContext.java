@@ -38,6 +38,11 @@ class RaftMessageContext {
   final String appendV1subject;
   final String appendV2subject;
   final String leaderHeartbeatSubject;
+  final String configureSbeSubject;
+  final String installSbeSubject;
+  final String pollSbeSubject;
+  final String voteSbeSubject;
+  final String appendSbeSubject;
 
   RaftMessageContext(final String prefix) {
     heartbeatSubject = getSubject(prefix, "heartbeat");
@@ -59,6 +64,11 @@ class RaftMessageContext {
     appendV1subject = getSubject(prefix, "append");
     appendV2subject = getSubject(prefix, "append-versioned");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
+    configureSbeSubject = getSubject(prefix, "configure-sbe");
+    installSbeSubject = getSubject(prefix, "install-sbe");
+    pollSbeSubject = getSubject(prefix, "poll-sbe");
+    voteSbeSubject = getSubject(prefix, "vote-sbe");
+    appendSbeSubject = getSubject(prefix, "append-sbe");
   }
 
   private static String getSubject(final String prefix, final String type) {
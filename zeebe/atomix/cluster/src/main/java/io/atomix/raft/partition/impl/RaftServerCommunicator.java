@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -43,16 +44,27 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  private static final Duration SBE_RETRY_INTERVAL = Duration.ofMinutes(1);
+  private static final int SBE_FALLBACK_THRESHOLD = 3;
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final Serializer sbeSerializer = new RaftProtocolSBESerializer();
+  // members which didn't accept SBE encoded messages, and since when
+  private final Map<MemberId, Long> sbeUnsupportedSince = new ConcurrentHashMap<>();
+  // consecutive SBE encoded requests per member which found no handler
+  private final Map<MemberId, Integer> sbeMissingHandlerCounts = new ConcurrentHashMap<>();
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -79,7 +91,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<ConfigureResponse> configure(
       final MemberId memberId, final ConfigureRequest request) {
-    return sendAndReceive(context.configureSubject, request, memberId);
+    return sendAndReceive(
+        context.configureSbeSubject, context.configureSubject, request, memberId, requestTimeout);
   }
 
   @Override
@@ -109,7 +122,12 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<InstallResponse> install(
       final MemberId memberId, final InstallRequest request) {
-    return sendAndReceive(context.installSubject, request, memberId, snapshotRequestTimeout);
+    return sendAndReceive(
+        context.installSbeSubject,
+        context.installSubject,
+        request,
+        memberId,
+        snapshotRequestTimeout);
   }
 
   @Override
@@ -120,12 +138,14 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   @Override
   public CompletableFuture<PollResponse> poll(final MemberId memberId, final PollRequest request) {
-    return sendAndReceive(context.pollSubject, request, memberId);
+    return sendAndReceive(
+        context.pollSbeSubject, context.pollSubject, request, memberId, requestTimeout);
   }
 
   @Override
   public CompletableFuture<VoteResponse> vote(final MemberId memberId, final VoteRequest request) {
-    return sendAndReceive(context.voteSubject, request, memberId);
+    return sendAndReceive(
+        context.voteSbeSubject, context.voteSubject, request, memberId, requestTimeout);
   }
 
   @Override
@@ -137,7 +157,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    return sendAndReceive(
+        context.appendSbeSubject, context.appendV2subject, request, memberId, requestTimeout);
   }
 
   @Override
@@ -158,16 +179,13 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void registerConfigureHandler(
       final Function<ConfigureRequest, CompletableFuture<ConfigureResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.configureSubject,
-        serializer::decode,
-        handler.<ConfigureRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.configureSubject, context.configureSbeSubject, handler);
   }
 
   @Override
   public void unregisterConfigureHandler() {
     clusterCommunicator.unsubscribe(context.configureSubject);
+    clusterCommunicator.unsubscribe(context.configureSbeSubject);
   }
 
   @Override
@@ -233,46 +251,37 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void registerInstallHandler(
       final Function<InstallRequest, CompletableFuture<InstallResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.installSubject,
-        serializer::decode,
-        handler.<InstallRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.installSubject, context.installSbeSubject, handler);
   }
 
   @Override
   public void unregisterInstallHandler() {
     clusterCommunicator.unsubscribe(context.installSubject);
+    clusterCommunicator.unsubscribe(context.installSbeSubject);
   }
 
   @Override
   public void registerPollHandler(
       final Function<PollRequest, CompletableFuture<PollResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.pollSubject,
-        serializer::decode,
-        handler.<PollRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.pollSubject, context.pollSbeSubject, handler);
   }
 
   @Override
   public void unregisterPollHandler() {
     clusterCommunicator.unsubscribe(context.pollSubject);
+    clusterCommunicator.unsubscribe(context.pollSbeSubject);
   }
 
   @Override
   public void registerVoteHandler(
       final Function<VoteRequest, CompletableFuture<VoteResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.voteSubject,
-        serializer::decode,
-        handler.<VoteRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.voteSubject, context.voteSbeSubject, handler);
   }
 
   @Override
   public void unregisterVoteHandler() {
     clusterCommunicator.unsubscribe(context.voteSubject);
+    clusterCommunicator.unsubscribe(context.voteSbeSubject);
   }
 
   @Override
@@ -288,17 +297,14 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void registerAppendV2Handler(
       final Function<VersionedAppendRequest, CompletableFuture<AppendResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.appendV2subject,
-        serializer::decode,
-        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.appendV2subject, context.appendSbeSubject, handler);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendSbeSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -313,6 +319,76 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         subject, request, serializer::encode, serializer::decode, memberId, timeout);
   }
 
+  /**
+   * Sends the request encoded with SBE, unless the member is known to not support it. Members
+   * running an older version don't subscribe to the SBE subject. A member which is still starting
+   * may not have subscribed yet either, so only once {@link #SBE_FALLBACK_THRESHOLD} consecutive
+   * requests found no handler is the member considered to not support SBE, and the request sent
+   * again using the Kryo serializer; until then, the request fails and is retried by raft as usual.
+   * The SBE subject is tried again after {@link #SBE_RETRY_INTERVAL}, as the member may have been
+   * updated in the meantime.
+   */
+  private <T, U> CompletableFuture<U> sendAndReceive(
+      final String sbeSubject,
+      final String subject,
+      final T request,
+      final MemberId memberId,
+      final Duration timeout) {
+    if (!isSbeSupported(memberId)) {
+      return sendAndReceive(subject, request, memberId, timeout);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    final CompletableFuture<U> response =
+        clusterCommunicator.send(
+            sbeSubject, request, sbeSerializer::encode, sbeSerializer::decode, memberId, timeout);
+    response.thenRun(() -> sbeMissingHandlerCounts.remove(memberId));
+    return response.exceptionallyCompose(
+        error -> {
+          if (!isNoRemoteHandler(error)
+              || sbeMissingHandlerCounts.merge(memberId, 1, Integer::sum)
+                  < SBE_FALLBACK_THRESHOLD) {
+            return CompletableFuture.failedFuture(error);
+          }
+
+          // the count is kept until SBE succeeds, such that a member which is still not
+          // updated after the retry interval falls back on the first missing handler
+          sbeUnsupportedSince.put(memberId, System.currentTimeMillis());
+          return clusterCommunicator.send(
+              subject, request, serializer::encode, serializer::decode, memberId, timeout);
+        });
+  }
+
+  private boolean isSbeSupported(final MemberId memberId) {
+    final Long unsupportedSince = sbeUnsupportedSince.get(memberId);
+    if (unsupportedSince == null) {
+      return true;
+    }
+
+    if (System.currentTimeMillis() - unsupportedSince < SBE_RETRY_INTERVAL.toMillis()) {
+      return false;
+    }
+
+    sbeUnsupportedSince.remove(memberId, unsupportedSince);
+    return true;
+  }
+
+  private static boolean isNoRemoteHandler(final Throwable error) {
+    return error instanceof NoRemoteHandler || error.getCause() instanceof NoRemoteHandler;
+  }
+
+  /** Subscribes the handler to both the Kryo and the SBE subject of a message type. */
+  private <T extends RaftMessage, U> void replyTo(
+      final String subject,
+      final String sbeSubject,
+      final Function<T, CompletableFuture<U>> handler) {
+    final Function<T, CompletableFuture<U>> recordingHandler =
+        handler.compose(this::recordReceivedMetrics);
+    clusterCommunicator.replyTo(subject, serializer::decode, recordingHandler, serializer::encode);
+    clusterCommunicator.replyTo(
+        sbeSubject, sbeSerializer::decode, recordingHandler, sbeSerializer::encode);
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
@@ -18,8 +18,11 @@ package io.atomix.raft.protocol;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.atomix.raft.RaftError;
+import java.nio.ByteBuffer;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
@@ -31,22 +34,56 @@ import io.atomix.raft.RaftError;
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  protected ByteBuffer nextChunkId;
+  protected Map<String, Long> reusableFiles;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final ByteBuffer nextChunkId,
+      final Map<String, Long> reusableFiles) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.nextChunkId = nextChunkId;
+    this.reusableFiles = reusableFiles;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the ID of the next chunk the member expects for the snapshot it is currently receiving,
+   * which allows the leader to resume sending the snapshot from there.
+   *
+   * @return the ID of the next expected chunk, or null if no snapshot is pending or the member
+   *     doesn't report it
+   */
+  public ByteBuffer nextChunkId() {
+    return nextChunkId;
+  }
+
+  /**
+   * Returns the checksums of the files of the member's latest snapshot, which the leader does not
+   * have to send again if the snapshot it is installing contains the same files.
+   *
+   * @return the checksums of the reusable files by file name, empty if there are none or the member
+   *     doesn't report them
+   */
+  public Map<String, Long> reusableFiles() {
+    // responses of older members have no reusable files
+    return reusableFiles == null ? Map.of() : reusableFiles;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("nextChunkId", nextChunkId)
+        .add("reusableFiles", reusableFiles().size())
         .toString();
   }
 
@@ -62,17 +99,29 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected ByteBuffer nextChunkId;
+    protected Map<String, Long> reusableFiles = Map.of();
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, nextChunkId, reusableFiles);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withNextChunkId(final ByteBuffer nextChunkId) {
+      this.nextChunkId = nextChunkId;
+      return this;
+    }
+
+    public Builder withReusableFiles(final Map<String, Long> reusableFiles) {
+      this.reusableFiles = checkNotNull(reusableFiles, "reusableFiles cannot be null");
+      return this;
+    }
   }
 }
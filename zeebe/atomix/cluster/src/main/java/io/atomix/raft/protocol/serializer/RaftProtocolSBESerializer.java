@@ -0,0 +1,542 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ConfigureRequest;
+import io.atomix.raft.protocol.ConfigureResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftResponse;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes the Raft protocol messages which are exchanged during replication, election,
+ * configuration and snapshot replication using SBE. In contrast to the Kryo based {@link
+ * io.atomix.raft.partition.impl.RaftNamespaces#RAFT_PROTOCOL}, encoding doesn't rely on reflection,
+ * and the only allocations are the resulting byte array and the decoded messages.
+ *
+ * <p>The serializer is thread safe, as each thread uses its own encoders and decoders.
+ */
+public final class RaftProtocolSBESerializer implements Serializer {
+
+  private final ThreadLocal<Codec> codecs = ThreadLocal.withInitial(Codec::new);
+
+  @Override
+  public <T> byte[] encode(final T object) {
+    return codecs.get().encode(object);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T decode(final byte[] bytes) {
+    return (T) codecs.get().decode(bytes);
+  }
+
+  private static final class Codec {
+    private final ExpandableArrayBuffer encodeBuffer = new ExpandableArrayBuffer(1024);
+    private final UnsafeBuffer decodeBuffer = new UnsafeBuffer();
+    private final UnsafeBuffer byteBufferView = new UnsafeBuffer();
+
+    private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    private final AppendRequestEncoder appendRequestEncoder = new AppendRequestEncoder();
+    private final AppendResponseEncoder appendResponseEncoder = new AppendResponseEncoder();
+    private final PollRequestEncoder pollRequestEncoder = new PollRequestEncoder();
+    private final PollResponseEncoder pollResponseEncoder = new PollResponseEncoder();
+    private final VoteRequestEncoder voteRequestEncoder = new VoteRequestEncoder();
+    private final VoteResponseEncoder voteResponseEncoder = new VoteResponseEncoder();
+    private final ConfigureRequestEncoder configureRequestEncoder = new ConfigureRequestEncoder();
+    private final ConfigureResponseEncoder configureResponseEncoder =
+        new ConfigureResponseEncoder();
+    private final InstallRequestEncoder installRequestEncoder = new InstallRequestEncoder();
+    private final InstallResponseEncoder installResponseEncoder = new InstallResponseEncoder();
+
+    private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+    private final AppendRequestDecoder appendRequestDecoder = new AppendRequestDecoder();
+    private final AppendResponseDecoder appendResponseDecoder = new AppendResponseDecoder();
+    private final PollRequestDecoder pollRequestDecoder = new PollRequestDecoder();
+    private final PollResponseDecoder pollResponseDecoder = new PollResponseDecoder();
+    private final VoteRequestDecoder voteRequestDecoder = new VoteRequestDecoder();
+    private final VoteResponseDecoder voteResponseDecoder = new VoteResponseDecoder();
+    private final ConfigureRequestDecoder configureRequestDecoder = new ConfigureRequestDecoder();
+    private final ConfigureResponseDecoder configureResponseDecoder =
+        new ConfigureResponseDecoder();
+    private final InstallRequestDecoder installRequestDecoder = new InstallRequestDecoder();
+    private final InstallResponseDecoder installResponseDecoder = new InstallResponseDecoder();
+
+    byte[] encode(final Object message) {
+      final int length;
+      if (message instanceof final VersionedAppendRequest request) {
+        length = encodeAppendRequest(request);
+      } else if (message instanceof final AppendResponse response) {
+        length = encodeAppendResponse(response);
+      } else if (message instanceof final PollRequest request) {
+        length = encodePollRequest(request);
+      } else if (message instanceof final PollResponse response) {
+        length = encodePollResponse(response);
+      } else if (message instanceof final VoteRequest request) {
+        length = encodeVoteRequest(request);
+      } else if (message instanceof final VoteResponse response) {
+        length = encodeVoteResponse(response);
+      } else if (message instanceof final ConfigureRequest request) {
+        length = encodeConfigureRequest(request);
+      } else if (message instanceof final ConfigureResponse response) {
+        length = encodeConfigureResponse(response);
+      } else if (message instanceof final InstallRequest request) {
+        length = encodeInstallRequest(request);
+      } else if (message instanceof final InstallResponse response) {
+        length = encodeInstallResponse(response);
+      } else {
+        throw new IllegalArgumentException(
+            "Expected a supported Raft protocol message, but got " + message.getClass());
+      }
+
+      final byte[] bytes = new byte[length];
+      encodeBuffer.getBytes(0, bytes);
+      return bytes;
+    }
+
+    Object decode(final byte[] bytes) {
+      decodeBuffer.wrap(bytes);
+      headerDecoder.wrap(decodeBuffer, 0);
+      if (headerDecoder.schemaId() != MessageHeaderDecoder.SCHEMA_ID) {
+        throw new IllegalArgumentException(
+            "Expected a message of schema %d, but got schema %d"
+                .formatted(MessageHeaderDecoder.SCHEMA_ID, headerDecoder.schemaId()));
+      }
+
+      final int offset = headerDecoder.encodedLength();
+      final int blockLength = headerDecoder.blockLength();
+      final int version = headerDecoder.version();
+      return switch (headerDecoder.templateId()) {
+        case AppendRequestDecoder.TEMPLATE_ID ->
+            decodeAppendRequest(
+                appendRequestDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case AppendResponseDecoder.TEMPLATE_ID ->
+            decodeAppendResponse(
+                appendResponseDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case PollRequestDecoder.TEMPLATE_ID ->
+            decodePollRequest(pollRequestDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case PollResponseDecoder.TEMPLATE_ID ->
+            decodePollResponse(
+                pollResponseDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case VoteRequestDecoder.TEMPLATE_ID ->
+            decodeVoteRequest(voteRequestDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case VoteResponseDecoder.TEMPLATE_ID ->
+            decodeVoteResponse(
+                voteResponseDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case ConfigureRequestDecoder.TEMPLATE_ID ->
+            decodeConfigureRequest(
+                configureRequestDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case ConfigureResponseDecoder.TEMPLATE_ID ->
+            decodeConfigureResponse(
+                configureResponseDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case InstallRequestDecoder.TEMPLATE_ID ->
+            decodeInstallRequest(
+                installRequestDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        case InstallResponseDecoder.TEMPLATE_ID ->
+            decodeInstallResponse(
+                installResponseDecoder.wrap(decodeBuffer, offset, blockLength, version));
+        default ->
+            throw new IllegalArgumentException(
+                "Unexpected Raft protocol message template " + headerDecoder.templateId());
+      };
+    }
+
+    private int encodeAppendRequest(final VersionedAppendRequest request) {
+      appendRequestEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .version(request.version())
+          .term(request.term())
+          .prevLogIndex(request.prevLogIndex())
+          .prevLogTerm(request.prevLogTerm())
+          .commitIndex(request.commitIndex());
+
+      final var entries = request.entries();
+      final var entriesEncoder = appendRequestEncoder.entriesCount(entries.size());
+      for (final ReplicatableJournalRecord entry : entries) {
+        final byte[] record = entry.serializedJournalRecord();
+        entriesEncoder
+            .next()
+            .term(entry.term())
+            .index(entry.index())
+            .checksum(entry.checksum())
+            .putSerializedJournalRecord(record, 0, record.length);
+      }
+
+      appendRequestEncoder.leader(request.leader().id());
+      return headerEncoder.encodedLength() + appendRequestEncoder.encodedLength();
+    }
+
+    private VersionedAppendRequest decodeAppendRequest(final AppendRequestDecoder decoder) {
+      final int version = decoder.version();
+      final long term = decoder.term();
+      final long prevLogIndex = decoder.prevLogIndex();
+      final long prevLogTerm = decoder.prevLogTerm();
+      final long commitIndex = decoder.commitIndex();
+
+      final var entriesDecoder = decoder.entries();
+      final List<ReplicatableJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+      for (final var entryDecoder : entriesDecoder) {
+        final long entryTerm = entryDecoder.term();
+        final long entryIndex = entryDecoder.index();
+        final long checksum = entryDecoder.checksum();
+        final byte[] record = new byte[entryDecoder.serializedJournalRecordLength()];
+        entryDecoder.getSerializedJournalRecord(record, 0, record.length);
+        entries.add(new ReplicatableJournalRecord(entryTerm, entryIndex, checksum, record));
+      }
+
+      return new VersionedAppendRequest(
+          version, term, decoder.leader(), prevLogIndex, prevLogTerm, entries, commitIndex);
+    }
+
+    private int encodeAppendResponse(final AppendResponse response) {
+      appendResponseEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .term(response.term())
+          .succeeded(encodeBoolean(response.succeeded()))
+          .lastLogIndex(response.lastLogIndex())
+          .lastSnapshotIndex(response.lastSnapshotIndex())
+          .configurationIndex(response.configurationIndex())
+          .errorMessage(encodeErrorMessage(response.error()));
+      return headerEncoder.encodedLength() + appendResponseEncoder.encodedLength();
+    }
+
+    private AppendResponse decodeAppendResponse(final AppendResponseDecoder decoder) {
+      final var status = decodeStatus(decoder.status());
+      final var errorType = decoder.errorType();
+      final long term = decoder.term();
+      final boolean succeeded = decoder.succeeded() == BooleanType.TRUE;
+      final long lastLogIndex = decoder.lastLogIndex();
+      final long lastSnapshotIndex = decoder.lastSnapshotIndex();
+      final long configurationIndex = decoder.configurationIndex();
+      final var error = decodeError(errorType, decoder.errorMessage());
+      return new AppendResponse(
+          status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+    }
+
+    private int encodePollRequest(final PollRequest request) {
+      pollRequestEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .term(request.term())
+          .lastLogIndex(request.lastLogIndex())
+          .lastLogTerm(request.lastLogTerm())
+          .candidate(request.candidate().id());
+      return headerEncoder.encodedLength() + pollRequestEncoder.encodedLength();
+    }
+
+    private PollRequest decodePollRequest(final PollRequestDecoder decoder) {
+      final long term = decoder.term();
+      final long lastLogIndex = decoder.lastLogIndex();
+      final long lastLogTerm = decoder.lastLogTerm();
+      return new PollRequest(term, decoder.candidate(), lastLogIndex, lastLogTerm);
+    }
+
+    private int encodePollResponse(final PollResponse response) {
+      pollResponseEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .term(response.term())
+          .accepted(encodeBoolean(response.accepted()))
+          .errorMessage(encodeErrorMessage(response.error()));
+      return headerEncoder.encodedLength() + pollResponseEncoder.encodedLength();
+    }
+
+    private PollResponse decodePollResponse(final PollResponseDecoder decoder) {
+      final var status = decodeStatus(decoder.status());
+      final var errorType = decoder.errorType();
+      final long term = decoder.term();
+      final boolean accepted = decoder.accepted() == BooleanType.TRUE;
+      final var error = decodeError(errorType, decoder.errorMessage());
+      return new PollResponse(status, error, term, accepted);
+    }
+
+    private int encodeVoteRequest(final VoteRequest request) {
+      voteRequestEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .term(request.term())
+          .lastLogIndex(request.lastLogIndex())
+          .lastLogTerm(request.lastLogTerm())
+          .candidate(request.candidate().id());
+      return headerEncoder.encodedLength() + voteRequestEncoder.encodedLength();
+    }
+
+    private VoteRequest decodeVoteRequest(final VoteRequestDecoder decoder) {
+      final long term = decoder.term();
+      final long lastLogIndex = decoder.lastLogIndex();
+      final long lastLogTerm = decoder.lastLogTerm();
+      return new VoteRequest(term, decoder.candidate(), lastLogIndex, lastLogTerm);
+    }
+
+    private int encodeVoteResponse(final VoteResponse response) {
+      voteResponseEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .term(response.term())
+          .voted(encodeBoolean(response.voted()))
+          .errorMessage(encodeErrorMessage(response.error()));
+      return headerEncoder.encodedLength() + voteResponseEncoder.encodedLength();
+    }
+
+    private VoteResponse decodeVoteResponse(final VoteResponseDecoder decoder) {
+      final var status = decodeStatus(decoder.status());
+      final var errorType = decoder.errorType();
+      final long term = decoder.term();
+      final boolean voted = decoder.voted() == BooleanType.TRUE;
+      final var error = decodeError(errorType, decoder.errorMessage());
+      return new VoteResponse(status, error, term, voted);
+    }
+
+    private int encodeConfigureRequest(final ConfigureRequest request) {
+      configureRequestEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .term(request.term())
+          .index(request.index())
+          .timestamp(request.timestamp());
+
+      final var newMembersEncoder =
+          configureRequestEncoder.newMembersCount(request.newMembers().size());
+      for (final RaftMember member : request.newMembers()) {
+        newMembersEncoder
+            .next()
+            .type(MemberType.valueOf(member.getType().name()))
+            .updated(member.getLastUpdated().toEpochMilli())
+            .memberId(member.memberId().id());
+      }
+
+      final var oldMembersEncoder =
+          configureRequestEncoder.oldMembersCount(request.oldMembers().size());
+      for (final RaftMember member : request.oldMembers()) {
+        oldMembersEncoder
+            .next()
+            .type(MemberType.valueOf(member.getType().name()))
+            .updated(member.getLastUpdated().toEpochMilli())
+            .memberId(member.memberId().id());
+      }
+
+      configureRequestEncoder.leader(request.leader().id());
+      return headerEncoder.encodedLength() + configureRequestEncoder.encodedLength();
+    }
+
+    private ConfigureRequest decodeConfigureRequest(final ConfigureRequestDecoder decoder) {
+      final long term = decoder.term();
+      final long index = decoder.index();
+      final long timestamp = decoder.timestamp();
+
+      final var newMembersDecoder = decoder.newMembers();
+      final Collection<RaftMember> newMembers = new ArrayList<>(newMembersDecoder.count());
+      for (final var memberDecoder : newMembersDecoder) {
+        final var type = RaftMember.Type.valueOf(memberDecoder.type().name());
+        final var updated = Instant.ofEpochMilli(memberDecoder.updated());
+        newMembers.add(
+            new DefaultRaftMember(MemberId.from(memberDecoder.memberId()), type, updated));
+      }
+
+      final var oldMembersDecoder = decoder.oldMembers();
+      final Collection<RaftMember> oldMembers = new ArrayList<>(oldMembersDecoder.count());
+      for (final var memberDecoder : oldMembersDecoder) {
+        final var type = RaftMember.Type.valueOf(memberDecoder.type().name());
+        final var updated = Instant.ofEpochMilli(memberDecoder.updated());
+        oldMembers.add(
+            new DefaultRaftMember(MemberId.from(memberDecoder.memberId()), type, updated));
+      }
+
+      return new ConfigureRequest(term, decoder.leader(), index, timestamp, newMembers, oldMembers);
+    }
+
+    private int encodeConfigureResponse(final ConfigureResponse response) {
+      configureResponseEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .errorMessage(encodeErrorMessage(response.error()));
+      return headerEncoder.encodedLength() + configureResponseEncoder.encodedLength();
+    }
+
+    private ConfigureResponse decodeConfigureResponse(final ConfigureResponseDecoder decoder) {
+      final var status = decodeStatus(decoder.status());
+      final var errorType = decoder.errorType();
+      return new ConfigureResponse(status, decodeError(errorType, decoder.errorMessage()));
+    }
+
+    private int encodeInstallRequest(final InstallRequest request) {
+      final var nextChunkId = request.nextChunkId();
+      installRequestEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .currentTerm(request.currentTerm())
+          .index(request.index())
+          .term(request.term())
+          .version(request.version())
+          .initial(encodeBoolean(request.isInitial()))
+          .complete(encodeBoolean(request.complete()))
+          .hasNextChunkId(encodeBoolean(nextChunkId != null))
+          .leader(request.leader().id());
+
+      wrap(request.chunkId());
+      installRequestEncoder.putChunkId(byteBufferView, 0, byteBufferView.capacity());
+      if (nextChunkId != null) {
+        wrap(nextChunkId);
+        installRequestEncoder.putNextChunkId(byteBufferView, 0, byteBufferView.capacity());
+      } else {
+        installRequestEncoder.putNextChunkId(byteBufferView, 0, 0);
+      }
+      wrap(request.data());
+      installRequestEncoder.putData(byteBufferView, 0, byteBufferView.capacity());
+
+      return headerEncoder.encodedLength() + installRequestEncoder.encodedLength();
+    }
+
+    private InstallRequest decodeInstallRequest(final InstallRequestDecoder decoder) {
+      final long currentTerm = decoder.currentTerm();
+      final long index = decoder.index();
+      final long term = decoder.term();
+      final int version = decoder.version();
+      final boolean initial = decoder.initial() == BooleanType.TRUE;
+      final boolean complete = decoder.complete() == BooleanType.TRUE;
+      final boolean hasNextChunkId = decoder.hasNextChunkId() == BooleanType.TRUE;
+      final var leader = MemberId.from(decoder.leader());
+
+      final byte[] chunkId = new byte[decoder.chunkIdLength()];
+      decoder.getChunkId(chunkId, 0, chunkId.length);
+      final byte[] nextChunkId = new byte[decoder.nextChunkIdLength()];
+      decoder.getNextChunkId(nextChunkId, 0, nextChunkId.length);
+      final byte[] data = new byte[decoder.dataLength()];
+      decoder.getData(data, 0, data.length);
+
+      return new InstallRequest(
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          ByteBuffer.wrap(chunkId),
+          hasNextChunkId ? ByteBuffer.wrap(nextChunkId) : null,
+          ByteBuffer.wrap(data),
+          initial,
+          complete);
+    }
+
+    private int encodeInstallResponse(final InstallResponse response) {
+      final var nextChunkId = response.nextChunkId();
+      installResponseEncoder
+          .wrapAndApplyHeader(encodeBuffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .preferredChunkSize(response.preferredChunkSize())
+          .hasNextChunkId(encodeBoolean(nextChunkId != null));
+
+      final var reusableFilesEncoder =
+          installResponseEncoder.reusableFilesCount(response.reusableFiles().size());
+      response
+          .reusableFiles()
+          .forEach(
+              (fileName, checksum) ->
+                  reusableFilesEncoder.next().checksum(checksum).fileName(fileName));
+      installResponseEncoder.errorMessage(encodeErrorMessage(response.error()));
+
+      if (nextChunkId != null) {
+        wrap(nextChunkId);
+        installResponseEncoder.putNextChunkId(byteBufferView, 0, byteBufferView.capacity());
+      } else {
+        installResponseEncoder.putNextChunkId(byteBufferView, 0, 0);
+      }
+      return headerEncoder.encodedLength() + installResponseEncoder.encodedLength();
+    }
+
+    private InstallResponse decodeInstallResponse(final InstallResponseDecoder decoder) {
+      final var status = decodeStatus(decoder.status());
+      final var errorType = decoder.errorType();
+      final int preferredChunkSize = decoder.preferredChunkSize();
+      final boolean hasNextChunkId = decoder.hasNextChunkId() == BooleanType.TRUE;
+
+      final var reusableFilesDecoder = decoder.reusableFiles();
+      final Map<String, Long> reusableFiles = new HashMap<>(reusableFilesDecoder.count());
+      for (final var fileDecoder : reusableFilesDecoder) {
+        final long checksum = fileDecoder.checksum();
+        reusableFiles.put(fileDecoder.fileName(), checksum);
+      }
+
+      final var error = decodeError(errorType, decoder.errorMessage());
+
+      final byte[] nextChunkId = new byte[decoder.nextChunkIdLength()];
+      decoder.getNextChunkId(nextChunkId, 0, nextChunkId.length);
+
+      return new InstallResponse(
+          status,
+          error,
+          preferredChunkSize,
+          hasNextChunkId ? ByteBuffer.wrap(nextChunkId) : null,
+          reusableFiles);
+    }
+
+    /** Wraps the remaining bytes of the given buffer, without modifying its position. */
+    private void wrap(final ByteBuffer buffer) {
+      byteBufferView.wrap(buffer, buffer.position(), buffer.remaining());
+    }
+
+    private static ResponseStatus encodeStatus(final RaftResponse.Status status) {
+      return status == RaftResponse.Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR;
+    }
+
+    private static RaftResponse.Status decodeStatus(final ResponseStatus status) {
+      return status == ResponseStatus.OK ? RaftResponse.Status.OK : RaftResponse.Status.ERROR;
+    }
+
+    private static ErrorType encodeErrorType(final RaftError error) {
+      return error == null ? ErrorType.NULL_VAL : ErrorType.valueOf(error.type().name());
+    }
+
+    private static String encodeErrorMessage(final RaftError error) {
+      return error == null || error.message() == null ? "" : error.message();
+    }
+
+    private static RaftError decodeError(final ErrorType errorType, final String message) {
+      if (errorType == ErrorType.NULL_VAL) {
+        return null;
+      }
+
+      return new RaftError(
+          RaftError.Type.valueOf(errorType.name()), message.isEmpty() ? null : message);
+    }
+
+    private static BooleanType encodeBoolean(final boolean value) {
+      return value ? BooleanType.TRUE : BooleanType.FALSE;
+    }
+  }
+}
@@ -43,6 +43,7 @@ import io.atomix.utils.logging.LoggerContext;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -205,8 +206,14 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
-
+    final long appendBytes =
+        request.entries().stream().mapToLong(ReplicatableJournalRecord::approximateSize).sum();
+    member.startAppend(appendBytes);
+    observeInFlightAppends(member);
+
+    // Responses may arrive out of order if several requests are in flight, so remember which next
+    // index the request was built for to detect outdated rejections.
+    final long resetVersion = member.getResetVersion();
     final long timestamp = System.currentTimeMillis();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
@@ -219,16 +226,17 @@ final class LeaderAppender {
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
+                  member.completeAppend(appendLatency, appendBytes);
                 } else {
                   member.completeAppend();
                 }
+                observeInFlightAppends(member);
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, response, timestamp, resetVersion);
                 } else {
-                  handleAppendResponseFailure(member, request, error);
+                  handleAppendResponseFailure(member, request, error, resetVersion);
                 }
               }
             },
@@ -265,8 +273,12 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. With
+    // multiple requests in flight, responses may be handled out of order, so the match index is
+    // never moved backwards by a successful response.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+    }
     observeRemainingMemberEntries(member);
   }
 
@@ -279,6 +291,13 @@ final class LeaderAppender {
     }
   }
 
+  private void observeInFlightAppends(final RaftMemberContext member) {
+    metrics.observeInFlightAppends(
+        member.getMember().memberId().id(),
+        member.getInFlightAppendCount(),
+        member.getInFlightAppendBytes());
+  }
+
   private void observeRemainingMemberEntries(final RaftMemberContext member) {
     metrics.observeRemainingEntries(
         member.getMember().memberId().id(), raft.getLog().getLastIndex() - member.getMatchIndex());
@@ -295,6 +314,15 @@ final class LeaderAppender {
     log.trace("Reset next index for {} to {}", member, nextIndex);
   }
 
+  private void rewindNextIndex(final RaftMemberContext member, final long nextIndex) {
+    final IndexedRaftLogEntry currentEntry = member.getCurrentEntry();
+    if (member.hasReplicationContext()
+        && currentEntry != null
+        && currentEntry.index() >= nextIndex) {
+      resetNextIndex(member, nextIndex);
+    }
+  }
+
   /** Resets the snapshot index of the member when a response fails. */
   private void resetSnapshotIndex(final RaftMemberContext member, final AppendResponse response) {
     final long snapshotIndex = response.lastSnapshotIndex();
@@ -393,8 +421,15 @@ final class LeaderAppender {
             e);
         return Optional.empty();
       }
+      // discard the chunks of the previous snapshot which may still be in flight
+      member.restartSnapshotReplication();
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
-      member.setNextSnapshotChunkId(null);
+    }
+
+    if (member.getNextSnapshotChunk() == null && member.getInFlightInstallCount() > 0) {
+      // Either the first chunk is in flight, and we wait for the member to tell us its preferred
+      // chunk size and where to resume from, or the last chunk is, and all chunks have been sent.
+      return Optional.empty();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -427,7 +462,8 @@ final class LeaderAppender {
               .withIndex(persistedSnapshot.getIndex())
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+              .withData(
+                  new SnapshotChunkImpl(chunk, raft.getSnapshotChunkCompression()).toByteBuffer())
               .withChunkId(currentChunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
@@ -441,8 +477,7 @@ final class LeaderAppender {
           member.getMember().memberId(),
           e);
       // If snapshot was deleted, a new reader should be created with the new snapshot
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      member.restartSnapshotReplication();
       return Optional.empty();
     }
   }
@@ -451,8 +486,12 @@ final class LeaderAppender {
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
     member.startInstall();
+    // Optimistically continue with the next chunk, so that further chunks can be sent before this
+    // one is acknowledged. If it fails, the replication is resumed from the last acknowledged one.
+    member.setNextSnapshotChunkId(request.nextChunkId());
 
     final long timestamp = System.currentTimeMillis();
+    final long replicationVersion = member.getSnapshotReplicationVersion();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -463,7 +502,15 @@ final class LeaderAppender {
                 // Complete the install to the member.
                 member.completeInstall();
 
-                if (error == null) {
+                if (replicationVersion != member.getSnapshotReplicationVersion()) {
+                  // The replication was resumed or restarted since this chunk was sent, so its
+                  // outcome is irrelevant. Still continue, as this may free up a slot for chunks.
+                  log.trace(
+                      "Ignoring outdated response to {} from {}",
+                      request,
+                      member.getMember().memberId());
+                  appendEntries(member);
+                } else if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
                 } else {
@@ -478,15 +525,17 @@ final class LeaderAppender {
   /** Handles an install response failure. */
   private void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
+    // On timeouts, resume from the last chunk the member acknowledged. Otherwise, reset the
+    // member's snapshot index and offset to resend the latest snapshot once a connection to the
+    // member is re-established; the member then tells us where to resume if it is the same one.
     final boolean isTimeout =
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
 
-    if (!isTimeout) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+    if (isTimeout) {
+      member.resumeSnapshotReplication(member.getAcknowledgedSnapshotChunk());
+    } else {
+      member.restartSnapshotReplication();
     }
 
     // Log the failed attempt to contact the member.
@@ -505,17 +554,34 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    if (request.isInitial() && !request.complete()) {
+      // The member tells us which files of its latest snapshot it can reuse, so that we send only
+      // references to these files instead of their content.
+      log.trace(
+          "Member {} can reuse {} files of its latest snapshot",
+          member.getMember().memberId(),
+          response.reusableFiles().size());
+      member.getSnapshotChunkReader().setReusableFiles(response.reusableFiles());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      member.restartSnapshotReplication();
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
-    }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunkId(request.nextChunkId());
+    } else if (response.nextChunkId() != null
+        && !response.nextChunkId().equals(request.nextChunkId())) {
+      // The member already received more of this snapshot before, e.g. from a previous leader, so
+      // we skip the chunks it already has.
+      log.debug(
+          "Resuming replication of snapshot {} to {} from chunk {}",
+          request.index(),
+          member.getMember().memberId(),
+          new SnapshotChunkId(response.nextChunkId()));
+      member.acknowledgeSnapshotChunk(response.nextChunkId());
+      member.resumeSnapshotReplication(response.nextChunkId());
+    } else {
+      member.acknowledgeSnapshotChunk(request.nextChunkId());
     }
 
     // Recursively append entries to the member.
@@ -528,14 +594,26 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final InstallRequest request,
       final InstallResponse response) {
+    if (response.nextChunkId() != null) {
+      // The member still has the chunks it received so far, e.g. if a chunk was lost in between
+      log.debug(
+          "Failed to send {} to member {}, with {}. Resume sending snapshot from chunk {}.",
+          request,
+          member.getMember().memberId(),
+          response.error(),
+          new SnapshotChunkId(response.nextChunkId()));
+      member.acknowledgeSnapshotChunk(response.nextChunkId());
+      member.resumeSnapshotReplication(response.nextChunkId());
+      return;
+    }
+
     log.warn(
         "Failed to send {} to member {}, with {}. Restart sending snapshot.",
         request,
         member.getMember().memberId(),
         response.error().toString());
 
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunkId(null);
+    member.restartSnapshotReplication();
   }
 
   /**
@@ -627,9 +705,19 @@ final class LeaderAppender {
   }
 
   private void handleAppendResponseFailure(
-      final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
+      final RaftMemberContext member,
+      final VersionedAppendRequest request,
+      final Throwable error,
+      final long resetVersion) {
     failHeartbeat();
 
+    // The entries of the failed request may not have reached the member, and the requests sent
+    // after it would only be rejected, so rewind the next index to send them again. If the next
+    // index was already reset since the request was sent, the entries are sent again anyway.
+    if (!request.entries().isEmpty() && resetVersion == member.getResetVersion()) {
+      rewindNextIndex(member, Math.max(request.prevLogIndex(), member.getMatchIndex()) + 1);
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -673,9 +761,10 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final VersionedAppendRequest request,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final long resetVersion) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, response, resetVersion);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -685,7 +774,8 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final AppendResponse response,
+      final long resetVersion) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -718,6 +808,16 @@ final class LeaderAppender {
       raft.setLeader(null);
       raft.transition(RaftServer.Role.FOLLOWER);
     }
+    // If the next index was already reset after the request was sent, e.g. by the rejection of an
+    // earlier request in the same pipeline, then the rejection is outdated and the follower will
+    // receive the entries again anyway; resetting the next index again would only resend them.
+    else if (resetVersion != member.getResetVersion()) {
+      log.trace(
+          "Ignoring outdated rejection of {} from {}", request, member.getMember().memberId());
+      if (hasMoreEntries(member)) {
+        appendEntries(member);
+      }
+    }
     // If the response failed, the follower should have provided the correct last index in their
     // log. This helps
     // us converge on the matchIndex faster than by simply decrementing nextIndex one index at a
@@ -908,8 +1008,15 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // send as many chunks as the member may have in flight
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
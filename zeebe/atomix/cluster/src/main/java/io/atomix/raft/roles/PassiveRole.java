@@ -46,6 +46,7 @@ import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.system.Configuration;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
@@ -55,9 +56,11 @@ import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsExcepti
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -123,7 +126,7 @@ public class PassiveRole extends InactiveRole {
 
     final var snapshotChunk = new SnapshotChunkImpl();
     final var snapshotChunkBuffer = new UnsafeBuffer(request.data());
-    if (!snapshotChunk.tryWrap(snapshotChunkBuffer)) {
+    if (!tryWrapSnapshotChunk(snapshotChunk, snapshotChunkBuffer)) {
       abortPendingSnapshots();
       return CompletableFuture.completedFuture(
           logResponse(
@@ -267,9 +270,34 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withNextChunkId(nextPendingSnapshotChunkId)
+                .withReusableFiles(getReusableSnapshotFiles(request))
                 .build()));
   }
 
+  /**
+   * Tells the leader which files of our latest snapshot we can reuse for the snapshot we started to
+   * receive, such that it can send references to these files instead of their content.
+   */
+  private Map<String, Long> getReusableSnapshotFiles(final InstallRequest request) {
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    if (!request.isInitial() || request.complete() || currentSnapshot == null) {
+      return Map.of();
+    }
+
+    return currentSnapshot.getReusableFiles();
+  }
+
+  private boolean tryWrapSnapshotChunk(
+      final SnapshotChunkImpl snapshotChunk, final UnsafeBuffer snapshotChunkBuffer) {
+    try {
+      return snapshotChunk.tryWrap(snapshotChunkBuffer);
+    } catch (final UncheckedIOException e) {
+      log.warn("Failed to decompress snapshot chunk", e);
+      return false;
+    }
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -431,24 +459,41 @@ public class PassiveRole extends InactiveRole {
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withNextChunkId(nextPendingSnapshotChunkId)
+                  .withReusableFiles(getReusableSnapshotFiles(request))
                   .build()));
     }
 
     // if null assume it is first chunk of file
     if (nextPendingSnapshotChunkId != null
         && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
+      final var expectedChunkId = new SnapshotChunkId(nextPendingSnapshotChunkId);
+      final var receivedChunkId = new SnapshotChunkId(request.chunkId());
+
+      // Keep the chunks received so far and tell the leader where to resume from, instead of
+      // starting all over again. A chunk we already have is acknowledged; this happens when the
+      // leader changed, or resends chunks which were in flight while a previous one was lost.
+      if (receivedChunkId.compareTo(expectedChunkId) < 0) {
+        // the leader resumes the replication from the next expected chunk, and needs to know again
+        // which files we can reuse for the remaining chunks if it restarted the replication
+        return Either.left(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(Status.OK)
+                    .withPreferredChunkSize(snapshotChunkSize)
+                    .withNextChunkId(nextPendingSnapshotChunkId)
+                    .withReusableFiles(getReusableSnapshotFiles(request))
+                    .build()));
+      }
+
       final var errMsg =
-          "Expected chunkId of ["
-              + new SnapshotChunkId(nextPendingSnapshotChunkId)
-              + "] got ["
-              + new SnapshotChunkId(request.chunkId())
-              + "].";
-      abortPendingSnapshots();
+          "Expected chunkId of [" + expectedChunkId + "] got [" + receivedChunkId + "].";
       return Either.left(
           logResponse(
               InstallResponse.builder()
                   .withStatus(Status.ERROR)
                   .withError(Type.ILLEGAL_MEMBER_STATE, errMsg)
+                  .withNextChunkId(nextPendingSnapshotChunkId)
                   .build()));
     }
 
@@ -927,7 +972,7 @@ public class PassiveRole extends InactiveRole {
       final boolean succeeded,
       final long lastLogIndex,
       final CompletableFuture<AppendResponse> future) {
-    future.complete(
+    final AppendResponse response =
         logResponse(
             AppendResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
@@ -936,10 +981,33 @@ public class PassiveRole extends InactiveRole {
                 .withLastLogIndex(lastLogIndex)
                 .withLastSnapshotIndex(raft.getCurrentSnapshotIndex())
                 .withConfigurationIndex(raft.getCurrentConfigurationIndex())
-                .build()));
+                .build());
+
+    if (raft.getLog().flushesDirectly()) {
+      future.complete(response);
+    } else {
+      // every response, including heartbeats and failures, acknowledges the entries appended so
+      // far; it must not overtake a pending flush, or the leader may commit entries which aren't
+      // durable on this member yet
+      raft.getLog().flush(() -> completeFlushedAppend(response, future));
+    }
     return succeeded;
   }
 
+  /**
+   * Completes the append response once the appended entries are flushed. Depending on the flushing
+   * strategy, this may be called from a different thread, in which case the response is completed
+   * on the Raft thread.
+   */
+  private void completeFlushedAppend(
+      final AppendResponse response, final CompletableFuture<AppendResponse> future) {
+    if (ThreadContext.currentContext() == raft.getThreadContext()) {
+      future.complete(response);
+    } else {
+      raft.getThreadContext().execute(() -> future.complete(response));
+    }
+  }
+
   private void resetLogOnReceivingSnapshot(final long snapshotIndex) {
     final var raftLog = raft.getLog();
 
@@ -0,0 +1,19 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.snapshot;
+
+/** Compression codecs for the content of snapshot chunks sent to followers. */
+public enum SnapshotChunkCompression {
+  /** Chunks are sent as they are read from disk. */
+  NONE,
+  /**
+   * Chunks are compressed with the LZ4 frame format. Only enable this once all members of the
+   * cluster understand compressed chunks, as older members would reject them.
+   */
+  LZ4
+}
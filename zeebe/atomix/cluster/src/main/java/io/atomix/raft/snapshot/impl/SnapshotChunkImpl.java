@@ -17,11 +17,18 @@
 package io.atomix.raft.snapshot.impl;
 
 import io.atomix.raft.snapshot.SbeBufferWriterReader;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
 
 public final class SnapshotChunkImpl
     extends SbeBufferWriterReader<SnapshotChunkEncoder, SnapshotChunkDecoder>
@@ -37,18 +44,30 @@ public final class SnapshotChunkImpl
   private long snapshotChecksum;
   private long fileBlockPosition;
   private long totalFileSize;
+  private ChunkCompression compression;
+  private boolean fileReference;
 
   public SnapshotChunkImpl() {}
 
   public SnapshotChunkImpl(final SnapshotChunk chunk) {
+    this(chunk, SnapshotChunkCompression.NONE);
+  }
+
+  /**
+   * Creates a chunk which is written with its content compressed with the given codec. The checksum
+   * of the chunk is always the one of the uncompressed content.
+   */
+  public SnapshotChunkImpl(final SnapshotChunk chunk, final SnapshotChunkCompression compression) {
     snapshotId = chunk.getSnapshotId();
     totalCount = chunk.getTotalCount();
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
     snapshotChecksum = chunk.getSnapshotChecksum();
-    content.wrap(chunk.getContent());
+    this.compression = ChunkCompression.valueOf(compression.name());
+    content.wrap(compress(chunk.getContent(), this.compression));
     fileBlockPosition = chunk.getFileBlockPosition();
     totalFileSize = chunk.getTotalFileSize();
+    fileReference = chunk.isFileReference();
   }
 
   @Override
@@ -70,6 +89,8 @@ public final class SnapshotChunkImpl
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
     fileBlockPosition = SnapshotChunkDecoder.fileBlockPositionNullValue();
     totalFileSize = SnapshotChunkDecoder.totalFileSizeNullValue();
+    compression = ChunkCompression.NONE;
+    fileReference = false;
 
     snapshotId = "";
     chunkName = "";
@@ -95,6 +116,8 @@ public final class SnapshotChunkImpl
         .totalCount(totalCount)
         .fileBlockPosition(fileBlockPosition)
         .totalFileSize(totalFileSize)
+        .compression(compression)
+        .fileReference(fileReference ? BooleanType.TRUE : BooleanType.FALSE)
         .snapshotId(snapshotId)
         .chunkName(chunkName)
         .checksum(checksum)
@@ -113,9 +136,18 @@ public final class SnapshotChunkImpl
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
     snapshotChecksum = decoder.snapshotChecksum();
+    // chunks of older versions have no compression, which is then decoded as the null value
+    compression =
+        decoder.compression() == ChunkCompression.LZ4
+            ? ChunkCompression.LZ4
+            : ChunkCompression.NONE;
+    fileReference = decoder.fileReference() == BooleanType.TRUE;
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
+      if (compression != ChunkCompression.NONE) {
+        content.wrap(decompress(BufferUtil.bufferAsArray(content)));
+      }
     }
   }
 
@@ -169,6 +201,34 @@ public final class SnapshotChunkImpl
     return totalFileSize;
   }
 
+  @Override
+  public boolean isFileReference() {
+    return fileReference;
+  }
+
+  private static byte[] compress(final byte[] content, final ChunkCompression compression) {
+    if (compression == ChunkCompression.NONE) {
+      return content;
+    }
+
+    final var output = new ByteArrayOutputStream(content.length);
+    try (final var compressor = new FramedLZ4CompressorOutputStream(output)) {
+      compressor.write(content);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to compress snapshot chunk content", e);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] decompress(final byte[] compressedContent) {
+    try (final var decompressor =
+        new FramedLZ4CompressorInputStream(new ByteArrayInputStream(compressedContent))) {
+      return decompressor.readAllBytes();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to decompress snapshot chunk content", e);
+    }
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -187,6 +247,10 @@ public final class SnapshotChunkImpl
         + fileBlockPosition
         + ", totalFileSize="
         + totalFileSize
+        + ", compression="
+        + compression
+        + ", fileReference="
+        + fileReference
         + "} "
         + super.toString();
   }
@@ -193,7 +193,7 @@ public final class RaftStorage {
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
         .withMetaStore(metaStore)
-        .withFlusher(flusherFactory.createFlusher(threadFactory))
+        .withFlusher(flusherFactory.createFlusher(threadFactory, prefix))
         .build();
   }
 
@@ -0,0 +1,333 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.GroupCommitFlusherMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.JournalRecord;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which groups flushes together: appended data is
+ * flushed asynchronously once at least {@code maxBytes} bytes or {@code maxEntries} entries are
+ * pending, or at the latest {@code maxDelay} after the first signal, whichever comes first.
+ *
+ * <p>Unlike {@link DelayedFlusher}, callbacks passed to {@link #flush(Journal, Runnable)} are only
+ * run once the data written before the call is flushed. They are run together, in the order they
+ * were registered, on the flusher's thread right after the flush. This allows acknowledging
+ * appended entries in batches, only once they are durable, while the write path keeps appending
+ * during the flush. If nothing was written since the last flush, and no flush is in progress, the
+ * callback is run right away on the caller's thread. If a flush is in progress and nothing was
+ * written since it started, the callback is run once that flush completes.
+ *
+ * <p>Callbacks which are pending when the flusher is closed are run on the closing thread after a
+ * final flush, such that the appends waiting for them are still acknowledged. If the final flush
+ * fails, they are never run.
+ *
+ * <p>If a flush fails, it is retried after {@code maxDelay}, and the pending callbacks are kept
+ * until it succeeds.
+ *
+ * <p>This class is thread safe: signals and appends are expected from the journal write path (e.g.
+ * the Raft thread), while flushes happen on the given scheduler.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+
+  private final Scheduler scheduler;
+  private final long maxBytes;
+  private final int maxEntries;
+  private final Duration maxDelay;
+  private final GroupCommitFlusherMetrics metrics;
+
+  private final Object monitor = new Object();
+  private final ArrayDeque<Runnable> pendingCallbacks = new ArrayDeque<>();
+  // the callbacks which are run once the flush in progress completes
+  private final List<Runnable> flushingCallbacks = new ArrayList<>();
+  private Journal journal;
+  private long pendingBytes;
+  private long pendingEntries;
+  private Scheduled scheduledFlush;
+  private boolean immediateFlushScheduled;
+  private boolean flushInProgress;
+  private boolean closed;
+
+  public GroupCommitFlusher(
+      final Scheduler scheduler,
+      final long maxBytes,
+      final int maxEntries,
+      final Duration maxDelay,
+      final GroupCommitFlusherMetrics metrics) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.maxDelay = Objects.requireNonNull(maxDelay, "must specify a valid max delay");
+    this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
+    if (maxBytes <= 0 || maxEntries <= 0 || maxDelay.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected max bytes and max entries to be positive, and max delay to be non-negative, but got %d, %d and %s"
+              .formatted(maxBytes, maxEntries, maxDelay));
+    }
+
+    this.maxBytes = maxBytes;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Returns a factory for flushers with the given limits. The created flushers run on their own
+   * thread context, which they close when closed.
+   */
+  public static RaftLogFlusher.Factory factory(
+      final long maxBytes, final int maxEntries, final Duration maxDelay) {
+    return new RaftLogFlusher.Factory() {
+      @Override
+      public RaftLogFlusher createFlusher(final ThreadContextFactory threadFactory) {
+        return createFlusher(threadFactory, "raft");
+      }
+
+      @Override
+      public RaftLogFlusher createFlusher(
+          final ThreadContextFactory threadFactory, final String partitionName) {
+        return new GroupCommitFlusher(
+            threadFactory.createContext(),
+            maxBytes,
+            maxEntries,
+            maxDelay,
+            new GroupCommitFlusherMetrics(partitionName));
+      }
+    };
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    synchronized (monitor) {
+      this.journal = journal;
+      scheduleFlush(journal);
+    }
+  }
+
+  @Override
+  public void flush(final Journal journal, final Runnable onFlushed) {
+    synchronized (monitor) {
+      if (closed) {
+        LOGGER.debug("Skipped registering flush callback due to flusher being closed");
+        return;
+      }
+
+      this.journal = journal;
+      if (flushInProgress && pendingEntries == 0 && pendingCallbacks.isEmpty()) {
+        // everything written so far is flushed by the flush in progress
+        flushingCallbacks.add(onFlushed);
+        return;
+      }
+
+      if (isFlushPending()) {
+        pendingCallbacks.add(onFlushed);
+        scheduleFlush(journal);
+        return;
+      }
+    }
+
+    // everything written so far is already flushed, e.g. when acknowledging a heartbeat
+    onFlushed.run();
+  }
+
+  @Override
+  public void onAppend(final JournalRecord record) {
+    synchronized (monitor) {
+      pendingEntries++;
+      pendingBytes += record.serializedRecord().capacity();
+    }
+  }
+
+  @Override
+  public void close() {
+    final List<Runnable> callbacks;
+    final Journal lastJournal;
+    synchronized (monitor) {
+      closed = true;
+      callbacks = new ArrayList<>(pendingCallbacks);
+      pendingCallbacks.clear();
+      lastJournal = journal;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    if (!callbacks.isEmpty()) {
+      flushOnClose(lastJournal, callbacks);
+    }
+
+    scheduler.close();
+  }
+
+  private void flushOnClose(final Journal journal, final List<Runnable> callbacks) {
+    try {
+      journal.flush();
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn(
+          "Failed to flush journal on close, skipping {} pending flush callbacks",
+          callbacks.size(),
+          e);
+      return;
+    }
+
+    callbacks.forEach(Runnable::run);
+  }
+
+  private boolean isFlushPending() {
+    return flushInProgress || pendingEntries > 0 || !pendingCallbacks.isEmpty();
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    if (closed) {
+      LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+      return;
+    }
+
+    if (immediateFlushScheduled) {
+      return;
+    }
+
+    final Trigger trigger;
+    if (pendingBytes >= maxBytes) {
+      trigger = Trigger.BYTES;
+    } else if (pendingEntries >= maxEntries) {
+      trigger = Trigger.ENTRIES;
+    } else if (scheduledFlush == null) {
+      trigger = Trigger.DEADLINE;
+    } else {
+      // a flush is already scheduled at the deadline
+      return;
+    }
+
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+    }
+
+    final var delay = trigger == Trigger.DEADLINE ? maxDelay : Duration.ZERO;
+    immediateFlushScheduled = delay.isZero();
+    LOGGER.trace(
+        "Scheduling group flush in {} due to {}, with {} entries and {} bytes pending",
+        delay,
+        trigger,
+        pendingEntries,
+        pendingBytes);
+    scheduledFlush = scheduler.schedule(delay, () -> asyncFlush(journal, trigger));
+  }
+
+  private void asyncFlush(final Journal journal, final Trigger trigger) {
+    final int callbackCount;
+    final long entries;
+    final long bytes;
+    synchronized (monitor) {
+      scheduledFlush = null;
+      immediateFlushScheduled = false;
+      if (closed) {
+        return;
+      }
+
+      flushInProgress = true;
+      flushingCallbacks.addAll(pendingCallbacks);
+      callbackCount = flushingCallbacks.size();
+      pendingCallbacks.clear();
+      entries = pendingEntries;
+      bytes = pendingBytes;
+      pendingEntries = 0;
+      pendingBytes = 0;
+    }
+
+    try (final var ignored = metrics.startFlushTimer()) {
+      journal.flush();
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", maxDelay, e);
+      synchronized (monitor) {
+        flushInProgress = false;
+        for (int i = flushingCallbacks.size() - 1; i >= 0; i--) {
+          pendingCallbacks.addFirst(flushingCallbacks.get(i));
+        }
+        flushingCallbacks.clear();
+        pendingEntries += entries;
+        pendingBytes += bytes;
+
+        // retry at the deadline, not immediately, to avoid hammering a failing disk
+        if (!closed && scheduledFlush == null) {
+          scheduledFlush = scheduler.schedule(maxDelay, () -> asyncFlush(journal, trigger));
+        }
+      }
+      return;
+    }
+
+    metrics.observeBatch(entries, bytes, trigger.label);
+    LOGGER.trace(
+        "Flushed {} entries ({} bytes) due to {}, notifying {} callbacks",
+        entries,
+        bytes,
+        trigger,
+        callbackCount);
+    runFlushedCallbacks();
+  }
+
+  /**
+   * Runs the callbacks of the completed flush, including the ones registered while running them,
+   * such that callbacks registered later can't overtake them.
+   */
+  private void runFlushedCallbacks() {
+    while (true) {
+      final List<Runnable> callbacks;
+      synchronized (monitor) {
+        if (flushingCallbacks.isEmpty()) {
+          flushInProgress = false;
+          return;
+        }
+
+        callbacks = new ArrayList<>(flushingCallbacks);
+        flushingCallbacks.clear();
+      }
+
+      callbacks.forEach(Runnable::run);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxBytes="
+        + maxBytes
+        + ", maxEntries="
+        + maxEntries
+        + ", maxDelay="
+        + maxDelay
+        + '}';
+  }
+
+  private enum Trigger {
+    BYTES("bytes"),
+    ENTRIES("entries"),
+    DEADLINE("deadline");
+
+    private final String label;
+
+    Trigger(final String label) {
+      this.label = label;
+    }
+  }
+}
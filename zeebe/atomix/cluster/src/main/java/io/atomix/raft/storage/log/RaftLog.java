@@ -146,12 +146,14 @@ public final class RaftLog implements Closeable {
             entry.getLowestAsqn().orElse(ASQN_IGNORE),
             entry.entry().toSerializable(entry.term(), serializer));
 
+    flusher.onAppend(journalRecord);
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), entry.entry(), journalRecord);
     return lastAppendedEntry;
   }
 
   public IndexedRaftLogEntry append(final PersistedRaftRecord entry) {
     journal.append(entry);
+    flusher.onAppend(entry);
 
     final RaftLogEntry raftEntry = serializer.readRaftLogEntry(entry.data());
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), entry);
@@ -160,6 +162,7 @@ public final class RaftLog implements Closeable {
 
   public IndexedRaftLogEntry append(final ReplicatableJournalRecord entry) {
     final var writtenRecord = journal.append(entry.checksum(), entry.serializedJournalRecord());
+    flusher.onAppend(writtenRecord);
 
     final RaftLogEntry raftEntry = serializer.readRaftLogEntry(writtenRecord.data());
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), writtenRecord);
@@ -193,6 +196,19 @@ public final class RaftLog implements Closeable {
     flusher.flush(journal);
   }
 
+  /**
+   * Flushes the underlying journal using the configured flushing strategy, and runs the given
+   * callback once the data appended so far is flushed, as far as the strategy guarantees it. For
+   * guarantees, refer to the configured {@link RaftLogFlusher}.
+   *
+   * <p>NOTE: the callback may be run on any thread.
+   *
+   * @param onFlushed the callback to run once the data is flushed
+   */
+  public void flush(final Runnable onFlushed) {
+    flusher.flush(journal, onFlushed);
+  }
+
   /**
    * Flushes the underlying journal in a blocking, synchronous way. When this returns, it is
    * guaranteed that any appended data since the last flush is persisted on disk.
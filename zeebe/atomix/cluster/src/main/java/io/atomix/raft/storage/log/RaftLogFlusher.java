@@ -9,6 +9,7 @@ package io.atomix.raft.storage.log;
 
 import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.CloseableSilently;
 
 /**
@@ -27,6 +28,11 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} batches flushes until enough data accumulated or a deadline
+ * expired, and only then notifies the callers of {@link #flush(Journal, Runnable)}, e.g. to
+ * acknowledge appended entries. It trades a bounded amount of latency for throughput on slow disks,
+ * without giving up on durability of acknowledged entries.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -39,6 +45,29 @@ public interface RaftLogFlusher extends CloseableSilently {
    */
   void flush(final Journal journal);
 
+  /**
+   * Signals that there is data to be flushed in the journal, and that the given callback should be
+   * run once the data is flushed, as far as this implementation guarantees it. By default, the
+   * callback is run right after {@link #flush(Journal)} returns.
+   *
+   * <p>NOTE: the callback may be run on any thread.
+   *
+   * @param journal the journal to flush
+   * @param onFlushed the callback to run once the data written so far is flushed
+   */
+  default void flush(final Journal journal, final Runnable onFlushed) {
+    flush(journal);
+    onFlushed.run();
+  }
+
+  /**
+   * Called after a record was appended to the journal. Implementations may use this to keep track
+   * of how much data is waiting to be flushed.
+   *
+   * @param record the appended record
+   */
+  default void onAppend(final JournalRecord record) {}
+
   /**
    * If this returns true, then any calls to {@link #flush(Journal)} are synchronous and immediate,
    * and any guarantees offered by the implementation will hold after a call to {@link
@@ -102,6 +131,19 @@ public interface RaftLogFlusher extends CloseableSilently {
      */
     RaftLogFlusher createFlusher(final ThreadContextFactory threadFactory);
 
+    /**
+     * Creates a new {@link RaftLogFlusher} for the given partition. Implementations which expose
+     * metrics should override this to label them with the partition name.
+     *
+     * @param threadFactory the thread context factory for asynchronous operations
+     * @param partitionName the name of the partition whose log will be flushed
+     * @return a configured Flusher
+     */
+    default RaftLogFlusher createFlusher(
+        final ThreadContextFactory threadFactory, final String partitionName) {
+      return createFlusher(threadFactory);
+    }
+
     /** Preset factory method which returns a shared {@link DirectFlusher} instance. */
     static DirectFlusher direct(final ThreadContextFactory ignored) {
       return DIRECT;
@@ -87,6 +87,7 @@ public final class ControllableRaftContexts {
   private Random random;
 
   private final int nodeCount;
+  private final RaftPartitionConfig partitionConfig;
   private final Map<MemberId, RaftContext> raftServers = new HashMap<>();
   private final Map<MemberId, TestSnapshotStore> snapshotStores = new HashMap<>();
   private Duration electionTimeout;
@@ -99,7 +100,12 @@ public final class ControllableRaftContexts {
   private final DataLossChecker dataLossChecker = new DataLossChecker(appendListener);
 
   public ControllableRaftContexts(final int nodeCount) {
+    this(nodeCount, new RaftPartitionConfig());
+  }
+
+  public ControllableRaftContexts(final int nodeCount, final RaftPartitionConfig partitionConfig) {
     this.nodeCount = nodeCount;
+    this.partitionConfig = partitionConfig;
   }
 
   public Map<MemberId, RaftContext> getRaftServers() {
@@ -193,7 +199,7 @@ public final class ControllableRaftContexts {
             getRaftThreadContextFactory(memberId),
             () -> random,
             RaftElectionConfig.ofPriorityElection(nodeCount, Integer.parseInt(memberId.id()) + 1),
-            new RaftPartitionConfig());
+            partitionConfig);
     raft.setEntryValidator(new NoopEntryValidator());
     return raft;
   }
@@ -21,7 +21,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +48,8 @@ public class RaftAppendTest {
       new Object[] {RaftRule.withBootstrappedNodes(2)},
       new Object[] {RaftRule.withBootstrappedNodes(3)},
       new Object[] {RaftRule.withBootstrappedNodes(4)},
-      new Object[] {RaftRule.withBootstrappedNodes(5)}
+      new Object[] {RaftRule.withBootstrappedNodes(5)},
+      new Object[] {RaftRule.withBootstrappedNodes(3, withAppendPipelining())}
     };
   }
 
@@ -115,6 +121,22 @@ public class RaftAppendTest {
     assertMemberLogs(memberLog);
   }
 
+  private static Configurator withAppendPipelining() {
+    return new Configurator() {
+      @Override
+      public void configure(final MemberId id, final Builder builder) {
+        final var partitionConfig =
+            new RaftPartitionConfig()
+                .setElectionTimeout(Duration.ofSeconds(1))
+                .setHeartbeatInterval(Duration.ofMillis(100));
+        partitionConfig.setMaxAppendsPerFollower(8);
+        partitionConfig.setMaxAppendBatchSize(256);
+        partitionConfig.setAppendPipeliningEnabled(true);
+        builder.withPartitionConfig(partitionConfig);
+      }
+    };
+  }
+
   private void assertMemberLogs(final Map<String, List<IndexedRaftLogEntry>> memberLog) {
     final var firstMemberEntries = memberLog.get("1");
     final var members = memberLog.keySet();
@@ -17,11 +17,17 @@ package io.atomix.raft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.cluster.MemberId;
 import io.atomix.raft.RaftError.Type;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.TestRaftServerProtocol;
 import io.atomix.raft.protocol.TestRaftServerProtocol.ResponseInterceptor;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -32,15 +38,28 @@ import java.util.function.Function;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
 
+@RunWith(Parameterized.class)
 public class RaftSnapshotReplicationFailureHandlingTest {
 
-  @Rule public RaftRule raftRule = RaftRule.withBootstrappedNodes(3);
+  @Rule @Parameter public RaftRule raftRule;
   private RaftServer follower;
   private AtomicInteger totalInstallRequest;
   private TestRaftServerProtocol leaderProtocol;
   private RaftServer leader;
 
+  @Parameters(name = "{index}: {0}")
+  public static Object[][] raftConfigurations() {
+    return new Object[][] {
+      new Object[] {RaftRule.withBootstrappedNodes(3)},
+      new Object[] {RaftRule.withBootstrappedNodes(3, withPipelinedCompressedSnapshotChunks())}
+    };
+  }
+
   @Before
   public void setup() {
     leader = raftRule.getLeader().orElseThrow();
@@ -93,6 +112,27 @@ public class RaftSnapshotReplicationFailureHandlingTest {
         .isLessThan(2 * numberOfChunks + 1);
   }
 
+  @Test
+  public void shouldResumeFromReceivedChunksIfFollowerRejectedRequest() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    leaderProtocol.interceptResponse(
+        InstallResponse.class, new RejectingInterceptor(numberOfChunks - 1));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequest.get())
+        .describedAs(
+            "Should resend only the first chunk, after which the follower reports its progress")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .isLessThan(numberOfChunks + 4);
+  }
+
   @Test
   public void shouldResentSnapshotIfFirstChunkTimedOut() throws Throwable {
     // given
@@ -133,6 +173,21 @@ public class RaftSnapshotReplicationFailureHandlingTest {
     raftRule.appendEntry();
   }
 
+  private static Configurator withPipelinedCompressedSnapshotChunks() {
+    return new Configurator() {
+      @Override
+      public void configure(final MemberId id, final Builder builder) {
+        final var partitionConfig =
+            new RaftPartitionConfig()
+                .setElectionTimeout(Duration.ofSeconds(1))
+                .setHeartbeatInterval(Duration.ofMillis(100));
+        partitionConfig.setMaxInFlightSnapshotChunks(4);
+        partitionConfig.setSnapshotChunkCompression(SnapshotChunkCompression.LZ4);
+        builder.withPartitionConfig(partitionConfig);
+      }
+    };
+  }
+
   private static class TimingOutResponseInterceptor
       implements ResponseInterceptor<InstallResponse> {
     private int count = 0;
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.utils.serializer.Serializer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+final class RaftServerCommunicatorTest {
+
+  private static final MemberId MEMBER = MemberId.from("1");
+  private static final PollRequest REQUEST = new PollRequest(1, "0", 1, 1);
+  private static final PollResponse RESPONSE = new PollResponse(Status.OK, null, 1, true);
+
+  private final ClusterCommunicationService communicationService =
+      mock(ClusterCommunicationService.class);
+  private final RaftServerCommunicator communicator =
+      new RaftServerCommunicator(
+          "test",
+          Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+          communicationService,
+          Duration.ofSeconds(5),
+          Duration.ofSeconds(5),
+          Duration.ofSeconds(5));
+
+  @Test
+  void shouldSendSbeEncodedRequest() {
+    // given
+    when(communicationService.<PollRequest, PollResponse>send(
+            eq("test-poll-sbe"), eq(REQUEST), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.completedFuture(RESPONSE));
+
+    // when
+    final var response = communicator.poll(MEMBER, REQUEST);
+
+    // then
+    assertThat(response).isCompletedWithValue(RESPONSE);
+    verify(communicationService, never()).send(eq("test-poll"), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldNotFallBackToKryoOnSingleMissingHandler() {
+    // given - e.g. the member is still starting
+    when(communicationService.<PollRequest, PollResponse>send(
+            eq("test-poll-sbe"), eq(REQUEST), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler("test-poll-sbe")));
+
+    // when
+    final var response = communicator.poll(MEMBER, REQUEST);
+
+    // then
+    assertThat(response).isCompletedExceptionally();
+    verify(communicationService, never()).send(eq("test-poll"), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldFallBackToKryoIfMemberDoesNotSupportSbe() {
+    // given
+    when(communicationService.<PollRequest, PollResponse>send(
+            eq("test-poll-sbe"), eq(REQUEST), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler("test-poll-sbe")));
+    when(communicationService.<PollRequest, PollResponse>send(
+            eq("test-poll"), eq(REQUEST), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.completedFuture(RESPONSE));
+
+    // when
+    final var firstResponse = communicator.poll(MEMBER, REQUEST);
+    final var secondResponse = communicator.poll(MEMBER, REQUEST);
+    final var thirdResponse = communicator.poll(MEMBER, REQUEST);
+    final var fourthResponse = communicator.poll(MEMBER, REQUEST);
+
+    // then
+    assertThat(firstResponse).isCompletedExceptionally();
+    assertThat(secondResponse).isCompletedExceptionally();
+    assertThat(thirdResponse).isCompletedWithValue(RESPONSE);
+    assertThat(fourthResponse).isCompletedWithValue(RESPONSE);
+    verify(communicationService, times(3))
+        .send(eq("test-poll-sbe"), any(), any(), any(), any(), any());
+    verify(communicationService, times(2)).send(eq("test-poll"), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldOnlyFallBackToKryoOnConsecutiveMissingHandlers() {
+    // given
+    final var missingHandler =
+        CompletableFuture.<PollResponse>failedFuture(new NoRemoteHandler("test-poll-sbe"));
+    when(communicationService.<PollRequest, PollResponse>send(
+            eq("test-poll-sbe"), eq(REQUEST), any(), any(), eq(MEMBER), any()))
+        .thenReturn(missingHandler)
+        .thenReturn(missingHandler)
+        .thenReturn(CompletableFuture.completedFuture(RESPONSE))
+        .thenReturn(missingHandler);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      communicator.poll(MEMBER, REQUEST);
+    }
+    final var response = communicator.poll(MEMBER, REQUEST);
+
+    // then
+    assertThat(response).isCompletedExceptionally();
+    verify(communicationService, never()).send(eq("test-poll"), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldSubscribeHandlerToKryoAndSbeSubjects() {
+    // when
+    communicator.registerPollHandler(request -> CompletableFuture.completedFuture(RESPONSE));
+
+    // then
+    verify(communicationService).replyTo(eq("test-poll"), any(), any(), any());
+    verify(communicationService).replyTo(eq("test-poll-sbe"), any(), any(), any());
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ConfigureRequest;
+import io.atomix.raft.protocol.ConfigureResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.TransferRequest;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class RaftProtocolSBESerializerTest {
+
+  private final Serializer serializer = new RaftProtocolSBESerializer();
+
+  @ParameterizedTest
+  @MethodSource("messages")
+  void shouldEncodeAndDecodeMessage(final Object message) {
+    // when
+    final Object decoded = serializer.decode(serializer.encode(message));
+
+    // then
+    assertThat(decoded).isInstanceOf(message.getClass());
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(message);
+  }
+
+  @Test
+  void shouldNotModifyBuffersOfInstallRequest() {
+    // given
+    final var chunkId = ByteBuffer.wrap(new byte[] {0, 1, 2, 3}).position(1);
+    final var data = ByteBuffer.allocateDirect(3).put(new byte[] {4, 5, 6}).flip();
+    final var request =
+        InstallRequest.builder()
+            .withCurrentTerm(1)
+            .withLeader(MemberId.from("0"))
+            .withIndex(2)
+            .withTerm(1)
+            .withVersion(1)
+            .withChunkId(chunkId)
+            .withData(data)
+            .withInitial(true)
+            .withComplete(true)
+            .build();
+
+    // when
+    final InstallRequest decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(chunkId.position()).isOne();
+    assertThat(data.position()).isZero();
+    assertThat(decoded.chunkId()).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    assertThat(decoded.data()).isEqualTo(ByteBuffer.wrap(new byte[] {4, 5, 6}));
+    assertThat(decoded.nextChunkId()).isNull();
+  }
+
+  @Test
+  void shouldRejectUnsupportedMessage() {
+    // given
+    final var request = TransferRequest.builder().withMember(MemberId.from("1")).build();
+
+    // when - then
+    assertThatThrownBy(() -> serializer.encode(request))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectMessageOfOtherSerializer() {
+    // given
+    final var kryoSerializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+    final var bytes = kryoSerializer.encode(new PollRequest(1, "0", 2, 1));
+
+    // when - then
+    assertThatThrownBy(() -> serializer.decode(bytes)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Stream<Object> messages() {
+    final List<RaftMember> members =
+        List.of(
+            new DefaultRaftMember(
+                MemberId.from("0"), RaftMember.Type.ACTIVE, Instant.ofEpochMilli(10)),
+            new DefaultRaftMember(
+                MemberId.from("1"), RaftMember.Type.PROMOTABLE, Instant.ofEpochMilli(20)));
+    final var error = new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "not a follower");
+
+    return Stream.of(
+        new VersionedAppendRequest(
+            2,
+            5,
+            "0",
+            10,
+            4,
+            List.of(
+                new ReplicatableJournalRecord(4, 11, 123, new byte[] {1, 2, 3}),
+                new ReplicatableJournalRecord(5, 12, 456, new byte[0])),
+            9),
+        new VersionedAppendRequest(2, 5, "0", 10, 4, List.of(), 9),
+        new AppendResponse(Status.OK, null, 5, true, 12, 3, 2),
+        new AppendResponse(Status.ERROR, error, 5, false, 12, 3, 2),
+        new PollRequest(3, "1", 20, 2),
+        new PollResponse(Status.OK, null, 3, true),
+        new PollResponse(
+            Status.ERROR, new RaftError(RaftError.Type.PROTOCOL_ERROR, null), 3, false),
+        new VoteRequest(3, "2", 20, 2),
+        new VoteResponse(Status.OK, null, 3, true),
+        new ConfigureRequest(4, "0", 7, 1000, members, List.of(members.get(0))),
+        new ConfigureResponse(Status.ERROR, error),
+        new InstallRequest(
+            4,
+            MemberId.from("0"),
+            100,
+            3,
+            1,
+            ByteBuffer.wrap(new byte[] {1}),
+            ByteBuffer.wrap(new byte[] {2}),
+            ByteBuffer.wrap(new byte[] {3, 4}),
+            true,
+            false),
+        new InstallResponse(
+            Status.OK, null, 1024, null, Map.of("000001.sst", 12L, "000002.sst", 34L)),
+        new InstallResponse(Status.ERROR, error, 0, ByteBuffer.wrap(new byte[] {5, 6}), Map.of()));
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares the cost of encoding and decoding append requests with the Kryo and the SBE serializer,
+ * for empty append requests as sent as heartbeats, and for full batches of entries. The GC profiler
+ * reports the allocation rate per operation.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RaftProtocolSerializerPerformanceTest {
+  // the default max append batch size of 32KB, filled with entries of 1KB
+  private static final int BATCH_ENTRY_COUNT = 31;
+  private static final int BATCH_ENTRY_SIZE = 1024;
+
+  // the ops/s of the SBE serializer, compared to ~400_000 ops/s for heartbeats and ~38_000 ops/s
+  // for append batches of the Kryo serializer; when running this test locally, you're likely to
+  // have different scores
+  private static final double SBE_HEARTBEAT_REFERENCE_SCORE = 9_000_000;
+  private static final double SBE_APPEND_BATCH_REFERENCE_SCORE = 70_000;
+
+  @Param({"KRYO", "SBE"})
+  public SerializerType serializerType;
+
+  @Param({"HEARTBEAT", "APPEND_BATCH"})
+  public MessageType messageType;
+
+  private Serializer serializer;
+  private VersionedAppendRequest request;
+
+  @Setup
+  public void setup() {
+    serializer = serializerType.create();
+    request = messageType.create();
+  }
+
+  @Benchmark
+  public VersionedAppendRequest measureEncodeAndDecode() {
+    return serializer.decode(serializer.encode(request));
+  }
+
+  @JMHTest("measureEncodeAndDecode")
+  void shouldEncodeAndDecodeHeartbeat(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        o ->
+            o.addProfiler(GCProfiler.class)
+                .param("serializerType", "SBE")
+                .param("messageType", "HEARTBEAT"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(SBE_HEARTBEAT_REFERENCE_SCORE, 0.25);
+  }
+
+  @JMHTest("measureEncodeAndDecode")
+  void shouldEncodeAndDecodeAppendBatch(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        o ->
+            o.addProfiler(GCProfiler.class)
+                .param("serializerType", "SBE")
+                .param("messageType", "APPEND_BATCH"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(SBE_APPEND_BATCH_REFERENCE_SCORE, 0.25);
+  }
+
+  public enum SerializerType {
+    KRYO {
+      @Override
+      Serializer create() {
+        return Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+      }
+    },
+    SBE {
+      @Override
+      Serializer create() {
+        return new RaftProtocolSBESerializer();
+      }
+    };
+
+    abstract Serializer create();
+  }
+
+  public enum MessageType {
+    HEARTBEAT {
+      @Override
+      VersionedAppendRequest create() {
+        // heartbeats are sent with an empty list of entries, see LeaderAppender
+        return new VersionedAppendRequest(2, 5, "0", 1_000, 5, Collections.emptyList(), 1_000);
+      }
+    },
+    APPEND_BATCH {
+      @Override
+      VersionedAppendRequest create() {
+        final List<ReplicatableJournalRecord> entries = new ArrayList<>(BATCH_ENTRY_COUNT);
+        for (int i = 0; i < BATCH_ENTRY_COUNT; i++) {
+          final byte[] record = new byte[BATCH_ENTRY_SIZE];
+          ThreadLocalRandom.current().nextBytes(record);
+          entries.add(new ReplicatableJournalRecord(5, 1_001 + i, i, record));
+        }
+        return new VersionedAppendRequest(2, 5, "0", 1_000, 5, entries, 1_000);
+      }
+    };
+
+    abstract VersionedAppendRequest create();
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.ControllableRaftContexts;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.zeebe.ZeebeLogAppender.AppendListener;
+import io.prometheus.client.CollectorRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class LeaderAppenderTest {
+
+  private static final int LEADER = 0;
+  private static final MemberId FOLLOWER = MemberId.from("1");
+  private static final String[] METRIC_LABELS = {"follower", "partitionGroupName", "partition"};
+  private static final String[] METRIC_LABEL_VALUES = {"1", "0", "1"};
+
+  private ControllableRaftContexts raftContexts;
+  private long nextPosition = 1;
+
+  @TempDir private Path raftDataDirectory;
+
+  @BeforeEach
+  void before() throws Exception {
+    final var partitionConfig = new RaftPartitionConfig();
+    partitionConfig.setAppendPipeliningEnabled(true);
+    partitionConfig.setMaxAppendsPerFollower(3);
+
+    raftContexts = new ControllableRaftContexts(2, partitionConfig);
+    raftContexts.setup(raftDataDirectory, new Random(1));
+    awaitReplication();
+  }
+
+  @AfterEach
+  void shutdown() throws IOException {
+    raftContexts.shutdown();
+  }
+
+  @Test
+  void shouldTrackInFlightAppends() {
+    // given
+    final RaftMemberContext follower = followerContext();
+
+    // when
+    appendEntryOnLeader();
+    appendEntryOnLeader();
+    appendEntryOnLeader();
+
+    // then
+    assertThat(follower.getInFlightAppendCount()).isEqualTo(3);
+    assertThat(follower.getInFlightAppendBytes()).isPositive();
+    assertThat(inFlightAppendsMetric()).isEqualTo(3);
+    assertThat(inFlightAppendBytesMetric()).isEqualTo(follower.getInFlightAppendBytes());
+  }
+
+  @Test
+  void shouldReleaseInFlightAppendsOnResponse() {
+    // given
+    final RaftMemberContext follower = followerContext();
+    appendEntryOnLeader();
+    appendEntryOnLeader();
+
+    // when
+    awaitReplication();
+
+    // then
+    assertThat(follower.getInFlightAppendCount()).isZero();
+    assertThat(follower.getInFlightAppendBytes()).isZero();
+    assertThat(inFlightAppendsMetric()).isZero();
+    assertThat(inFlightAppendBytesMetric()).isZero();
+    assertThat(follower.getMatchIndex()).isEqualTo(leaderLastIndex());
+  }
+
+  @Test
+  void shouldRewindNextIndexAfterFailedAppend() {
+    // given
+    final RaftMemberContext follower = followerContext();
+    final long firstIndex = leaderLastIndex() + 1;
+    appendEntryOnLeader();
+    appendEntryOnLeader();
+    assertThat(follower.getCurrentEntry().index()).isEqualTo(firstIndex + 1);
+
+    // when - the first request fails
+    raftContexts.getServerProtocol(FOLLOWER).dropNextMessage();
+    raftContexts.runUntilDone(MemberId.from(String.valueOf(LEADER)));
+
+    // then - its entries are sent again
+    assertThat(follower.getCurrentEntry().index()).isEqualTo(firstIndex - 1);
+
+    awaitReplication();
+    assertThat(follower.getMatchIndex()).isEqualTo(leaderLastIndex());
+    assertThat(raftContexts.getRaftContext(FOLLOWER).getLog().getLastIndex())
+        .isEqualTo(leaderLastIndex());
+  }
+
+  @Test
+  void shouldIgnoreRejectionsOfRequestsSentBeforeRewind() {
+    // given - three requests in flight, of which the first one fails and the others are rejected,
+    // as the follower misses the entries of the first one
+    final RaftMemberContext follower = followerContext();
+    appendEntryOnLeader();
+    appendEntryOnLeader();
+    appendEntryOnLeader();
+    final long resetVersion = follower.getResetVersion();
+
+    // when
+    raftContexts.getServerProtocol(FOLLOWER).dropNextMessage();
+    awaitReplication();
+
+    // then - the next index was only rewound once, by the failure
+    assertThat(follower.getResetVersion()).isEqualTo(resetVersion + 1);
+    assertThat(follower.getMatchIndex()).isEqualTo(leaderLastIndex());
+    assertThat(raftContexts.getRaftContext(FOLLOWER).getLog().getLastIndex())
+        .isEqualTo(leaderLastIndex());
+  }
+
+  private void appendEntryOnLeader() {
+    final var leader = (LeaderRole) raftContexts.getRaftContext(LEADER).getRaftRole();
+    final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES).putInt(0, (int) nextPosition);
+    leader.appendEntry(nextPosition, nextPosition, data, mock(AppendListener.class));
+    nextPosition++;
+    raftContexts.runUntilDone(MemberId.from(String.valueOf(LEADER)));
+  }
+
+  private void awaitReplication() {
+    for (int i = 0; i < 10; i++) {
+      raftContexts.processAllMessage();
+      raftContexts.runUntilDone();
+    }
+  }
+
+  private RaftMemberContext followerContext() {
+    return raftContexts.getRaftContext(LEADER).getCluster().getMemberContext(FOLLOWER);
+  }
+
+  private long leaderLastIndex() {
+    return raftContexts.getRaftContext(LEADER).getLog().getLastIndex();
+  }
+
+  private double inFlightAppendsMetric() {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "atomix_append_entries_in_flight", METRIC_LABELS, METRIC_LABEL_VALUES);
+  }
+
+  private double inFlightAppendBytesMetric() {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "atomix_append_entries_in_flight_bytes", METRIC_LABELS, METRIC_LABEL_VALUES);
+  }
+}
@@ -17,6 +17,8 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,29 +26,43 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 
 public class PassiveRoleTest {
 
@@ -54,6 +70,7 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ReceivableSnapshotStore store;
 
   @Before
   public void setup() throws IOException {
@@ -67,7 +84,7 @@ public class PassiveRoleTest {
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
@@ -135,6 +152,116 @@ public class PassiveRoleTest {
     assertThat(response.lastLogIndex()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldAcknowledgeAppendRequestOnlyOnceFlushed() {
+    // given
+    final ThreadContext threadContext = useAsyncFlusher();
+
+    final var entries =
+        List.of(
+            new ReplicatableJournalRecord(1, 1, 1, new byte[1]),
+            new ReplicatableJournalRecord(1, 2, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(2)
+            .build();
+
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var future = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    final ArgumentCaptor<Runnable> onFlushed = ArgumentCaptor.forClass(Runnable.class);
+    verify(log).flush(onFlushed.capture());
+    assertThat(future).isNotDone();
+
+    onFlushed.getValue().run();
+    verify(threadContext).execute(any());
+    assertThat(future.join().lastLogIndex()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldAcknowledgeHeartbeatOnlyOncePendingEntriesAreFlushed() {
+    // given
+    useAsyncFlusher();
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(List.of())
+            .withCommitIndex(0)
+            .build();
+
+    // when
+    final var future = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    final ArgumentCaptor<Runnable> onFlushed = ArgumentCaptor.forClass(Runnable.class);
+    verify(log).flush(onFlushed.capture());
+    assertThat(future).isNotDone();
+
+    onFlushed.getValue().run();
+    assertThat(future.join().succeeded()).isTrue();
+  }
+
+  @Test
+  public void shouldRejectPartiallyAppendedRequestOnlyOnceFlushed() {
+    // given
+    useAsyncFlusher();
+    final var entries =
+        List.of(
+            new ReplicatableJournalRecord(1, 1, 1, new byte[1]),
+            new ReplicatableJournalRecord(1, 2, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(2)
+            .build();
+
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class))
+        .thenThrow(new JournalException.InvalidChecksum("expected"));
+
+    // when
+    final var future = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    final ArgumentCaptor<Runnable> onFlushed = ArgumentCaptor.forClass(Runnable.class);
+    verify(log).flush(onFlushed.capture());
+    assertThat(future).isNotDone();
+
+    onFlushed.getValue().run();
+    assertThat(future.join().succeeded()).isFalse();
+  }
+
+  private ThreadContext useAsyncFlusher() {
+    when(log.flushesDirectly()).thenReturn(false);
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    doAnswer(
+            call -> {
+              call.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
+    return threadContext;
+  }
+
   @Test
   public void shouldFlushAfterPartiallyAppendedRequest() {
     // given
@@ -237,4 +364,56 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldReportReusableFilesWhenResumingSnapshotReplication() {
+    // given
+    final var currentSnapshot = mock(PersistedSnapshot.class);
+    when(currentSnapshot.getReusableFiles()).thenReturn(Map.of("000001.sst", 42L));
+    when(ctx.getCurrentSnapshot()).thenReturn(currentSnapshot);
+    when(ctx.getLeader()).thenReturn(mock(DefaultRaftMember.class));
+
+    final var receivedSnapshot = mock(ReceivedSnapshot.class, Answers.RETURNS_DEEP_STUBS);
+    when(receivedSnapshot.snapshotId().getSnapshotIdAsString()).thenReturn("10-1-10-10");
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    doReturn(CompletableActorFuture.completed(receivedSnapshot))
+        .when(store)
+        .newReceivedSnapshot(any());
+
+    role.onInstall(installRequest("a", "b", true)).join();
+    role.onInstall(installRequest("b", "c", false)).join();
+
+    // when - the leader restarts the replication from the first chunk
+    final InstallResponse response = role.onInstall(installRequest("a", "b", true)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.nextChunkId()).isEqualTo(chunkId("c"));
+    assertThat(response.reusableFiles()).isEqualTo(Map.of("000001.sst", 42L));
+  }
+
+  private InstallRequest installRequest(
+      final String chunkName, final String nextChunkName, final boolean initial) {
+    final var chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn("10-1-10-10");
+    when(chunk.getChunkName()).thenReturn(chunkName);
+    when(chunk.getContent()).thenReturn(new byte[0]);
+
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.from("1"))
+        .withIndex(10)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(ByteBuffer.wrap(new SnapshotChunkImpl(chunk).toBytes()))
+        .withChunkId(chunkId(chunkName))
+        .withNextChunkId(chunkId(nextChunkName))
+        .withInitial(initial)
+        .withComplete(false)
+        .build();
+  }
+
+  private ByteBuffer chunkId(final String chunkName) {
+    return ByteBuffer.wrap(chunkName.getBytes(StandardCharsets.US_ASCII));
+  }
 }
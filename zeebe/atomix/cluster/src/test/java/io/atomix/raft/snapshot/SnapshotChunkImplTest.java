@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2020  camunda services GmbH (info@camunda.com)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package io.atomix.raft.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import java.nio.charset.StandardCharsets;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class SnapshotChunkImplTest {
+
+  @ParameterizedTest
+  @EnumSource(SnapshotChunkCompression.class)
+  void shouldEncodeAndDecodeChunk(final SnapshotChunkCompression compression) {
+    // given
+    final var content = "content ".repeat(128).getBytes(StandardCharsets.UTF_8);
+    final var chunk = new TestSnapshotChunkImpl("1-1-1", "file", content, 3);
+
+    // when
+    final var encoded = new SnapshotChunkImpl(chunk, compression).toBytes();
+    final var decoded = new SnapshotChunkImpl();
+    final boolean wrapped = decoded.tryWrap(new UnsafeBuffer(encoded));
+
+    // then
+    assertThat(wrapped).isTrue();
+    assertThat(decoded.getContent()).isEqualTo(content);
+    assertThat(decoded.getChecksum()).isEqualTo(chunk.getChecksum());
+    assertThat(decoded.getChunkName()).isEqualTo(chunk.getChunkName());
+    assertThat(decoded.getSnapshotId()).isEqualTo(chunk.getSnapshotId());
+    assertThat(decoded.getTotalCount()).isEqualTo(chunk.getTotalCount());
+    assertThat(decoded.isFileReference()).isFalse();
+  }
+
+  @ParameterizedTest
+  @EnumSource(SnapshotChunkCompression.class)
+  void shouldEncodeAndDecodeFileReference(final SnapshotChunkCompression compression) {
+    // given
+    final var reference =
+        new TestSnapshotChunkImpl("1-1-1", "000001.sst", new byte[0], 3) {
+          @Override
+          public boolean isFileReference() {
+            return true;
+          }
+        };
+
+    // when
+    final var encoded = new SnapshotChunkImpl(reference, compression).toBytes();
+    final var decoded = new SnapshotChunkImpl();
+    final boolean wrapped = decoded.tryWrap(new UnsafeBuffer(encoded));
+
+    // then
+    assertThat(wrapped).isTrue();
+    assertThat(decoded.isFileReference()).isTrue();
+    assertThat(decoded.getContent()).isEmpty();
+    assertThat(decoded.getChunkName()).isEqualTo("000001.sst");
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = SnapshotChunkCompression.class, names = "LZ4")
+  void shouldSendLessBytesWhenCompressed(final SnapshotChunkCompression compression) {
+    // given
+    final var content = "content ".repeat(128).getBytes(StandardCharsets.UTF_8);
+    final var chunk = new TestSnapshotChunkImpl("1-1-1", "file", content, 1);
+
+    // when
+    final var compressed = new SnapshotChunkImpl(chunk, compression);
+    final var uncompressed = new SnapshotChunkImpl(chunk);
+
+    // then
+    assertThat(compressed.getLength()).isLessThan(uncompressed.getLength());
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.metrics.GroupCommitFlusherMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalRecord;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private static final Duration MAX_DELAY = Duration.ofMillis(1);
+
+  private final TestScheduler scheduler = new TestScheduler();
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(
+          scheduler, 1024, 10, MAX_DELAY, new GroupCommitFlusherMetrics("raft-partition-1"));
+  private final Journal journal = Mockito.mock(Journal.class);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushAtDeadline() {
+    // given
+    append(1, 10);
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(MAX_DELAY);
+    Mockito.verify(journal, Mockito.never()).flush();
+
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldNotScheduleIfAlreadyScheduled() {
+    // given
+    append(1, 10);
+
+    // when
+    flusher.flush(journal);
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenMaxEntriesReached() {
+    // given
+    append(1, 10);
+    flusher.flush(journal);
+
+    // when
+    append(9, 10);
+    flusher.flush(journal);
+
+    // then - the deadline is replaced by an immediate flush
+    assertThat(scheduler.operations).hasSize(2);
+    assertThat(scheduler.operations.get(0).cancelled).isTrue();
+    assertThat(scheduler.operations.get(1).delay).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenMaxBytesReached() {
+    // given
+    append(1, 1024);
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void shouldRunCallbacksInOrderOnlyAfterFlush() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    append(1, 10);
+    flusher.flush(journal, () -> acknowledged.add(1));
+    append(1, 10);
+    flusher.flush(journal, () -> acknowledged.add(2));
+
+    // when
+    assertThat(acknowledged).isEmpty();
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(acknowledged).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldNotRunCallbacksRegisteredAfterFlushStarted() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    append(1, 10);
+    flusher.flush(journal, () -> acknowledged.add(1));
+    Mockito.doAnswer(
+            ignored -> {
+              append(1, 10);
+              flusher.flush(journal, () -> acknowledged.add(2));
+              return null;
+            })
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(acknowledged).containsExactly(1);
+    scheduler.runNext();
+    assertThat(acknowledged).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldRunCallbackWithFlushInProgressIfNothingWasAppendedSinceItStarted() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    append(1, 10);
+    flusher.flush(journal, () -> acknowledged.add(1));
+    Mockito.doAnswer(
+            ignored -> {
+              flusher.flush(journal, () -> acknowledged.add(2));
+              return null;
+            })
+        .when(journal)
+        .flush();
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(acknowledged).containsExactly(1, 2);
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldRunCallbacksRegisteredWhileRunningCallbacksInOrder() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    append(1, 10);
+    flusher.flush(
+        journal,
+        () -> {
+          acknowledged.add(1);
+          flusher.flush(journal, () -> acknowledged.add(3));
+        });
+    flusher.flush(journal, () -> acknowledged.add(2));
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(acknowledged).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldKeepCallbacksAndRetryOnFlushError() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .doNothing()
+        .when(journal)
+        .flush();
+    append(1, 10);
+    flusher.flush(journal, () -> acknowledged.add(1));
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(MAX_DELAY);
+
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    assertThat(acknowledged).containsExactly(1);
+  }
+
+  @Test
+  void shouldRunPendingCallbacksAfterFinalFlushOnClose() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    append(1, 10);
+    flusher.flush(journal, () -> acknowledged.add(1));
+    final var scheduled = scheduler.operations.get(0);
+
+    // when
+    flusher.close();
+    scheduled.operation.run();
+    flusher.flush(journal, () -> acknowledged.add(2));
+
+    // then
+    assertThat(scheduled.cancelled).isTrue();
+    assertThat(acknowledged).containsExactly(1);
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldNotRunPendingCallbacksIfFinalFlushFails() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    append(1, 10);
+    flusher.flush(journal, () -> acknowledged.add(1));
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(acknowledged).isEmpty();
+  }
+
+  @Test
+  void shouldRunCallbackRightAwayIfNothingIsPending() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    append(1, 10);
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // when
+    flusher.flush(journal, () -> acknowledged.add(1));
+
+    // then
+    assertThat(acknowledged).containsExactly(1);
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldNotRunCallbackRightAwayBeforePendingCallbacks() {
+    // given
+    final List<Integer> acknowledged = new ArrayList<>();
+    append(1, 10);
+    flusher.flush(journal, () -> acknowledged.add(1));
+
+    // when
+    flusher.flush(journal, () -> acknowledged.add(2));
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    scheduler.runNext();
+    assertThat(acknowledged).containsExactly(1, 2);
+  }
+
+  private void append(final int count, final int size) {
+    final var record = Mockito.mock(JournalRecord.class);
+    Mockito.when(record.serializedRecord()).thenReturn(new UnsafeBuffer(new byte[size]));
+    for (int i = 0; i < count; i++) {
+      flusher.onAppend(record);
+    }
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      // one-shot schedules are delegated here with a zero initial delay and the delay as interval
+      final var scheduled = new TestScheduled(interval, callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
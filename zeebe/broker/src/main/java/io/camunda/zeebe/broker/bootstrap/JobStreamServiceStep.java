@@ -36,8 +36,9 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
       final ConcurrencyControl concurrencyControl,
       final ActorFuture<BrokerStartupContext> startupFuture) {
     final var clusterServices = brokerStartupContext.getClusterServices();
+    final var metrics = new JobStreamMetrics();
     final var errorHandlerService =
-        new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler());
+        new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler(metrics));
 
     final var scheduler = brokerStartupContext.getActorSchedulingService();
     final RemoteStreamService<JobActivationProperties, ActivatedJob> remoteStreamService =
@@ -46,7 +47,7 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
                 clusterServices.getCommunicationService(),
                 JobStreamServiceStep::readJobActivationProperties,
                 errorHandlerService,
-                new JobStreamMetrics());
+                metrics);
     final var errorHandlerStarted = scheduler.submitActor(errorHandlerService);
 
     errorHandlerStarted.onComplete(
@@ -68,7 +69,8 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
                     final var jobStreamService =
                         new JobStreamService(
                             remoteStreamService,
-                            new RemoteJobStreamer(streamer, clusterServices.getEventService()),
+                            new RemoteJobStreamer(
+                                streamer, clusterServices.getEventService(), metrics),
                             errorHandlerService);
                     clusterServices.getMembershipService().addListener(remoteStreamService);
                     brokerStartupContext.addPartitionListener(errorHandlerService);
@@ -122,7 +124,11 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
     mutable.wrap(buffer);
 
     return new ImmutableJobActivationPropertiesImpl(
-        mutable.worker(), mutable.timeout(), mutable.fetchVariables(), mutable.tenantIds());
+        mutable.worker(),
+        mutable.timeout(),
+        mutable.fetchVariables(),
+        mutable.tenantIds(),
+        mutable.maxJobsActive());
   }
 
   @Override
@@ -134,7 +140,8 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
       DirectBuffer worker,
       long timeout,
       Collection<DirectBuffer> fetchVariables,
-      Collection<String> tenantIds)
+      Collection<String> tenantIds,
+      int maxJobsActive)
       implements JobActivationProperties {
 
     @Override
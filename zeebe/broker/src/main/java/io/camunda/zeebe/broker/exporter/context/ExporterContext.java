@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.exporter.context;
 
 import io.camunda.zeebe.exporter.api.context.Configuration;
 import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.exporter.api.context.SerializedRecordCache;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.EnsureUtil;
@@ -21,14 +22,24 @@ public final class ExporterContext implements Context {
   private final Logger logger;
   private final Configuration configuration;
   private final int partitionId;
+  private final SerializedRecordCache serializedRecordCache;
 
   private RecordFilter filter = DEFAULT_FILTER;
 
   public ExporterContext(
       final Logger logger, final Configuration configuration, final int partitionId) {
+    this(logger, configuration, partitionId, SerializedRecordCache.NONE);
+  }
+
+  public ExporterContext(
+      final Logger logger,
+      final Configuration configuration,
+      final int partitionId,
+      final SerializedRecordCache serializedRecordCache) {
     this.logger = logger;
     this.configuration = configuration;
     this.partitionId = partitionId;
+    this.serializedRecordCache = serializedRecordCache;
   }
 
   @Override
@@ -46,6 +57,11 @@ public final class ExporterContext implements Context {
     return partitionId;
   }
 
+  @Override
+  public SerializedRecordCache getSerializedRecordCache() {
+    return serializedRecordCache;
+  }
+
   public RecordFilter getFilter() {
     return filter;
   }
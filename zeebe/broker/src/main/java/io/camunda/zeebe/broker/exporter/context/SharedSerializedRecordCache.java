@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.context;
+
+import io.camunda.zeebe.exporter.api.context.SerializedRecordCache;
+import io.camunda.zeebe.exporter.api.context.SerializedRecordCache.RecordSerializer;
+import io.camunda.zeebe.protocol.record.Record;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A cache of serialized records shared by all exporters of a partition. Each exporter accesses it
+ * through its own {@link SerializedRecordCache}, see {@link #forExporter(String)}, such that the
+ * cache knows which exporters use which format. Records are only cached in a format which more than
+ * one exporter uses; as long as a single exporter uses a format, there is nothing to share, and
+ * records are serialized without touching the cache.
+ *
+ * <p>It holds a fixed number of slots, indexed by the position of the record and the format, and an
+ * entry is simply replaced when another record maps to the same slot. Since exporters export
+ * records in order and close to each other, the recent records they share are found in the cache.
+ * On top of that, the total size of the cached records is bounded: a record which doesn't fit
+ * anymore is not cached until other entries are replaced.
+ *
+ * <p>A record never changes once it is written, so an entry for a position stays valid for the
+ * lifetime of the cache, and the cache can be used concurrently by exporters running on different
+ * actors.
+ */
+public final class SharedSerializedRecordCache {
+
+  public static final int DEFAULT_CAPACITY = 1024;
+  public static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+  private final AtomicReferenceArray<Entry> entries;
+  private final int mask;
+  private final long maxBytes;
+  private final AtomicLong cachedBytes = new AtomicLong();
+  // the exporters which use a format, by format
+  private final Map<String, Set<String>> exportersByFormat = new ConcurrentHashMap<>();
+
+  public SharedSerializedRecordCache() {
+    this(DEFAULT_CAPACITY, DEFAULT_MAX_BYTES);
+  }
+
+  public SharedSerializedRecordCache(final int capacity, final long maxBytes) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be a power of two, but was " + capacity);
+    }
+
+    entries = new AtomicReferenceArray<>(capacity);
+    mask = capacity - 1;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Returns the cache to be used by the given exporter. Formats used through it are attributed to
+   * the exporter until it is released via {@link #release(String)}.
+   *
+   * @param exporterId the ID of the exporter
+   * @return the exporter's view of the shared cache
+   */
+  public SerializedRecordCache forExporter(final String exporterId) {
+    return new ExporterCache(exporterId);
+  }
+
+  /**
+   * Releases all formats used by the given exporter, e.g. when it is removed, such that records
+   * aren't cached anymore in formats which only one exporter still uses.
+   *
+   * @param exporterId the ID of the exporter
+   */
+  public void release(final String exporterId) {
+    exportersByFormat.values().forEach(exporters -> exporters.remove(exporterId));
+  }
+
+  /** Returns the total size of the cached records in bytes. */
+  long cachedBytes() {
+    return cachedBytes.get();
+  }
+
+  private byte[] get(final Record<?> record, final String format, final RecordSerializer serializer)
+      throws IOException {
+    final long position = record.getPosition();
+    final int slot = slot(position, format);
+
+    final Entry entry = entries.get(slot);
+    if (entry != null && entry.position() == position && entry.format().equals(format)) {
+      return entry.bytes();
+    }
+
+    final byte[] bytes = serializer.serialize(record);
+    put(slot, entry, new Entry(position, format, bytes));
+    return bytes;
+  }
+
+  private void put(final int slot, final Entry replaced, final Entry entry) {
+    final long replacedBytes = replaced != null ? replaced.bytes().length : 0;
+    final long addedBytes = entry.bytes().length - replacedBytes;
+    // the bytes are reserved first, such that concurrent puts can't exceed the bound together; if
+    // another exporter replaced the entry concurrently, theirs is kept
+    if (cachedBytes.addAndGet(addedBytes) > maxBytes
+        || !entries.compareAndSet(slot, replaced, entry)) {
+      cachedBytes.addAndGet(-addedBytes);
+    }
+  }
+
+  private boolean isShared(final String format) {
+    final var exporters = exportersByFormat.get(format);
+    return exporters != null && exporters.size() > 1;
+  }
+
+  private int slot(final long position, final String format) {
+    return (Long.hashCode(position) * 31 + format.hashCode()) & mask;
+  }
+
+  private record Entry(long position, String format, byte[] bytes) {}
+
+  private final class ExporterCache implements SerializedRecordCache {
+    private final String exporterId;
+    // the formats this exporter is already registered for; only accessed by the exporter
+    private final Set<String> usedFormats = new HashSet<>();
+
+    private ExporterCache(final String exporterId) {
+      this.exporterId = exporterId;
+    }
+
+    @Override
+    public byte[] get(
+        final Record<?> record, final String format, final RecordSerializer serializer)
+        throws IOException {
+      if (usedFormats.add(format)) {
+        exportersByFormat
+            .computeIfAbsent(format, f -> ConcurrentHashMap.newKeySet())
+            .add(exporterId);
+      }
+
+      return isShared(format)
+          ? SharedSerializedRecordCache.this.get(record, format, serializer)
+          : serializer.serialize(record);
+    }
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.exporter.stream;
 
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
+import io.camunda.zeebe.broker.exporter.context.SharedSerializedRecordCache;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
 import io.camunda.zeebe.exporter.api.Exporter;
@@ -45,17 +46,28 @@ final class ExporterContainer implements Controller {
   private ExporterMetrics metrics;
   private ActorControl actor;
   private final ExporterInitializationInfo initializationInfo;
+  private final SharedSerializedRecordCache serializedRecordCache;
 
   ExporterContainer(
       final ExporterDescriptor descriptor,
       final int partitionId,
       final ExporterInitializationInfo initializationInfo) {
+    this(descriptor, partitionId, initializationInfo, new SharedSerializedRecordCache());
+  }
+
+  ExporterContainer(
+      final ExporterDescriptor descriptor,
+      final int partitionId,
+      final ExporterInitializationInfo initializationInfo,
+      final SharedSerializedRecordCache serializedRecordCache) {
     this.initializationInfo = initializationInfo;
+    this.serializedRecordCache = serializedRecordCache;
     context =
         new ExporterContext(
             Loggers.getExporterLogger(descriptor.getId()),
             descriptor.getConfiguration(),
-            partitionId);
+            partitionId,
+            serializedRecordCache.forExporter(descriptor.getId()));
 
     exporter = descriptor.newInstance();
   }
@@ -247,5 +259,7 @@ final class ExporterContainer implements Controller {
     } catch (final Exception e) {
       context.getLogger().error("Error on close", e);
     }
+
+    serializedRecordCache.release(getId());
   }
 }
@@ -8,7 +8,9 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.exporter.context.SharedSerializedRecordCache;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExecutionMode;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -37,11 +39,13 @@ import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -90,21 +94,53 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
 
+  // In the PER_EXPORTER execution mode, this director does not export itself, but manages one
+  // director per exporter, each with its own actor and reader. These have this director as parent.
+  private final boolean perExporter;
+  private final Map<String, ExporterDirector> exporterDirectors = new ConcurrentHashMap<>();
+  // the reports of the directors of exporters which are not healthy, by exporter id
+  private final Map<String, HealthReport> exporterHealthReports = new HashMap<>();
+  private final ExporterDirector parent;
+  private final int id;
+  // shared by all exporters of the partition, including those of the directors of this one
+  private final SharedSerializedRecordCache serializedRecordCache;
+  private ActorSchedulingService actorSchedulingService;
+  // the position of the last record which a director with a parent has exported or skipped
+  private volatile long lastProcessedPosition = -1;
+  // set while an update of the exported position is scheduled on this director's actor
+  private final AtomicBoolean exportedPositionUpdateScheduled = new AtomicBoolean();
+
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
     name = context.getName();
+    id = context.getId();
+    parent = context.getParent();
 
     logStream = Objects.requireNonNull(context.getLogStream());
     partitionId = logStream.getPartitionId();
+    exporterMode = context.getExporterMode();
+    perExporter =
+        context.getExecutionMode() == ExecutionMode.PER_EXPORTER
+            && exporterMode == ExporterMode.ACTIVE;
+    serializedRecordCache =
+        parent != null ? parent.serializedRecordCache : new SharedSerializedRecordCache();
     containers =
-        context.getDescriptors().entrySet().stream()
-            .map(
-                descriptorEntry ->
-                    new ExporterContainer(
-                        descriptorEntry.getKey(), partitionId, descriptorEntry.getValue()))
-            .collect(Collectors.toCollection(ArrayList::new));
-    metrics = new ExporterMetrics(partitionId);
-    metrics.initializeExporterState(exporterPhase);
+        perExporter
+            ? new ArrayList<>()
+            : context.getDescriptors().entrySet().stream()
+                .map(
+                    descriptorEntry ->
+                        new ExporterContainer(
+                            descriptorEntry.getKey(),
+                            partitionId,
+                            descriptorEntry.getValue(),
+                            serializedRecordCache))
+                .collect(Collectors.toCollection(ArrayList::new));
+    // the directors of the exporters share the metrics of their parent, which owns the phase
+    metrics = parent != null ? parent.metrics : new ExporterMetrics(partitionId);
+    if (parent == null) {
+      metrics.initializeExporterState(exporterPhase);
+    }
     recordExporter = new RecordExporter(metrics, containers, partitionId);
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     recordWrapStrategy = new EndlessRetryStrategy(actor);
@@ -112,12 +148,21 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
     exporterPositionsTopic = String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
-    exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+
+    if (perExporter) {
+      context
+          .getDescriptors()
+          .forEach(
+              (descriptor, initializationInfo) ->
+                  exporterDirectors.put(
+                      descriptor.getId(), newExporterDirector(descriptor, initializationInfo)));
+    }
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -139,11 +184,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          metrics.setExporterPaused();
-          exporterPhase = ExporterPhase.PAUSED;
-        });
+    return callAndDelegate(
+        () -> setExporterPhase(ExporterPhase.PAUSED), ExporterDirector::pauseExporting);
   }
 
   /**
@@ -161,12 +203,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
+    return callAndDelegate(
         () -> {
           containers.stream().forEach(ExporterContainer::softPauseExporter);
-          exporterPhase = ExporterPhase.SOFT_PAUSED;
-          metrics.setExporterSoftPaused();
-        });
+          setExporterPhase(ExporterPhase.SOFT_PAUSED);
+        },
+        ExporterDirector::softPauseExporting);
   }
 
   /**
@@ -182,17 +224,52 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
+    return callAndDelegate(
         () -> {
           if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
             containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
           }
-          exporterPhase = ExporterPhase.EXPORTING;
-          metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
+          setExporterPhase(ExporterPhase.EXPORTING);
+          if (exporterMode == ExporterMode.ACTIVE && !perExporter) {
             actor.submit(this::readNextEvent);
           }
+        },
+        ExporterDirector::resumeExporting);
+  }
+
+  private void setExporterPhase(final ExporterPhase phase) {
+    exporterPhase = phase;
+    if (parent == null) {
+      metrics.initializeExporterState(phase);
+    }
+  }
+
+  /**
+   * Runs the given action on this director's actor. In the {@link ExecutionMode#PER_EXPORTER} mode,
+   * it afterwards applies the given call to the director of each exporter, and the returned future
+   * completes once all of them are done.
+   */
+  private ActorFuture<Void> callAndDelegate(
+      final Runnable action, final Function<ExporterDirector, ActorFuture<Void>> delegate) {
+    if (!perExporter) {
+      return actor.call(action);
+    }
+
+    final CompletableActorFuture<Void> result = new CompletableActorFuture<>();
+    actor.run(
+        () -> {
+          action.run();
+          actor.runOnCompletion(
+              exporterDirectors.values().stream().map(delegate).toList(),
+              error -> {
+                if (error == null) {
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
         });
+    return result;
   }
 
   /**
@@ -207,9 +284,48 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
+    if (perExporter) {
+      return removeExporterDirector(exporterId);
+    }
+
     return actor.call(() -> removeExporter(exporterId));
   }
 
+  private ActorFuture<Void> removeExporterDirector(final String exporterId) {
+    final CompletableActorFuture<Void> removed = new CompletableActorFuture<>();
+    actor.run(
+        () -> {
+          final var director = exporterDirectors.get(exporterId);
+          if (director == null) {
+            LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId);
+            removed.complete(null);
+            return;
+          }
+
+          actor.runOnCompletion(
+              director.disableExporter(exporterId),
+              (ok, error) -> {
+                if (error != null) {
+                  removed.completeExceptionally(error);
+                  return;
+                }
+
+                exporterDirectors.remove(exporterId);
+                director.stopAsync();
+                LOG.debug("Exporter '{}' is removed.", exporterId);
+                if (exporterHealthReports.remove(exporterId) != null) {
+                  updateHealth();
+                }
+
+                if (exporterDirectors.isEmpty()) {
+                  becomeIdle();
+                }
+                removed.complete(null);
+              });
+        });
+    return removed;
+  }
+
   private void removeExporter(final String exporterId) {
     containers.stream()
         .filter(c -> c.getId().equals(exporterId))
@@ -253,6 +369,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
+    if (perExporter) {
+      return addExporterDirector(exporterId, initializationInfo, descriptor);
+    }
+
     return actor.call(
         () -> {
           containers.stream()
@@ -274,7 +394,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       final ExporterInitializationInfo initializationInfo,
       final ExporterDescriptor descriptor) {
     final ExporterContainer container =
-        new ExporterContainer(descriptor, partitionId, initializationInfo);
+        new ExporterContainer(descriptor, partitionId, initializationInfo, serializedRecordCache);
     container.initContainer(actor, metrics, state, exporterPhase);
     try {
       container.configureExporter();
@@ -295,6 +415,95 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
+  private ActorFuture<Void> addExporterDirector(
+      final String exporterId,
+      final ExporterInitializationInfo initializationInfo,
+      final ExporterDescriptor descriptor) {
+    final CompletableActorFuture<Void> added = new CompletableActorFuture<>();
+    actor.run(
+        () -> {
+          if (exporterDirectors.containsKey(exporterId)) {
+            LOG.debug(
+                "Exporter '{}' is already enabled. Skipping the enabling operation.", exporterId);
+            added.complete(null);
+            return;
+          }
+
+          final var director = newExporterDirector(descriptor, initializationInfo);
+          exporterDirectors.put(exporterId, director);
+          actor.runOnCompletion(
+              startExporterDirector(exporterId, director),
+              (ok, error) -> {
+                if (error != null) {
+                  LOG.error("Failed to enable exporter '{}'", exporterId, error);
+                  exporterDirectors.remove(exporterId);
+                  if (exporterHealthReports.remove(exporterId) != null) {
+                    updateHealth();
+                  }
+                  added.completeExceptionally(error);
+                  return;
+                }
+
+                LOG.debug("Exporter '{}' is enabled.", exporterId);
+                if (idle) {
+                  becomeLive();
+                }
+                added.complete(null);
+              });
+        });
+    return added;
+  }
+
+  private ExporterDirector newExporterDirector(
+      final ExporterDescriptor descriptor, final ExporterInitializationInfo initializationInfo) {
+    final var exporterContext =
+        new ExporterDirectorContext()
+            .id(id)
+            .name(name + "-" + descriptor.getId())
+            .logStream(logStream)
+            .zeebeDb(zeebeDb)
+            .partitionMessagingService(partitionMessagingService)
+            .descriptors(Map.of(descriptor, initializationInfo))
+            .exporterMode(ExporterMode.ACTIVE)
+            .distributionInterval(distributionInterval)
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .parent(this);
+    return new ExporterDirector(exporterContext, exporterPhase);
+  }
+
+  private ActorFuture<Void> startExporterDirector(
+      final String exporterId, final ExporterDirector director) {
+    // the director isn't started yet, so the listener is added directly; adding it through the
+    // director's actor could miss failures which happen right after starting
+    director.listeners.add(new ExporterDirectorFailureListener(exporterId));
+    return director.startAsync(actorSchedulingService);
+  }
+
+  /**
+   * Called by the director of each exporter, on its own actor, whenever it exported or skipped a
+   * record. The exported position is updated on this director's actor, as flow control expects a
+   * single caller; updates which are requested while one is scheduled are coalesced into it.
+   */
+  private void onExporterProgress() {
+    if (exportedPositionUpdateScheduled.compareAndSet(false, true)) {
+      actor.run(this::updateExportedPosition);
+    }
+  }
+
+  /** Flow control must only see a record as exported once all exporters processed it, as before. */
+  private void updateExportedPosition() {
+    // reset before reading the positions, such that later progress schedules another update
+    exportedPositionUpdateScheduled.set(false);
+    long position = Long.MAX_VALUE;
+    for (final ExporterDirector director : exporterDirectors.values()) {
+      position = Math.min(position, director.lastProcessedPosition);
+    }
+
+    if (position != Long.MAX_VALUE) {
+      logStream.getFlowControl().onExported(position);
+    }
+  }
+
   public ActorFuture<ExporterPhase> getPhase() {
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(ExporterPhase.CLOSED);
@@ -316,7 +525,19 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (perExporter) {
+      for (final var exporterDirector : exporterDirectors.entrySet()) {
+        final var director = exporterDirector.getValue();
+        actor.runOnCompletionBlockingCurrentPhase(
+            startExporterDirector(exporterDirector.getKey(), director),
+            (nothing, error) -> {
+              if (error != null) {
+                LOG.error("Failed to start exporter director '{}'", director.getName(), error);
+                actor.close();
+              }
+            });
+      }
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
       actor.runOnCompletionBlockingCurrentPhase(
           newReaderFuture,
@@ -358,9 +579,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     isOpened.set(true);
 
     // remove exporters from state
-    // which are no longer in our configuration
-    clearExporterState();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    // which are no longer in our configuration; a director with a parent only knows its exporter
+    if (parent == null) {
+      clearExporterState();
+    }
+    if (perExporter) {
+      startPerExporterMode();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       startActiveExportingMode();
     } else { // PASSIVE, we consume the messages and set it in our state
       startPassiveExportingMode();
@@ -373,6 +598,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       logStreamReader.close();
     }
     logStream.removeRecordAvailableListener(this);
+
+    for (final ExporterDirector director : exporterDirectors.values()) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          director.stopAsync(),
+          (nothing, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter director '{}'", director.getName(), error);
+            }
+          });
+    }
   }
 
   @Override
@@ -470,6 +705,56 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     actor.close();
   }
 
+  private void onExporterHealthChanged(final String exporterId, final HealthReport report) {
+    // the exporter may have been removed since the report was sent
+    if (!exporterDirectors.containsKey(exporterId)) {
+      return;
+    }
+
+    if (report.isHealthy()) {
+      exporterHealthReports.remove(exporterId);
+    } else {
+      exporterHealthReports.put(exporterId, report);
+    }
+    updateHealth();
+  }
+
+  /**
+   * In the {@link ExecutionMode#PER_EXPORTER} mode, this director is as healthy as the worst of the
+   * directors of its exporters: it is dead if any of them is dead, unhealthy if any of them is
+   * unhealthy, and healthy once all of them are healthy again.
+   */
+  private void updateHealth() {
+    final var previousReport = healthReport;
+    healthReport = calculateHealth();
+    if (previousReport.equals(healthReport)) {
+      return;
+    }
+
+    switch (healthReport.getStatus()) {
+      case HEALTHY -> listeners.forEach(FailureListener::onRecovered);
+      case UNHEALTHY -> listeners.forEach(listener -> listener.onFailure(healthReport));
+      case DEAD -> listeners.forEach(listener -> listener.onUnrecoverableFailure(healthReport));
+      default -> LOG.warn("Unknown health status {}", healthReport);
+    }
+  }
+
+  private HealthReport calculateHealth() {
+    HealthReport unhealthyReport = null;
+    for (final HealthReport report : exporterHealthReports.values()) {
+      if (report.isDead()) {
+        return HealthReport.dead(this).withIssue(report);
+      }
+      if (unhealthyReport == null) {
+        unhealthyReport = report;
+      }
+    }
+
+    return unhealthyReport == null
+        ? HealthReport.healthy(this)
+        : HealthReport.unhealthy(this).withIssue(unhealthyReport);
+  }
+
   private void becomeIdle() {
     idle = true;
     LOG.debug("No exporters are configured. Going idle.");
@@ -489,7 +774,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void becomeLive() {
     LOG.debug("New exporters are configured. Restart exporting.");
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (perExporter) {
+      startDistributingExporterState();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       restartActiveExportingMode();
     } else {
       restartPassiveExportingMode();
@@ -504,7 +791,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
 
     if (state.hasExporters()) {
-      final long snapshotPosition = state.getLowestPosition();
+      // a director with a parent starts from the position of its own exporter
+      final long snapshotPosition =
+          parent == null
+              ? state.getLowestPosition()
+              : containers.stream().mapToLong(ExporterContainer::getPosition).min().orElse(-1L);
       // start reading and exporting
       startActiveExportingFrom(snapshotPosition);
     } else {
@@ -512,6 +803,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
+  private void startPerExporterMode() {
+    if (exporterDirectors.isEmpty()) {
+      becomeIdle();
+    } else {
+      // the directors of the exporters only export, this one distributes the state of all
+      startDistributingExporterState();
+    }
+  }
+
   private void restartActiveExportingMode() {
     logStream
         .newLogStreamReader()
@@ -540,6 +840,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       actor.submit(this::readNextEvent);
     }
 
+    if (parent == null) {
+      startDistributingExporterState();
+    }
+  }
+
+  private void startDistributingExporterState() {
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
@@ -583,6 +889,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
 
+    if (parent != null) {
+      lastProcessedPosition = eventPosition;
+      parent.onExporterProgress();
+    }
+
     actor.submit(this::readNextEvent);
   }
 
@@ -630,9 +941,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
                   LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
                   onFailure();
                 } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
+                  onExported(recordExporter.getTypedEvent().getPosition());
                   metrics.eventExported(recordExporter.getTypedEvent().getValueType());
                   inExportingPhase = false;
                   actor.submit(this::readNextEvent);
@@ -641,9 +950,21 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         });
   }
 
+  private void onExported(final long position) {
+    if (parent == null) {
+      logStream.getFlowControl().onExported(position);
+    } else {
+      lastProcessedPosition = position;
+      parent.onExporterProgress();
+    }
+  }
+
   private void clearExporterState() {
     final List<String> exporterIds =
-        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
+        containers.stream()
+            .map(ExporterContainer::getId)
+            .collect(Collectors.toCollection(ArrayList::new));
+    exporterIds.addAll(exporterDirectors.keySet());
 
     state.visitExporterState(
         (exporterId, exporterStateEntry) -> {
@@ -693,6 +1014,31 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
 
+  /** Tracks the health of the director of an exporter, see {@link #updateHealth()}. */
+  private final class ExporterDirectorFailureListener implements FailureListener {
+    private final String exporterId;
+
+    private ExporterDirectorFailureListener(final String exporterId) {
+      this.exporterId = exporterId;
+    }
+
+    @Override
+    public void onFailure(final HealthReport report) {
+      actor.run(() -> onExporterHealthChanged(exporterId, report));
+    }
+
+    @Override
+    public void onRecovered() {
+      actor.run(
+          () -> onExporterHealthChanged(exporterId, HealthReport.healthy(ExporterDirector.this)));
+    }
+
+    @Override
+    public void onUnrecoverableFailure(final HealthReport report) {
+      actor.run(() -> onExporterHealthChanged(exporterId, report));
+    }
+  }
+
   private static class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadata metadata = new RecordMetadata();
@@ -29,6 +29,8 @@ public final class ExporterDirectorContext {
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
   private EventFilter positionsToSkipFilter;
+  private ExecutionMode executionMode = ExecutionMode.SHARED;
+  private ExporterDirector parent;
 
   public int getId() {
     return id;
@@ -66,6 +68,14 @@ public final class ExporterDirectorContext {
     return positionsToSkipFilter;
   }
 
+  public ExecutionMode getExecutionMode() {
+    return executionMode;
+  }
+
+  ExporterDirector getParent() {
+    return parent;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -113,6 +123,33 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext executionMode(final ExecutionMode executionMode) {
+    this.executionMode = executionMode;
+    return this;
+  }
+
+  /**
+   * Sets the director which manages the director created from this context, if it exports to a
+   * single exporter on behalf of the parent; see {@link ExecutionMode#PER_EXPORTER}.
+   */
+  ExporterDirectorContext parent(final ExporterDirector parent) {
+    this.parent = parent;
+    return this;
+  }
+
+  public enum ExecutionMode {
+    /**
+     * SHARED, means all exporters run on the same actor, which reads each record once and passes it
+     * to every exporter in turn. A slow exporter slows down all others.
+     */
+    SHARED,
+    /**
+     * PER_EXPORTER, means each exporter runs on its own actor with its own reader, such that a slow
+     * exporter does not hold back the others. Only applies to the {@link ExporterMode#ACTIVE} mode.
+     */
+    PER_EXPORTER
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -42,6 +42,15 @@ public final class ExporterMetrics {
           .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge EXPORT_LAG =
+      Gauge.build()
+          .namespace(NAMESPACE_ZEEBE)
+          .name("exporter_export_lag_ms")
+          .help(
+              "The time in milliseconds between writing the last exported record and exporting it, by exporter and partition.")
+          .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_PARTITION)
+          .register();
+
   private static final Gauge EXPORTER_PHASE =
       Gauge.build()
           .namespace(NAMESPACE_ZEEBE)
@@ -91,6 +100,10 @@ public final class ExporterMetrics {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
 
+  public void setExportLag(final String exporter, final long lagMillis) {
+    EXPORT_LAG.labels(exporter, partitionIdLabel).set(lagMillis);
+  }
+
   public void initializeExporterState(final ExporterPhase state) {
     switch (state) {
       case PAUSED:
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.exporter.stream;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.util.List;
@@ -62,6 +63,8 @@ final class RecordExporter {
       if (container.exportRecord(rawMetadata, typedEvent)) {
         exporterIndex++;
         exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+        exporterMetrics.setExportLag(
+            container.getId(), ActorClock.currentTimeMillis() - typedEvent.getTimestamp());
       } else {
         return false;
       }
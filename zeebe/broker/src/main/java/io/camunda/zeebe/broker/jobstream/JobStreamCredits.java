@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.jobstream;
+
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.collections.MutableInteger;
+
+/**
+ * Tracks the jobs which were pushed to a stream and weren't completed, failed or yielded yet, such
+ * that a stream doesn't have more jobs in flight than its workers can handle. Streams are
+ * identified by their job type and properties, i.e. all consumers which the transport aggregates
+ * into one logical stream share its credits. As the transport picks the consumer of each push, the
+ * window of a stream is the sum of its consumers' windows, i.e. {@link
+ * JobActivationProperties#maxJobsActive()} times the number of consumers. Streams which don't
+ * advertise a maximum have unlimited credits and aren't tracked.
+ *
+ * <p>NOTE: each broker tracks the jobs it pushed itself, which are the jobs of all its partitions.
+ * A gateway may also aggregate several workers into one consumer, such that the window is a lower
+ * bound of what the workers can handle.
+ *
+ * <p>A credit is used up when a job is pushed and given back once the engine notifies that the job
+ * was deactivated. As a fallback, e.g. if the job was deactivated by another broker after a leader
+ * change, a credit is also given back once the deadline of its job has passed.
+ *
+ * <p>This class is thread safe, as the jobs of all partitions are pushed through the same streams.
+ */
+final class JobStreamCredits {
+
+  // the jobs of a stream are only accessed while computing its entry, which locks it
+  private final Map<StreamKey, Map<Long, Long>> activeJobsByStream = new ConcurrentHashMap<>();
+  private final Map<Long, StreamKey> streamByJob = new ConcurrentHashMap<>();
+  private final JobStreamMetrics metrics;
+
+  JobStreamCredits(final JobStreamMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * @param consumerCount the number of consumers aggregated into the stream
+   * @param deactivatedJobKeys keys of jobs which aren't activated anymore, but whose credits
+   *     weren't given back yet; they're counted as given back
+   * @return the number of jobs which can still be pushed to the given stream, or {@link
+   *     Integer#MAX_VALUE} if the stream doesn't advertise a maximum
+   */
+  int availableCredits(
+      final String jobType,
+      final JobActivationProperties properties,
+      final int consumerCount,
+      final Collection<Long> deactivatedJobKeys) {
+    final int maxJobsActive = properties.maxJobsActive();
+    if (maxJobsActive <= 0) {
+      return Integer.MAX_VALUE;
+    }
+
+    final int window = (int) Math.min((long) maxJobsActive * consumerCount, Integer.MAX_VALUE);
+    final var activeJobCount = new MutableInteger();
+    activeJobsByStream.computeIfPresent(
+        new StreamKey(jobType, properties),
+        (key, jobs) -> {
+          final var activeJobs = removeExpiredJobs(jobs);
+          if (activeJobs != null) {
+            activeJobCount.set(activeJobs.size());
+            deactivatedJobKeys.forEach(
+                jobKey -> {
+                  if (activeJobs.containsKey(jobKey)) {
+                    activeJobCount.decrement();
+                  }
+                });
+          }
+          return activeJobs;
+        });
+    return Math.max(window - activeJobCount.get(), 0);
+  }
+
+  /** Uses up a credit of the given stream for the given job, until it's released. */
+  void acquire(
+      final String jobType,
+      final JobActivationProperties properties,
+      final long jobKey,
+      final long deadline) {
+    if (properties.maxJobsActive() <= 0) {
+      return;
+    }
+
+    final var streamKey = new StreamKey(jobType, properties);
+    activeJobsByStream.compute(
+        streamKey,
+        (key, jobs) -> {
+          final var activeJobs = jobs == null ? new HashMap<Long, Long>() : jobs;
+          if (activeJobs.put(jobKey, deadline) == null) {
+            metrics.creditAcquired();
+          }
+          return activeJobs;
+        });
+    streamByJob.put(jobKey, streamKey);
+  }
+
+  /** Gives back the credit used up by the given job, if any. */
+  void release(final long jobKey) {
+    final var streamKey = streamByJob.remove(jobKey);
+    if (streamKey == null) {
+      return;
+    }
+
+    activeJobsByStream.computeIfPresent(
+        streamKey,
+        (key, jobs) -> {
+          if (jobs.remove(jobKey) != null) {
+            metrics.creditReleased();
+          }
+          return jobs.isEmpty() ? null : jobs;
+        });
+  }
+
+  private Map<Long, Long> removeExpiredJobs(final Map<Long, Long> jobs) {
+    final long now = ActorClock.currentTimeMillis();
+    jobs.entrySet()
+        .removeIf(
+            job -> {
+              if (job.getValue() > now) {
+                return false;
+              }
+
+              streamByJob.remove(job.getKey());
+              metrics.creditReleased();
+              return true;
+            });
+    return jobs.isEmpty() ? null : jobs;
+  }
+
+  private record StreamKey(String jobType, JobActivationProperties properties) {}
+}
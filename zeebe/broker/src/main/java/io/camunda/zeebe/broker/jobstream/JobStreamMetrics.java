@@ -11,6 +11,7 @@ import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class JobStreamMetrics implements RemoteStreamMetrics {
   private static final String NAMESPACE = "zeebe_broker";
@@ -44,6 +45,30 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
           .labelNames("code")
           .register();
 
+  private static final Counter YIELD_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("jobs_yielded_count")
+          .help("Total number of pushed jobs which were yielded back, e.g. because the push failed")
+          .register();
+
+  private static final Histogram PUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("job_stream_push_batch_size")
+          .help("Number of jobs activated and pushed to a stream at once")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
+  private static final Gauge USED_CREDITS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("job_stream_used_credits")
+          .help(
+              "Number of jobs pushed to streams with a maximum of active jobs, which weren't"
+                  + " completed, failed or yielded yet")
+          .register();
+
   @Override
   public void addStream() {
     STREAM_COUNT.inc();
@@ -68,4 +93,20 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   public void pushTryFailed(final ErrorCode code) {
     PUSH_TRY_FAILED_COUNT.labels(code.name()).inc();
   }
+
+  public void jobYielded() {
+    YIELD_COUNT.inc();
+  }
+
+  public void jobsPushed(final int batchSize) {
+    PUSH_BATCH_SIZE.observe(batchSize);
+  }
+
+  public void creditAcquired() {
+    USED_CREDITS.inc();
+  }
+
+  public void creditReleased() {
+    USED_CREDITS.dec();
+  }
 }
@@ -11,13 +11,25 @@ import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer.JobStream;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
+import java.util.Collection;
+import java.util.List;
 
 final class RemoteJobStream implements JobStream {
 
   private final RemoteStream<JobActivationProperties, ActivatedJob> remoteStream;
+  private final String jobType;
+  private final JobStreamCredits credits;
+  private final JobStreamMetrics metrics;
 
-  RemoteJobStream(final RemoteStream<JobActivationProperties, ActivatedJob> remoteStream) {
+  RemoteJobStream(
+      final RemoteStream<JobActivationProperties, ActivatedJob> remoteStream,
+      final String jobType,
+      final JobStreamCredits credits,
+      final JobStreamMetrics metrics) {
     this.remoteStream = remoteStream;
+    this.jobType = jobType;
+    this.credits = credits;
+    this.metrics = metrics;
   }
 
   @Override
@@ -27,6 +39,24 @@ final class RemoteJobStream implements JobStream {
 
   @Override
   public void push(final ActivatedJob job) {
+    metrics.jobsPushed(1);
+    pushJob(job);
+  }
+
+  @Override
+  public void pushAll(final List<ActivatedJob> jobs) {
+    metrics.jobsPushed(jobs.size());
+    jobs.forEach(this::pushJob);
+  }
+
+  @Override
+  public int availableCredits(final Collection<Long> deactivatedJobKeys) {
+    return credits.availableCredits(
+        jobType, properties(), remoteStream.consumerCount(), deactivatedJobKeys);
+  }
+
+  private void pushJob(final ActivatedJob job) {
+    credits.acquire(jobType, properties(), job.jobKey(), job.jobRecord().getDeadline());
     remoteStream.push(job);
   }
 }
@@ -12,7 +12,11 @@ import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 
@@ -21,12 +25,17 @@ public final class RemoteJobStreamer implements JobStreamer {
 
   private final RemoteStreamer<JobActivationProperties, ActivatedJob> delegate;
   private final ClusterEventService eventService;
+  private final JobStreamMetrics metrics;
+  private final JobStreamCredits credits;
 
   public RemoteJobStreamer(
       final RemoteStreamer<JobActivationProperties, ActivatedJob> delegate,
-      final ClusterEventService eventService) {
+      final ClusterEventService eventService,
+      final JobStreamMetrics metrics) {
     this.delegate = delegate;
     this.eventService = eventService;
+    this.metrics = metrics;
+    credits = new JobStreamCredits(metrics);
   }
 
   @Override
@@ -37,6 +46,28 @@ public final class RemoteJobStreamer implements JobStreamer {
   @Override
   public Optional<JobStream> streamFor(
       final DirectBuffer jobType, final Predicate<JobActivationProperties> filter) {
-    return delegate.streamFor(jobType, filter).map(RemoteJobStream::new);
+    final var type = BufferUtil.bufferAsString(jobType);
+    // the credits depend on the number of consumers of a stream, which the filter doesn't know, so
+    // streams without credits are excluded one by one until one with credits is picked
+    final Set<JobActivationProperties> exhaustedStreams = new HashSet<>();
+    while (true) {
+      final var remoteStream =
+          delegate.streamFor(
+              jobType, filter.and(properties -> !exhaustedStreams.contains(properties)));
+      if (remoteStream.isEmpty()) {
+        return Optional.empty();
+      }
+
+      final var stream = new RemoteJobStream(remoteStream.get(), type, credits, metrics);
+      if (stream.availableCredits(List.of()) > 0) {
+        return Optional.of(stream);
+      }
+      exhaustedStreams.add(stream.properties());
+    }
+  }
+
+  @Override
+  public void notifyJobDeactivated(final long jobKey) {
+    credits.release(jobKey);
   }
 }
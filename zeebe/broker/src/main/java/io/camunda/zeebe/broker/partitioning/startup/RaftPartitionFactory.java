@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -78,6 +79,8 @@ public final class RaftPartitionFactory {
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
+    partitionConfig.setAppendPipeliningEnabled(
+        brokerCfg.getExperimental().isAppendPipeliningEnabled());
     partitionConfig.setPriorityElectionEnabled(
         brokerCfg.getCluster().getRaft().isEnablePriorityElection());
     partitionConfig.setElectionTimeout(brokerCfg.getCluster().getElectionTimeout());
@@ -87,6 +90,10 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxInFlightSnapshotChunks(
+        brokerCfg.getExperimental().getRaft().getMaxInFlightSnapshotChunks());
+    partitionConfig.setSnapshotChunkCompression(
+        brokerCfg.getExperimental().getRaft().getSnapshotChunkCompression());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -103,7 +110,7 @@ public final class RaftPartitionFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, null));
     }
 
     return createFlusherFactory(config);
@@ -111,6 +118,12 @@ public final class RaftPartitionFactory {
 
   private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
     if (config.enabled()) {
+      final var groupCommit = config.groupCommit();
+      if (groupCommit.enabled()) {
+        return GroupCommitFlusher.factory(
+            groupCommit.maxBytes().toBytes(), groupCommit.maxEntries(), groupCommit.maxDelay());
+      }
+
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
@@ -20,10 +20,12 @@ import org.springframework.util.unit.DataSize;
 public class ExperimentalCfg implements ConfigurationEntry {
 
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
+  public static final boolean DEFAULT_APPEND_PIPELINING_ENABLED = false;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
+  private boolean appendPipeliningEnabled = DEFAULT_APPEND_PIPELINING_ENABLED;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private RocksdbCfg rocksdb = new RocksdbCfg();
@@ -50,6 +52,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.maxAppendsPerFollower = maxAppendsPerFollower;
   }
 
+  public boolean isAppendPipeliningEnabled() {
+    return appendPipeliningEnabled;
+  }
+
+  public void setAppendPipeliningEnabled(final boolean appendPipeliningEnabled) {
+    this.appendPipeliningEnabled = appendPipeliningEnabled;
+  }
+
   public DataSize getMaxAppendBatchSize() {
     return maxAppendBatchSize;
   }
@@ -142,6 +152,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return "ExperimentalCfg{"
         + "maxAppendsPerFollower="
         + maxAppendsPerFollower
+        + ", appendPipeliningEnabled="
+        + appendPipeliningEnabled
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.system.configuration.ClusterCfg.DEFAULT_ELECTION_TIMEOUT;
 
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import java.time.Duration;
 import org.springframework.util.unit.DataSize;
 
@@ -24,9 +25,14 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
+  private static final SnapshotChunkCompression DEFAULT_SNAPSHOT_CHUNK_COMPRESSION =
+      SnapshotChunkCompression.NONE;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
+  private SnapshotChunkCompression snapshotChunkCompression = DEFAULT_SNAPSHOT_CHUNK_COMPRESSION;
   private Duration configurationChangeTimeout = DEFAULT_CONFIGURATION_CHANGE_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
@@ -58,6 +64,22 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return snapshotChunkCompression;
+  }
+
+  public void setSnapshotChunkCompression(final SnapshotChunkCompression snapshotChunkCompression) {
+    this.snapshotChunkCompression = snapshotChunkCompression;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExecutionMode;
 import java.util.Objects;
 import java.util.Set;
 
@@ -16,6 +17,7 @@ import java.util.Set;
  */
 public final class ExportingCfg implements ConfigurationEntry {
   private Set<Long> skipRecords;
+  private ExecutionMode executionMode = ExecutionMode.SHARED;
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +27,17 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  public ExecutionMode getExecutionMode() {
+    return executionMode;
+  }
+
+  public void setExecutionMode(final ExecutionMode executionMode) {
+    this.executionMode = executionMode;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, executionMode);
   }
 
   @Override
@@ -39,11 +49,16 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return Objects.equals(skipRecords, that.skipRecords) && executionMode == that.executionMode;
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + ", executionMode="
+        + executionMode
+        + '}';
   }
 }
@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, null);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +45,37 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  public record FlushConfig(boolean enabled, Duration delayTime, GroupCommitConfig groupCommit) {
+    public FlushConfig(
+        final boolean enabled, final Duration delayTime, final GroupCommitConfig groupCommit) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.groupCommit = groupCommit == null ? GroupCommitConfig.DISABLED : groupCommit;
+    }
+  }
+
+  /**
+   * Configures group commit flushing: when enabled, appended entries are flushed asynchronously
+   * once {@code maxBytes} bytes or {@code maxEntries} entries are pending, or at the latest after
+   * {@code maxDelay} (with millisecond precision), and followers acknowledge entries only once they
+   * are flushed. Takes precedence over {@link FlushConfig#delayTime()}.
+   */
+  public record GroupCommitConfig(
+      boolean enabled, DataSize maxBytes, int maxEntries, Duration maxDelay) {
+    public static final DataSize DEFAULT_MAX_BYTES = DataSize.ofMegabytes(1);
+    public static final int DEFAULT_MAX_ENTRIES = 100;
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(1);
+    private static final GroupCommitConfig DISABLED = new GroupCommitConfig(false, null, 0, null);
+
+    public GroupCommitConfig(
+        final boolean enabled,
+        final DataSize maxBytes,
+        final int maxEntries,
+        final Duration maxDelay) {
+      this.enabled = enabled;
+      this.maxBytes = maxBytes == null ? DEFAULT_MAX_BYTES : maxBytes;
+      this.maxEntries = maxEntries <= 0 ? DEFAULT_MAX_ENTRIES : maxEntries;
+      this.maxDelay = maxDelay == null ? DEFAULT_MAX_DELAY : maxDelay;
     }
   }
 }
@@ -9,9 +9,13 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -28,6 +32,13 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private Set<String> dedicatedColumnFamilies =
+      RocksDbConfiguration.DEFAULT_DEDICATED_COLUMN_FAMILIES;
+  private Map<String, Properties> dedicatedColumnFamilyOptions = new HashMap<>();
+  private Map<String, Integer> dedicatedColumnFamilyPrefixLengths = new HashMap<>();
+  private TransactionMode transactionMode = RocksDbConfiguration.DEFAULT_TRANSACTION_MODE;
+  // no column family is cached by default; e.g. ELEMENT_INSTANCE_KEY or VARIABLES can be cached
+  private Map<String, DataSize> cachedColumnFamilies = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -39,6 +50,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    final var initializedDedicatedOptions = new HashMap<String, Properties>();
+    dedicatedColumnFamilyOptions.forEach(
+        (columnFamily, options) ->
+            initializedDedicatedOptions.put(columnFamily, initColumnFamilyOptions(options)));
+    dedicatedColumnFamilyOptions = initializedDedicatedOptions;
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -121,6 +138,48 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public Set<String> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public void setDedicatedColumnFamilies(final Set<String> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+  }
+
+  public Map<String, Properties> getDedicatedColumnFamilyOptions() {
+    return dedicatedColumnFamilyOptions;
+  }
+
+  public void setDedicatedColumnFamilyOptions(
+      final Map<String, Properties> dedicatedColumnFamilyOptions) {
+    this.dedicatedColumnFamilyOptions = dedicatedColumnFamilyOptions;
+  }
+
+  public Map<String, Integer> getDedicatedColumnFamilyPrefixLengths() {
+    return dedicatedColumnFamilyPrefixLengths;
+  }
+
+  public void setDedicatedColumnFamilyPrefixLengths(
+      final Map<String, Integer> dedicatedColumnFamilyPrefixLengths) {
+    this.dedicatedColumnFamilyPrefixLengths = dedicatedColumnFamilyPrefixLengths;
+  }
+
+  public Map<String, DataSize> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Map<String, DataSize> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  public void setTransactionMode(final TransactionMode transactionMode) {
+    this.transactionMode = transactionMode;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +198,19 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setDedicatedColumnFamilies(dedicatedColumnFamilies)
+        .setDedicatedColumnFamilyOptions(dedicatedColumnFamilyOptions)
+        .setDedicatedColumnFamilyPrefixLengths(dedicatedColumnFamilyPrefixLengths)
+        .setTransactionMode(transactionMode)
+        .setCachedColumnFamilies(cachedColumnFamilyCapacities());
+  }
+
+  private Map<String, Long> cachedColumnFamilyCapacities() {
+    final var capacities = new HashMap<String, Long>();
+    cachedColumnFamilies.forEach(
+        (columnFamily, capacity) -> capacities.put(columnFamily, capacity.toBytes()));
+    return capacities;
   }
 
   @Override
@@ -165,6 +236,16 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", dedicatedColumnFamilies="
+        + dedicatedColumnFamilies
+        + ", dedicatedColumnFamilyOptions="
+        + dedicatedColumnFamilyOptions
+        + ", dedicatedColumnFamilyPrefixLengths="
+        + dedicatedColumnFamilyPrefixLengths
+        + ", transactionMode="
+        + transactionMode
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
         + '}';
   }
 
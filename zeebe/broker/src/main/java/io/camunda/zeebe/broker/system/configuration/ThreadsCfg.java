@@ -7,9 +7,15 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import java.time.Duration;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean enableVirtualIoThreads = false;
+  private IdleStrategyCfg cpuIdleStrategy = new IdleStrategyCfg();
+  private IdleStrategyCfg ioIdleStrategy = new IdleStrategyCfg();
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +33,30 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isEnableVirtualIoThreads() {
+    return enableVirtualIoThreads;
+  }
+
+  public void setEnableVirtualIoThreads(final boolean enableVirtualIoThreads) {
+    this.enableVirtualIoThreads = enableVirtualIoThreads;
+  }
+
+  public IdleStrategyCfg getCpuIdleStrategy() {
+    return cpuIdleStrategy;
+  }
+
+  public void setCpuIdleStrategy(final IdleStrategyCfg cpuIdleStrategy) {
+    this.cpuIdleStrategy = cpuIdleStrategy;
+  }
+
+  public IdleStrategyCfg getIoIdleStrategy() {
+    return ioIdleStrategy;
+  }
+
+  public void setIoIdleStrategy(final IdleStrategyCfg ioIdleStrategy) {
+    this.ioIdleStrategy = ioIdleStrategy;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +64,113 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", enableVirtualIoThreads="
+        + enableVirtualIoThreads
+        + ", cpuIdleStrategy="
+        + cpuIdleStrategy
+        + ", ioIdleStrategy="
+        + ioIdleStrategy
         + '}';
   }
+
+  public enum IdleStrategyType {
+    /** Uses the idle strategy shared by all thread groups, configured via zeebe.actor.idle. */
+    BACKOFF,
+    /** Adapts spinning, yielding and parking to how long the threads of the group usually idle. */
+    ADAPTIVE
+  }
+
+  /**
+   * How the threads of a thread group wait for work. The bounds are only used by the {@link
+   * IdleStrategyType#ADAPTIVE} strategy.
+   */
+  public static final class IdleStrategyCfg implements ConfigurationEntry {
+    private IdleStrategyType type = IdleStrategyType.BACKOFF;
+    private long maxSpins = ActorSchedulerBuilder.DEFAULT_MAX_SPINS;
+    private long maxYields = ActorSchedulerBuilder.DEFAULT_MAX_YIELDS;
+    private Duration minParkPeriod =
+        Duration.ofNanos(ActorSchedulerBuilder.DEFAULT_MIN_PARK_PERIOD_NS);
+    private Duration maxParkPeriod =
+        Duration.ofNanos(ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS);
+    private Duration spinThreshold =
+        Duration.ofNanos(ActorSchedulerBuilder.DEFAULT_SPIN_THRESHOLD_NS);
+    private Duration yieldThreshold =
+        Duration.ofNanos(ActorSchedulerBuilder.DEFAULT_YIELD_THRESHOLD_NS);
+
+    public IdleStrategyType getType() {
+      return type;
+    }
+
+    public void setType(final IdleStrategyType type) {
+      this.type = type;
+    }
+
+    public long getMaxSpins() {
+      return maxSpins;
+    }
+
+    public void setMaxSpins(final long maxSpins) {
+      this.maxSpins = maxSpins;
+    }
+
+    public long getMaxYields() {
+      return maxYields;
+    }
+
+    public void setMaxYields(final long maxYields) {
+      this.maxYields = maxYields;
+    }
+
+    public Duration getMinParkPeriod() {
+      return minParkPeriod;
+    }
+
+    public void setMinParkPeriod(final Duration minParkPeriod) {
+      this.minParkPeriod = minParkPeriod;
+    }
+
+    public Duration getMaxParkPeriod() {
+      return maxParkPeriod;
+    }
+
+    public void setMaxParkPeriod(final Duration maxParkPeriod) {
+      this.maxParkPeriod = maxParkPeriod;
+    }
+
+    public Duration getSpinThreshold() {
+      return spinThreshold;
+    }
+
+    public void setSpinThreshold(final Duration spinThreshold) {
+      this.spinThreshold = spinThreshold;
+    }
+
+    public Duration getYieldThreshold() {
+      return yieldThreshold;
+    }
+
+    public void setYieldThreshold(final Duration yieldThreshold) {
+      this.yieldThreshold = yieldThreshold;
+    }
+
+    @Override
+    public String toString() {
+      return "IdleStrategyCfg{"
+          + "type="
+          + type
+          + ", maxSpins="
+          + maxSpins
+          + ", maxYields="
+          + maxYields
+          + ", minParkPeriod="
+          + minParkPeriod
+          + ", maxParkPeriod="
+          + maxParkPeriod
+          + ", spinThreshold="
+          + spinThreshold
+          + ", yieldThreshold="
+          + yieldThreshold
+          + '}';
+    }
+  }
 }
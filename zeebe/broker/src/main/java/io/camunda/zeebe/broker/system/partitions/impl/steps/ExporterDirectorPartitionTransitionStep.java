@@ -12,6 +12,7 @@ import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExecutionMode;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.exporter.stream.ExporterPhase;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
@@ -111,6 +112,10 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             context.getBrokerCfg() != null
                 ? context.getBrokerCfg().getExporting().getSkipRecords()
                 : Set.of());
+    final ExecutionMode executionMode =
+        context.getBrokerCfg() != null
+            ? context.getBrokerCfg().getExporting().getExecutionMode()
+            : ExecutionMode.SHARED;
     final ExporterMode exporterMode =
         targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
     final ExporterDirectorContext exporterCtx =
@@ -122,6 +127,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
+            .executionMode(executionMode)
             .positionsToSkipFilter(exporterFilter);
 
     final ExporterDirector director =
@@ -29,7 +29,8 @@ final class JobStreamServiceStepTest {
               .setTimeout(250)
               .setFetchVariables(List.of(new StringValue("foo"), new StringValue("bar")))
               .setWorker(worker, 0, worker.capacity())
-              .setTenantIds(List.of("tenant1", "tenant2"));
+              .setTenantIds(List.of("tenant1", "tenant2"))
+              .setMaxJobsActive(32);
       final var buffer = BufferUtil.createCopy(properties);
 
       // when
@@ -41,6 +42,7 @@ final class JobStreamServiceStepTest {
       assertThat(immutable.fetchVariables())
           .containsExactlyInAnyOrder(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
       assertThat(immutable.tenantIds()).containsExactlyInAnyOrder("tenant1", "tenant2");
+      assertThat(immutable.maxJobsActive()).isEqualTo(32);
     }
   }
 }
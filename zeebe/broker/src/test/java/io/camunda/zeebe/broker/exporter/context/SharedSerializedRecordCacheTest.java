@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.exporter.api.context.SerializedRecordCache;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class SharedSerializedRecordCacheTest {
+
+  private final SharedSerializedRecordCache cache = new SharedSerializedRecordCache(4, 1024);
+  private final SerializedRecordCache first = cache.forExporter("first");
+  private final SerializedRecordCache second = cache.forExporter("second");
+  private final AtomicInteger serializations = new AtomicInteger();
+
+  @Test
+  void shouldNotCacheFormatUsedByOneExporter() throws Exception {
+    // given
+    final var record = recordAt(1);
+    first.get(record, "json", this::serialize);
+
+    // when
+    first.get(record, "json", this::serialize);
+
+    // then
+    assertThat(serializations).hasValue(2);
+    assertThat(cache.cachedBytes()).isZero();
+  }
+
+  @Test
+  void shouldSerializeRecordOnlyOnceForExportersOfSameFormat() throws Exception {
+    // given
+    final var record = recordAt(1);
+    first.get(record, "json", this::serialize);
+    second.get(record, "json", this::serialize);
+
+    // when
+    final var firstBytes = first.get(recordAt(2), "json", this::serialize);
+    final var secondBytes = second.get(recordAt(2), "json", this::serialize);
+
+    // then
+    assertThat(secondBytes).isSameAs(firstBytes);
+    assertThat(serializations).hasValue(3);
+  }
+
+  @Test
+  void shouldNotShareRecordsOfDifferentFormats() throws Exception {
+    // given
+    first.get(recordAt(1), "json", this::serialize);
+    second.get(recordAt(1), "other", this::serialize);
+
+    // when
+    first.get(recordAt(2), "json", this::serialize);
+    second.get(recordAt(2), "other", this::serialize);
+
+    // then
+    assertThat(serializations).hasValue(4);
+    assertThat(cache.cachedBytes()).isZero();
+  }
+
+  @Test
+  void shouldStopCachingOnceExporterIsReleased() throws Exception {
+    // given
+    first.get(recordAt(1), "json", this::serialize);
+    second.get(recordAt(1), "json", this::serialize);
+
+    // when
+    cache.release("second");
+    first.get(recordAt(2), "json", this::serialize);
+    first.get(recordAt(2), "json", this::serialize);
+
+    // then
+    assertThat(serializations).hasValue(4);
+  }
+
+  @Test
+  void shouldSerializeAgainWhenEvicted() throws Exception {
+    // given
+    final var record = recordAt(1);
+    first.get(record, "json", this::serialize);
+    second.get(record, "json", this::serialize);
+
+    // when - the slot of the first record is taken by a later one
+    first.get(recordAt(5), "json", this::serialize);
+    final var bytes = second.get(record, "json", this::serialize);
+
+    // then
+    assertThat(bytes).isEqualTo(new byte[] {1});
+    assertThat(serializations).hasValue(4);
+  }
+
+  @Test
+  void shouldNotCacheMoreThanMaxBytes() throws Exception {
+    // given
+    first.get(recordAt(1), "json", record -> new byte[600]);
+    second.get(recordAt(1), "json", record -> new byte[600]);
+
+    // when - the second record would exceed the bound
+    first.get(recordAt(2), "json", this::serializeLarge);
+    second.get(recordAt(2), "json", this::serializeLarge);
+
+    // then
+    assertThat(serializations).hasValue(2);
+    assertThat(cache.cachedBytes()).isEqualTo(600);
+  }
+
+  @Test
+  void shouldReleaseBytesOfReplacedEntries() throws Exception {
+    // given
+    first.get(recordAt(1), "json", record -> new byte[600]);
+    second.get(recordAt(1), "json", record -> new byte[600]);
+
+    // when - the record maps to the same slot, replacing the first one
+    first.get(recordAt(5), "json", this::serializeLarge);
+
+    // then
+    assertThat(cache.cachedBytes()).isEqualTo(600);
+    second.get(recordAt(5), "json", this::serializeLarge);
+    assertThat(serializations).hasValue(1);
+  }
+
+  private byte[] serialize(final Record<?> record) {
+    serializations.incrementAndGet();
+    return new byte[] {(byte) record.getPosition()};
+  }
+
+  private byte[] serializeLarge(final Record<?> record) {
+    serializations.incrementAndGet();
+    return new byte[600];
+  }
+
+  private Record<?> recordAt(final long position) {
+    return ImmutableRecord.builder().withPosition(position).build();
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static io.camunda.zeebe.test.util.TestUtil.doRepeatedly;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.geq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExecutionMode;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.exception.UnrecoverableException;
+import io.camunda.zeebe.util.health.FailureListener;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorPerExporterTest {
+
+  private static final String FAST_EXPORTER_ID = "fast";
+  private static final String SLOW_EXPORTER_ID = "slow";
+  private static final String FAILING_EXPORTER_ID = "failing";
+  private static final String DYING_EXPORTER_ID = "dying";
+
+  @Rule
+  public final ExporterRule rule =
+      ExporterRule.activeExporter().withExecutionMode(ExecutionMode.PER_EXPORTER);
+
+  private final AtomicBoolean slowExporterBlocked = new AtomicBoolean(true);
+  private ControlledTestExporter fastExporter;
+  private ControlledTestExporter slowExporter;
+  private List<ExporterDescriptor> descriptors;
+
+  @Before
+  public void init() {
+    fastExporter = spy(new ControlledTestExporter()).shouldAutoUpdatePosition(true);
+    slowExporter =
+        spy(new ControlledTestExporter())
+            .shouldAutoUpdatePosition(true)
+            .onExport(
+                record -> {
+                  if (slowExporterBlocked.get()) {
+                    throw new RuntimeException("Export failed (expected)");
+                  }
+                });
+
+    descriptors =
+        List.of(
+            createDescriptor(FAST_EXPORTER_ID, fastExporter),
+            createDescriptor(SLOW_EXPORTER_ID, slowExporter));
+  }
+
+  @Test
+  public void shouldExportIndependentlyOfSlowerExporter() {
+    // given
+    rule.startExporterDirector(descriptors);
+    final ExportersState state = rule.getExportersState();
+
+    // when
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+
+    // then
+    Awaitility.await("fast exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(fastExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, secondPosition));
+    Awaitility.await("fast exporter position is acknowledged")
+        .untilAsserted(
+            () -> assertThat(state.getPosition(FAST_EXPORTER_ID)).isEqualTo(secondPosition));
+    assertThat(slowExporter.getExportedRecords()).isEmpty();
+    assertThat(state.getPosition(SLOW_EXPORTER_ID)).isLessThan(firstPosition);
+  }
+
+  @Test
+  public void shouldReleaseFlowControlOnlyOnceSlowestExporterCaughtUp() {
+    // given
+    rule.startExporterDirector(descriptors);
+    final ExportersState state = rule.getExportersState();
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+    Awaitility.await("fast exporter has exported all records")
+        .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(2));
+
+    // then - the slow exporter holds back the exported position
+    verify(rule.getFlowControl(), never()).onExported(geq(firstPosition));
+
+    // when
+    slowExporterBlocked.set(false);
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> slowExporter.getExportedRecords().size() == 2);
+
+    // then
+    verify(rule.getFlowControl(), timeout(5_000)).onExported(secondPosition);
+    Awaitility.await("slow exporter position is acknowledged")
+        .untilAsserted(
+            () -> assertThat(state.getPosition(SLOW_EXPORTER_ID)).isEqualTo(secondPosition));
+    assertThat(state.getPosition(FAST_EXPORTER_ID)).isEqualTo(secondPosition);
+  }
+
+  @Test
+  public void shouldReportLowestPositionOfAllExporters() {
+    // given
+    rule.startExporterDirector(descriptors);
+    final ExportersState state = rule.getExportersState();
+    final long position = writeEvent();
+    Awaitility.await("fast exporter position is acknowledged")
+        .untilAsserted(() -> assertThat(state.getPosition(FAST_EXPORTER_ID)).isEqualTo(position));
+
+    // when - then
+    assertThat(rule.getDirector().getLowestPosition().join()).isLessThan(position);
+
+    slowExporterBlocked.set(false);
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> slowExporter.getExportedRecords().size() == 1);
+    Awaitility.await("slow exporter position is acknowledged")
+        .untilAsserted(
+            () -> assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(position));
+  }
+
+  @Test
+  public void shouldTrackExportLagPerExporter() {
+    // given
+    rule.startExporterDirector(descriptors);
+    writeEvent();
+    Awaitility.await("fast exporter has exported the record")
+        .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(1));
+
+    // when - the slow exporter exports the same record at least a second later
+    slowExporterBlocked.set(false);
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> slowExporter.getExportedRecords().size() == 1);
+
+    // then
+    Awaitility.await("slow exporter lag is updated")
+        .untilAsserted(
+            () ->
+                assertThat(exportLag(SLOW_EXPORTER_ID))
+                    .isGreaterThanOrEqualTo(exportLag(FAST_EXPORTER_ID) + 1_000));
+  }
+
+  @Test
+  public void shouldReportWorstHealthOfExporters() {
+    // given
+    final var director = startWithFailingExporters();
+
+    // when - then
+    rule.getClock().addTime(Duration.ofSeconds(1));
+    Awaitility.await("director is unhealthy")
+        .untilAsserted(() -> assertThat(director.getHealthReport().isUnhealthy()).isTrue());
+
+    rule.getClock().addTime(Duration.ofSeconds(1));
+    Awaitility.await("director is dead")
+        .untilAsserted(() -> assertThat(director.getHealthReport().isDead()).isTrue());
+  }
+
+  @Test
+  public void shouldRecoverOnlyOnceAllExportersAreHealthy() {
+    // given
+    final var director = startWithFailingExporters();
+    final var listener = mock(FailureListener.class);
+    director.addFailureListener(listener);
+    rule.getClock().addTime(Duration.ofSeconds(1));
+    verify(listener, timeout(5_000)).onFailure(any());
+    rule.getClock().addTime(Duration.ofSeconds(1));
+    verify(listener, timeout(5_000)).onUnrecoverableFailure(any());
+
+    // when
+    director.disableExporter(DYING_EXPORTER_ID).join();
+
+    // then - the other exporter is still unhealthy
+    assertThat(director.getHealthReport().isUnhealthy()).isTrue();
+    verify(listener, never()).onRecovered();
+
+    // when
+    director.disableExporter(FAILING_EXPORTER_ID).join();
+
+    // then
+    assertThat(director.getHealthReport().isHealthy()).isTrue();
+    verify(listener, timeout(5_000)).onRecovered();
+  }
+
+  /** Starts an exporter which fails after one second, and one which dies after two seconds. */
+  private ExporterDirector startWithFailingExporters() {
+    final var failingExporter =
+        new ControlledTestExporter()
+            .onOpen(
+                controller ->
+                    controller.scheduleCancellableTask(
+                        Duration.ofSeconds(1),
+                        () -> {
+                          throw new RuntimeException("Exporter failed (expected)");
+                        }));
+    final var dyingExporter =
+        new ControlledTestExporter()
+            .onOpen(
+                controller ->
+                    controller.scheduleCancellableTask(
+                        Duration.ofSeconds(2),
+                        () -> {
+                          throw new UnrecoverableException("Exporter died (expected)");
+                        }));
+    rule.startExporterDirector(
+        List.of(
+            createDescriptor(FAST_EXPORTER_ID, fastExporter),
+            createDescriptor(FAILING_EXPORTER_ID, failingExporter),
+            createDescriptor(DYING_EXPORTER_ID, dyingExporter)));
+
+    final var director = rule.getDirector();
+    assertThat(director.getHealthReport().isHealthy()).isTrue();
+    return director;
+  }
+
+  private ExporterDescriptor createDescriptor(
+      final String exporterId, final ControlledTestExporter exporter) {
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    return descriptor;
+  }
+
+  private double exportLag(final String exporterId) {
+    final Double lag =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_exporter_export_lag_ms",
+            new String[] {"exporter", "partition"},
+            new String[] {exporterId, "1"});
+    return lag != null ? lag : 0;
+  }
+
+  private long writeEvent() {
+    return rule.writeEvent(JobIntent.CREATED, new JobRecord());
+  }
+}
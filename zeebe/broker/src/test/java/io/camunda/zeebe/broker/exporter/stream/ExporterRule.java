@@ -7,16 +7,22 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExecutionMode;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.TestStreams;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -58,6 +64,8 @@ public final class ExporterRule implements TestRule {
   private TestStreams streams;
   private PartitionMessagingService partitionMessagingService = new SimplePartitionMessageService();
   private ExporterDirector director;
+  private FlowControl flowControl;
+  private ExecutionMode executionMode = ExecutionMode.SHARED;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
 
@@ -94,6 +102,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withExecutionMode(final ExecutionMode executionMode) {
+    this.executionMode = executionMode;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -116,13 +129,20 @@ public final class ExporterRule implements TestRule {
                     descriptor -> descriptor,
                     descriptor -> new ExporterInitializationInfo(0, null)));
 
+    // spy on the flow control, such that tests can verify which positions are reported as exported
+    final var asyncLogStream = stream.getAsyncLogStream();
+    flowControl = spy(asyncLogStream.getFlowControl());
+    final var logStream = mock(LogStream.class, delegatesTo(asyncLogStream));
+    doReturn(flowControl).when(logStream).getFlowControl();
+
     final ExporterDirectorContext context =
         new ExporterDirectorContext()
             .id(EXPORTER_PROCESSOR_ID)
             .name(PROCESSOR_NAME)
-            .logStream(stream.getAsyncLogStream())
+            .logStream(logStream)
             .zeebeDb(capturedZeebeDb)
             .exporterMode(exporterMode)
+            .executionMode(executionMode)
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
@@ -136,6 +156,10 @@ public final class ExporterRule implements TestRule {
     return director;
   }
 
+  public FlowControl getFlowControl() {
+    return flowControl;
+  }
+
   public ControlledActorClock getClock() {
     return clock;
   }
@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.jobstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.messaging.ClusterEventService;
+import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer.JobStream;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
+import io.camunda.zeebe.transport.stream.api.RemoteStream;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+
+final class RemoteJobStreamerTest {
+
+  private static final DirectBuffer JOB_TYPE = BufferUtil.wrapString("foo");
+
+  private final TestRemoteStream remoteStream = new TestRemoteStream();
+  private final RemoteJobStreamer streamer =
+      new RemoteJobStreamer(
+          (type, filter) ->
+              filter.test(remoteStream.metadata()) ? Optional.of(remoteStream) : Optional.empty(),
+          mock(ClusterEventService.class),
+          new JobStreamMetrics());
+
+  @Test
+  void shouldHaveUnlimitedCreditsWithoutMaxJobsActive() {
+    // given
+    final JobStream stream = streamer.streamFor(JOB_TYPE).orElseThrow();
+
+    // when
+    stream.push(activatedJob(1L, Long.MAX_VALUE));
+
+    // then
+    assertThat(stream.availableCredits(List.of())).isEqualTo(Integer.MAX_VALUE);
+    assertThat(streamer.streamFor(JOB_TYPE)).isPresent();
+  }
+
+  @Test
+  void shouldUseUpCreditsOnPush() {
+    // given
+    remoteStream.properties.setMaxJobsActive(3);
+    final JobStream stream = streamer.streamFor(JOB_TYPE).orElseThrow();
+
+    // when
+    stream.pushAll(List.of(activatedJob(1L, Long.MAX_VALUE), activatedJob(2L, Long.MAX_VALUE)));
+
+    // then
+    assertThat(stream.availableCredits(List.of())).isOne();
+    assertThat(remoteStream.pushedJobs).extracting(ActivatedJob::jobKey).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldNotReturnStreamWithoutCredits() {
+    // given
+    remoteStream.properties.setMaxJobsActive(1);
+    streamer.streamFor(JOB_TYPE).orElseThrow().push(activatedJob(1L, Long.MAX_VALUE));
+
+    // when
+    final var stream = streamer.streamFor(JOB_TYPE);
+
+    // then
+    assertThat(stream).isEmpty();
+  }
+
+  @Test
+  void shouldReplenishCreditsWhenJobIsDeactivated() {
+    // given
+    remoteStream.properties.setMaxJobsActive(1);
+    streamer.streamFor(JOB_TYPE).orElseThrow().push(activatedJob(1L, Long.MAX_VALUE));
+
+    // when
+    streamer.notifyJobDeactivated(1L);
+
+    // then
+    assertThat(streamer.streamFor(JOB_TYPE))
+        .hasValueSatisfying(stream -> assertThat(stream.availableCredits(List.of())).isOne());
+  }
+
+  @Test
+  void shouldReplenishCreditsWhenDeadlineHasPassed() {
+    // given
+    remoteStream.properties.setMaxJobsActive(1);
+    streamer.streamFor(JOB_TYPE).orElseThrow().push(activatedJob(1L, 1L));
+
+    // when
+    final var stream = streamer.streamFor(JOB_TYPE);
+
+    // then
+    assertThat(stream).hasValueSatisfying(s -> assertThat(s.availableCredits(List.of())).isOne());
+  }
+
+  @Test
+  void shouldShareCreditsOfAggregatedConsumers() {
+    // given - two workers with the same properties, aggregated into one stream
+    remoteStream.properties.setMaxJobsActive(1);
+    remoteStream.consumerCount = 2;
+
+    // when
+    streamer.streamFor(JOB_TYPE).orElseThrow().push(activatedJob(1L, Long.MAX_VALUE));
+    final var stream = streamer.streamFor(JOB_TYPE);
+    stream.orElseThrow().push(activatedJob(2L, Long.MAX_VALUE));
+
+    // then - each consumer got as many jobs as it can handle
+    assertThat(stream).hasValueSatisfying(s -> assertThat(s.availableCredits(List.of())).isZero());
+    assertThat(streamer.streamFor(JOB_TYPE)).isEmpty();
+    assertThat(remoteStream.pushedJobs).extracting(ActivatedJob::jobKey).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldShrinkCreditsWhenAggregatedConsumerIsRemoved() {
+    // given
+    remoteStream.properties.setMaxJobsActive(1);
+    remoteStream.consumerCount = 2;
+    final JobStream stream = streamer.streamFor(JOB_TYPE).orElseThrow();
+    stream.push(activatedJob(1L, Long.MAX_VALUE));
+
+    // when
+    remoteStream.consumerCount = 1;
+
+    // then
+    assertThat(stream.availableCredits(List.of())).isZero();
+    assertThat(streamer.streamFor(JOB_TYPE)).isEmpty();
+  }
+
+  @Test
+  void shouldCountCreditsOfDeactivatedJobsAsGivenBack() {
+    // given
+    remoteStream.properties.setMaxJobsActive(2);
+    final JobStream stream = streamer.streamFor(JOB_TYPE).orElseThrow();
+    stream.pushAll(List.of(activatedJob(1L, Long.MAX_VALUE), activatedJob(2L, Long.MAX_VALUE)));
+
+    // when
+    final int credits = stream.availableCredits(List.of(1L, 3L));
+
+    // then - only the jobs pushed to the stream count, and the credits aren't given back yet
+    assertThat(credits).isOne();
+    assertThat(stream.availableCredits(List.of())).isZero();
+  }
+
+  private ActivatedJob activatedJob(final long jobKey, final long deadline) {
+    return new ActivatedJobImpl()
+        .setJobKey(jobKey)
+        .setRecord(new JobRecord().setType(JOB_TYPE).setDeadline(deadline));
+  }
+
+  private static final class TestRemoteStream
+      implements RemoteStream<JobActivationProperties, ActivatedJob> {
+    private final JobActivationPropertiesImpl properties = new JobActivationPropertiesImpl();
+    private final List<ActivatedJob> pushedJobs = new ArrayList<>();
+    private int consumerCount = 1;
+
+    @Override
+    public JobActivationProperties metadata() {
+      return properties;
+    }
+
+    @Override
+    public int consumerCount() {
+      return consumerCount;
+    }
+
+    @Override
+    public void push(final ActivatedJob payload) {
+      pushedJobs.add(payload);
+    }
+  }
+}
@@ -23,7 +23,8 @@ import org.junit.jupiter.api.Test;
 
 public class YieldingJobStreamErrorHandlerTest {
 
-  private final YieldingJobStreamErrorHandler errorHandler = new YieldingJobStreamErrorHandler();
+  private final YieldingJobStreamErrorHandler errorHandler =
+      new YieldingJobStreamErrorHandler(new JobStreamMetrics());
   private final TaskResultBuilder mockTaskResultBuilder = mock(TaskResultBuilder.class);
 
   @BeforeEach
@@ -13,14 +13,21 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.broker.system.configuration.RaftCfg.FlushConfig;
+import io.camunda.zeebe.broker.system.configuration.RaftCfg.GroupCommitConfig;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
 import org.springframework.util.unit.DataSize;
 
 public final class RaftPartitionFactoryTest {
@@ -96,6 +103,33 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(chunkSize.toBytes());
   }
 
+  @Test
+  void shouldSetRaftMaxInFlightSnapshotChunks() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxInFlightSnapshotChunks(4);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxInFlightSnapshotChunks()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetRaftSnapshotChunkCompression() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setSnapshotChunkCompression(SnapshotChunkCompression.LZ4);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getSnapshotChunkCompression())
+        .isEqualTo(SnapshotChunkCompression.LZ4);
+  }
+
   @Test
   void shouldSetRaftConfigurationChangeTimeout() {
     // given
@@ -167,6 +201,19 @@ public final class RaftPartitionFactoryTest {
     assertThat(partition.getPartitionConfig().getMaxAppendsPerFollower()).isEqualTo(expected);
   }
 
+  @Test
+  void shouldEnableAppendPipelining() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setAppendPipeliningEnabled(true);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isAppendPipeliningEnabled()).isTrue();
+  }
+
   @Test
   void shouldEnablePriorityElection() {
     // given
@@ -222,6 +269,34 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @Test
+  void shouldCreateGroupCommitFlusher() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg
+        .getCluster()
+        .getRaft()
+        .setFlush(
+            new FlushConfig(
+                true,
+                Duration.ofSeconds(5),
+                new GroupCommitConfig(true, DataSize.ofKilobytes(64), 10, Duration.ofMillis(1))));
+    final var threadFactory = Mockito.mock(ThreadContextFactory.class);
+    Mockito.when(threadFactory.createContext()).thenReturn(Mockito.mock(ThreadContext.class));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var flusher =
+        partition
+            .getPartitionConfig()
+            .getStorageConfig()
+            .flusherFactory()
+            .createFlusher(threadFactory, "raft-partition-partition-1");
+    assertThat(flusher).isInstanceOf(GroupCommitFlusher.class);
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
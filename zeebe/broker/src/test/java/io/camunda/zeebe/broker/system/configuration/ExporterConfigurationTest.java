@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExecutionMode;
 import java.util.HashMap;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -62,4 +63,31 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldUseSharedExecutionModeByDefault() {
+    // given
+    final var environment = new HashMap<String, String>();
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.getExecutionMode()).isEqualTo(ExecutionMode.SHARED);
+  }
+
+  @Test
+  void shouldSetExecutionModeFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.executionMode", "per_exporter");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.getExecutionMode()).isEqualTo(ExecutionMode.PER_EXPORTER);
+  }
 }
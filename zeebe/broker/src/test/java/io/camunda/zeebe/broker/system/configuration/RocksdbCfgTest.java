@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -285,4 +286,78 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldSetDedicatedColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getDedicatedColumnFamilies())
+        .containsExactlyInAnyOrder("ELEMENT_INSTANCE_KEY", "VARIABLES");
+    assertThat(rocksdb.getDedicatedColumnFamilyOptions()).containsOnlyKeys("VARIABLES");
+    assertThat(rocksdb.getDedicatedColumnFamilyOptions().get("VARIABLES"))
+        .containsEntry("write_buffer_size", "33554432");
+    assertThat(rocksdb.getDedicatedColumnFamilyPrefixLengths())
+        .containsExactly(Map.entry("ELEMENT_INSTANCE_KEY", 8));
+  }
+
+  @Test
+  public void shouldNotDedicateColumnFamiliesPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getDedicatedColumnFamilies()).isEmpty();
+  }
+
+  @Test
+  public void shouldSetTransactionModeViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getTransactionMode())
+        .isEqualTo(TransactionMode.WRITE_BATCH);
+  }
+
+  @Test
+  public void shouldUseOptimisticTransactionsPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getTransactionMode())
+        .isEqualTo(TransactionMode.OPTIMISTIC);
+  }
+
+  @Test
+  public void shouldSetCachedColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getCachedColumnFamilies())
+        .containsExactlyInAnyOrderEntriesOf(
+            Map.of(
+                "ELEMENT_INSTANCE_CHILD_PARENT",
+                0L,
+                "VARIABLES",
+                DataSize.ofMegabytes(16).toBytes()));
+  }
+
+  @Test
+  public void shouldNotCacheColumnFamiliesPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getCachedColumnFamilies()).isEmpty();
+  }
 }
@@ -9,6 +9,9 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.broker.system.configuration.ThreadsCfg.IdleStrategyType;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import java.time.Duration;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -115,4 +118,76 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldUseBackoffIdleStrategyByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final var cpuIdleStrategy = cfg.getCpuIdleStrategy();
+    final var ioIdleStrategy = cfg.getIoIdleStrategy();
+
+    // then
+    assertThat(cpuIdleStrategy.getType()).isEqualTo(IdleStrategyType.BACKOFF);
+    assertThat(ioIdleStrategy.getType()).isEqualTo(IdleStrategyType.BACKOFF);
+  }
+
+  @Test
+  void shouldSetIdleStrategyPerThreadGroupFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final var cpuIdleStrategy = cfg.getCpuIdleStrategy();
+    final var ioIdleStrategy = cfg.getIoIdleStrategy();
+
+    // then
+    assertThat(cpuIdleStrategy.getType()).isEqualTo(IdleStrategyType.ADAPTIVE);
+    assertThat(cpuIdleStrategy.getMaxSpins()).isEqualTo(20);
+    assertThat(cpuIdleStrategy.getSpinThreshold()).isEqualTo(Duration.ofNanos(50_000));
+    assertThat(cpuIdleStrategy.getYieldThreshold())
+        .isEqualTo(Duration.ofNanos(ActorSchedulerBuilder.DEFAULT_YIELD_THRESHOLD_NS));
+    assertThat(ioIdleStrategy.getType()).isEqualTo(IdleStrategyType.BACKOFF);
+  }
+
+  @Test
+  void shouldSetIdleStrategyTypeFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.ioIdleStrategy.type", "ADAPTIVE");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final var ioIdleStrategy = cfg.getIoIdleStrategy();
+
+    // then
+    assertThat(ioIdleStrategy.getType()).isEqualTo(IdleStrategyType.ADAPTIVE);
+  }
+
+  @Test
+  void shouldUsePlatformIoThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final var virtualIoThreads = cfg.isEnableVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isFalse();
+  }
+
+  @Test
+  void shouldEnableVirtualIoThreadsFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.enableVirtualIoThreads", "true");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final var virtualIoThreads = cfg.isEnableVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isTrue();
+  }
 }
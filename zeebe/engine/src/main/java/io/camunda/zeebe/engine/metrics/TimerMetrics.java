@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class TimerMetrics {
+
+  private static final Histogram TIMER_TRIGGER_LATENESS =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("timer_trigger_lateness")
+          .help("Time between the due date of a timer and writing its trigger command (in seconds)")
+          .buckets(.01, .05, .1, .25, .5, 1, 2.5, 5, 10, 30, 60)
+          .labelNames("partition")
+          .register();
+
+  private final Histogram.Child timerTriggerLateness;
+
+  public TimerMetrics(final int partitionId) {
+    timerTriggerLateness = TIMER_TRIGGER_LATENESS.labels(String.valueOf(partitionId));
+  }
+
+  public void timerTriggered(final long dueDate, final long triggeredAt) {
+    timerTriggerLateness.observe(Math.max(triggeredAt - dueDate, 0) / 1000.0);
+  }
+}
@@ -129,6 +129,7 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
     jobActivationBehavior =
         new BpmnJobActivationBehavior(
             jobStreamer,
+            processingState.getJobState(),
             processingState.getVariableState(),
             writers,
             processingState.getKeyGenerator(),
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.bpmn.behavior;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.job.JobVariablesCollector;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -14,15 +15,22 @@ import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer.JobStream;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.SideEffectWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
@@ -35,9 +43,14 @@ import org.agrona.concurrent.UnsafeBuffer;
  * no <code>JobStream/code> is available for the given job type, a notification is used.
  *
  * Both the job push and the job worker notification are executed through a {@link io.camunda.zeebe.stream.api.SideEffectProducer}.
+ *
+ * Streams may limit the number of jobs pushed to them which their workers aren't done with yet. Once
+ * a job isn't activated anymore, its credit is given back to the stream, and pending jobs are
+ * activated and pushed to such a stream in a single batch, up to its available credits.
  */
 public class BpmnJobActivationBehavior {
   private final JobStreamer jobStreamer;
+  private final JobState jobState;
   private final JobVariablesCollector jobVariablesCollector;
   private final StateWriter stateWriter;
   private final SideEffectWriter sideEffectWriter;
@@ -46,11 +59,13 @@ public class BpmnJobActivationBehavior {
 
   public BpmnJobActivationBehavior(
       final JobStreamer jobStreamer,
+      final JobState jobState,
       final VariableState variableState,
       final Writers writers,
       final KeyGenerator keyGenerator,
       final JobMetrics jobMetrics) {
     this.jobStreamer = jobStreamer;
+    this.jobState = jobState;
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
     jobVariablesCollector = new JobVariablesCollector(variableState);
@@ -59,6 +74,29 @@ public class BpmnJobActivationBehavior {
   }
 
   public void publishWork(final long jobKey, final JobRecord jobRecord) {
+    pushWork(jobKey, jobRecord);
+  }
+
+  /**
+   * Publishes a job which was activated before and is activatable again, e.g. because it timed out
+   * or failed without a retry backoff. The job gives back its credit and is published again, see
+   * {@link #publishWork(long, JobRecord)}. Afterwards, pending jobs of its type are published, see
+   * {@link #publishPendingWork(DirectBuffer, Collection)}, taking into account the credit used up
+   * if the job was pushed to the same stream again.
+   */
+  public void republishWork(final long jobKey, final JobRecord jobRecord) {
+    final DirectBuffer jobType = BufferUtil.cloneBuffer(jobRecord.getTypeBuffer());
+    notifyJobDeactivated(jobKey);
+    final JobActivationProperties pushedTo = pushWork(jobKey, jobRecord);
+    publishPendingWork(jobType, List.of(jobKey), pushedTo);
+  }
+
+  /**
+   * Pushes the job to a stream, or notifies the workers that it's available if there is none.
+   *
+   * @return the properties of the stream the job was pushed to, or null if it wasn't pushed
+   */
+  private JobActivationProperties pushWork(final long jobKey, final JobRecord jobRecord) {
     final JobRecord wrappedJobRecord = new JobRecord();
     wrappedJobRecord.wrapWithoutVariables(jobRecord);
 
@@ -93,11 +131,114 @@ public class BpmnJobActivationBehavior {
             jobMetrics.jobPush(jobType);
             return true;
           });
+      return properties;
     } else {
       notifyJobAvailable(jobType);
+      return null;
     }
   }
 
+  /**
+   * Notifies the job streamer that the given job isn't activated anymore, such that the stream it
+   * may have been pushed to gets its credit back. As the job may still be active if the processing
+   * result isn't committed, this happens as a side effect. Pass the job to {@link
+   * #publishPendingWork(DirectBuffer, Collection)} to take its credit into account already.
+   */
+  public void notifyJobDeactivated(final long jobKey) {
+    sideEffectWriter.appendSideEffect(
+        () -> {
+          jobStreamer.notifyJobDeactivated(jobKey);
+          return true;
+        });
+  }
+
+  /**
+   * Activates pending jobs of the given type and pushes them to a stream which limits its number of
+   * active jobs, up to the stream's available credits. All jobs are activated with a single {@link
+   * JobBatchIntent#ACTIVATED} event, and pushed together.
+   *
+   * <p>Streams which don't limit their number of active jobs are left out, as they got every job
+   * pushed which became activatable while they were open. Call this at most once per job type while
+   * processing a command, as the credits are only used up once the jobs are pushed.
+   *
+   * @param type the type of the jobs to activate
+   * @param deactivatedJobKeys the keys of the jobs of this type which were deactivated while
+   *     processing the command, see {@link #notifyJobDeactivated(long)}; their credits count as
+   *     given back
+   */
+  public void publishPendingWork(
+      final DirectBuffer type, final Collection<Long> deactivatedJobKeys) {
+    publishPendingWork(type, deactivatedJobKeys, null);
+  }
+
+  private void publishPendingWork(
+      final DirectBuffer type,
+      final Collection<Long> deactivatedJobKeys,
+      final JobActivationProperties pushedTo) {
+    // the given buffer may be a view on a job read from the state, which is overwritten while
+    // iterating over the activatable jobs
+    final DirectBuffer jobType = BufferUtil.cloneBuffer(type);
+    final Optional<JobStream> optionalJobStream =
+        jobStreamer.streamFor(jobType, properties -> properties.maxJobsActive() > 0);
+    if (optionalJobStream.isEmpty()) {
+      return;
+    }
+
+    final JobStream jobStream = optionalJobStream.get();
+    final JobActivationProperties properties = jobStream.properties();
+    // a job pushed while processing this command only uses up its credit once it's pushed
+    final int pushedJobs = properties.equals(pushedTo) ? 1 : 0;
+    final int credits = jobStream.availableCredits(deactivatedJobKeys) - pushedJobs;
+    if (credits <= 0) {
+      return;
+    }
+
+    final JobBatchRecord jobBatchRecord =
+        new JobBatchRecord()
+            .setType(jobType)
+            .setTimeout(properties.timeout())
+            .setWorker(properties.worker());
+    final List<ActivatedJob> activatedJobs = new ArrayList<>();
+    final var deadline = ActorClock.currentTimeMillis() + properties.timeout();
+
+    jobState.forEachActivatableJobs(
+        jobType,
+        List.copyOf(properties.tenantIds()),
+        (jobKey, jobRecord) -> {
+          final JobRecord job = new JobRecord();
+          job.copyFrom(jobRecord);
+          job.setDeadline(deadline);
+          job.setWorker(properties.worker());
+
+          final var expectedEventLength =
+              jobBatchRecord.getLength()
+                  + job.getLength()
+                  + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+          if (!stateWriter.canWriteEventOfLength(expectedEventLength)) {
+            return false;
+          }
+
+          appendJobToBatch(jobBatchRecord, jobKey, job);
+          activatedJobs.add(createPushableJob(jobKey, job, properties));
+          return activatedJobs.size() < credits;
+        });
+
+    if (activatedJobs.isEmpty()) {
+      return;
+    }
+
+    stateWriter.appendFollowUpEvent(
+        keyGenerator.nextKey(), JobBatchIntent.ACTIVATED, jobBatchRecord);
+
+    final String jobTypeString = jobBatchRecord.getType();
+    sideEffectWriter.appendSideEffect(
+        () -> {
+          jobStream.pushAll(activatedJobs);
+          activatedJobs.forEach(ignored -> jobMetrics.jobPush(jobTypeString));
+          return true;
+        });
+  }
+
   public void notifyJobAvailableAsSideEffect(final JobRecord jobRecord) {
     final String jobType = jobRecord.getType();
     notifyJobAvailable(jobType);
@@ -139,6 +280,14 @@ public class BpmnJobActivationBehavior {
     jobBatchRecord.jobs().add().wrapWithoutVariables(jobRecord);
   }
 
+  private ActivatedJob createPushableJob(
+      final long jobKey, final JobRecord jobRecord, final JobActivationProperties properties) {
+    jobVariablesCollector.setJobVariables(properties.fetchVariables(), jobRecord);
+    final var pushableJobRecord = new JobRecord();
+    cloneJob(jobRecord, pushableJobRecord);
+    return new ActivatedJobImpl().setJobKey(jobKey).setRecord(pushableJobRecord);
+  }
+
   private void cloneJob(final JobRecord jobRecord, final JobRecord jobRecordClone) {
     final var bytes = new byte[jobRecord.getLength()];
     final var jobCopyBuffer = new UnsafeBuffer(bytes);
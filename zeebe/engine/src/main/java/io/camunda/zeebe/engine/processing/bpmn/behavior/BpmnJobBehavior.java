@@ -261,6 +261,8 @@ public final class BpmnJobBehavior {
       // it there as well.
       stateWriter.appendFollowUpEvent(jobKey, JobIntent.CANCELED, job);
       jobMetrics.jobCanceled(job.getType());
+      jobActivationBehavior.notifyJobDeactivated(jobKey);
+      jobActivationBehavior.publishPendingWork(job.getTypeBuffer(), List.of(jobKey));
     }
   }
 
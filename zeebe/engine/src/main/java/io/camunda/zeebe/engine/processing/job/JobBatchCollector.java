@@ -31,6 +31,9 @@ import org.agrona.collections.ObjectHashSet;
  * Collects jobs to be activated as part of a {@link JobBatchRecord}. Activate-able jobs are read
  * from the {@link JobState}, resolving and setting their variables from the {@link VariableState},
  * and added to the given batch record.
+ *
+ * <p>Each batch resumes at the job at which the last batch of the same type was full, see {@link
+ * JobState#forEachActivatableJobsResuming}.
  */
 final class JobBatchCollector {
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
@@ -80,7 +83,7 @@ final class JobBatchCollector {
             ? List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
             : value.getTenantIds();
 
-    jobState.forEachActivatableJobs(
+    jobState.forEachActivatableJobsResuming(
         value.getTypeBuffer(),
         tenantIds,
         (key, jobRecord) -> {
@@ -88,18 +91,30 @@ final class JobBatchCollector {
           // adding it to the batch
           final var deadline = record.getTimestamp() + value.getTimeout();
           jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
-          jobVariablesCollector.setJobVariables(requestedVariables, jobRecord);
 
           // the expected length is based on the current record's length plus the length of the job
           // record we would add to the batch, the number of bytes taken by the additional job key,
           // as well as an 8 KB buffer.
-          final var jobRecordLength = jobRecord.getLength();
+          // Variables are only collected once the job fits into the batch without them, as
+          // resolving large documents is expensive
+          final var recordLength = record.getLength();
+          final var lengthWithoutVariables =
+              recordLength
+                  + jobRecord.getLength()
+                  + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+          final boolean fitsWithoutVariables =
+              activatedCount.value <= maxActivatedCount
+                  && canWriteEventOfLength.test(lengthWithoutVariables);
+
+          if (fitsWithoutVariables || activatedCount.value == 0) {
+            jobVariablesCollector.setJobVariables(requestedVariables, jobRecord);
+          }
+
           final var expectedEventLength =
-              record.getLength()
-                  + jobRecordLength
+              recordLength
+                  + jobRecord.getLength()
                   + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
-          if (activatedCount.value <= maxActivatedCount
-              && canWriteEventOfLength.test(expectedEventLength)) {
+          if (fitsWithoutVariables && canWriteEventOfLength.test(expectedEventLength)) {
             appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
             activatedCount.increment();
           } else {
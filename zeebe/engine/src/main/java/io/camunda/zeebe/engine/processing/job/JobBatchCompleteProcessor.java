@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnJobActivationBehavior;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.agrona.DirectBuffer;
+
+/**
+ * Completes a batch of jobs with a single command. Each job is completed like by the {@link
+ * JobCompleteProcessor}, i.e. with its own {@link JobIntent#COMPLETED} event and follow-up
+ * commands, but jobs which can't be completed don't reject the whole batch. They are added to the
+ * rejected jobs of the {@link JobBatchIntent#COMPLETED} event instead, along with the reason, and
+ * the event is also the response to the command.
+ *
+ * <p>A job key which occurs more than once in the batch is only completed once, with the variables
+ * given first.
+ */
+public final class JobBatchCompleteProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private static final String INVALID_BATCH_MESSAGE =
+      "Expected to complete a batch with one job per job key, but got %d job keys and %d jobs";
+  private static final String NO_JOB_FOUND_MESSAGE =
+      "Expected to complete job with key '%d', but no such job was found";
+  private static final String BATCH_TOO_LARGE_MESSAGE =
+      "Expected to complete job with key '%d', but the batch exceeded the maximum batch size;"
+          + " complete the job again in another batch";
+  // an upper bound of the length a rejected job adds to the batch event: its key and its reason
+  private static final int REJECTED_JOB_LENGTH = BATCH_TOO_LARGE_MESSAGE.length() + 32;
+
+  private final JobState jobState;
+  private final StateWriter stateWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final KeyGenerator keyGenerator;
+  private final JobMetrics jobMetrics;
+  private final BpmnJobActivationBehavior jobActivationBehavior;
+  private final JobCompletionBehavior jobCompletionBehavior;
+  private final JobCommandPreconditionChecker preconditionChecker =
+      new JobCommandPreconditionChecker("complete", List.of(State.ACTIVATABLE, State.ACTIVATED));
+
+  public JobBatchCompleteProcessor(
+      final Writers writers,
+      final ProcessingState state,
+      final KeyGenerator keyGenerator,
+      final JobMetrics jobMetrics,
+      final BpmnJobActivationBehavior jobActivationBehavior,
+      final JobCompletionBehavior jobCompletionBehavior) {
+    jobState = state.getJobState();
+    stateWriter = writers.state();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.keyGenerator = keyGenerator;
+    this.jobMetrics = jobMetrics;
+    this.jobActivationBehavior = jobActivationBehavior;
+    this.jobCompletionBehavior = jobCompletionBehavior;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<JobBatchRecord> record) {
+    final JobBatchRecord value = record.getValue();
+    final int jobKeyCount = (int) value.jobKeys().stream().count();
+    final int jobCount = (int) value.jobs().stream().count();
+
+    if (jobKeyCount == 0 || jobKeyCount != jobCount) {
+      final var reason = String.format(INVALID_BATCH_MESSAGE, jobKeyCount, jobCount);
+      rejectionWriter.appendRejection(record, RejectionType.INVALID_ARGUMENT, reason);
+      responseWriter.writeRejectionOnCommand(record, RejectionType.INVALID_ARGUMENT, reason);
+      return;
+    }
+
+    final var completedJobs = new JobBatchRecord().setType(value.getTypeBuffer());
+    final Iterator<LongValue> jobKeys = value.jobKeys().iterator();
+    final Iterator<JobRecord> jobs = value.jobs().iterator();
+    final Set<Long> processedJobKeys = new HashSet<>();
+    final Map<DirectBuffer, List<Long>> completedJobKeysByType = new HashMap<>();
+    boolean exceededBatchSize = false;
+    int remainingJobs = jobKeyCount;
+    while (jobKeys.hasNext()) {
+      final long jobKey = jobKeys.next().getValue();
+      final JobRecord completion = jobs.next();
+      remainingJobs--;
+
+      if (!processedJobKeys.add(jobKey)) {
+        continue;
+      }
+
+      if (exceededBatchSize) {
+        completedJobs.addRejectedJob(jobKey, String.format(BATCH_TOO_LARGE_MESSAGE, jobKey));
+        continue;
+      }
+
+      final var job = findCompletableJob(record, jobKey);
+      if (job.isLeft()) {
+        completedJobs.addRejectedJob(jobKey, job.getLeft());
+        continue;
+      }
+
+      final JobRecord completedJob = job.get();
+      completedJob.setVariables(completion.getVariablesBuffer());
+      // leave room for the follow-up command and for the batch event, which may still grow by all
+      // remaining jobs, such that the remaining jobs of a too large batch are rejected instead of
+      // failing the whole batch
+      final int reservedLength =
+          completedJobs.getLength() + (remainingJobs + 1) * REJECTED_JOB_LENGTH;
+      if (!stateWriter.canWriteEventOfLength(2 * completedJob.getLength() + reservedLength)) {
+        exceededBatchSize = true;
+        completedJobs.addRejectedJob(jobKey, String.format(BATCH_TOO_LARGE_MESSAGE, jobKey));
+        continue;
+      }
+
+      completeJob(jobKey, completedJob, completedJobKeysByType);
+      completedJobs.jobKeys().add().setValue(jobKey);
+    }
+    // pending jobs are published once per type, as the freed up credits are only used up once the
+    // activated jobs are pushed
+    completedJobKeysByType.forEach(jobActivationBehavior::publishPendingWork);
+
+    final long jobBatchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.COMPLETED, completedJobs);
+    responseWriter.writeEventOnCommand(
+        jobBatchKey, JobBatchIntent.COMPLETED, completedJobs, record);
+  }
+
+  private Either<String, JobRecord> findCompletableJob(
+      final TypedRecord<JobBatchRecord> record, final long jobKey) {
+    final var preconditionCheck = preconditionChecker.check(jobState.getState(jobKey), jobKey);
+    if (preconditionCheck.isLeft()) {
+      return Either.left(preconditionCheck.getLeft().getRight());
+    }
+
+    final JobRecord job = jobState.getJob(jobKey, record.getAuthorizations());
+    if (job == null) {
+      return Either.left(String.format(NO_JOB_FOUND_MESSAGE, jobKey));
+    }
+    return Either.right(job);
+  }
+
+  private void completeJob(
+      final long jobKey,
+      final JobRecord job,
+      final Map<DirectBuffer, List<Long>> completedJobKeysByType) {
+    stateWriter.appendFollowUpEvent(jobKey, JobIntent.COMPLETED, job);
+    jobMetrics.jobCompleted(job.getType());
+    jobActivationBehavior.notifyJobDeactivated(jobKey);
+    completedJobKeysByType
+        .computeIfAbsent(BufferUtil.cloneBuffer(job.getTypeBuffer()), type -> new ArrayList<>())
+        .add(jobKey);
+    jobCompletionBehavior.continueElementInstance(job);
+  }
+}
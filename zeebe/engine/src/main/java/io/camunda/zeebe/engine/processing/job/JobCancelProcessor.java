@@ -8,13 +8,18 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnJobActivationBehavior;
 import io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.List;
 
 public final class JobCancelProcessor implements CommandProcessor<JobRecord> {
 
@@ -22,10 +27,15 @@ public final class JobCancelProcessor implements CommandProcessor<JobRecord> {
       "Expected to cancel job with key '%d', but no such job was found";
   private final JobState jobState;
   private final JobMetrics jobMetrics;
+  private final BpmnJobActivationBehavior jobActivationBehavior;
 
-  public JobCancelProcessor(final ProcessingState state, final JobMetrics jobMetrics) {
+  public JobCancelProcessor(
+      final ProcessingState state,
+      final JobMetrics jobMetrics,
+      final BpmnJobActivationBehavior jobActivationBehavior) {
     jobState = state.getJobState();
     this.jobMetrics = jobMetrics;
+    this.jobActivationBehavior = jobActivationBehavior;
   }
 
   @Override
@@ -44,4 +54,15 @@ public final class JobCancelProcessor implements CommandProcessor<JobRecord> {
 
     return true;
   }
+
+  @Override
+  public void afterAccept(
+      final TypedCommandWriter commandWriter,
+      final StateWriter stateWriter,
+      final long key,
+      final Intent intent,
+      final JobRecord value) {
+    jobActivationBehavior.notifyJobDeactivated(key);
+    jobActivationBehavior.publishPendingWork(value.getTypeBuffer(), List.of(key));
+  }
 }
@@ -8,21 +8,18 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.metrics.JobMetrics;
-import io.camunda.zeebe.engine.processing.common.EventHandle;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnJobActivationBehavior;
 import io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
-import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
-import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
-import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
-import io.camunda.zeebe.protocol.record.value.JobKind;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.List;
 
 public final class JobCompleteProcessor implements CommandProcessor<JobRecord> {
 
@@ -30,19 +27,22 @@ public final class JobCompleteProcessor implements CommandProcessor<JobRecord> {
       "Expected to update retries for job with key '%d', but no such job was found";
 
   private final JobState jobState;
-  private final ElementInstanceState elementInstanceState;
   private final DefaultJobCommandPreconditionGuard defaultProcessor;
   private final JobMetrics jobMetrics;
-  private final EventHandle eventHandle;
+  private final BpmnJobActivationBehavior jobActivationBehavior;
+  private final JobCompletionBehavior jobCompletionBehavior;
 
   public JobCompleteProcessor(
-      final ProcessingState state, final JobMetrics jobMetrics, final EventHandle eventHandle) {
+      final ProcessingState state,
+      final JobMetrics jobMetrics,
+      final BpmnJobActivationBehavior jobActivationBehavior,
+      final JobCompletionBehavior jobCompletionBehavior) {
     jobState = state.getJobState();
-    elementInstanceState = state.getElementInstanceState();
     defaultProcessor =
         new DefaultJobCommandPreconditionGuard("complete", jobState, this::acceptCommand);
     this.jobMetrics = jobMetrics;
-    this.eventHandle = eventHandle;
+    this.jobActivationBehavior = jobActivationBehavior;
+    this.jobCompletionBehavior = jobCompletionBehavior;
   }
 
   @Override
@@ -58,32 +58,10 @@ public final class JobCompleteProcessor implements CommandProcessor<JobRecord> {
       final long key,
       final Intent intent,
       final JobRecord value) {
+    jobActivationBehavior.notifyJobDeactivated(key);
+    jobActivationBehavior.publishPendingWork(value.getTypeBuffer(), List.of(key));
 
-    final var serviceTaskKey = value.getElementInstanceKey();
-
-    final ElementInstance serviceTask = elementInstanceState.getInstance(serviceTaskKey);
-
-    if (serviceTask != null) {
-      if (value.getJobKind() == JobKind.EXECUTION_LISTENER) {
-        // to store the variable for merge, to handle concurrent commands
-        eventHandle.triggeringProcessEvent(value);
-
-        commandWriter.appendFollowUpCommand(
-            serviceTaskKey,
-            ProcessInstanceIntent.COMPLETE_EXECUTION_LISTENER,
-            serviceTask.getValue());
-        return;
-      }
-
-      final long scopeKey = serviceTask.getValue().getFlowScopeKey();
-      final ElementInstance scopeInstance = elementInstanceState.getInstance(scopeKey);
-
-      if (scopeInstance != null && scopeInstance.isActive()) {
-        eventHandle.triggeringProcessEvent(value);
-        commandWriter.appendFollowUpCommand(
-            serviceTaskKey, ProcessInstanceIntent.COMPLETE_ELEMENT, serviceTask.getValue());
-      }
-    }
+    jobCompletionBehavior.continueElementInstance(value);
   }
 
   private void acceptCommand(
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.processing.common.EventHandle;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.JobKind;
+
+/** Continues the process instance of a job once the job is completed, shared by all completions. */
+final class JobCompletionBehavior {
+
+  private final ElementInstanceState elementInstanceState;
+  private final EventHandle eventHandle;
+  private final TypedCommandWriter commandWriter;
+
+  JobCompletionBehavior(
+      final ElementInstanceState elementInstanceState,
+      final EventHandle eventHandle,
+      final Writers writers) {
+    this.elementInstanceState = elementInstanceState;
+    this.eventHandle = eventHandle;
+    commandWriter = writers.command();
+  }
+
+  /**
+   * Completes the element instance of the completed job, or the execution listener the job belongs
+   * to. Nothing is written if the element instance doesn't exist anymore, or if its flow scope is
+   * no longer active.
+   *
+   * @param job the completed job, including the variables it was completed with
+   */
+  void continueElementInstance(final JobRecord job) {
+    final var serviceTaskKey = job.getElementInstanceKey();
+
+    final ElementInstance serviceTask = elementInstanceState.getInstance(serviceTaskKey);
+
+    if (serviceTask != null) {
+      if (job.getJobKind() == JobKind.EXECUTION_LISTENER) {
+        // to store the variable for merge, to handle concurrent commands
+        eventHandle.triggeringProcessEvent(job);
+
+        commandWriter.appendFollowUpCommand(
+            serviceTaskKey,
+            ProcessInstanceIntent.COMPLETE_EXECUTION_LISTENER,
+            serviceTask.getValue());
+        return;
+      }
+
+      final long scopeKey = serviceTask.getValue().getFlowScopeKey();
+      final ElementInstance scopeInstance = elementInstanceState.getInstance(scopeKey);
+
+      if (scopeInstance != null && scopeInstance.isActive()) {
+        eventHandle.triggeringProcessEvent(job);
+        commandWriter.appendFollowUpCommand(
+            serviceTaskKey, ProcessInstanceIntent.COMPLETE_ELEMENT, serviceTask.getValue());
+      }
+    }
+  }
+}
@@ -43,13 +43,20 @@ public final class JobEventProcessors {
             bpmnBehaviors.eventTriggerBehavior(),
             bpmnBehaviors.stateBehavior());
 
+    final var jobCompletionBehavior =
+        new JobCompletionBehavior(processingState.getElementInstanceState(), eventHandle, writers);
+
     final var jobBackoffChecker =
         new JobBackoffChecker(scheduledTaskStateFactory.get().getJobState());
     typedRecordProcessors
         .onCommand(
             ValueType.JOB,
             JobIntent.COMPLETE,
-            new JobCompleteProcessor(processingState, jobMetrics, eventHandle))
+            new JobCompleteProcessor(
+                processingState,
+                jobMetrics,
+                bpmnBehaviors.jobActivationBehavior(),
+                jobCompletionBehavior))
         .onCommand(
             ValueType.JOB,
             JobIntent.FAIL,
@@ -70,6 +77,7 @@ public final class JobEventProcessors {
             new JobThrowErrorProcessor(
                 processingState,
                 bpmnBehaviors.eventPublicationBehavior(),
+                bpmnBehaviors.jobActivationBehavior(),
                 keyGenerator,
                 jobMetrics))
         .onCommand(
@@ -84,7 +92,10 @@ public final class JobEventProcessors {
             JobIntent.UPDATE_TIMEOUT,
             new JobUpdateTimeoutProcessor(processingState, writers))
         .onCommand(
-            ValueType.JOB, JobIntent.CANCEL, new JobCancelProcessor(processingState, jobMetrics))
+            ValueType.JOB,
+            JobIntent.CANCEL,
+            new JobCancelProcessor(
+                processingState, jobMetrics, bpmnBehaviors.jobActivationBehavior()))
         .onCommand(
             ValueType.JOB,
             JobIntent.RECUR_AFTER_BACKOFF,
@@ -94,6 +105,16 @@ public final class JobEventProcessors {
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
                 writers, processingState, processingState.getKeyGenerator(), jobMetrics))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCompleteProcessor(
+                writers,
+                processingState,
+                keyGenerator,
+                jobMetrics,
+                bpmnBehaviors.jobActivationBehavior(),
+                jobCompletionBehavior))
         .withListener(
             new JobTimeoutCheckerScheduler(
                 scheduledTaskStateFactory.get().getJobState(),
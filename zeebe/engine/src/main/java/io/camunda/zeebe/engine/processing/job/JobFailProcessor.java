@@ -129,7 +129,10 @@ public final class JobFailProcessor implements TypedRecordProcessor<JobRecord> {
 
     final boolean retryImmediately = retries > 0 && retryBackOff <= 0;
     if (retryImmediately) {
-      jobActivationBehavior.publishWork(jobKey, failedJob);
+      jobActivationBehavior.republishWork(jobKey, failedJob);
+    } else {
+      jobActivationBehavior.notifyJobDeactivated(jobKey);
+      jobActivationBehavior.publishPendingWork(failedJob.getTypeBuffer(), List.of(jobKey));
     }
 
     if (retries <= 0) {
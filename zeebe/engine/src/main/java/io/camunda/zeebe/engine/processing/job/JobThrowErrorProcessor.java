@@ -12,6 +12,7 @@ import static io.camunda.zeebe.util.StringUtil.limitString;
 
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnEventPublicationBehavior;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnJobActivationBehavior;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
@@ -33,6 +34,7 @@ import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.util.Either;
+import java.util.List;
 import java.util.Optional;
 
 public class JobThrowErrorProcessor implements CommandProcessor<JobRecord> {
@@ -58,10 +60,12 @@ public class JobThrowErrorProcessor implements CommandProcessor<JobRecord> {
   private final EventScopeInstanceState eventScopeInstanceState;
   private final BpmnEventPublicationBehavior eventPublicationBehavior;
   private final JobMetrics jobMetrics;
+  private final BpmnJobActivationBehavior jobActivationBehavior;
 
   public JobThrowErrorProcessor(
       final ProcessingState state,
       final BpmnEventPublicationBehavior eventPublicationBehavior,
+      final BpmnJobActivationBehavior jobActivationBehavior,
       final KeyGenerator keyGenerator,
       final JobMetrics jobMetrics) {
     this.keyGenerator = keyGenerator;
@@ -74,6 +78,7 @@ public class JobThrowErrorProcessor implements CommandProcessor<JobRecord> {
 
     stateAnalyzer = new CatchEventAnalyzer(state.getProcessState(), elementInstanceState);
     this.eventPublicationBehavior = eventPublicationBehavior;
+    this.jobActivationBehavior = jobActivationBehavior;
     this.jobMetrics = jobMetrics;
   }
 
@@ -91,6 +96,8 @@ public class JobThrowErrorProcessor implements CommandProcessor<JobRecord> {
       final Intent intent,
       final JobRecord job) {
     jobMetrics.jobErrorThrown(job.getType());
+    jobActivationBehavior.notifyJobDeactivated(jobKey);
+    jobActivationBehavior.publishPendingWork(job.getTypeBuffer(), List.of(jobKey));
 
     final var serviceTaskInstanceKey = job.getElementId();
 
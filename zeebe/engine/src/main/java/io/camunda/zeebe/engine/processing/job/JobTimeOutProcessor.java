@@ -52,7 +52,7 @@ public final class JobTimeOutProcessor implements TypedRecordProcessor<JobRecord
     if (state == State.ACTIVATED && hasTimedOut(job)) {
       stateWriter.appendFollowUpEvent(jobKey, JobIntent.TIMED_OUT, job);
       jobMetrics.jobTimedOut(job.getType());
-      jobActivationBehavior.publishWork(jobKey, job);
+      jobActivationBehavior.republishWork(jobKey, job);
     } else {
       final var reason =
           switch (state) {
@@ -49,6 +49,9 @@ public final class JobYieldProcessor implements TypedRecordProcessor<JobRecord>
               final JobRecord yieldedJob = jobState.getJob(jobKey);
 
               stateWriter.appendFollowUpEvent(jobKey, JobIntent.YIELDED, yieldedJob);
+              // pending jobs are not published here, as the yielded job would likely be pushed
+              // right back to the worker which couldn't handle it
+              jobActivationBehavior.notifyJobDeactivated(jobKey);
               jobActivationBehavior.notifyJobAvailableAsSideEffect(yieldedJob);
             },
             violation ->
@@ -9,6 +9,8 @@ package io.camunda.zeebe.engine.processing.streamprocessor;
 
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
@@ -37,6 +39,17 @@ public interface JobStreamer {
    */
   default void notifyWorkAvailable(final String jobType) {}
 
+  /**
+   * Can be used to notify the streamer that a job isn't activated anymore, e.g. because it was
+   * completed, failed, or timed out. If the job was pushed to one of the streams, this gives back
+   * the credit it used up on that stream, see {@link JobStream#availableCredits(Collection)}.
+   *
+   * <p>NOTE: this is a side effect, just like {@link JobStream#push(ActivatedJob)}.
+   *
+   * @param jobKey the key of the job which isn't activated anymore
+   */
+  default void notifyJobDeactivated(final long jobKey) {}
+
   /**
    * Returns a job stream for the job type, or {@link Optional#empty()} if there is none.
    *
@@ -69,5 +82,33 @@ public interface JobStreamer {
      * @param payload the data to push to the remote gateway
      */
     void push(final ActivatedJob payload);
+
+    /**
+     * Pushes the given payloads, which were activated together, to the stream. See {@link
+     * #push(ActivatedJob)}.
+     *
+     * @param payloads the data to push to the remote gateway
+     */
+    default void pushAll(final List<ActivatedJob> payloads) {
+      payloads.forEach(this::push);
+    }
+
+    /**
+     * Returns how many more jobs can be pushed to the stream before the workers have to complete,
+     * fail, or yield some of the jobs pushed so far, i.e. the credits left in the window given by
+     * {@link JobActivationProperties#maxJobsActive()}. If the workers didn't limit the number of
+     * active jobs, this is {@link Integer#MAX_VALUE}.
+     *
+     * <p>NOTE: credits are used up when a job is pushed and given back when the streamer is
+     * notified that the job was deactivated, i.e. only once the processing result is committed.
+     * Jobs deactivated while processing the current command can be passed, such that their credits
+     * count as given back already.
+     *
+     * @param deactivatedJobKeys keys of jobs which were deactivated while processing the current
+     *     command
+     */
+    default int availableCredits(final Collection<Long> deactivatedJobKeys) {
+      return Integer.MAX_VALUE;
+    }
   }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
@@ -28,13 +29,18 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private final DueDateChecker dueDateChecker;
 
   public DueDateTimerChecker(
-      final TimerInstanceState timerInstanceState, final FeatureFlags featureFlags) {
+      final TimerInstanceState timerInstanceState,
+      final FeatureFlags featureFlags,
+      final TimerMetrics timerMetrics) {
     dueDateChecker =
         new DueDateChecker(
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
             new TriggerTimersSideEffect(
-                timerInstanceState, ActorClock.current(), featureFlags.yieldingDueDateChecker()));
+                timerInstanceState,
+                ActorClock.current(),
+                featureFlags.yieldingDueDateChecker(),
+                timerMetrics));
   }
 
   public void scheduleTimer(final long dueDate) {
@@ -73,14 +79,17 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
     private final TimerInstanceState timerInstanceState;
     private final boolean yieldControl;
+    private final TimerMetrics timerMetrics;
 
     public TriggerTimersSideEffect(
         final TimerInstanceState timerInstanceState,
         final ActorClock actorClock,
-        final boolean yieldControl) {
+        final boolean yieldControl,
+        final TimerMetrics timerMetrics) {
       this.timerInstanceState = timerInstanceState;
       this.actorClock = actorClock;
       this.yieldControl = yieldControl;
+      this.timerMetrics = timerMetrics;
     }
 
     @Override
@@ -89,13 +98,13 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
       final var yieldAfter = now + Math.round(TIMER_RESOLUTION * GIVE_YIELD_FACTOR);
 
+      final var writeTriggerVisitor =
+          new WriteTriggerTimerCommandVisitor(taskResultBuilder, timerMetrics, now);
       final TimerVisitor timerVisitor;
       if (yieldControl) {
-        timerVisitor =
-            new YieldingDecorator(
-                actorClock, yieldAfter, new WriteTriggerTimerCommandVisitor(taskResultBuilder));
+        timerVisitor = new YieldingDecorator(actorClock, yieldAfter, writeTriggerVisitor);
       } else {
-        timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
+        timerVisitor = writeTriggerVisitor;
       }
 
       return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
@@ -107,9 +116,16 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     private final TimerRecord timerRecord = new TimerRecord();
 
     private final TaskResultBuilder taskResultBuilder;
+    private final TimerMetrics timerMetrics;
+    private final long now;
 
-    public WriteTriggerTimerCommandVisitor(final TaskResultBuilder taskResultBuilder) {
+    public WriteTriggerTimerCommandVisitor(
+        final TaskResultBuilder taskResultBuilder,
+        final TimerMetrics timerMetrics,
+        final long now) {
       this.taskResultBuilder = taskResultBuilder;
+      this.timerMetrics = timerMetrics;
+      this.now = now;
     }
 
     @Override
@@ -124,8 +140,12 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
           .setProcessDefinitionKey(timer.getProcessDefinitionKey())
           .setTenantId(timer.getTenantId());
 
-      return taskResultBuilder.appendCommandRecord(
-          timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      final boolean appended =
+          taskResultBuilder.appendCommandRecord(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      if (appended) {
+        timerMetrics.timerTriggered(timer.getDueDate(), now);
+      }
+      return appended;
     }
   }
 
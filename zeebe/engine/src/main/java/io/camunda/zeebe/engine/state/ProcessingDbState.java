@@ -26,6 +26,7 @@ import io.camunda.zeebe.engine.state.instance.DbIncidentState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState;
 import io.camunda.zeebe.engine.state.message.DbMessageStartEventSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
 import io.camunda.zeebe.engine.state.message.DbMessageSubscriptionState;
@@ -68,7 +69,7 @@ public class ProcessingDbState implements MutableProcessingState {
   private final KeyGenerator keyGenerator;
 
   private final MutableProcessState processState;
-  private final MutableTimerInstanceState timerInstanceState;
+  private final DbTimerInstanceState timerInstanceState;
   private final MutableElementInstanceState elementInstanceState;
   private final MutableEventScopeInstanceState eventScopeInstanceState;
   private final MutableVariableState variableState;
@@ -97,6 +98,7 @@ public class ProcessingDbState implements MutableProcessingState {
       final KeyGenerator keyGenerator,
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final TransientTimerDueDateState transientTimerDueDateState,
       final EngineConfiguration config) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
@@ -104,7 +106,8 @@ public class ProcessingDbState implements MutableProcessingState {
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
     processState = new DbProcessState(zeebeDb, transactionContext, config);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerInstanceState =
+        new DbTimerInstanceState(zeebeDb, transactionContext, transientTimerDueDateState);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
@@ -137,6 +140,7 @@ public class ProcessingDbState implements MutableProcessingState {
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
     messageState.onRecovered(context);
+    timerInstanceState.onRecovered(context);
   }
 
   @Override
@@ -84,6 +84,7 @@ public final class EventAppliers implements EventApplier {
     registerJobIntentEventAppliers(state);
     registerVariableEventAppliers(state);
     register(JobBatchIntent.ACTIVATED, new JobBatchActivatedApplier(state));
+    register(JobBatchIntent.COMPLETED, NOOP_EVENT_APPLIER);
     registerIncidentEventAppliers(state);
     registerProcessMessageSubscriptionEventAppliers(state);
     registerTimeEventAppliers(state);
@@ -42,6 +42,22 @@ public interface JobState {
       final List<String> tenantIds,
       BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * Visits the activatable jobs of the given type like {@link #forEachActivatableJobs(DirectBuffer,
+   * List, BiFunction)}, but resumes at the job at which the callback stopped the previous iteration
+   * for the same type and tenants. Activated jobs leave tombstones behind, which the iteration
+   * would otherwise have to skip every time. Once the last job is visited, the iteration wraps
+   * around to the jobs before the one it resumed at.
+   *
+   * <p>Whenever a job becomes activatable again, e.g. because it failed, timed out or was yielded,
+   * the next iteration for its type starts at the first job again, such that jobs are still visited
+   * in the order of their keys.
+   */
+  void forEachActivatableJobsResuming(
+      DirectBuffer type,
+      final List<String> tenantIds,
+      BiFunction<Long, JobRecord, Boolean> callback);
+
   JobRecord getJob(long key);
 
   JobRecord getJob(final long key, final Map<String, Object> authorizations);
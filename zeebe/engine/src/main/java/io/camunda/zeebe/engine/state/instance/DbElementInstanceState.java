@@ -33,7 +33,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableInteger;
-import org.agrona.concurrent.UnsafeBuffer;
 
 public final class DbElementInstanceState implements MutableElementInstanceState {
 
@@ -295,8 +294,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   @Override
   public ElementInstance getInstance(final long key) {
     elementInstanceKey.wrapLong(key);
-    final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
-    return copyElementInstance(elementInstance);
+    return elementInstanceColumnFamily.get(elementInstanceKey, ElementInstance::new);
   }
 
   @Override
@@ -310,10 +308,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
           this.parentKey,
           (key, value) -> {
             final DbLong childKey = key.second().inner();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
+            children.add(getInstance(childKey.getValue()));
           });
     }
     return children;
@@ -415,19 +410,6 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return hasActiveInstances.get();
   }
 
-  private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
-    if (elementInstance != null) {
-      final byte[] bytes = new byte[elementInstance.getLength()];
-      final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
-
-      elementInstance.write(buffer, 0);
-      final ElementInstance copiedElementInstance = new ElementInstance();
-      copiedElementInstance.wrap(buffer, 0, elementInstance.getLength());
-      return copiedElementInstance;
-    }
-    return null;
-  }
-
   private void removeNumberOfTakenSequenceFlows(final long flowScopeKey) {
     this.flowScopeKey.wrapLong(flowScopeKey);
 
@@ -24,6 +24,8 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,6 +33,8 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableLong;
+import org.agrona.collections.Object2LongHashMap;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
@@ -46,6 +50,11 @@ public final class DbJobState implements JobState, MutableJobState {
   private final DbLong jobKey;
   private final DbForeignKey<DbLong> fkJob;
   private final ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
+  // the activatable jobs are read into a separate wrapper, such that visiting them doesn't
+  // overwrite a job which the caller got before, e.g. when pushing pending jobs after completing
+  // one
+  private final JobRecordValue activatableJobRecordToRead = new JobRecordValue();
+  private final ColumnFamily<DbLong, JobRecordValue> activatableJobsColumnFamily;
 
   // key => job state
   private final JobStateValue jobState = new JobStateValue();
@@ -73,14 +82,24 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // transient: per job type and tenants, the key of the job at which the last iteration over the
+  // activatable jobs was stopped; see forEachActivatableJobsResuming. It's only updated once the
+  // transaction is committed, as the visited jobs stay activatable if it's rolled back
+  private final Map<String, Object2LongHashMap<List<String>>> activationCursors = new HashMap<>();
+  private final TransactionContext transactionContext;
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this.transactionContext = transactionContext;
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
     jobsColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOBS, transactionContext, jobKey, jobRecordToRead);
+    activatableJobsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOBS, transactionContext, jobKey, activatableJobRecordToRead);
 
     statesJobColumnFamily =
         zeebeDb.createColumnFamily(
@@ -327,6 +346,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     if (newState == State.ACTIVATABLE) {
       makeJobActivatable(type, key, updatedValue.getTenantId());
+      resetActivationCursors(type);
     }
 
     if (newState != State.ACTIVATED) {
@@ -407,20 +427,61 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    forEachActivatableJobs(type, tenantIds, -1L, callback);
+  }
 
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((tenantAwareCompositeKey, zbNil) -> {
-          final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
-          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
+  @Override
+  public void forEachActivatableJobsResuming(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    final String typeName = BufferUtil.bufferAsString(type);
+    final var cursors = activationCursors.get(typeName);
+    final long startAtKey = cursors != null ? cursors.getValue(tenantIds) : -1L;
+
+    final long stoppedAtKey = forEachActivatableJobs(type, tenantIds, startAtKey, callback);
+    if (stoppedAtKey >= 0) {
+      final List<String> tenants = List.copyOf(tenantIds);
+      transactionContext.runAfterCommit(
+          () ->
+              activationCursors
+                  .computeIfAbsent(typeName, t -> new Object2LongHashMap<>(-1L))
+                  .put(tenants, stoppedAtKey));
+    } else if (cursors != null) {
+      final List<String> tenants = List.copyOf(tenantIds);
+      transactionContext.runAfterCommit(() -> cursors.removeKey(tenants));
+    }
+  }
 
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
-          }
-          // we want to continue with the iteration
-          return true;
-        }));
+  /**
+   * Visits the activatable jobs starting at the job with the given key. Once the last job is
+   * visited, the iteration wraps around and continues with the first job, until it reaches the
+   * start key again.
+   *
+   * @param startAtKey the key of the job to start at; if no such job is activatable, the iteration
+   *     starts at the next one. If negative, the iteration starts at the first job
+   * @return the key of the job at which the callback stopped the iteration, or {@code -1} if all
+   *     activatable jobs were visited
+   */
+  private long forEachActivatableJobs(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final long startAtKey,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (startAtKey < 0) {
+      return visitActivatableJobs(type, null, Long.MAX_VALUE, tenantIds, callback);
+    }
+
+    jobKey.wrapLong(startAtKey);
+    tenantIdKey.wrapString("");
+    final long stoppedAtKey =
+        visitActivatableJobs(type, tenantAwareTypeJobKey, Long.MAX_VALUE, tenantIds, callback);
+    if (stoppedAtKey >= 0) {
+      return stoppedAtKey;
+    }
+
+    // wrap around to visit the jobs before the start key, e.g. jobs which became activatable again
+    return visitActivatableJobs(type, null, startAtKey, tenantIds, callback);
   }
 
   @Override
@@ -475,6 +536,56 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  private boolean visitActivatableJob(
+      final long jobKey, final BiFunction<Long, JobRecord, Boolean> callback) {
+    this.jobKey.wrapLong(jobKey);
+    final JobRecordValue job = activatableJobsColumnFamily.get(this.jobKey);
+    if (job == null) {
+      LOG.warn("Expected to find job with key {}, but no job found", jobKey);
+      return true; // we want to continue with the iteration
+    }
+    return callback.apply(jobKey, job.getRecord());
+  }
+
+  /**
+   * @return the key of the job at which the callback stopped the iteration, or {@code -1} if it
+   *     reached the end of the range
+   */
+  private long visitActivatableJobs(
+      final DirectBuffer type,
+      final DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>> startAt,
+      final long endBeforeKey,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    final var stoppedAtKey = new MutableLong(-1L);
+    jobTypeKey.wrapBuffer(type);
+
+    activatableColumnFamily.whileEqualPrefix(
+        jobTypeKey,
+        startAt,
+        ((tenantAwareCompositeKey, zbNil) -> {
+          final long jobKey = tenantAwareCompositeKey.wrappedKey().second().inner().getValue();
+          if (jobKey >= endBeforeKey) {
+            return false;
+          }
+
+          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
+          if (!tenantIds.contains(tenantId)) {
+            // we want to continue with the iteration
+            return true;
+          }
+
+          if (visitActivatableJob(jobKey, callback)) {
+            return true;
+          }
+
+          stoppedAtKey.set(jobKey);
+          return false;
+        }));
+
+    return stoppedAtKey.get();
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -512,6 +623,18 @@ public final class DbJobState implements JobState, MutableJobState {
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
   }
 
+  /**
+   * Lets the next iteration over the activatable jobs of the given type start at the first job, as
+   * a job became activatable again which would otherwise only be visited once the iteration wrapped
+   * around.
+   */
+  private void resetActivationCursors(final DirectBuffer type) {
+    // deferred like moving the cursors, such that it's not overwritten by a cursor which was moved
+    // earlier in the same transaction
+    final String typeName = BufferUtil.bufferAsString(type);
+    transactionContext.runAfterCommit(() -> activationCursors.remove(typeName));
+  }
+
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
@@ -15,11 +15,18 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState.DueTimer;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import java.util.function.Consumer;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
 
-public final class DbTimerInstanceState implements MutableTimerInstanceState {
+public final class DbTimerInstanceState
+    implements MutableTimerInstanceState, StreamProcessorLifecycleAware {
 
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
@@ -35,10 +42,15 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  private final TransactionContext transactionContext;
+  private final TransientTimerDueDateState transientState;
+
   private long nextDueDate;
 
   public DbTimerInstanceState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientTimerDueDateState transientState) {
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -60,6 +72,14 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             transactionContext,
             dueDateCompositeKey,
             DbNil.INSTANCE);
+    this.transactionContext = transactionContext;
+    this.transientState = transientState;
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    loadNextDueTimers(-1L);
+    transientState.startTracking();
   }
 
   @Override
@@ -71,6 +91,12 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    if (transientState.isTracking()) {
+      final var dueTimer =
+          new DueTimer(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
+      transactionContext.runAfterCommit(() -> transientState.add(dueTimer));
+    }
   }
 
   @Override
@@ -81,10 +107,20 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+
+    if (transientState.isTracking()) {
+      final var dueTimer =
+          new DueTimer(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
+      transactionContext.runAfterCommit(() -> transientState.remove(dueTimer));
+    }
   }
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (transientState.isTracking()) {
+      return processTransientTimersWithDueDateBefore(timestamp, consumer);
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -115,6 +151,100 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private long processTransientTimersWithDueDateBefore(
+      final long timestamp, final TimerVisitor consumer) {
+    if (timestamp > transientState.trackedUntil()) {
+      loadNextDueTimers(timestamp);
+    }
+
+    final var trackedUntil = transientState.trackedUntil();
+    final var processUntil = Math.min(timestamp, trackedUntil);
+    for (final DueTimer dueTimer : transientState.entriesUntil(processUntil)) {
+      elementInstanceKey.inner().wrapLong(dueTimer.elementInstanceKey());
+      timerKey.wrapLong(dueTimer.timerKey());
+      final var timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
+
+      if (timerInstance == null || timerInstance.getDueDate() != dueTimer.dueDate()) {
+        // the removal of the timer was committed, but the entry was loaded concurrently or its
+        // removal is still pending; as the entry was added after a commit, it can never be valid
+        transientState.remove(dueTimer);
+        continue;
+      }
+
+      if (!consumer.visit(timerInstance)) {
+        return dueTimer.dueDate();
+      }
+    }
+
+    final var nextDueDate = transientState.nextDueDateAfter(processUntil);
+    if (nextDueDate != -1L && nextDueDate <= trackedUntil) {
+      return nextDueDate;
+    }
+    // the index may only contain some of the timers which are due after the tracked due date
+    return findFirstDueDateAfter(trackedUntil);
+  }
+
+  /**
+   * Loads the next window of due timers, which follows the tracked due date, from the column family
+   * into the transient state.
+   *
+   * @param timestamp the timestamp until which the window must be loaded, if the column family
+   *     contains no further timers
+   */
+  private void loadNextDueTimers(final long timestamp) {
+    final var loadedUntil = transientState.trackedUntil();
+    final var loadLimit = transientState.loadLimit();
+    final var loadedCount = new MutableInteger();
+    final var lastLoadedDueDate = new MutableLong(loadedUntil);
+    final var isLimitReached = new MutableBoolean();
+
+    transientState.startLoading();
+    dueDateColumnFamily.whileTrue(
+        seekDueDateAfter(loadedUntil),
+        (key, nil) -> {
+          final var dueDate = key.first().getValue();
+          if (loadedCount.get() >= loadLimit && dueDate != lastLoadedDueDate.get()) {
+            isLimitReached.set(true);
+            return false;
+          }
+
+          transientState.load(
+              new DueTimer(
+                  dueDate,
+                  key.second().first().inner().getValue(),
+                  key.second().second().getValue()));
+          loadedCount.increment();
+          lastLoadedDueDate.set(dueDate);
+          return true;
+        });
+
+    if (isLimitReached.get()) {
+      transientState.finishLoading(lastLoadedDueDate.get());
+    } else {
+      // all timers of the column family are loaded, including the ones due until the timestamp
+      transientState.finishLoading(Math.max(lastLoadedDueDate.get(), timestamp));
+    }
+  }
+
+  private long findFirstDueDateAfter(final long timestamp) {
+    nextDueDate = -1L;
+    dueDateColumnFamily.whileTrue(
+        seekDueDateAfter(timestamp),
+        (key, nil) -> {
+          nextDueDate = key.first().getValue();
+          return false;
+        });
+    return nextDueDate;
+  }
+
+  private DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>> seekDueDateAfter(
+      final long timestamp) {
+    dueDate.wrapLong(timestamp + 1);
+    elementInstanceKey.inner().wrapLong(0L);
+    timerKey.wrapLong(0L);
+    return dueDateCompositeKey;
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
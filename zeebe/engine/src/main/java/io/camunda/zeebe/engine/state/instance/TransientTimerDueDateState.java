@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * This class is used by {@link DbTimerInstanceState} to keep an in-memory index of the due dates of
+ * the timers which are due next, ordered by due date. It lets the timer checker find the due timers
+ * without iterating over the due date column family, which can be slow when many timers were
+ * recently removed. <br>
+ * The index doesn't hold all timers of the state. It is complete for the timers which are due until
+ * {@link #trackedUntil()}, and the timers which are due later are only found in the column family.
+ * The index is loaded in windows of at most {@link #loadLimit()} timers from the column family, on
+ * recovery and whenever the timer checker moves past the tracked due date, such that its size is
+ * bounded by the timers due within the loaded window. <br>
+ * The index is only tracked once it has been loaded from the state on recovery, see {@link
+ * #startTracking()}. Until then, {@link DbTimerInstanceState} falls back to the column family. <br>
+ * Entries are added and removed once the transaction which stored or removed the timer is
+ * committed, such that the index reflects the committed state. Changes of transactions which are
+ * rolled back never reach the index. <br>
+ * This class is thread safe. It's intended use is that one thread is adding and removing entries
+ * while another thread is iterating over the due entries and loading the next window.
+ */
+public final class TransientTimerDueDateState {
+
+  private static final int DEFAULT_LOAD_LIMIT = 10_000;
+
+  // Reconsider thread-safety implications when changing the set implementation.
+  private final NavigableSet<DueTimer> dueTimers =
+      new ConcurrentSkipListSet<>(
+          Comparator.comparingLong(DueTimer::dueDate)
+              .thenComparingLong(DueTimer::elementInstanceKey)
+              .thenComparingLong(DueTimer::timerKey));
+
+  private final int loadLimit;
+
+  private volatile boolean isTracking;
+  private volatile long trackedUntil = -1L;
+
+  public TransientTimerDueDateState() {
+    this(DEFAULT_LOAD_LIMIT);
+  }
+
+  TransientTimerDueDateState(final int loadLimit) {
+    this.loadLimit = loadLimit;
+  }
+
+  public boolean isTracking() {
+    return isTracking;
+  }
+
+  /** Marks the index as loaded, i.e. it can be used to find the due timers from now on. */
+  public void startTracking() {
+    isTracking = true;
+  }
+
+  int size() {
+    return dueTimers.size();
+  }
+
+  /**
+   * @return the maximum number of timers which are loaded from the column family at once; more
+   *     timers are only loaded to complete the ones sharing the last loaded due date
+   */
+  int loadLimit() {
+    return loadLimit;
+  }
+
+  /**
+   * @return the due date until which the index contains all committed timers, or {@code -1} if no
+   *     timer has been loaded yet
+   */
+  long trackedUntil() {
+    return trackedUntil;
+  }
+
+  /**
+   * Must be called before loading the next window from the column family. Until the window is
+   * loaded, all added timers are indexed, such that no timer which is committed concurrently to the
+   * loading is missed.
+   */
+  void startLoading() {
+    trackedUntil = Long.MAX_VALUE;
+  }
+
+  /**
+   * Must be called once the window is loaded, see {@link #startLoading()}.
+   *
+   * @param loadedUntil the due date until which all committed timers have been loaded
+   */
+  void finishLoading(final long loadedUntil) {
+    trackedUntil = loadedUntil;
+  }
+
+  /** Adds a timer which was loaded from the column family. */
+  void load(final DueTimer dueTimer) {
+    dueTimers.add(dueTimer);
+  }
+
+  /**
+   * Adds a timer which was stored, if it is due within the tracked window. A later timer is added
+   * once the window is moved past its due date.
+   */
+  public void add(final DueTimer dueTimer) {
+    if (dueTimer.dueDate() <= trackedUntil) {
+      dueTimers.add(dueTimer);
+    }
+  }
+
+  public void remove(final DueTimer dueTimer) {
+    dueTimers.remove(dueTimer);
+  }
+
+  /**
+   * @return the entries with a due date before or at the given timestamp, ordered by due date; the
+   *     returned view is weakly consistent, i.e. it may or may not reflect concurrent changes
+   */
+  Iterable<DueTimer> entriesUntil(final long timestamp) {
+    return dueTimers.headSet(lastEntryAt(timestamp), true);
+  }
+
+  /**
+   * @return the earliest due date after the given timestamp, or {@code -1} if there is none
+   */
+  long nextDueDateAfter(final long timestamp) {
+    final var next = dueTimers.higher(lastEntryAt(timestamp));
+    return next != null ? next.dueDate() : -1L;
+  }
+
+  private static DueTimer lastEntryAt(final long dueDate) {
+    return new DueTimer(dueDate, Long.MAX_VALUE, Long.MAX_VALUE);
+  }
+
+  /** An entry of the index, identifying a timer by its due date and keys. */
+  public record DueTimer(long dueDate, long elementInstanceKey, long timerKey) {}
+}
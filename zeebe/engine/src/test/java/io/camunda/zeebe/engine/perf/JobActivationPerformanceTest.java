@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how quickly batches of jobs are activated while many jobs of the same type are pending.
+ * Every batch activates jobs which the following batches have to skip over, so with a growing
+ * number of activated jobs, this shows whether the activation latency stays flat.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JobActivationPerformanceTest {
+  public static final Logger LOG =
+      LoggerFactory.getLogger(JobActivationPerformanceTest.class.getName());
+
+  @Param({"1000000"})
+  public int pendingJobCount;
+
+  private JobActivationClient jobActivationClient;
+  private TestEngine.TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+
+    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+
+    setupState(singlePartitionEngine);
+    // the activated jobs must not time out, otherwise they're activatable again
+    jobActivationClient =
+        singlePartitionEngine
+            .createJobActivationClient()
+            .withType("task")
+            .withTimeout(Duration.ofDays(1).toMillis())
+            .withMaxJobsToActivate(8);
+  }
+
+  /** Creates one pending job per process instance */
+  private void setupState(final TestEngine singlePartitionEngine) {
+    singlePartitionEngine
+        .createDeploymentClient()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask("task", (t) -> t.zeebeJobType("task").done())
+                .endEvent()
+                .done())
+        .deploy();
+
+    final ProcessInstanceClient processInstanceClient =
+        singlePartitionEngine.createProcessInstanceClient();
+
+    LOG.info("Creating {} pending jobs, please hold the line...", pendingJobCount);
+    for (int i = 0; i < pendingJobCount; i++) {
+      processInstanceClient.ofBpmnProcessId("process").create();
+      RecordingExporter.reset();
+
+      if ((i % 10000) == 0) {
+        LOG.info("\t{} pending jobs already created.", i);
+        singlePartitionEngine.reset();
+      }
+    }
+
+    LOG.info("Created {} pending jobs.", pendingJobCount);
+  }
+
+  private TestEngine.TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    // scheduler
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock());
+
+    final var actorScheduler = builder.build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<JobBatchRecordValue> measureJobActivationTime() {
+    final Record<JobBatchRecordValue> batch = jobActivationClient.activate();
+
+    singlePartitionEngine.reset();
+    return batch;
+  }
+
+  @JMHTest("measureJobActivationTime")
+  void shouldActivateWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 500;
+    // fewer pending jobs keep the setup short, but must be enough to not run out of jobs during
+    // all iterations, as empty batches would be much faster
+    testCase.withOptions(o -> o.param("pendingJobCount", "300000"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
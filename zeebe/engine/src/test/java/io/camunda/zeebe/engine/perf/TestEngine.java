@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.util.StreamProcessingComposite;
 import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
+import io.camunda.zeebe.engine.util.client.JobActivationClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.stream.impl.StreamProcessorBuilder;
@@ -101,6 +102,10 @@ public final class TestEngine {
     return new ProcessInstanceClient(streamProcessingComposite);
   }
 
+  public JobActivationClient createJobActivationClient() {
+    return new JobActivationClient(streamProcessingComposite);
+  }
+
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
     return new TestEngine(1, 1, testContext, cfg -> {});
   }
@@ -22,6 +22,7 @@ import io.camunda.zeebe.engine.util.RecordingJobStreamer;
 import io.camunda.zeebe.engine.util.RecordingJobStreamer.RecordingJobStream;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -70,6 +71,7 @@ public class ActivatableJobsPushTest {
       new RecordingExporterTestWatcher();
 
   private RecordingJobStream jobStream;
+  private JobActivationPropertiesImpl jobActivationProperties;
   private String jobType;
   private DirectBuffer worker;
   private Long timeout;
@@ -82,7 +84,7 @@ public class ActivatableJobsPushTest {
     worker = BufferUtil.wrapString("test");
     variables = Map.of("a", "valA", "b", "valB", "c", "valC");
     timeout = 30_000L;
-    final var jobActivationProperties =
+    jobActivationProperties =
         new JobActivationPropertiesImpl()
             .setWorker(worker, 0, worker.capacity())
             .setTimeout(timeout)
@@ -252,6 +254,85 @@ public class ActivatableJobsPushTest {
     assertActivatedJobsPushed(jobKey, activationCount);
   }
 
+  @Test
+  public void shouldNotifyWhenPushedJobIsCompleted() {
+    // given
+    final long jobKey = createJob(jobType, PROCESS_ID, variables);
+    assertActivatedJobsPushed(jobKey, 1);
+
+    // when
+    completeJob(jobKey);
+
+    // then
+    await("waiting for the job to be deactivated")
+        .atMost(MAX_WAIT_TIME_FOR_ACTIVATED_JOBS)
+        .untilAsserted(() -> assertThat(JOB_STREAMER.getDeactivatedJobKeys()).contains(jobKey));
+  }
+
+  @Test
+  public void shouldPushPendingJobsAsBatchWhenCreditsAreReplenished() {
+    // given
+    jobActivationProperties.setMaxJobsActive(3);
+    final long firstJobKey = createJob(jobType, PROCESS_ID, variables);
+    assertActivatedJobsPushed(firstJobKey, 1);
+
+    // the stream has no credits left, so the next jobs remain pending
+    jobStream.setAvailableCredits(0);
+    final List<Long> pendingJobKeys = createJobs(2);
+
+    // when
+    jobStream.setAvailableCredits(2);
+    completeJob(firstJobKey);
+
+    // then
+    final Record<JobBatchRecordValue> batchRecord =
+        jobBatchRecords(JobBatchIntent.ACTIVATED).withType(jobType).skip(1).getFirst();
+    assertThat(batchRecord.getValue().getJobKeys()).isEqualTo(pendingJobKeys);
+
+    await("waiting for the pending jobs to be pushed")
+        .atMost(MAX_WAIT_TIME_FOR_ACTIVATED_JOBS)
+        .pollInterval(Duration.ofMillis(10))
+        .untilAsserted(() -> assertThat(jobStream.getActivatedJobs()).hasSize(3));
+    assertThat(jobStream.getActivatedJobs())
+        .extracting(ActivatedJob::jobKey)
+        .containsExactly(firstJobKey, pendingJobKeys.get(0), pendingJobKeys.get(1));
+  }
+
+  @Test
+  public void shouldNotPushMoreJobsThanCreditsWhenJobTimesOut() {
+    // given
+    jobActivationProperties.setMaxJobsActive(2);
+    final long timedOutJobKey = createJob(jobType, PROCESS_ID, variables);
+    assertActivatedJobsPushed(timedOutJobKey, 1);
+    jobStream.setAvailableCredits(0);
+    final List<Long> pendingJobKeys = createJobs(2);
+
+    // when - besides the credit of the timed out job, there is one credit left
+    jobStream.setAvailableCredits(1);
+    ENGINE.increaseTime(
+        Duration.ofMillis(timeout).plus(EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL));
+    jobRecords(TIMED_OUT).withType(jobType).await();
+
+    // then - the timed out job is pushed again, and only one of the pending jobs is pushed
+    final Record<JobBatchRecordValue> pendingBatchRecord =
+        jobBatchRecords(JobBatchIntent.ACTIVATED).withType(jobType).skip(2).getFirst();
+    assertThat(pendingBatchRecord.getValue().getJobKeys()).containsExactly(pendingJobKeys.get(0));
+
+    await("waiting for the jobs to be pushed")
+        .atMost(MAX_WAIT_TIME_FOR_ACTIVATED_JOBS)
+        .pollInterval(Duration.ofMillis(10))
+        .untilAsserted(() -> assertThat(jobStream.getActivatedJobs()).hasSize(3));
+    assertThat(jobStream.getActivatedJobs())
+        .extracting(ActivatedJob::jobKey)
+        .containsExactly(timedOutJobKey, timedOutJobKey, pendingJobKeys.get(0));
+  }
+
+  private void completeJob(final long jobKey) {
+    final Record<JobRecordValue> completed = ENGINE.job().withKey(jobKey).complete();
+    // the process instance is completed together with its job, so it can't be canceled anymore
+    activeProcessInstances.remove(Long.valueOf(completed.getValue().getProcessInstanceKey()));
+  }
+
   private List<Long> createJobs(final int amount) {
     return IntStream.range(0, amount)
         .mapToObj(i -> createJob(jobType, PROCESS_ID, variables))
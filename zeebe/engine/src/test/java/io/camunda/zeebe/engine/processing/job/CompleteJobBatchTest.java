@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.camunda.zeebe.util.ByteValue;
+import java.util.List;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CompleteJobBatchTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+  private static final String PROCESS_ID = "process";
+  private static String jobType;
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final List<Long> jobKeys = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys();
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobCompletions()
+            .withJob(jobKeys.get(0), "{'foo':'bar'}")
+            .withJob(jobKeys.get(1))
+            .complete();
+
+    // then
+    Assertions.assertThat(completed)
+        .hasRecordType(RecordType.EVENT)
+        .hasIntent(JobBatchIntent.COMPLETED);
+    assertThat(completed.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+
+    final var completedJobs =
+        RecordingExporter.jobRecords(JobIntent.COMPLETED)
+            .withType(jobType)
+            .limit(2)
+            .map(Record::getKey)
+            .toList();
+    assertThat(completedJobs).containsExactlyElementsOf(jobKeys);
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withRecordKey(jobKeys.get(0))
+                .getFirst()
+                .getValue()
+                .getVariables())
+        .containsExactly(entry("foo", "bar"));
+  }
+
+  @Test
+  public void shouldContinueProcessInstancesOfCompletedJobs() {
+    // given
+    final long processInstanceKey =
+        ENGINE.createJob(jobType, PROCESS_ID).getValue().getProcessInstanceKey();
+    final long jobKey = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys().get(0);
+
+    // when
+    ENGINE.jobCompletions().withJob(jobKey).complete();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.PROCESS)
+                .exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldLeaveOutJobsWhichCannotBeCompleted() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final List<Long> jobKeys = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys();
+    ENGINE.job().withKey(jobKeys.get(0)).complete();
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobCompletions()
+            .withJob(jobKeys.get(0))
+            .withJob(123L)
+            .withJob(jobKeys.get(1))
+            .complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).containsExactly(jobKeys.get(1));
+    assertThat(completed.getValue().getRejectedJobKeys()).containsExactly(jobKeys.get(0), 123L);
+    assertThat(completed.getValue().getRejectionReasons())
+        .containsExactly(
+            "Expected to complete job with key '%d', but no such job was found"
+                .formatted(jobKeys.get(0)),
+            "Expected to complete job with key '123', but no such job was found");
+  }
+
+  @Test
+  public void shouldCompleteDuplicateJobOnlyOnce() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final long jobKey = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys().get(0);
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobCompletions()
+            .withJob(jobKey, "{'foo':'bar'}")
+            .withJob(jobKey, "{'foo':'baz'}")
+            .complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).containsExactly(jobKey);
+    assertThat(completed.getValue().getRejectedJobKeys()).isEmpty();
+    final var completedJobs =
+        RecordingExporter.records()
+            .limit(r -> r.getIntent() == JobBatchIntent.COMPLETED)
+            .jobRecords()
+            .withIntent(JobIntent.COMPLETED)
+            .withRecordKey(jobKey)
+            .toList();
+    assertThat(completedJobs).hasSize(1);
+    assertThat(completedJobs.get(0).getValue().getVariables()).containsExactly(entry("foo", "bar"));
+  }
+
+  @Test
+  public void shouldRejectRemainingJobsOfTooLargeBatch() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final List<Long> jobKeys = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys();
+
+    final long maxMessageSize = ByteValue.ofMegabytes(4);
+    final long headerSize = ByteValue.ofKilobytes(2);
+    final long maxRecordSize =
+        maxMessageSize - headerSize - EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+    // both jobs fit into the command, but only one of them fits into the resulting batch
+    final String variables = "{'key': '" + "x".repeat((int) (maxRecordSize * 0.4)) + "'}";
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobCompletions()
+            .withJob(jobKeys.get(0), variables)
+            .withJob(jobKeys.get(1), variables)
+            .complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).containsExactly(jobKeys.get(0));
+    assertThat(completed.getValue().getRejectedJobKeys()).containsExactly(jobKeys.get(1));
+    assertThat(completed.getValue().getRejectionReasons())
+        .containsExactly(
+            ("Expected to complete job with key '%d', but the batch exceeded the maximum batch"
+                    + " size; complete the job again in another batch")
+                .formatted(jobKeys.get(1)));
+
+    // the rejected job can still be completed
+    assertThat(ENGINE.jobCompletions().withJob(jobKeys.get(1)).complete().getValue().getJobKeys())
+        .containsExactly(jobKeys.get(1));
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // when
+    final Record<JobBatchRecordValue> rejection =
+        ENGINE.jobCompletions().expectRejection().complete();
+
+    // then
+    Assertions.assertThat(rejection).hasRejectionType(RejectionType.INVALID_ARGUMENT);
+  }
+}
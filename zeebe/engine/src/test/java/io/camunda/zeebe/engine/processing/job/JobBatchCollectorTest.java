@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.job.JobBatchCollector.TooLargeJob;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
@@ -35,7 +36,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableReference;
@@ -52,6 +52,9 @@ final class JobBatchCollectorTest {
   @SuppressWarnings("unused") // injected by the extension
   private MutableProcessingState state;
 
+  @SuppressWarnings("unused") // injected by the extension
+  private TransactionContext transactionContext;
+
   private JobBatchCollector collector;
 
   @BeforeEach
@@ -66,10 +69,9 @@ final class JobBatchCollectorTest {
     final long variableScopeKey = state.getKeyGenerator().nextKey();
     final TypedRecord<JobBatchRecord> record = createRecord();
     final List<Job> jobs = Arrays.asList(createJob(variableScopeKey), createJob(variableScopeKey));
-    final var toggle = new AtomicBoolean(true);
 
     // when - set up the evaluator to only accept the first job
-    lengthEvaluator.canWriteEventOfLength = (length) -> toggle.getAndSet(false);
+    lengthEvaluator.canWriteEventOfLength = (length) -> record.getValue().getJobKeys().isEmpty();
     final Either<TooLargeJob, Integer> result = collector.collectJobs(record);
 
     // then
@@ -160,6 +162,98 @@ final class JobBatchCollectorTest {
     JobBatchRecordValueAssert.assertThat(batchRecord).hasJobKeys(jobs.get(0).key).isNotTruncated();
   }
 
+  @Test
+  void shouldResumeWhereLastBatchStopped() {
+    // given
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    final List<Job> jobs =
+        Arrays.asList(createJob(scopeKey), createJob(scopeKey), createJob(scopeKey));
+    final TypedRecord<JobBatchRecord> firstRecord = createRecord();
+    firstRecord.getValue().setMaxJobsToActivate(2);
+    collector.collectJobs(firstRecord);
+    // only the second job of the batch is activated, such that the first one is still activatable
+    activateJob(jobs.get(1));
+
+    // when
+    final TypedRecord<JobBatchRecord> secondRecord = createRecord();
+    secondRecord.getValue().setMaxJobsToActivate(1);
+    collector.collectJobs(secondRecord);
+
+    // then
+    JobBatchRecordValueAssert.assertThat(secondRecord.getValue()).hasOnlyJobKeys(jobs.get(2).key);
+  }
+
+  @Test
+  void shouldNotResumeWhereRolledBackBatchStopped() throws Exception {
+    // given
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    final List<Job> jobs =
+        Arrays.asList(createJob(scopeKey), createJob(scopeKey), createJob(scopeKey));
+    final var transaction = transactionContext.getCurrentTransaction();
+    final TypedRecord<JobBatchRecord> firstRecord = createRecord();
+    firstRecord.getValue().setMaxJobsToActivate(2);
+    collector.collectJobs(firstRecord);
+
+    // when - the batch is not activated, e.g. because its processing failed
+    transaction.rollback();
+    final TypedRecord<JobBatchRecord> secondRecord = createRecord();
+    collector.collectJobs(secondRecord);
+
+    // then
+    assertThat(secondRecord.getValue().getJobKeys())
+        .containsExactly(jobs.get(0).key, jobs.get(1).key, jobs.get(2).key);
+  }
+
+  @Test
+  void shouldWrapAroundToJobsBeforeTheLastBatch() {
+    // given
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    final List<Job> jobs = Arrays.asList(createJob(scopeKey), createJob(scopeKey));
+    final TypedRecord<JobBatchRecord> firstRecord = createRecord();
+    firstRecord.getValue().setMaxJobsToActivate(1);
+    collector.collectJobs(firstRecord);
+    activateJob(jobs.get(0));
+    final TypedRecord<JobBatchRecord> secondRecord = createRecord();
+    secondRecord.getValue().setMaxJobsToActivate(1);
+    collector.collectJobs(secondRecord);
+    activateJob(jobs.get(1));
+
+    // when - the first job becomes activatable again
+    state.getJobState().yield(jobs.get(0).key, jobs.get(0).job);
+    final TypedRecord<JobBatchRecord> thirdRecord = createRecord();
+    collector.collectJobs(thirdRecord);
+
+    // then
+    JobBatchRecordValueAssert.assertThat(thirdRecord.getValue())
+        .hasOnlyJobKeys(jobs.get(0).key)
+        .isNotTruncated();
+  }
+
+  @Test
+  void shouldActivateJobsInOrderOnceJobIsActivatableAgain() {
+    // given
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    final List<Job> jobs =
+        Arrays.asList(createJob(scopeKey), createJob(scopeKey), createJob(scopeKey));
+    final TypedRecord<JobBatchRecord> firstRecord = createRecord();
+    firstRecord.getValue().setMaxJobsToActivate(1);
+    collector.collectJobs(firstRecord);
+    activateJob(jobs.get(0));
+    final TypedRecord<JobBatchRecord> secondRecord = createRecord();
+    secondRecord.getValue().setMaxJobsToActivate(1);
+    collector.collectJobs(secondRecord);
+    activateJob(jobs.get(1));
+
+    // when - the first job times out, while the batches are already past it
+    state.getJobState().timeout(jobs.get(0).key, jobs.get(0).job);
+    final TypedRecord<JobBatchRecord> thirdRecord = createRecord();
+    collector.collectJobs(thirdRecord);
+
+    // then
+    assertThat(thirdRecord.getValue().getJobKeys())
+        .containsExactly(jobs.get(0).key, jobs.get(2).key);
+  }
+
   @Test
   void shouldSetDeadlineOnActivation() {
     // given
@@ -370,6 +464,10 @@ final class JobBatchCollectorTest {
     return new Job(jobKey, jobRecord);
   }
 
+  private void activateJob(final Job job) {
+    state.getJobState().activate(job.key, job.job.setDeadline(Long.MAX_VALUE));
+  }
+
   private void createJobWithVariables(
       final long variableScopeKey, final Map<String, String> variables) {
     setVariables(variableScopeKey, variables);
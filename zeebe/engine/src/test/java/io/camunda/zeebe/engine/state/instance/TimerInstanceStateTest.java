@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.instance;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState.DueTimer;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
@@ -201,6 +202,244 @@ public final class TimerInstanceStateTest {
     assertThat(keys).hasSize(2).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldFindTimersStoredBeforeAndAfterRecovery() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(3, 3, 3000L);
+    startTrackingDueDates();
+    createTimerInstance(2, 2, 2000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldNotFindRemovedTimerAfterRecovery() {
+    // given
+    startTrackingDueDates();
+    final var timer1 = createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+
+    // when
+    state.remove(timer1);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    assertThat(keys).containsExactly(2L);
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldFindTimersWithDueDateUntilNotConsumedAfterRecovery() {
+    // given
+    startTrackingDueDates();
+    final var timer1 = createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(
+            2000L,
+            t -> {
+              keys.add(t.getElementInstanceKey());
+              return false;
+            });
+
+    // then
+    assertThat(keys).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
+  }
+
+  @Test
+  public void shouldRemoveCancelledTimersFromDueDateIndex() {
+    // given
+    final var timer1 = createTimerInstance(1, 1, 1000L);
+    final var timer2 = createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 3000L);
+    startTrackingDueDates();
+
+    // when
+    state.remove(timer1);
+    state.remove(timer2);
+
+    // then
+    assertThat(stateRule.getTransientTimerDueDateState().size()).isOne();
+  }
+
+  @Test
+  public void shouldUpdateDueDateIndexOnlyOnceCommitted() throws Exception {
+    // given
+    final var timer1 = createTimerInstance(1, 1, 1000L);
+    createTimerInstance(3, 3, 3000L);
+    startTrackingDueDates();
+    createElementInstance(2);
+    final var timer2 = new TimerInstance();
+    timer2.setElementInstanceKey(2);
+    timer2.setKey(2);
+    timer2.setDueDate(2000L);
+    final var dueDates = stateRule.getTransientTimerDueDateState();
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          state.remove(timer1);
+          state.store(timer2);
+        });
+    final List<DueTimer> indexedBeforeCommit = new ArrayList<>();
+    dueDates.entriesUntil(Long.MAX_VALUE).forEach(indexedBeforeCommit::add);
+    transaction.commit();
+
+    // then
+    assertThat(indexedBeforeCommit).extracting(DueTimer::timerKey).containsExactly(1L, 3L);
+    assertThat(dueDates.entriesUntil(Long.MAX_VALUE))
+        .extracting(DueTimer::timerKey)
+        .containsExactly(2L, 3L);
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getKey()));
+    assertThat(keys).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldKeepDueDateIndexOnRollback() throws Exception {
+    // given
+    final var timer1 = createTimerInstance(1, 1, 1000L);
+    createTimerInstance(3, 3, 3000L);
+    startTrackingDueDates();
+    createElementInstance(2);
+    final var timer2 = new TimerInstance();
+    timer2.setElementInstanceKey(2);
+    timer2.setKey(2);
+    timer2.setDueDate(2000L);
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          state.remove(timer1);
+          state.store(timer2);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(stateRule.getTransientTimerDueDateState().entriesUntil(Long.MAX_VALUE))
+        .extracting(DueTimer::timerKey)
+        .containsExactly(1L, 3L);
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getKey()));
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldLoadOnlyLimitedNumberOfTimersOnRecovery() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 2000L);
+    createTimerInstance(4, 4, 3000L);
+    final var dueDates = new TransientTimerDueDateState(2);
+
+    // when
+    startTrackingDueDates(dueDates);
+
+    // then - the timers sharing the last loaded due date are loaded completely
+    assertThat(dueDates.entriesUntil(Long.MAX_VALUE))
+        .extracting(DueTimer::timerKey)
+        .containsExactly(1L, 2L, 3L);
+    assertThat(dueDates.trackedUntil()).isEqualTo(2000L);
+  }
+
+  @Test
+  public void shouldNotIndexTimersDueAfterLoadedTimers() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(3, 3, 3000L);
+    final var dueDates = new TransientTimerDueDateState(1);
+    final var limitedState = startTrackingDueDates(dueDates);
+
+    // when
+    createElementInstance(2);
+    final var timer2 = new TimerInstance();
+    timer2.setElementInstanceKey(2);
+    timer2.setKey(2);
+    timer2.setDueDate(2000L);
+    limitedState.store(timer2);
+
+    // then
+    assertThat(dueDates.size()).isOne();
+
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        limitedState.processTimersWithDueDateBefore(3000L, t -> keys.add(t.getKey()));
+    assertThat(keys).containsExactly(1L, 2L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+
+    keys.clear();
+    final long lastDueDate =
+        limitedState.processTimersWithDueDateBefore(3000L, t -> keys.add(t.getKey()));
+    assertThat(keys).containsExactly(1L, 2L, 3L);
+    assertThat(lastDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldReturnNextDueDateAfterLoadedTimers() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    final var limitedState = startTrackingDueDates(new TransientTimerDueDateState(1));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        limitedState.processTimersWithDueDateBefore(1000L, t -> keys.add(t.getKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(2000L);
+  }
+
+  @Test
+  public void shouldLoadNextTimersOnceDue() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 3000L);
+    final var dueDates = new TransientTimerDueDateState(1);
+    final var limitedState = startTrackingDueDates(dueDates);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        limitedState.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+    assertThat(dueDates.trackedUntil()).isEqualTo(2000L);
+  }
+
+  private DbTimerInstanceState startTrackingDueDates(final TransientTimerDueDateState dueDates) {
+    final var limitedState =
+        new DbTimerInstanceState(stateRule.getDb(), stateRule.getTransactionContext(), dueDates);
+    limitedState.onRecovered(null);
+    return limitedState;
+  }
+
+  private void startTrackingDueDates() {
+    ((DbTimerInstanceState) state).onRecovered(null);
+  }
+
   private TimerInstance createTimerInstance(
       final long elementInstanceKey, final long timerKey, final long dueDate) {
     createElementInstance(elementInstanceKey);
@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.util.client.DecisionEvaluationClient;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
 import io.camunda.zeebe.engine.util.client.IncidentClient;
 import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.JobBatchCompletionClient;
 import io.camunda.zeebe.engine.util.client.JobClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.engine.util.client.PublishMessageClient;
@@ -293,6 +294,10 @@ public final class EngineRule extends ExternalResource {
     return new JobActivationClient(environmentRule);
   }
 
+  public JobBatchCompletionClient jobCompletions() {
+    return new JobBatchCompletionClient(environmentRule);
+  }
+
   public JobClient job() {
     return new JobClient(environmentRule);
   }
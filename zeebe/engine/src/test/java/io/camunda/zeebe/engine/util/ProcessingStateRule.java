@@ -7,10 +7,12 @@
  */
 package io.camunda.zeebe.engine.util;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.Protocol;
@@ -25,6 +27,8 @@ public final class ProcessingStateRule extends ExternalResource {
   private final int partition;
   private ZeebeDb<ZbColumnFamilies> db;
   private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+  private TransientTimerDueDateState transientTimerDueDateState;
 
   public ProcessingStateRule() {
     this(Protocol.DEPLOYMENT_PARTITION);
@@ -39,16 +43,18 @@ public final class ProcessingStateRule extends ExternalResource {
     tempFolder.create();
     db = createNewDb();
 
-    final var context = db.createContext();
-    final var keyGenerator = new DbKeyGenerator(partition, db, context);
+    transactionContext = db.createContext();
+    transientTimerDueDateState = new TransientTimerDueDateState();
+    final var keyGenerator = new DbKeyGenerator(partition, db, transactionContext);
     processingState =
         new ProcessingDbState(
             partition,
             db,
-            context,
+            transactionContext,
             keyGenerator,
             new TransientPendingSubscriptionState(),
             new TransientPendingSubscriptionState(),
+            transientTimerDueDateState,
             new EngineConfiguration());
   }
 
@@ -66,6 +72,18 @@ public final class ProcessingStateRule extends ExternalResource {
     return processingState;
   }
 
+  public TransactionContext getTransactionContext() {
+    return transactionContext;
+  }
+
+  public TransientTimerDueDateState getTransientTimerDueDateState() {
+    return transientTimerDueDateState;
+  }
+
+  public ZeebeDb<ZbColumnFamilies> getDb() {
+    return db;
+  }
+
   public ZeebeDb<ZbColumnFamilies> createNewDb() {
     try {
 
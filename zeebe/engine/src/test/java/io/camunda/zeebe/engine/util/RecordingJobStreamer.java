@@ -11,8 +11,10 @@ import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -24,6 +26,7 @@ public class RecordingJobStreamer implements JobStreamer {
   private final ConcurrentMap<String, AtomicInteger> jobNotifications = new ConcurrentHashMap<>();
   private final ConcurrentMap<DirectBuffer, List<RecordingJobStream>> jobStreams =
       new ConcurrentHashMap<>();
+  private final Set<Long> deactivatedJobKeys = ConcurrentHashMap.newKeySet();
 
   @Override
   public void notifyWorkAvailable(final String jobType) {
@@ -34,11 +37,20 @@ public class RecordingJobStreamer implements JobStreamer {
   @Override
   public Optional<JobStream> streamFor(
       final DirectBuffer jobType, final Predicate<JobActivationProperties> predicate) {
-    return Optional.ofNullable(
-        jobStreams.getOrDefault(jobType, new ArrayList<>()).stream()
-            .filter(jobStream -> predicate.test(jobStream.getProperties()))
-            .findAny()
-            .get());
+    return jobStreams.getOrDefault(jobType, new ArrayList<>()).stream()
+        .filter(jobStream -> jobStream.availableCredits(List.of()) > 0)
+        .filter(jobStream -> predicate.test(jobStream.getProperties()))
+        .<JobStream>map(jobStream -> jobStream)
+        .findAny();
+  }
+
+  @Override
+  public void notifyJobDeactivated(final long jobKey) {
+    deactivatedJobKeys.add(jobKey);
+  }
+
+  public Set<Long> getDeactivatedJobKeys() {
+    return deactivatedJobKeys;
   }
 
   public RecordingJobStream addJobStream(
@@ -54,6 +66,7 @@ public class RecordingJobStreamer implements JobStreamer {
 
     private final JobActivationProperties properties;
     private final List<ActivatedJob> activatedJobs;
+    private volatile int availableCredits = Integer.MAX_VALUE;
 
     public RecordingJobStream(final JobActivationProperties properties) {
       this.properties = properties;
@@ -70,6 +83,24 @@ public class RecordingJobStreamer implements JobStreamer {
       activatedJobs.add(payload);
     }
 
+    /**
+     * Returns the credits set by {@link #setAvailableCredits(int)}, plus the credits of the given
+     * deactivated jobs which were pushed to this stream.
+     */
+    @Override
+    public int availableCredits(final Collection<Long> deactivatedJobKeys) {
+      final long deactivatedPushedJobs =
+          activatedJobs.stream()
+              .map(ActivatedJob::jobKey)
+              .filter(deactivatedJobKeys::contains)
+              .count();
+      return (int) Math.min(availableCredits + deactivatedPushedJobs, Integer.MAX_VALUE);
+    }
+
+    public void setAvailableCredits(final int availableCredits) {
+      this.availableCredits = availableCredits;
+    }
+
     public JobActivationProperties getProperties() {
       return properties;
     }
@@ -49,6 +49,17 @@ public interface Context {
    */
   void setFilter(RecordFilter filter);
 
+  /**
+   * Returns the cache of serialized records shared with the other exporters of this partition.
+   * Exporters serializing records, e.g. to JSON, can use it to avoid serializing the same record
+   * multiple times.
+   *
+   * @return the shared cache of serialized records
+   */
+  default SerializedRecordCache getSerializedRecordCache() {
+    return SerializedRecordCache.NONE;
+  }
+
   /** A filter to limit the records which are exported. */
   interface RecordFilter {
 
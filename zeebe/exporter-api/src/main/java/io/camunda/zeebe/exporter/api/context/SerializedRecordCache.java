@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api.context;
+
+import io.camunda.zeebe.protocol.record.Record;
+import java.io.IOException;
+
+/**
+ * A cache of serialized records, shared by all exporters of a partition. Exporters which serialize
+ * records in the same format, e.g. several exporters writing the same JSON to different search
+ * engines, can use it to serialize each record only once.
+ *
+ * <p>Entries are identified by the position of the record and the format, so the serialized form
+ * must only depend on the record and the format. The format must thus identify the serializer
+ * including its configuration, e.g. the library version and enabled features, and not only the name
+ * of the data format. Exporter specific data has to be added by the exporter after retrieving the
+ * shared bytes.
+ *
+ * <p>Implementations may only cache records in formats which more than one exporter uses.
+ *
+ * <p>The cache may be called concurrently, and may evict entries at any time. The returned bytes
+ * are shared and must not be modified.
+ */
+@FunctionalInterface
+public interface SerializedRecordCache {
+
+  /** A cache which does not cache anything, and always serializes the record. */
+  SerializedRecordCache NONE = (record, format, serializer) -> serializer.serialize(record);
+
+  /**
+   * Returns the serialized form of the given record in the given format, serializing it with the
+   * given serializer only if no other exporter did so already.
+   *
+   * @param record the record to serialize
+   * @param format identifies the serializer and its configuration
+   * @param serializer serializes the record if it is not cached yet
+   * @return the serialized record; must not be modified
+   * @throws IOException if the serializer fails
+   */
+  byte[] get(Record<?> record, String format, RecordSerializer serializer) throws IOException;
+
+  /** Serializes a record into a specific format. */
+  @FunctionalInterface
+  interface RecordSerializer {
+
+    byte[] serialize(Record<?> record) throws IOException;
+  }
+}
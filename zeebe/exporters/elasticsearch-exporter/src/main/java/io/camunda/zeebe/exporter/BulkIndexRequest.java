@@ -7,37 +7,78 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.exporter.api.context.SerializedRecordCache;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.util.buffer.ReusableByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.http.entity.ContentProducer;
 
 /**
- * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
- * avoid having to serialize it again on retry.
+ * Buffers indexing requests of records. Each bulk operation is written in the nd-json bulk format
+ * straight into a single reusable buffer when it is indexed, which is then written as is to the
+ * request body, and again on retry without serializing anything.
  */
 final class BulkIndexRequest implements ContentProducer {
 
+  // The mix-ins of the mapper by target class. The mapper's mix-ins are only set from here, as
+  // Jackson doesn't expose them, but they are part of the record format.
+  private static final Map<Class<?>, Class<?>> MIX_INS = Map.of();
+
   private static final ObjectMapper MAPPER =
       new ObjectMapper()
-          .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
+          .enable(Feature.ALLOW_SINGLE_QUOTES)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+          .setMixIns(MIX_INS);
+
+  // The format under which the plain JSON of a record is shared with other exporters. It
+  // identifies the serializer's configuration, such that the bytes are only shared with exporters
+  // serializing records with the same Jackson version and an equally configured object mapper.
+  private static final String RECORD_FORMAT = recordFormat(MAPPER, MIX_INS);
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+  private static final byte[] RECORD_SEQUENCE_PREFIX =
+      (",\"" + RECORD_SEQUENCE_PROPERTY + "\":").getBytes(StandardCharsets.UTF_8);
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private final List<IndexedOperation> operations = new ArrayList<>();
+  private final byte[] sequenceDigits = new byte[20];
+  private final SerializedRecordCache serializedRecordCache;
+  // buffers of released detached requests, which are reused when detaching the next one
+  private final Queue<ReusableByteArrayOutputStream> freeBuffers;
 
+  private ReusableByteArrayOutputStream buffer;
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
 
+  BulkIndexRequest() {
+    this(SerializedRecordCache.NONE);
+  }
+
+  BulkIndexRequest(final SerializedRecordCache serializedRecordCache) {
+    this(serializedRecordCache, new ConcurrentLinkedQueue<>(), new ReusableByteArrayOutputStream());
+  }
+
+  private BulkIndexRequest(
+      final SerializedRecordCache serializedRecordCache,
+      final Queue<ReusableByteArrayOutputStream> freeBuffers,
+      final ReusableByteArrayOutputStream buffer) {
+    this.serializedRecordCache = serializedRecordCache;
+    this.freeBuffers = freeBuffers;
+    this.buffer = buffer;
+  }
+
   /**
    * Indexes the given record for the given bulk action. See
    * https://www.elastic.co/guide/en/elasticsearch/reference/7.17/docs-bulk.html for the types of
@@ -56,31 +97,60 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.length();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      // The plain JSON of the record is the same for every exporter, so it is shared with the
+      // other exporters of the partition, and only serialized once.
+      final byte[] json =
+          serializedRecordCache.get(record, RECORD_FORMAT, MAPPER::writeValueAsBytes);
+
+      MAPPER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.length();
+      writeSource(json, recordSequence.sequence());
+      buffer.write('\n');
     } catch (final IOException e) {
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final var operation =
+        new IndexedOperation(action, sourceOffset, buffer.length() - 1 - sourceOffset);
+    memoryUsageBytes += operation.sourceLength();
     lastIndexedMetadata = action;
-    operations.add(command);
+    operations.add(operation);
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
-      throws IOException {
-    return MAPPER
-        .writer()
-        // Enhance the serialized record by its sequence number. The sequence number is not a part
-        // of the record itself but a special property for Elasticsearch. It can be used to limit
-        // the number of records when reading from the index, for example, by using a range query.
-        // Read https://github.com/camunda/camunda/issues/10568 for details.
-        .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+  /**
+   * Writes the serialized record, enhanced by its sequence number as last property of the JSON
+   * object. The sequence number is not a part of the record itself but a special property for
+   * Elasticsearch. It can be used to limit the number of records when reading from the index, for
+   * example, by using a range query. Read https://github.com/camunda/camunda/issues/10568 for
+   * details.
+   *
+   * @throws IOException if the serialized record is not a JSON object
+   */
+  private void writeSource(final byte[] json, final long sequence) throws IOException {
+    if (json.length == 0 || json[json.length - 1] != '}') {
+      throw new IOException(
+          "Expected the serialized record to be a JSON object ending with '}', but it was not");
+    }
+
+    // omit the closing brace of the object, to append the sequence property
+    buffer.write(json, 0, json.length - 1);
+    buffer.write(RECORD_SEQUENCE_PREFIX, 0, RECORD_SEQUENCE_PREFIX.length);
+
+    // sequences are never negative, see RecordSequence
+    int index = sequenceDigits.length;
+    long remaining = sequence;
+    do {
+      sequenceDigits[--index] = (byte) ('0' + remaining % 10);
+      remaining /= 10;
+    } while (remaining > 0);
+    buffer.write(sequenceDigits, index, sequenceDigits.length - index);
+    buffer.write('}');
   }
 
   /** Returns the number of operations indexed so far. */
@@ -98,21 +168,57 @@ final class BulkIndexRequest implements ContentProducer {
     return operations.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely. Its memory is kept to be reused by the next operations. */
   void clear() {
     operations.clear();
+    buffer.truncate(0);
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
 
+  /**
+   * Moves all indexed operations into a new request, which can be sent while this one buffers the
+   * next operations. Once the detached request is not needed anymore, it must be {@link #release()
+   * released}, so that its memory is reused by the next detached request.
+   */
+  BulkIndexRequest detach() {
+    final var detached = new BulkIndexRequest(serializedRecordCache, freeBuffers, buffer);
+    detached.operations.addAll(operations);
+    detached.memoryUsageBytes = memoryUsageBytes;
+    detached.lastIndexedMetadata = lastIndexedMetadata;
+
+    final ReusableByteArrayOutputStream freeBuffer = freeBuffers.poll();
+    buffer = freeBuffer != null ? freeBuffer : new ReusableByteArrayOutputStream();
+    clear();
+    return detached;
+  }
+
+  /**
+   * Releases the memory of a detached request to the request it was detached from. The released
+   * request must not be used anymore.
+   */
+  void release() {
+    clear();
+    freeBuffers.offer(buffer);
+  }
+
   /** Returns the last action metadata indexed. May be null. */
   BulkIndexAction lastIndexedMetadata() {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /**
+   * Returns a copy of the currently indexed operations. As this copies the source of each operation
+   * out of the buffer, it is meant for inspection only, and not used when writing the request.
+   */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    return operations.stream()
+        .map(
+            operation ->
+                new BulkOperation(
+                    operation.metadata(),
+                    buffer.copy(operation.sourceOffset(), operation.sourceLength())))
+        .toList();
   }
 
   /**
@@ -121,16 +227,29 @@ final class BulkIndexRequest implements ContentProducer {
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
+  }
+
+  /**
+   * Returns the format of the JSON written by the given mapper, see {@link SerializedRecordCache}.
+   *
+   * @param mapper the mapper serializing the records
+   * @param mixIns the mix-ins the mapper was configured with, by target class
+   */
+  static String recordFormat(final ObjectMapper mapper, final Map<Class<?>, Class<?>> mixIns) {
+    return String.format(
+        "json;jackson=%s;serialization=%d;generator=%d;mixins=%s;modules=%s",
+        mapper.version(),
+        mapper.getSerializationConfig().getSerializationFeatures(),
+        mapper.getFactory().getGeneratorFeatures(),
+        new TreeSet<>(
+            mixIns.entrySet().stream()
+                .map(mixIn -> mixIn.getKey().getName() + "=" + mixIn.getValue().getName())
+                .toList()),
+        new TreeSet<>(mapper.getRegisteredModuleIds().stream().map(String::valueOf).toList()));
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
 
-  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
-  private static final class RecordSequenceMixin {}
+  private record IndexedOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
 }
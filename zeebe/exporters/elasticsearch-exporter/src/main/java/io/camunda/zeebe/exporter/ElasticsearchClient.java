@@ -25,16 +25,24 @@ import io.camunda.zeebe.exporter.dto.PutIndexTemplateResponse;
 import io.camunda.zeebe.exporter.dto.Template;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.util.InFlightRequests;
+import io.camunda.zeebe.util.InFlightRequests.InFlightRequest;
 import io.prometheus.client.Histogram;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class ElasticsearchClient implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchClient.class);
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
   private final RestClient client;
@@ -42,6 +50,7 @@ class ElasticsearchClient implements AutoCloseable {
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
   private final BulkIndexRequest bulkIndexRequest;
+  private final InFlightRequests<BulkIndexRequest> inFlightBulkRequests;
 
   private ElasticsearchMetrics metrics;
 
@@ -74,6 +83,7 @@ class ElasticsearchClient implements AutoCloseable {
     this.indexRouter = indexRouter;
     this.templateReader = templateReader;
     this.metrics = metrics;
+    inFlightBulkRequests = new InFlightRequests<>(configuration.bulk.maxInFlightRequests);
   }
 
   @Override
@@ -118,6 +128,78 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Sends the bulk request to Elastic asynchronously, unless it's currently empty. The exporter can
+   * continue to index records while the request is in flight. Failed requests are retried after a
+   * backoff with {@link #retryFailedBulks()}.
+   *
+   * <p>Must only be called if there is capacity for another request in flight, see {@link
+   * #ensureFlushCapacity()}.
+   *
+   * @param onAcknowledged called once this request and all requests sent before it were
+   *     acknowledged, from one of the threads of the client
+   */
+  public void flushAsync(final Runnable onAcknowledged) {
+    if (bulkIndexRequest.isEmpty()) {
+      return;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var bulk = bulkIndexRequest.detach();
+    exportBulkAsync(
+        inFlightBulkRequests.add(
+            bulk,
+            () -> {
+              bulk.release();
+              onAcknowledged.run();
+            }));
+  }
+
+  /**
+   * Ensures that another bulk request can be sent with {@link #flushAsync(Runnable)}, without
+   * waiting for the requests in flight. Failed requests whose backoff elapsed are retried first.
+   *
+   * @throws ElasticsearchExporterException if there is no capacity, such that the exporter is
+   *     invoked again with the same record after the backoff of its retry strategy
+   */
+  public void ensureFlushCapacity() {
+    retryFailedBulks();
+
+    if (!inFlightBulkRequests.hasCapacity()) {
+      throw new ElasticsearchExporterException(
+          String.format(
+              "Expected to send another bulk request, but %d requests are still in flight or waiting to be retried",
+              configuration.bulk.maxInFlightRequests));
+    }
+  }
+
+  /** Returns true if another bulk request can be sent without waiting, false otherwise. */
+  public boolean hasFlushCapacity() {
+    return inFlightBulkRequests.hasCapacity();
+  }
+
+  /** Sends the asynchronously sent bulk requests which failed again, once their backoff elapsed. */
+  public void retryFailedBulks() {
+    inFlightBulkRequests.takeRetryable().forEach(this::exportBulkAsync);
+  }
+
+  /**
+   * Waits until all asynchronously sent bulk requests were acknowledged, retrying failed ones once
+   * their backoff elapsed.
+   *
+   * @return true if all requests were acknowledged, false if the timeout elapsed before
+   */
+  public boolean awaitBulksAcknowledged(final Duration timeout) {
+    try {
+      return inFlightBulkRequests.awaitAcknowledged(timeout, this::exportBulkAsync);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -156,12 +238,7 @@ class ElasticsearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(newBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
@@ -171,6 +248,46 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  private void exportBulkAsync(final InFlightRequest<BulkIndexRequest> bulk) {
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    client.performRequestAsync(
+        newBulkRequest(bulk.request()),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            timer.observeDuration();
+            try {
+              final var responseBody = response.getEntity().getContent().readAllBytes();
+              final var bulkResponse = MAPPER.readValue(responseBody, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                throwCollectedBulkError(bulkResponse);
+              }
+            } catch (final IOException | ElasticsearchExporterException e) {
+              onFailure(e);
+              return;
+            }
+
+            inFlightBulkRequests.acknowledge(bulk);
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            LOG.warn(
+                "Failed to flush bulk asynchronously, will retry it after a backoff", exception);
+            metrics.recordFailedFlush();
+            inFlightBulkRequests.fail(bulk);
+          }
+        });
+  }
+
+  private Request newBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
@@ -14,6 +14,7 @@ import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.exporter.api.context.SerializedRecordCache;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -50,6 +51,7 @@ public class ElasticsearchExporter implements Exporter {
   private Controller controller;
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
+  private SerializedRecordCache serializedRecordCache = SerializedRecordCache.NONE;
   private ElasticsearchRecordCounters recordCounters;
 
   private long lastPosition = -1;
@@ -65,6 +67,7 @@ public class ElasticsearchExporter implements Exporter {
     validate(configuration);
 
     context.setFilter(new ElasticsearchRecordFilter(configuration));
+    serializedRecordCache = context.getSerializedRecordCache();
     indexTemplatesCreated = false;
   }
 
@@ -89,8 +92,19 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsync()) {
+        // failed bulks are retried until acknowledged, making room for the remaining records
+        final var timeout = Duration.ofMillis(configuration.requestTimeoutMs);
+        if (client.hasFlushCapacity() || client.awaitBulksAcknowledged(timeout)) {
+          flushAsync();
+        }
+        if (!client.awaitBulksAcknowledged(timeout)) {
+          log.warn("Failed to complete in-flight bulk requests before closing exporter.");
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -116,7 +130,16 @@ public class ElasticsearchExporter implements Exporter {
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    final boolean shouldFlush = client.shouldFlush();
+    if (shouldFlush && isFlushingAsync()) {
+      // Check for capacity before updating the record counters, such that the exporter is invoked
+      // again with the same record after a backoff if there is none, instead of blocking until a
+      // request in flight is acknowledged. Once sent, the bulk request is retried asynchronously
+      // until it succeeds, and the position is updated once it's acknowledged.
+      client.ensureFlushCapacity();
+      recordCounters.updateRecordCounters(record, recordSequence);
+      flushAsync();
+    } else if (shouldFlush) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -138,6 +161,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -180,13 +210,20 @@ public class ElasticsearchExporter implements Exporter {
 
   // TODO: remove this and instead allow client to be inject-able for testing
   protected ElasticsearchClient createClient() {
-    return new ElasticsearchClient(configuration);
+    return new ElasticsearchClient(configuration, new BulkIndexRequest(serializedRecordCache));
   }
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsync()) {
+        client.retryFailedBulks();
+        if (client.hasFlushCapacity()) {
+          flushAsync();
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -202,6 +239,20 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isFlushingAsync() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
+  private void flushAsync() {
+    // capture the position and metadata now, as more records are exported until it's acknowledged
+    final long position = lastPosition;
+    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
+    final var serializedMetadata = serializeExporterMetadata(exporterMetadata);
+
+    client.flushAsync(
+        () -> controller.updateLastExportedRecordPosition(position, serializedMetadata));
+  }
+
   private void updateLastExportedPosition() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
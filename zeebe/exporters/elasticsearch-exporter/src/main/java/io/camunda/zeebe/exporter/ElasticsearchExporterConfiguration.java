@@ -318,6 +318,9 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulk requests which may be in flight concurrently; with 1, the exporter flushes
+    // synchronously, otherwise it keeps exporting while requests are in flight
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -328,6 +331,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.broker.exporter.context.SharedSerializedRecordCache;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures indexing a full bulk of records and writing it as request body, for different mixes of
+ * records, and for one or two exporters sharing the serialized records through the broker's {@link
+ * SharedSerializedRecordCache}, e.g. when exporting to both Elasticsearch and Opensearch. The
+ * benchmark cycles through more records than the cache holds, such that, as in a broker, each bulk
+ * is serialized at least once. Run the test below to also get the allocation rate per bulk (via the
+ * GC profiler).
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BulkIndexRequestPerformanceTest {
+  // the default bulk size of the exporter configuration
+  private static final int BULK_SIZE = 1_000;
+  // the number of distinct bulks to cycle through; enough to exceed the cache's capacity
+  private static final int BULK_COUNT = 8;
+  private static final int PARTITION_ID = 1;
+
+  // the bulks/s when two exporters index a mixed bulk; when running this test locally, you're
+  // likely to have different scores
+  private static final double MIXED_REFERENCE_SCORE = 75;
+
+  @Param({"JOB", "PROCESS_INSTANCE", "VARIABLE", "MIXED"})
+  public RecordMix recordMix;
+
+  @Param({"1", "2"})
+  public int exporterCount;
+
+  private final List<List<Record<?>>> bulks = new ArrayList<>(BULK_COUNT);
+  private final List<List<BulkIndexAction>> actions = new ArrayList<>(BULK_COUNT);
+  private final List<BulkIndexRequest> requests = new ArrayList<>();
+  private int nextBulk;
+  private long nextSequence;
+
+  @Setup
+  public void setup() {
+    final var records = recordMix.generate(new ProtocolFactory(1L)).iterator();
+    for (int i = 0; i < BULK_COUNT; i++) {
+      final List<Record<?>> bulk = new ArrayList<>(BULK_SIZE);
+      final List<BulkIndexAction> bulkActions = new ArrayList<>(BULK_SIZE);
+      for (int j = 0; j < BULK_SIZE; j++) {
+        final Record<?> record = records.next();
+        bulk.add(record);
+        bulkActions.add(
+            new BulkIndexAction(
+                "index", record.getPartitionId() + "-" + record.getPosition(), "routing"));
+      }
+
+      bulks.add(bulk);
+      actions.add(bulkActions);
+    }
+
+    final var cache =
+        new SharedSerializedRecordCache(
+            SharedSerializedRecordCache.DEFAULT_CAPACITY,
+            SharedSerializedRecordCache.DEFAULT_MAX_BYTES);
+    for (int i = 0; i < exporterCount; i++) {
+      requests.add(new BulkIndexRequest(cache.forExporter("exporter-" + i)));
+    }
+  }
+
+  @JMHTest("measureIndexAndWriteBulk")
+  void shouldIndexAndWriteMixedBulkForTwoExporters(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        o ->
+            o.addProfiler(GCProfiler.class)
+                .param("recordMix", "MIXED")
+                .param("exporterCount", "2"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(MIXED_REFERENCE_SCORE, 0.25);
+  }
+
+  @Benchmark
+  public int measureIndexAndWriteBulk() throws IOException {
+    final var bulk = bulks.get(nextBulk);
+    final var bulkActions = actions.get(nextBulk);
+    nextBulk = (nextBulk + 1) % BULK_COUNT;
+
+    int written = 0;
+    for (final BulkIndexRequest request : requests) {
+      for (int i = 0; i < BULK_SIZE; i++) {
+        request.index(
+            bulkActions.get(i), bulk.get(i), new RecordSequence(PARTITION_ID, nextSequence + i));
+      }
+
+      request.writeTo(OutputStream.nullOutputStream());
+      written += request.size();
+      request.clear();
+    }
+
+    nextSequence += BULK_SIZE;
+    return written;
+  }
+
+  public enum RecordMix {
+    JOB {
+      @Override
+      Stream<Record<?>> generate(final ProtocolFactory factory) {
+        return Stream.generate(() -> factory.generateRecord(ValueType.JOB));
+      }
+    },
+    PROCESS_INSTANCE {
+      @Override
+      Stream<Record<?>> generate(final ProtocolFactory factory) {
+        return Stream.generate(() -> factory.generateRecord(ValueType.PROCESS_INSTANCE));
+      }
+    },
+    VARIABLE {
+      @Override
+      Stream<Record<?>> generate(final ProtocolFactory factory) {
+        return Stream.generate(() -> factory.generateRecord(ValueType.VARIABLE));
+      }
+    },
+    MIXED {
+      @Override
+      Stream<Record<?>> generate(final ProtocolFactory factory) {
+        return Stream.generate(() -> factory.<RecordValue>generateForAllValueTypes())
+            .<Record<?>>flatMap(allValueTypes -> allValueTypes);
+      }
+    };
+
+    abstract Stream<Record<?>> generate(ProtocolFactory factory);
+  }
+}
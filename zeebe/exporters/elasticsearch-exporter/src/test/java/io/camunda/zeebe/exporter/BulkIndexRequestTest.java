@@ -8,6 +8,7 @@
 package io.camunda.zeebe.exporter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,6 +24,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -223,6 +225,41 @@ final class BulkIndexRequestTest {
           .containsExactly(recordSequences.get(0).sequence(), recordSequences.get(1).sequence());
     }
 
+    @Test
+    void shouldFailToIndexRecordWhichIsNotAJsonObject() {
+      // given
+      final var jsonArray = "[1]".getBytes(StandardCharsets.UTF_8);
+      final var arrayRequest = new BulkIndexRequest((record, format, serializer) -> jsonArray);
+      final var action = new BulkIndexAction("index", "id", "routing");
+
+      // when - then
+      assertThatThrownBy(
+              () ->
+                  arrayRequest.index(
+                      action, recordFactory.generateRecord(), new RecordSequence(PARTITION_ID, 1)))
+          .isInstanceOf(ElasticsearchExporterException.class)
+          .hasRootCauseMessage(
+              "Expected the serialized record to be a JSON object ending with '}', but it was not");
+      assertThat(arrayRequest.isEmpty()).isTrue();
+      assertThat(arrayRequest.memoryUsageBytes()).isZero();
+    }
+
+    @Test
+    void shouldIdentifyMixInsInRecordFormat() {
+      // given - two mappers with the same number of mix-ins, but different ones
+      final Map<Class<?>, Class<?>> mixIns = Map.of(Record.class, FirstMixIn.class);
+      final Map<Class<?>, Class<?>> otherMixIns = Map.of(Record.class, SecondMixIn.class);
+
+      // when
+      final var format =
+          BulkIndexRequest.recordFormat(new ObjectMapper().setMixIns(mixIns), mixIns);
+      final var otherFormat =
+          BulkIndexRequest.recordFormat(new ObjectMapper().setMixIns(otherMixIns), otherMixIns);
+
+      // then
+      assertThat(format).isNotEqualTo(otherFormat);
+    }
+
     private Record<?> deserializeSource(final BulkOperation operation) {
       try {
         return MAPPER.readValue(operation.source(), new TypeReference<>() {});
@@ -242,4 +279,8 @@ final class BulkIndexRequestTest {
       }
     }
   }
+
+  private interface FirstMixIn {}
+
+  private interface SecondMixIn {}
 }
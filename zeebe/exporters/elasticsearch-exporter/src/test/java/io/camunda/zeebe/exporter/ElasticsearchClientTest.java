@@ -10,10 +10,13 @@ package io.camunda.zeebe.exporter;
 import static io.camunda.zeebe.exporter.ElasticsearchClient.buildPutIndexLifecycleManagementPolicyRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,11 +30,15 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.http.entity.BasicHttpEntity;
+import org.awaitility.Awaitility;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -247,4 +254,148 @@ final class ElasticsearchClientTest {
       assertThat(bulkRequest.size()).isEqualTo(1);
     }
   }
+
+  @Nested
+  final class AsyncFlushTest {
+    private final ElasticsearchExporterConfiguration asyncConfig =
+        new ElasticsearchExporterConfiguration();
+    private final List<Integer> acknowledged = new CopyOnWriteArrayList<>();
+    private ElasticsearchClient asyncClient;
+
+    @BeforeEach
+    void beforeEach() {
+      asyncConfig.bulk.maxInFlightRequests = 2;
+      asyncClient =
+          new ElasticsearchClient(
+              asyncConfig,
+              new BulkIndexRequest(),
+              restClient,
+              new RecordIndexRouter(asyncConfig.index),
+              templateReader,
+              new ElasticsearchMetrics(PARTITION_ID));
+    }
+
+    @Test
+    void shouldAcknowledgeBulksInSendOrder() throws IOException {
+      // given
+      flushAsync(1);
+      flushAsync(2);
+      final var listeners = captureResponseListeners(2);
+
+      // when
+      listeners.get(1).onSuccess(bulkResponse());
+
+      // then
+      assertThat(acknowledged).isEmpty();
+      listeners.get(0).onSuccess(bulkResponse());
+      assertThat(acknowledged).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldResendFailedBulkAfterBackoff() throws IOException {
+      // given
+      flushAsync(1);
+      captureResponseListeners(1).get(0).onFailure(new IOException("Injected failure"));
+
+      // when
+      asyncClient.retryFailedBulks();
+
+      // then - the bulk is only resent once the backoff elapsed
+      verify(restClient, times(1)).performRequestAsync(any(), any());
+      Awaitility.await("until the failed bulk is resent")
+          .untilAsserted(
+              () -> {
+                asyncClient.retryFailedBulks();
+                verify(restClient, times(2)).performRequestAsync(any(), any());
+              });
+      captureResponseListeners(2).get(1).onSuccess(bulkResponse());
+      assertThat(acknowledged).containsExactly(1);
+    }
+
+    @Test
+    void shouldFailWithoutWaitingIfNoCapacity() {
+      // given
+      flushAsync(1);
+      flushAsync(2);
+
+      // when - then
+      assertThatThrownBy(asyncClient::ensureFlushCapacity)
+          .isInstanceOf(ElasticsearchExporterException.class)
+          .hasMessageContaining("2 requests are still in flight");
+    }
+
+    @Test
+    void shouldHaveCapacityOnceBulkAcknowledged() throws IOException {
+      // given
+      flushAsync(1);
+      flushAsync(2);
+
+      // when
+      captureResponseListeners(2).get(0).onSuccess(bulkResponse());
+
+      // then
+      assertThatCode(asyncClient::ensureFlushCapacity).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldNotHaveCapacityOnceBulkFailed() {
+      // given
+      flushAsync(1);
+      flushAsync(2);
+      captureResponseListeners(2).get(0).onFailure(new IOException("Injected failure"));
+
+      // when - then - the failed bulk keeps its place until it's retried after a backoff
+      assertThatThrownBy(asyncClient::ensureFlushCapacity)
+          .isInstanceOf(ElasticsearchExporterException.class);
+      verify(restClient, times(2)).performRequestAsync(any(), any());
+    }
+
+    @Test
+    void shouldRetryFailedBulksUntilAcknowledgedOnClose() {
+      // given
+      flushAsync(1);
+      captureResponseListeners(1).get(0).onFailure(new IOException("Injected failure"));
+      doAnswer(
+              invocation -> {
+                invocation.<ResponseListener>getArgument(1).onSuccess(bulkResponse());
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(any(), any());
+
+      // when
+      final boolean allAcknowledged = asyncClient.awaitBulksAcknowledged(Duration.ofSeconds(10));
+
+      // then
+      assertThat(allAcknowledged).isTrue();
+      assertThat(acknowledged).containsExactly(1);
+      verify(restClient, times(2)).performRequestAsync(any(), any());
+    }
+
+    private void flushAsync(final int id) {
+      asyncClient.index(
+          factory.generateRecord(ValueType.VARIABLE), new RecordSequence(PARTITION_ID, id));
+      asyncClient.flushAsync(() -> acknowledged.add(id));
+    }
+
+    private List<ResponseListener> captureResponseListeners(final int count) {
+      final var listenerCaptor = ArgumentCaptor.forClass(ResponseListener.class);
+      verify(restClient, times(count)).performRequestAsync(any(), listenerCaptor.capture());
+      return listenerCaptor.getAllValues();
+    }
+
+    private Response bulkResponse() throws IOException {
+      final var httpEntity = new BasicHttpEntity();
+      final var serializedContent =
+          MAPPER.writeValueAsBytes(new BulkIndexResponse(false, List.of()));
+      final var response = mock(Response.class);
+
+      httpEntity.setContent(new ByteArrayInputStream(serializedContent));
+      httpEntity.setContentLength(serializedContent.length);
+      httpEntity.setContentType("application/json");
+
+      when(response.getEntity()).thenReturn(httpEntity);
+      return response;
+    }
+  }
 }
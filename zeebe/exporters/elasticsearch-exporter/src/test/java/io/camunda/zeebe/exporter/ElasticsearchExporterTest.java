@@ -311,6 +311,39 @@ final class ElasticsearchExporterTest {
           .isInstanceOf(ElasticsearchExporterException.class);
       assertThat(controller.getPosition()).isEqualTo(-1L);
     }
+
+    @Test
+    void shouldExportRecordAgainOnceThereIsFlushCapacity() {
+      // given
+      final var record =
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build();
+      config.bulk.maxInFlightRequests = 2;
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      doThrow(new ElasticsearchExporterException("no capacity"))
+          .doNothing()
+          .when(client)
+          .ensureFlushCapacity();
+
+      // when - the exporter fails right away, instead of waiting for capacity
+      assertThatCode(() -> exporter.export(record))
+          .isInstanceOf(ElasticsearchExporterException.class);
+      verify(client, never()).flushAsync(any());
+      exporter.export(record);
+
+      // then
+      final var recordSequenceCaptor = ArgumentCaptor.forClass(RecordSequence.class);
+      verify(client, times(2)).index(any(), recordSequenceCaptor.capture());
+      verify(client, times(1)).flushAsync(any());
+      assertThat(recordSequenceCaptor.getAllValues())
+          .extracting(RecordSequence::counter)
+          .describedAs("Expect that the record counter is the same on retry")
+          .containsExactly(1L, 1L);
+    }
   }
 
   @Nested
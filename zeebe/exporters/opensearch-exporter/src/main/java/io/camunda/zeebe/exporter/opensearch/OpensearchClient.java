@@ -27,8 +27,11 @@ import io.camunda.zeebe.exporter.opensearch.dto.PutIndexTemplateResponse;
 import io.camunda.zeebe.exporter.opensearch.dto.Template;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.util.InFlightRequests;
+import io.camunda.zeebe.util.InFlightRequests.InFlightRequest;
 import io.prometheus.client.Histogram;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -37,9 +40,14 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
 import org.opensearch.client.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class OpensearchClient implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(OpensearchClient.class);
   public static final String ISM_INITIAL_STATE = "initial";
   public static final String ISM_DELETE_STATE = "delete";
   private static final ObjectMapper MAPPER = new ObjectMapper();
@@ -48,6 +56,7 @@ public class OpensearchClient implements AutoCloseable {
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
   private final BulkIndexRequest bulkIndexRequest;
+  private final InFlightRequests<BulkIndexRequest> inFlightBulkRequests;
 
   private OpensearchMetrics metrics;
 
@@ -80,6 +89,7 @@ public class OpensearchClient implements AutoCloseable {
     this.indexRouter = indexRouter;
     this.templateReader = templateReader;
     this.metrics = metrics;
+    inFlightBulkRequests = new InFlightRequests<>(configuration.bulk.maxInFlightRequests);
   }
 
   @Override
@@ -124,6 +134,78 @@ public class OpensearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Sends the bulk request to Opensearch asynchronously, unless it's currently empty. The exporter
+   * can continue to index records while the request is in flight. Failed requests are retried after
+   * a backoff with {@link #retryFailedBulks()}.
+   *
+   * <p>Must only be called if there is capacity for another request in flight, see {@link
+   * #ensureFlushCapacity()}.
+   *
+   * @param onAcknowledged called once this request and all requests sent before it were
+   *     acknowledged, from one of the threads of the client
+   */
+  public void flushAsync(final Runnable onAcknowledged) {
+    if (bulkIndexRequest.isEmpty()) {
+      return;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var bulk = bulkIndexRequest.detach();
+    exportBulkAsync(
+        inFlightBulkRequests.add(
+            bulk,
+            () -> {
+              bulk.release();
+              onAcknowledged.run();
+            }));
+  }
+
+  /**
+   * Ensures that another bulk request can be sent with {@link #flushAsync(Runnable)}, without
+   * waiting for the requests in flight. Failed requests whose backoff elapsed are retried first.
+   *
+   * @throws OpensearchExporterException if there is no capacity, such that the exporter is invoked
+   *     again with the same record after the backoff of its retry strategy
+   */
+  public void ensureFlushCapacity() {
+    retryFailedBulks();
+
+    if (!inFlightBulkRequests.hasCapacity()) {
+      throw new OpensearchExporterException(
+          String.format(
+              "Expected to send another bulk request, but %d requests are still in flight or waiting to be retried",
+              configuration.bulk.maxInFlightRequests));
+    }
+  }
+
+  /** Returns true if another bulk request can be sent without waiting, false otherwise. */
+  public boolean hasFlushCapacity() {
+    return inFlightBulkRequests.hasCapacity();
+  }
+
+  /** Sends the asynchronously sent bulk requests which failed again, once their backoff elapsed. */
+  public void retryFailedBulks() {
+    inFlightBulkRequests.takeRetryable().forEach(this::exportBulkAsync);
+  }
+
+  /**
+   * Waits until all asynchronously sent bulk requests were acknowledged, retrying failed ones once
+   * their backoff elapsed.
+   *
+   * @return true if all requests were acknowledged, false if the timeout elapsed before
+   */
+  public boolean awaitBulksAcknowledged(final Duration timeout) {
+    try {
+      return inFlightBulkRequests.awaitAcknowledged(timeout, this::exportBulkAsync);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -162,11 +244,7 @@ public class OpensearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      request.setJsonEntity(new String(body.getContent().readAllBytes()));
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(newBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new OpensearchExporterException("Failed to flush bulk", e);
     }
@@ -176,6 +254,54 @@ public class OpensearchClient implements AutoCloseable {
     }
   }
 
+  private void exportBulkAsync(final InFlightRequest<BulkIndexRequest> bulk) {
+    final Request request;
+    try {
+      request = newBulkRequest(bulk.request());
+    } catch (final IOException e) {
+      LOG.warn("Failed to create bulk request, will retry it after a backoff", e);
+      inFlightBulkRequests.fail(bulk);
+      return;
+    }
+
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            timer.observeDuration();
+            try {
+              final var responseBody = response.getEntity().getContent().readAllBytes();
+              final var bulkResponse = MAPPER.readValue(responseBody, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                throwCollectedBulkError(bulkResponse);
+              }
+            } catch (final IOException | OpensearchExporterException e) {
+              onFailure(e);
+              return;
+            }
+
+            inFlightBulkRequests.acknowledge(bulk);
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            LOG.warn(
+                "Failed to flush bulk asynchronously, will retry it after a backoff", exception);
+            metrics.recordFailedFlush();
+            inFlightBulkRequests.fail(bulk);
+          }
+        });
+  }
+
+  private Request newBulkRequest(final BulkIndexRequest bulk) throws IOException {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    request.setJsonEntity(new String(body.getContent().readAllBytes()));
+    return request;
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
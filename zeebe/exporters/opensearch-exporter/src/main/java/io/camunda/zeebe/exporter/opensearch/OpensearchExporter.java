@@ -13,6 +13,7 @@ import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.exporter.api.context.SerializedRecordCache;
 import io.camunda.zeebe.exporter.opensearch.OpensearchExporterConfiguration.IndexConfiguration;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -35,6 +36,7 @@ public class OpensearchExporter implements Exporter {
   private Controller controller;
   private OpensearchExporterConfiguration configuration;
   private OpensearchClient client;
+  private SerializedRecordCache serializedRecordCache = SerializedRecordCache.NONE;
   private OpensearchRecordCounters recordCounters;
 
   private long lastPosition = -1;
@@ -49,6 +51,7 @@ public class OpensearchExporter implements Exporter {
     validate(configuration);
 
     context.setFilter(new OpensearchRecordFilter(configuration));
+    serializedRecordCache = context.getSerializedRecordCache();
     indexTemplatesCreated = false;
   }
 
@@ -73,8 +76,19 @@ public class OpensearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsync()) {
+        // failed bulks are retried until acknowledged, making room for the remaining records
+        final var timeout = Duration.ofMillis(configuration.requestTimeoutMs);
+        if (client.hasFlushCapacity() || client.awaitBulksAcknowledged(timeout)) {
+          flushAsync();
+        }
+        if (!client.awaitBulksAcknowledged(timeout)) {
+          log.warn("Failed to complete in-flight bulk requests before closing exporter.");
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -100,7 +114,16 @@ public class OpensearchExporter implements Exporter {
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    final boolean shouldFlush = client.shouldFlush();
+    if (shouldFlush && isFlushingAsync()) {
+      // Check for capacity before updating the record counters, such that the exporter is invoked
+      // again with the same record after a backoff if there is none, instead of blocking until a
+      // request in flight is acknowledged. Once sent, the bulk request is retried asynchronously
+      // until it succeeds, and the position is updated once it's acknowledged.
+      client.ensureFlushCapacity();
+      recordCounters.updateRecordCounters(record, recordSequence);
+      flushAsync();
+    } else if (shouldFlush) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -122,6 +145,13 @@ public class OpensearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Opensearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -145,13 +175,20 @@ public class OpensearchExporter implements Exporter {
 
   // TODO: remove this and instead allow client to be inject-able for testing
   protected OpensearchClient createClient() {
-    return new OpensearchClient(configuration);
+    return new OpensearchClient(configuration, new BulkIndexRequest(serializedRecordCache));
   }
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsync()) {
+        client.retryFailedBulks();
+        if (client.hasFlushCapacity()) {
+          flushAsync();
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -167,6 +204,20 @@ public class OpensearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isFlushingAsync() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
+  private void flushAsync() {
+    // capture the position and metadata now, as more records are exported until it's acknowledged
+    final long position = lastPosition;
+    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
+    final var serializedMetadata = serializeExporterMetadata(exporterMetadata);
+
+    client.flushAsync(
+        () -> controller.updateLastExportedRecordPosition(position, serializedMetadata));
+  }
+
   private void updateLastExportedPosition() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
@@ -305,6 +305,9 @@ public class OpensearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulk requests which may be in flight concurrently; with 1, the exporter flushes
+    // synchronously, otherwise it keeps exporting while requests are in flight
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -315,6 +318,8 @@ public class OpensearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -18,6 +18,7 @@ import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
@@ -33,6 +34,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -68,6 +71,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.VersionUtil;
@@ -75,8 +79,14 @@ import io.grpc.Context;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public final class EndpointManager {
@@ -216,6 +226,61 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    final Collection<BrokerCompleteJobsRequest> brokerRequests;
+    try {
+      brokerRequests = RequestMapper.toCompleteJobsRequests(request);
+      for (final var brokerRequest : brokerRequests) {
+        authorize(brokerRequest);
+      }
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    // every partition completes its jobs with a single command; a partition which fails only
+    // fails its own jobs, so the response is sent once all partitions answered either way
+    final Set<Long> completedJobKeys = ConcurrentHashMap.newKeySet();
+    final Map<Long, String> rejectionReasons = new ConcurrentHashMap<>();
+    final Map<Integer, String> partitionErrors = new ConcurrentHashMap<>();
+    final CompletableFuture<?>[] partitionRequests =
+        brokerRequests.stream()
+            .map(
+                brokerRequest ->
+                    brokerClient
+                        .sendRequestWithRetry(brokerRequest)
+                        .whenComplete(
+                            (response, error) -> {
+                              if (error == null) {
+                                final JobBatchRecord completedJobs = response.getResponse();
+                                completedJobKeys.addAll(completedJobs.getJobKeys());
+                                final Iterator<String> reasons =
+                                    completedJobs.getRejectionReasons().iterator();
+                                completedJobs
+                                    .getRejectedJobKeys()
+                                    .forEach(
+                                        jobKey -> rejectionReasons.put(jobKey, reasons.next()));
+                              } else {
+                                partitionErrors.put(
+                                    brokerRequest.getPartitionId(),
+                                    Objects.requireNonNullElse(
+                                        error.getMessage(), error.toString()));
+                              }
+                            }))
+            .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(partitionRequests)
+        .whenComplete(
+            (ignored, error) -> {
+              responseObserver.onNext(
+                  ResponseMapper.toCompleteJobsResponse(
+                      request, completedJobKeys, rejectionReasons, partitionErrors));
+              responseObserver.onCompleted();
+            });
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -490,7 +555,11 @@ public final class EndpointManager {
       throws Exception {
 
     final BrokerRequest<BrokerResponseT> brokerRequest = requestMapper.apply(grpcRequest);
+    authorize(brokerRequest);
+    return brokerRequest;
+  }
 
+  private void authorize(final BrokerRequest<?> brokerRequest) throws Exception {
     final List<String> authorizedTenants =
         multiTenancy.isEnabled()
             ? Context.current().call(InterceptorUtil.getAuthorizedTenantsKey()::get)
@@ -503,8 +572,6 @@ public final class EndpointManager {
             .withClaim(Authorization.AUTHORIZED_TENANTS, authorizedTenants)
             .encode();
     brokerRequest.setAuthorization(authorizationToken);
-
-    return brokerRequest;
   }
 
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
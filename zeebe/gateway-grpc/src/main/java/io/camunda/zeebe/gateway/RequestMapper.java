@@ -15,6 +15,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerBroadcastSignalRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeleteResourceRequest;
@@ -34,6 +35,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
@@ -53,11 +55,17 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.grpc.Context;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.agrona.DirectBuffer;
 import org.apache.commons.lang3.StringUtils;
@@ -158,6 +166,28 @@ public final class RequestMapper extends RequestUtil {
         grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  public static Collection<BrokerCompleteJobsRequest> toCompleteJobsRequests(
+      final CompleteJobsRequest grpcRequest) {
+    if (grpcRequest.getJobsCount() == 0) {
+      throw new IllegalArgumentException("Expected to complete at least one job, but got none");
+    }
+
+    final Map<Integer, BrokerCompleteJobsRequest> requestsByPartition = new LinkedHashMap<>();
+    final Set<Long> jobKeys = new HashSet<>();
+    for (final CompleteJobRequest job : grpcRequest.getJobsList()) {
+      // a job is only completed once, with the variables given first
+      if (!jobKeys.add(job.getJobKey())) {
+        continue;
+      }
+
+      final int partitionId = Protocol.decodePartitionId(job.getJobKey());
+      requestsByPartition
+          .computeIfAbsent(partitionId, BrokerCompleteJobsRequest::new)
+          .addJob(job.getJobKey(), ensureJsonSet(job.getVariables()));
+    }
+    return requestsByPartition.values();
+  }
+
   public static BrokerCreateProcessInstanceRequest toCreateProcessInstanceRequest(
       final CreateProcessInstanceRequest grpcRequest) {
     final var brokerRequest = new BrokerCreateProcessInstanceRequest();
@@ -322,7 +352,8 @@ public final class RequestMapper extends RequestUtil {
         .setWorker(worker, 0, worker.capacity())
         .setTimeout(request.getTimeout())
         .setFetchVariables(request.getFetchVariableList().stream().map(StringValue::new).toList())
-        .setTenantIds(tenantIds);
+        .setTenantIds(tenantIds)
+        .setMaxJobsActive(request.getMaxJobsActive());
 
     return jobActivationProperties;
   }
@@ -17,7 +17,11 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -42,6 +46,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
 import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.decision.DecisionEvaluationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
@@ -60,10 +65,16 @@ import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
 
+  private static final String JOB_NOT_COMPLETED_MESSAGE =
+      "Expected to complete job with key '%d', but no such job was found or it can't be completed"
+          + " in its current state";
+
   public static DeployProcessResponse toDeployProcessResponse(
       final long key, final DeploymentRecord brokerResponse) {
     final DeployProcessResponse.Builder responseBuilder =
@@ -175,6 +186,31 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  public static CompleteJobsResponse toCompleteJobsResponse(
+      final CompleteJobsRequest request,
+      final Set<Long> completedJobKeys,
+      final Map<Long, String> rejectionReasons,
+      final Map<Integer, String> partitionErrors) {
+    final CompleteJobsResponse.Builder responseBuilder = CompleteJobsResponse.newBuilder();
+    for (final CompleteJobRequest job : request.getJobsList()) {
+      final long jobKey = job.getJobKey();
+      final CompleteJobResult.Builder resultBuilder =
+          CompleteJobResult.newBuilder().setJobKey(jobKey);
+      if (completedJobKeys.contains(jobKey)) {
+        resultBuilder.setCompleted(true);
+      } else {
+        final String partitionError = partitionErrors.get(Protocol.decodePartitionId(jobKey));
+        final String reason =
+            partitionError != null ? partitionError : rejectionReasons.get(jobKey);
+        resultBuilder
+            .setCompleted(false)
+            .setReason(reason != null ? reason : String.format(JOB_NOT_COMPLETED_MESSAGE, jobKey));
+      }
+      responseBuilder.addResults(resultBuilder);
+    }
+    return responseBuilder.build();
+  }
+
   public static CreateProcessInstanceResponse toCreateProcessInstanceResponse(
       final long key, final ProcessInstanceCreationRecord brokerResponse) {
     return CreateProcessInstanceResponse.newBuilder()
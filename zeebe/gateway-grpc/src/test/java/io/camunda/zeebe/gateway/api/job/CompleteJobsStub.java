@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class CompleteJobsStub
+    implements RequestStub<BrokerCompleteJobsRequest, BrokerResponse<JobBatchRecord>> {
+
+  private final Map<Long, String> uncompletableJobs = new HashMap<>();
+
+  public CompleteJobsStub withUncompletableJob(final long jobKey, final String reason) {
+    uncompletableJobs.put(jobKey, reason);
+    return this;
+  }
+
+  @Override
+  public BrokerResponse<JobBatchRecord> handle(final BrokerCompleteJobsRequest request)
+      throws Exception {
+    final JobBatchRecord responseValue = new JobBatchRecord().setType("");
+    for (final LongValue jobKey : request.getRequestWriter().jobKeys()) {
+      final String reason = uncompletableJobs.get(jobKey.getValue());
+      if (reason == null) {
+        responseValue.jobKeys().add().setValue(jobKey.getValue());
+      } else {
+        responseValue.addRejectedJob(jobKey.getValue(), reason);
+      }
+    }
+    return new BrokerResponse<>(responseValue, request.getPartitionId(), 1);
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerCompleteJobsRequest.class, this);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldSendOneRequestPerPartition() {
+    // given
+    new CompleteJobsStub().registerWith(brokerClient);
+    final long firstJobKey = Protocol.encodePartitionId(1, 1);
+    final long secondJobKey = Protocol.encodePartitionId(2, 2);
+    final long thirdJobKey = Protocol.encodePartitionId(1, 3);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(job(firstJobKey).setVariables("{\"foo\":\"bar\"}"))
+            .addJobs(job(secondJobKey))
+            .addJobs(job(thirdJobKey))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getJobKey, CompleteJobResult::getCompleted)
+        .containsExactly(
+            tuple(firstJobKey, true), tuple(secondJobKey, true), tuple(thirdJobKey, true));
+
+    final List<BrokerCompleteJobsRequest> brokerRequests =
+        brokerClient.getBrokerRequests().stream()
+            .map(BrokerCompleteJobsRequest.class::cast)
+            .toList();
+    assertThat(brokerRequests)
+        .extracting(BrokerCompleteJobsRequest::getPartitionId)
+        .containsExactlyInAnyOrder(1, 2);
+    assertThat(brokerRequests)
+        .allSatisfy(
+            brokerRequest -> {
+              assertThat(brokerRequest.getValueType()).isEqualTo(ValueType.JOB_BATCH);
+              assertThat(brokerRequest.getIntent()).isEqualTo(JobBatchIntent.COMPLETE);
+            });
+
+    final JobBatchRecord firstPartitionJobs =
+        brokerRequests.stream()
+            .filter(brokerRequest -> brokerRequest.getPartitionId() == 1)
+            .findFirst()
+            .orElseThrow()
+            .getRequestWriter();
+    assertThat(firstPartitionJobs.getJobKeys()).containsExactly(firstJobKey, thirdJobKey);
+    MsgPackUtil.assertEqualityExcluding(
+        firstPartitionJobs.jobs().iterator().next().getVariablesBuffer(), "{\"foo\":\"bar\"}");
+  }
+
+  @Test
+  public void shouldReportJobsWhichWereNotCompleted() {
+    // given
+    final long completedJobKey = Protocol.encodePartitionId(1, 1);
+    final long uncompletedJobKey = Protocol.encodePartitionId(1, 2);
+    new CompleteJobsStub()
+        .withUncompletableJob(uncompletedJobKey, "the batch exceeded the maximum batch size")
+        .registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(job(completedJobKey))
+            .addJobs(job(uncompletedJobKey))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResults(0).getCompleted()).isTrue();
+    assertThat(response.getResults(0).getReason()).isEmpty();
+    assertThat(response.getResults(1).getCompleted()).isFalse();
+    assertThat(response.getResults(1).getReason())
+        .isEqualTo("the batch exceeded the maximum batch size");
+  }
+
+  @Test
+  public void shouldSendDuplicateJobOnlyOnce() {
+    // given
+    new CompleteJobsStub().registerWith(brokerClient);
+    final long jobKey = Protocol.encodePartitionId(1, 1);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(job(jobKey).setVariables("{\"foo\":\"bar\"}"))
+            .addJobs(job(jobKey).setVariables("{\"foo\":\"baz\"}"))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getJobKey, CompleteJobResult::getCompleted)
+        .containsExactly(tuple(jobKey, true), tuple(jobKey, true));
+
+    final BrokerCompleteJobsRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getRequestWriter().getJobKeys()).containsExactly(jobKey);
+    MsgPackUtil.assertEqualityExcluding(
+        brokerRequest.getRequestWriter().jobs().iterator().next().getVariablesBuffer(),
+        "{\"foo\":\"bar\"}");
+  }
+
+  @Test
+  public void shouldRejectEmptyRequest() {
+    // given
+    new CompleteJobsStub().registerWith(brokerClient);
+
+    // when/then
+    assertThatThrownBy(() -> client.completeJobs(CompleteJobsRequest.getDefaultInstance()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private static CompleteJobRequest.Builder job(final long jobKey) {
+    return CompleteJobRequest.newBuilder().setJobKey(jobKey);
+  }
+}
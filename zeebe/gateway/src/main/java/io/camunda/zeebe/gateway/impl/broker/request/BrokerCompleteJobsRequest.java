@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import org.agrona.DirectBuffer;
+
+/**
+ * Completes several jobs of the same partition with a single command. The response lists the keys
+ * of the jobs which were completed; jobs which couldn't be completed are left out.
+ */
+public final class BrokerCompleteJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
+
+  private final JobBatchRecord requestDto = new JobBatchRecord();
+
+  public BrokerCompleteJobsRequest(final int partitionId) {
+    super(ValueType.JOB_BATCH, JobBatchIntent.COMPLETE);
+    setPartitionId(partitionId);
+    // the type is required, but meaningless for completions, as a batch may mix job types
+    requestDto.setType("");
+  }
+
+  public BrokerCompleteJobsRequest addJob(final long jobKey, final DirectBuffer variables) {
+    requestDto.jobKeys().add().setValue(jobKey);
+    requestDto.jobs().add().setVariables(variables);
+    return this;
+  }
+
+  @Override
+  public JobBatchRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected JobBatchRecord toResponseDto(final DirectBuffer buffer) {
+    final JobBatchRecord responseDto = new JobBatchRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+
+  @Override
+  public String toString() {
+    return "BrokerCompleteJobsRequest{" + "requestDto=" + requestDto + '}';
+  }
+}
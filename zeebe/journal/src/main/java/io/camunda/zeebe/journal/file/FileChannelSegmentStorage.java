@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import org.agrona.CloseHelper;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SegmentStorage} which persists changes with positional {@link FileChannel} writes. If
+ * possible, the file is opened with {@code O_DIRECT}, such that writes bypass the page cache;
+ * otherwise, it falls back to regular writes.
+ *
+ * <p>The segment's content is exposed through a private (copy-on-write) mapping of the file. Reads
+ * are served from the file like with a regular mapping, and are thus not held in memory once the OS
+ * evicts them. Changes only go to the process' private copy of the modified pages, and never to the
+ * file through the mapping; they are persisted by copying the modified blocks into a small, fixed
+ * size write buffer, from which they are written with the channel. Only the pages modified while
+ * the segment is open, usually the tail of the last segment, are thus held in memory.
+ *
+ * <p>Writes are done in whole blocks of the file system's block size, as required by {@code
+ * O_DIRECT}. The block containing the last appended entry is thus written again on every flush.
+ */
+final class FileChannelSegmentStorage implements SegmentStorage {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FileChannelSegmentStorage.class);
+  private static final int DEFAULT_BLOCK_SIZE = 4096;
+  // a multiple of any supported block size
+  private static final int WRITE_BUFFER_SIZE = DEFAULT_BLOCK_SIZE * 64;
+
+  private final FileChannel channel;
+  private final int blockSize;
+  private final MappedByteBuffer buffer;
+  private final BitSet dirtyBlocks = new BitSet();
+
+  // guarded by this
+  private int flushedPosition;
+  private boolean closed;
+  // the allocated memory of the write buffer, which is released on close; allocated on the first
+  // write, since most segments are never written once loaded
+  private ByteBuffer allocatedWriteBuffer;
+  // the block aligned view of the allocated memory, from which blocks are written
+  private ByteBuffer writeBuffer;
+
+  private FileChannelSegmentStorage(
+      final FileChannel channel, final int blockSize, final MappedByteBuffer buffer) {
+    this.channel = channel;
+    this.blockSize = blockSize;
+    this.buffer = buffer;
+  }
+
+  /**
+   * Opens and maps the given file. If the file is smaller than the given size, it's grown to match
+   * it.
+   *
+   * @param file the segment file
+   * @param size the size of the segment
+   * @param order the byte order of the segment
+   * @return a storage for the given file
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  static FileChannelSegmentStorage open(final Path file, final int size, final ByteOrder order)
+      throws IOException {
+    final int blockSize = getBlockSize(file);
+    final var channel = openChannel(file);
+    try {
+      final var mappedSegment = channel.map(MapMode.PRIVATE, 0, size);
+      mappedSegment.order(order);
+      return new FileChannelSegmentStorage(channel, blockSize, mappedSegment);
+    } catch (final IOException | RuntimeException e) {
+      CloseHelper.quietClose(channel);
+      throw e;
+    }
+  }
+
+  @Override
+  public ByteBuffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  public synchronized void markDirty(final int offset, final int length) {
+    markBlocksDirty(offset, offset + length);
+  }
+
+  @Override
+  public synchronized void setFlushedPosition(final int position) {
+    flushedPosition = position;
+  }
+
+  @Override
+  public synchronized void flush(final int position) {
+    // also write the frame after the last entry, which marks the end of the segment
+    markBlocksDirty(flushedPosition, position + FrameUtil.getLength());
+    writeDirtyBlocks();
+    flushedPosition = position;
+  }
+
+  @Override
+  public synchronized void flush(final int offset, final int length) {
+    markBlocksDirty(offset, offset + length);
+    writeDirtyBlocks();
+  }
+
+  @Override
+  public void load() {
+    buffer.load();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    CloseHelper.quietClose(channel);
+    IoUtil.unmap(buffer);
+    if (allocatedWriteBuffer != null) {
+      IoUtil.unmap(allocatedWriteBuffer);
+    }
+  }
+
+  private void markBlocksDirty(final int from, final int to) {
+    final int fromBlock = from / blockSize;
+    final int toBlock = alignUp(Math.min(to, buffer.capacity())) / blockSize;
+    if (fromBlock < toBlock) {
+      dirtyBlocks.set(fromBlock, toBlock);
+    }
+  }
+
+  private void writeDirtyBlocks() {
+    if (closed) {
+      throw new UncheckedIOException(new ClosedChannelException());
+    }
+
+    try {
+      for (int fromBlock = dirtyBlocks.nextSetBit(0);
+          fromBlock >= 0;
+          fromBlock = dirtyBlocks.nextSetBit(fromBlock)) {
+        final int toBlock = dirtyBlocks.nextClearBit(fromBlock);
+        write(fromBlock * blockSize, toBlock * blockSize);
+        dirtyBlocks.clear(fromBlock, toBlock);
+        fromBlock = toBlock;
+      }
+
+      channel.force(false);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void write(final int from, final int to) throws IOException {
+    final var writeBuffer = writeBuffer();
+    for (int position = from; position < to; position += WRITE_BUFFER_SIZE) {
+      // the last block of the segment may be cut short; it's padded with zeros, as in the file
+      final int length = Math.min(WRITE_BUFFER_SIZE, to - position);
+      final int available = Math.min(length, buffer.capacity() - position);
+      writeBuffer.clear().put(0, buffer, position, available);
+      for (int i = available; i < length; i++) {
+        writeBuffer.put(i, (byte) 0);
+      }
+      writeBuffer.limit(length);
+
+      while (writeBuffer.hasRemaining()) {
+        channel.write(writeBuffer, position + writeBuffer.position());
+      }
+    }
+  }
+
+  private ByteBuffer writeBuffer() {
+    if (writeBuffer == null) {
+      allocatedWriteBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE + blockSize);
+      writeBuffer = allocatedWriteBuffer.alignedSlice(blockSize).limit(WRITE_BUFFER_SIZE).slice();
+    }
+
+    return writeBuffer;
+  }
+
+  private int alignUp(final int position) {
+    return (position + blockSize - 1) / blockSize * blockSize;
+  }
+
+  private static FileChannel openChannel(final Path file) throws IOException {
+    try {
+      return FileChannel.open(
+          file, StandardOpenOption.READ, StandardOpenOption.WRITE, ExtendedOpenOption.DIRECT);
+    } catch (final UnsupportedOperationException | IOException e) {
+      LOG.debug(
+          "Failed to open segment {} with O_DIRECT, falling back to buffered writes", file, e);
+      return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+  }
+
+  private static int getBlockSize(final Path file) {
+    try {
+      final long blockSize = Files.getFileStore(file).getBlockSize();
+      if (blockSize > 0 && blockSize <= DEFAULT_BLOCK_SIZE * 16 && Long.bitCount(blockSize) == 1) {
+        return (int) blockSize;
+      }
+    } catch (final IOException | UnsupportedOperationException e) {
+      LOG.debug("Failed to get block size of {}, using {}", file, DEFAULT_BLOCK_SIZE, e);
+    }
+
+    return DEFAULT_BLOCK_SIZE;
+  }
+}
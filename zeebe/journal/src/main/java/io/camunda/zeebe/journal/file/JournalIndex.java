@@ -31,6 +31,17 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes the entry with the given index and asqn, and its position within a segment. Same as
+   * {@link #index(JournalRecord, int)}, for callers which do not have the record at hand, e.g. when
+   * restoring a persisted {@link SegmentIndex}.
+   *
+   * @param index the index of the entry
+   * @param asqn the asqn of the entry
+   * @param position the position of the entry
+   */
+  void index(long index, long asqn, int position);
+
   /**
    * Looks up the position of the given index.
    *
@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/** The available {@link JournalIndex} implementations a {@link SegmentedJournal} can use. */
+public enum JournalIndexType {
+  /** Sparse index backed by concurrent skip lists; see {@link SparseJournalIndex}. */
+  SKIP_LIST,
+
+  /** Sparse index backed by sorted primitive arrays; see {@link SortedArrayJournalIndex}. */
+  SORTED_ARRAY;
+
+  JournalIndex createIndex(final int density) {
+    return switch (this) {
+      case SKIP_LIST -> new SparseJournalIndex(density);
+      case SORTED_ARRAY -> new SortedArrayJournalIndex(density);
+    };
+  }
+}
@@ -79,6 +79,41 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram SEGMENT_LOAD_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_load_time")
+          .help("Time spent to load an existing segment when opening the journal")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_INDEX_LOAD =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("journal_segment_index_load")
+          .help(
+              "Number of segments loaded when opening the journal, by whether their persisted index was restored, missing or invalid")
+          .labelNames(PARTITION_LABEL, "result")
+          .register();
+
+  private static final Histogram SEGMENT_ROLL_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_roll_time")
+          .help("Time spent to roll over to the next segment when the current one is full")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.0001, 0.0005, 0.001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5)
+          .register();
+
+  private static final Counter SEGMENT_POOL_ACQUIRE =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("journal_segment_pool_acquire")
+          .help(
+              "Number of segments rolled over to, by whether the next segment was already prepared (hit) or not (miss)")
+          .labelNames(PARTITION_LABEL, "result")
+          .register();
+
   private static final Counter APPEND_DATA_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -123,8 +158,12 @@ final class JournalMetrics {
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
   private final Child seekLatency;
+  private final Histogram.Child segmentLoadTime;
+  private final Histogram.Child segmentRollTime;
+  private final String partitionId;
 
   JournalMetrics(final String partitionId) {
+    this.partitionId = partitionId;
     segmentCreationTime = SEGMENT_CREATION_TIME.labels(partitionId);
     segmentTruncateTime = SEGMENT_TRUNCATE_TIME.labels(partitionId);
     segmentFlushTime = SEGMENT_FLUSH_TIME.labels(partitionId);
@@ -136,6 +175,8 @@ final class JournalMetrics {
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
     seekLatency = SEEK_LATENCY.labels(partitionId);
+    segmentLoadTime = SEGMENT_LOAD_TIME.labels(partitionId);
+    segmentRollTime = SEGMENT_ROLL_TIME.labels(partitionId);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -182,4 +223,45 @@ final class JournalMetrics {
   Histogram.Timer observeSeekLatency() {
     return seekLatency.startTimer();
   }
+
+  Histogram.Timer observeSegmentLoad() {
+    return segmentLoadTime.startTimer();
+  }
+
+  void observeSegmentIndexLoad(final SegmentIndexLoadResult result) {
+    SEGMENT_INDEX_LOAD.labels(partitionId, result.label).inc();
+  }
+
+  Histogram.Timer observeSegmentRoll() {
+    return segmentRollTime.startTimer();
+  }
+
+  void observeSegmentPoolAcquire(final SegmentPoolResult result) {
+    SEGMENT_POOL_ACQUIRE.labels(partitionId, result.label).inc();
+  }
+
+  /** Outcome of loading the persisted {@link SegmentIndex} of a segment. */
+  enum SegmentIndexLoadResult {
+    RESTORED("restored"),
+    MISSING("missing"),
+    INVALID("invalid");
+
+    private final String label;
+
+    SegmentIndexLoadResult(final String label) {
+      this.label = label;
+    }
+  }
+
+  /** Outcome of acquiring the next segment from the {@link SegmentPool}. */
+  enum SegmentPoolResult {
+    HIT("hit"),
+    MISS("miss");
+
+    private final String label;
+
+    SegmentPoolResult(final String label) {
+      this.label = label;
+    }
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.agrona.IoUtil;
+
+/**
+ * A {@link SegmentStorage} which memory maps the segment file. Writes go to the page cache, and
+ * flushing syncs the whole mapping to disk, such that changes outside of the append path don't need
+ * to be tracked.
+ */
+final class MappedSegmentStorage implements SegmentStorage {
+
+  private final MappedByteBuffer buffer;
+
+  MappedSegmentStorage(final MappedByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Maps the given file. If the file is smaller than the given size, it's grown to match it.
+   *
+   * @param file the segment file
+   * @param size the size of the segment
+   * @param order the byte order of the segment
+   * @return a storage for the mapped file
+   * @throws IOException if the file cannot be mapped
+   */
+  static MappedSegmentStorage open(final Path file, final long size, final ByteOrder order)
+      throws IOException {
+    try (final var channel =
+        FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final var mappedSegment = channel.map(MapMode.READ_WRITE, 0, size);
+      mappedSegment.order(order);
+      return new MappedSegmentStorage(mappedSegment);
+    }
+  }
+
+  @Override
+  public ByteBuffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  public void markDirty(final int offset, final int length) {
+    // the whole mapping is synced on flush
+  }
+
+  @Override
+  public void setFlushedPosition(final int position) {
+    // the whole mapping is synced on flush
+  }
+
+  @Override
+  public void flush(final int position) {
+    buffer.force();
+  }
+
+  @Override
+  public void flush(final int offset, final int length) {
+    buffer.force(offset, length);
+  }
+
+  @Override
+  public void load() {
+    buffer.load();
+  }
+
+  @Override
+  public void close() {
+    IoUtil.unmap(buffer);
+  }
+}
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.file.SegmentIndexFile.PersistedSegmentIndex;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -48,28 +49,40 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final JournalIndex index;
   private final SegmentWriter writer;
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
-  private final MappedByteBuffer buffer;
+  private final SegmentStorage storage;
+  private final ByteBuffer buffer;
   private final JournalMetrics metrics;
+  // may be null if checksums are verified on every read
+  private final VerifiedRegion verifiedRegion;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  // set once the segment is sealed, until its index is persisted on the next flush; this needs to
+  // be
+  // volatile in case the flushing is asynchronous
+  private volatile boolean persistIndexOnFlush = false;
 
   Segment(
       final SegmentFile file,
       final SegmentDescriptor descriptor,
-      final MappedByteBuffer buffer,
+      final SegmentStorage storage,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final SegmentIndex segmentIndex,
+      final PersistedSegmentIndex persistedIndex,
+      final boolean lazyChecksumVerification) {
     this.file = file;
     this.descriptor = descriptor;
-    this.buffer = buffer;
+    this.storage = storage;
+    buffer = storage.buffer();
     this.index = index;
     this.metrics = metrics;
+    verifiedRegion = lazyChecksumVerification ? new VerifiedRegion(descriptor.length()) : null;
 
-    writer = createWriter(lastWrittenAsqn, metrics);
+    writer = createWriter(lastWrittenAsqn, metrics, segmentIndex, persistedIndex);
   }
 
   /**
@@ -101,8 +114,12 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   /**
-   * It's safe to sync a buffer via {@link MappedByteBuffer#force()} even after it has been unmapped
-   * (e.g. via {@link IoUtil#unmap(ByteBuffer)}.
+   * Flushes everything written up to the writer's current position via the segment's {@link
+   * SegmentStorage}.
+   *
+   * <p>It's safe to sync a buffer via {@link MappedByteBuffer#force()} even after it has been
+   * unmapped (e.g. via {@link IoUtil#unmap(ByteBuffer)}. Similarly, flushing a {@link
+   * FileChannelSegmentStorage} after it was closed fails with an {@link UncheckedIOException}.
    *
    * <p>Calling {@code msync} or {@code FlushViewOfFile} on pages which are not mapped returns an
    * error, but does not generate a SIGSEGV nor a SIGBUS. Instead, it returns an error code.
@@ -122,7 +139,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     final long lastIndex = lastIndex();
 
     try (final var ignored = metrics.observeSegmentFlush()) {
-      buffer.force();
+      storage.flush(writer.getWrittenPosition());
     } catch (final UncheckedIOException e) {
       if (isOpen()) {
         throw e;
@@ -137,6 +154,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
         descriptor.id(),
         descriptor.index(),
         lastIndex);
+
+    // only persist the index once the entries it points to are flushed, otherwise it may outlive
+    // them after a crash
+    if (persistIndexOnFlush) {
+      persistIndexOnFlush = false;
+      persistIndex();
+    }
+
     return true;
   }
 
@@ -185,13 +210,67 @@ final class Segment implements AutoCloseable, FlushableSegment {
   SegmentReader createReader() {
     checkOpen();
     final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+        new SegmentReader(
+            buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index, verifiedRegion);
     readers.add(reader);
     return reader;
   }
 
-  private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+  private SegmentWriter createWriter(
+      final long lastWrittenAsqn,
+      final JournalMetrics metrics,
+      final SegmentIndex segmentIndex,
+      final PersistedSegmentIndex persistedIndex) {
+    return new SegmentWriter(
+        storage,
+        this,
+        index,
+        lastWrittenAsqn,
+        metrics,
+        segmentIndex,
+        persistedIndex,
+        verifiedRegion);
+  }
+
+  /**
+   * Marks this segment as sealed, i.e. no more entries will be appended to it. Its index is then
+   * persisted next to it on the next successful {@link #flush()}, such that rolling over to the
+   * next segment doesn't have to wait for the index to be written.
+   */
+  void seal() {
+    persistIndexOnFlush = true;
+  }
+
+  /**
+   * Persists the index of this segment next to it, so it can be restored without scanning the
+   * segment on the next start. Failing to persist the index is not an error, as the segment is then
+   * scanned as usual.
+   */
+  private void persistIndex() {
+    final var persistableIndex = writer.getPersistableIndex();
+    if (persistableIndex == null) {
+      return;
+    }
+
+    try {
+      SegmentIndexFile.write(file.indexFile(), persistableIndex);
+    } catch (final IOException e) {
+      LOG.warn("Failed to persist index of segment {} to {}", this, file.indexFile(), e);
+    }
+  }
+
+  /** Deletes the persisted index of this segment, if any, as it doesn't match it anymore. */
+  void deletePersistedIndex() {
+    persistIndexOnFlush = false;
+    deleteIndexFile();
+  }
+
+  private void deleteIndexFile() {
+    try {
+      Files.deleteIfExists(file.indexFile());
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete persisted index {} of segment {}", file.indexFile(), this, e);
+    }
   }
 
   /**
@@ -228,12 +307,13 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
-    IoUtil.unmap(buffer);
+    storage.close();
   }
 
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deleteIndexFile();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -248,7 +328,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
               readers.size()));
     }
     try {
-      IoUtil.unmap(buffer);
+      storage.close();
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
@@ -282,6 +362,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor.setLastIndex(writer.getLastIndex());
     descriptor.setLastPosition(writer.getLastEntryPosition());
     descriptor.updateIfCurrentVersion(buffer);
+    storage.markDirty(0, descriptor.length());
   }
 
   void resetLastEntryInDescriptor() {
@@ -289,6 +370,6 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
-    buffer.force(0, descriptor.length());
+    storage.flush(0, descriptor.length());
   }
 }
@@ -33,6 +33,7 @@ public final class SegmentFile {
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
+  private static final String INDEX_EXTENSION = "idx";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
   private Path fileMarkedForDeletion;
@@ -125,6 +126,38 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the file containing the persisted {@link SegmentIndex} of this segment.
+   *
+   * @return the segment index file
+   */
+  Path indexFile() {
+    return getIndexFile(file.toPath());
+  }
+
+  /** Returns the path of the persisted {@link SegmentIndex} of the given segment file. */
+  static Path getIndexFile(final Path segmentFile) {
+    return segmentFile.resolveSibling(
+        segmentFile.getFileName().toString() + EXTENSION_SEPARATOR + INDEX_EXTENSION);
+  }
+
+  /**
+   * Returns true if the given file name appears to be the persisted {@link SegmentIndex} of a
+   * segment of the given journal.
+   */
+  static boolean isSegmentIndexFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    final var indexExtension = EXTENSION_SEPARATOR + INDEX_EXTENSION;
+    if (!fileName.endsWith(indexExtension)) {
+      return false;
+    }
+
+    return isSegmentFile(
+        journalName, fileName.substring(0, fileName.length() - indexExtension.length()));
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
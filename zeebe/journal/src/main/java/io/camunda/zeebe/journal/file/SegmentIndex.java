@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.Arrays;
+
+/**
+ * The sparse index entries (index, position and asqn) of a single segment, sampled with the same
+ * density as the {@link JournalIndex}. It is maintained by the {@link SegmentWriter} so that, once
+ * the segment is sealed, it can be persisted next to it via {@link SegmentIndexFile} and used to
+ * restore the {@link JournalIndex} on the next start without scanning the segment.
+ *
+ * <p>The index is only worth persisting if it is complete, i.e. if the writer saw every entry of
+ * the segment; this is not the case when the writer jumped to the last entry of an existing
+ * segment.
+ *
+ * <p>Not thread safe; it's only accessed by the writer of the segment.
+ */
+final class SegmentIndex {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int density;
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int size;
+  private boolean complete = true;
+
+  SegmentIndex(final int density) {
+    this.density = density;
+  }
+
+  int density() {
+    return density;
+  }
+
+  int size() {
+    return size;
+  }
+
+  long index(final int entry) {
+    return indexes[entry];
+  }
+
+  int position(final int entry) {
+    return positions[entry];
+  }
+
+  long asqn(final int entry) {
+    return asqns[entry];
+  }
+
+  boolean isComplete() {
+    return complete;
+  }
+
+  void markIncomplete() {
+    complete = false;
+  }
+
+  /** Adds the given entry if it matches the density; entries must be added in order. */
+  void add(final long index, final int position, final long asqn) {
+    if (index % density != 0) {
+      return;
+    }
+
+    if (size == indexes.length) {
+      final int capacity = size * 2;
+      indexes = Arrays.copyOf(indexes, capacity);
+      positions = Arrays.copyOf(positions, capacity);
+      asqns = Arrays.copyOf(asqns, capacity);
+    }
+
+    indexes[size] = index;
+    positions[size] = position;
+    asqns[size] = asqn;
+    size++;
+  }
+
+  /** Removes all entries, after which the index is complete again, as it's empty. */
+  void clear() {
+    size = 0;
+    complete = true;
+  }
+
+  /** Adds all entries of this index to the given journal index. */
+  void copyTo(final JournalIndex journalIndex) {
+    for (int i = 0; i < size; i++) {
+      journalIndex.index(indexes[i], asqns[i], positions[i]);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads and writes the sidecar file of a sealed segment, which contains its {@link SegmentIndex}
+ * and the location of its last entry. The layout is, in little endian:
+ *
+ * <pre>
+ * int version | long segmentId | long firstIndex | long lastIndex | int lastPosition |
+ * long lastChecksum | long lastAsqn | int density | int count |
+ * count * (long index | int position | long asqn) |
+ * long checksum
+ * </pre>
+ *
+ * The trailing checksum is the CRC32C of everything before it. As the file is only an optimization,
+ * it is not flushed when written: a partially written file is detected via the checksum, and the
+ * segment is then scanned as if there were no file.
+ */
+final class SegmentIndexFile {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH =
+      Integer.BYTES + Long.BYTES * 3 + Integer.BYTES + Long.BYTES * 2 + Integer.BYTES * 2;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  static void write(final Path path, final PersistedSegmentIndex index) throws IOException {
+    final SegmentIndex entries = index.entries();
+    final int length = HEADER_LENGTH + entries.size() * ENTRY_LENGTH + CHECKSUM_LENGTH;
+    final ByteBuffer buffer = ByteBuffer.allocate(length).order(ENDIANNESS);
+
+    buffer
+        .putInt(VERSION)
+        .putLong(index.segmentId())
+        .putLong(index.firstIndex())
+        .putLong(index.lastIndex())
+        .putInt(index.lastPosition())
+        .putLong(index.lastChecksum())
+        .putLong(index.lastAsqn())
+        .putInt(entries.density())
+        .putInt(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      buffer.putLong(entries.index(i)).putInt(entries.position(i)).putLong(entries.asqn(i));
+    }
+    buffer.putLong(checksum(buffer, length - CHECKSUM_LENGTH));
+    buffer.flip();
+
+    try (final var channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  /**
+   * Maps and reads the given file, returning its content if it is valid for the given segment.
+   *
+   * @return the persisted index, or an empty optional if the file is corrupted or belongs to a
+   *     different segment
+   */
+  static Optional<PersistedSegmentIndex> read(
+      final Path path, final SegmentDescriptor descriptor, final int density) throws IOException {
+    final MappedByteBuffer buffer;
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    try {
+      buffer.order(ENDIANNESS);
+      return read(path, buffer, descriptor, density);
+    } finally {
+      IoUtil.unmap(buffer);
+    }
+  }
+
+  private static Optional<PersistedSegmentIndex> read(
+      final Path path,
+      final ByteBuffer buffer,
+      final SegmentDescriptor descriptor,
+      final int density) {
+    final int length = buffer.limit();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      LOG.debug("Ignoring segment index {}, as it is too short ({} bytes)", path, length);
+      return Optional.empty();
+    }
+
+    final long expectedChecksum = buffer.getLong(length - CHECKSUM_LENGTH);
+    if (checksum(buffer, length - CHECKSUM_LENGTH) != expectedChecksum) {
+      LOG.debug("Ignoring segment index {}, as its checksum does not match", path);
+      return Optional.empty();
+    }
+
+    final int version = buffer.getInt();
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final long lastChecksum = buffer.getLong();
+    final long lastAsqn = buffer.getLong();
+    final int persistedDensity = buffer.getInt();
+    final int count = buffer.getInt();
+
+    if (version != VERSION
+        || segmentId != descriptor.id()
+        || firstIndex != descriptor.index()
+        || persistedDensity != density
+        || count < 0
+        || length != HEADER_LENGTH + count * ENTRY_LENGTH + CHECKSUM_LENGTH) {
+      LOG.debug(
+          "Ignoring segment index {} (version {}, segment {}, first index {}, density {}), as it does not match segment {} (first index {}) with density {}",
+          path,
+          version,
+          segmentId,
+          firstIndex,
+          persistedDensity,
+          descriptor.id(),
+          descriptor.index(),
+          density);
+      return Optional.empty();
+    }
+
+    final SegmentIndex entries = new SegmentIndex(density);
+    for (int i = 0; i < count; i++) {
+      entries.add(buffer.getLong(), buffer.getInt(), buffer.getLong());
+    }
+
+    return Optional.of(
+        new PersistedSegmentIndex(
+            segmentId, firstIndex, lastIndex, lastPosition, lastChecksum, lastAsqn, entries));
+  }
+
+  private static long checksum(final ByteBuffer buffer, final int length) {
+    final CRC32C crc32 = new CRC32C();
+    crc32.update(buffer.duplicate().position(0).limit(length));
+    return crc32.getValue();
+  }
+
+  /**
+   * The content of a segment index file.
+   *
+   * @param segmentId the ID of the segment, as in its descriptor
+   * @param firstIndex the first index of the segment, as in its descriptor
+   * @param lastIndex the index of the last entry in the segment
+   * @param lastPosition the position of the last entry in the segment
+   * @param lastChecksum the checksum of the last entry in the segment
+   * @param lastAsqn the highest asqn in the segment, or {@link SegmentedJournal#ASQN_IGNORE}
+   * @param entries the sparse index entries of the segment
+   */
+  record PersistedSegmentIndex(
+      long segmentId,
+      long firstIndex,
+      long lastIndex,
+      int lastPosition,
+      long lastChecksum,
+      long lastAsqn,
+      SegmentIndex entries) {}
+}
@@ -9,18 +9,18 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.file.JournalMetrics.SegmentIndexLoadResult;
+import io.camunda.zeebe.journal.file.SegmentIndexFile.PersistedSegmentIndex;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +32,10 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  // the density of the persisted segment indexes, or 0 if they are not persisted
+  private final int persistedIndexDensity;
+  private final boolean lazyChecksumVerification;
+  private final SegmentStorageType storageType;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +43,45 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, 0);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final int persistedIndexDensity) {
+    this(minFreeDiskSpace, metrics, allocator, persistedIndexDensity, false);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final int persistedIndexDensity,
+      final boolean lazyChecksumVerification) {
+    this(
+        minFreeDiskSpace,
+        metrics,
+        allocator,
+        persistedIndexDensity,
+        lazyChecksumVerification,
+        SegmentStorageType.MAPPED);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final int persistedIndexDensity,
+      final boolean lazyChecksumVerification,
+      final SegmentStorageType storageType) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.persistedIndexDensity = persistedIndexDensity;
+    this.lazyChecksumVerification = lazyChecksumVerification;
+    this.storageType = storageType;
   }
 
   Segment createSegment(
@@ -49,19 +89,20 @@ final class SegmentLoader {
       final SegmentDescriptor descriptor,
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
-    final MappedByteBuffer mappedSegment;
+    final SegmentStorage storage;
 
     try {
-      mappedSegment = mapNewSegment(segmentFile, descriptor);
+      storage = openNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to create new segment file %s", segmentFile), e);
     }
 
     try {
-      descriptor.copyTo(mappedSegment);
-      mappedSegment.force();
-    } catch (final InternalError e) {
+      descriptor.copyTo(storage.buffer());
+      storage.flush(0, descriptor.length());
+    } catch (final InternalError | UncheckedIOException e) {
+      storage.close();
       throw new JournalException(
           String.format(
               "Failed to ensure durability of segment %s with descriptor %s, rolling back",
@@ -80,15 +121,15 @@ final class SegmentLoader {
           e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+    return loadSegment(segmentFile, storage, descriptor, lastWrittenAsqn, journalIndex, null);
   }
 
   UninitializedSegment createUninitializedSegment(
       final Path segmentFile, final SegmentDescriptor descriptor, final JournalIndex journalIndex) {
-    final MappedByteBuffer mappedSegment;
+    final SegmentStorage storage;
 
     try {
-      mappedSegment = mapNewSegment(segmentFile, descriptor);
+      storage = openNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to create new segment file %s", segmentFile), e);
@@ -108,26 +149,34 @@ final class SegmentLoader {
         new SegmentFile(segmentFile.toFile()),
         descriptor.id(),
         descriptor.maxSegmentSize(),
-        mappedSegment,
-        journalIndex);
+        storage,
+        journalIndex,
+        createSegmentIndex(),
+        lazyChecksumVerification);
   }
 
   Segment loadExistingSegment(
       final Path segmentFile, final long lastWrittenAsqn, final JournalIndex journalIndex) {
-    try (final var channel =
-        FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
-      MappedByteBuffer mappedSegment;
-      final var initialMappedLength = Files.size(segmentFile);
-      mappedSegment = mapSegment(channel, initialMappedLength);
-      final var descriptor = readDescriptor(mappedSegment, segmentFile.getFileName().toString());
-
-      if (descriptor.maxSegmentSize() > initialMappedLength) {
-        // remap with actual size
-        IoUtil.unmap(mappedSegment);
-        mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
+    try (final var ignored = metrics.observeSegmentLoad()) {
+      final var initialLength = Math.toIntExact(Files.size(segmentFile));
+      SegmentStorage storage = storageType.open(segmentFile, initialLength, ENDIANNESS);
+      final SegmentDescriptor descriptor;
+      try {
+        descriptor = readDescriptor(storage.buffer(), segmentFile.getFileName().toString());
+      } catch (final RuntimeException e) {
+        storage.close();
+        throw e;
       }
 
-      return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      if (descriptor.maxSegmentSize() > initialLength) {
+        // reopen with actual size
+        storage.close();
+        storage = storageType.open(segmentFile, descriptor.maxSegmentSize(), ENDIANNESS);
+      }
+
+      final var persistedIndex = readPersistedIndex(segmentFile, descriptor);
+      return loadSegment(
+          segmentFile, storage, descriptor, lastWrittenAsqn, journalIndex, persistedIndex);
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
@@ -137,20 +186,63 @@ final class SegmentLoader {
   /* ---- Internal methods ------ */
   private Segment loadSegment(
       final Path file,
-      final MappedByteBuffer buffer,
+      final SegmentStorage storage,
       final SegmentDescriptor descriptor,
       final long lastWrittenAsqn,
-      final JournalIndex journalIndex) {
+      final JournalIndex journalIndex,
+      final PersistedSegmentIndex persistedIndex) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile,
+        descriptor,
+        storage,
+        lastWrittenAsqn,
+        journalIndex,
+        metrics,
+        createSegmentIndex(),
+        persistedIndex,
+        lazyChecksumVerification);
   }
 
-  private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
-      throws IOException {
-    final var mappedSegment = channel.map(MapMode.READ_WRITE, 0, segmentSize);
-    mappedSegment.order(ENDIANNESS);
+  private SegmentIndex createSegmentIndex() {
+    return persistedIndexDensity > 0 ? new SegmentIndex(persistedIndexDensity) : null;
+  }
+
+  /**
+   * Reads the persisted index of the given segment, if any. An invalid index file is deleted, as it
+   * will never become valid again.
+   *
+   * @return the persisted index, or null if there is none or it's not valid
+   */
+  private PersistedSegmentIndex readPersistedIndex(
+      final Path segmentFile, final SegmentDescriptor descriptor) {
+    if (persistedIndexDensity <= 0) {
+      return null;
+    }
+
+    final var indexFile = SegmentFile.getIndexFile(segmentFile);
+    if (!Files.exists(indexFile)) {
+      metrics.observeSegmentIndexLoad(SegmentIndexLoadResult.MISSING);
+      return null;
+    }
+
+    try {
+      final var persistedIndex =
+          SegmentIndexFile.read(indexFile, descriptor, persistedIndexDensity);
+      if (persistedIndex.isPresent()) {
+        return persistedIndex.get();
+      }
+    } catch (final IOException e) {
+      LOGGER.debug("Failed to read persisted index {} of segment {}", indexFile, segmentFile, e);
+    }
 
-    return mappedSegment;
+    metrics.observeSegmentIndexLoad(SegmentIndexLoadResult.INVALID);
+    try {
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to delete invalid persisted index {}", indexFile, e);
+    }
+    return null;
   }
 
   private SegmentDescriptor readDescriptor(final ByteBuffer buffer, final String fileName) {
@@ -167,7 +259,7 @@ final class SegmentLoader {
     }
   }
 
-  private MappedByteBuffer mapNewSegment(final Path segmentPath, final SegmentDescriptor descriptor)
+  private SegmentStorage openNewSegment(final Path segmentPath, final SegmentDescriptor descriptor)
       throws IOException {
     final var maxSegmentSize = descriptor.maxSegmentSize();
 
@@ -180,15 +272,16 @@ final class SegmentLoader {
             StandardOpenOption.WRITE,
             StandardOpenOption.CREATE_NEW)) {
       allocateSegment(maxSegmentSize, channel);
-      return mapSegment(channel, maxSegmentSize);
     } catch (final FileAlreadyExistsException e) {
       LOGGER.warn(
           "Failed to create segment {}: an unused file already existed, and will be replaced",
           segmentPath,
           e);
       Files.delete(segmentPath);
-      return mapNewSegment(segmentPath, descriptor);
+      return openNewSegment(segmentPath, descriptor);
     }
+
+    return storageType.open(segmentPath, maxSegmentSize, ENDIANNESS);
   }
 
   private void checkDiskSpace(final Path segmentPath, final int maxSegmentSize) {
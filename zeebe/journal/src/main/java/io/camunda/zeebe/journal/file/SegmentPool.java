@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.file.JournalMetrics.SegmentPoolResult;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepares the next segments in the background, so that rolling over to a new segment doesn't have
+ * to allocate and map its file on the append path. Up to {@code size} segments are kept ready, each
+ * with the id following the previous one. If {@code prefault} is true, the pages of each prepared
+ * segment are also loaded into memory, to avoid page faults when first writing to it.
+ *
+ * <p>Rolling over is a hit if the next segment was ready, and a miss if it had to be waited for or
+ * created synchronously. This class is not thread safe, and is expected to be used by the journal
+ * writer only.
+ */
+final class SegmentPool implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentPool.class);
+
+  private final Deque<CompletableFuture<UninitializedSegment>> segments = new ArrayDeque<>();
+  private final int size;
+  private final boolean prefault;
+  private final LongFunction<UninitializedSegment> segmentFactory;
+  private final JournalMetrics metrics;
+  private long lastSegmentId;
+
+  SegmentPool(
+      final int size,
+      final boolean prefault,
+      final LongFunction<UninitializedSegment> segmentFactory,
+      final JournalMetrics metrics) {
+    if (size < 0) {
+      throw new IllegalArgumentException(
+          "Expected the segment pool size to be non-negative, but got %d".formatted(size));
+    }
+
+    this.size = size;
+    this.prefault = prefault;
+    this.segmentFactory = segmentFactory;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Starts preparing segments until the pool is full. New segments get ids after the given one, or
+   * after the last prepared one, whichever is higher.
+   *
+   * @param segmentId the id of the segment currently written to
+   */
+  void fill(final long segmentId) {
+    lastSegmentId = Math.max(lastSegmentId, segmentId);
+    while (segments.size() < size) {
+      final long nextSegmentId = ++lastSegmentId;
+      segments.add(CompletableFuture.supplyAsync(() -> prepare(nextSegmentId)));
+    }
+  }
+
+  /**
+   * Returns the next prepared segment, waiting for it if it's not ready yet.
+   *
+   * @return the next segment, or null if there is none or it failed to be prepared; the caller is
+   *     then expected to create the segment itself
+   */
+  UninitializedSegment acquire() {
+    final var nextSegment = segments.poll();
+    if (nextSegment == null) {
+      metrics.observeSegmentPoolAcquire(SegmentPoolResult.MISS);
+      return null;
+    }
+
+    final var result =
+        nextSegment.isDone() && !nextSegment.isCompletedExceptionally()
+            ? SegmentPoolResult.HIT
+            : SegmentPoolResult.MISS;
+    try {
+      final var segment = nextSegment.join();
+      metrics.observeSegmentPoolAcquire(result);
+      return segment;
+    } catch (final CompletionException e) {
+      LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
+      metrics.observeSegmentPoolAcquire(SegmentPoolResult.MISS);
+      return null;
+    }
+  }
+
+  @Override
+  public void close() {
+    for (final var segment : segments) {
+      try {
+        segment.join().storage().close();
+      } catch (final Exception e) {
+        LOG.warn(
+            "Next segment preparation failed during close, ignoring and proceeding to close", e);
+      }
+    }
+
+    segments.clear();
+  }
+
+  private UninitializedSegment prepare(final long segmentId) {
+    final var segment = segmentFactory.apply(segmentId);
+    if (prefault) {
+      segment.storage().load();
+    }
+
+    return segment;
+  }
+}
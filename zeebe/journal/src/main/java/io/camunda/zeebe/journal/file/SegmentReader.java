@@ -33,10 +33,17 @@ final class SegmentReader implements Iterator<JournalRecord> {
   private long currentIndex;
   private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
-
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  // may be null if checksums are verified on every read
+  private final VerifiedRegion verifiedRegion;
+
+  SegmentReader(
+      final ByteBuffer buffer,
+      final Segment segment,
+      final JournalIndex index,
+      final VerifiedRegion verifiedRegion) {
     this.index = index;
     this.segment = segment;
+    this.verifiedRegion = verifiedRegion;
     descriptorLength = segment.descriptor().length();
     recordReader = new JournalRecordReaderUtil(new SBESerializer());
     this.buffer = buffer;
@@ -61,10 +68,17 @@ final class SegmentReader implements Iterator<JournalRecord> {
       throw new NoSuchElementException();
     }
 
+    final int position = buffer.position();
+    final boolean verifyChecksum = verifiedRegion == null || !verifiedRegion.isVerified(position);
+
     // Read version so that buffer's position is advanced.
     FrameUtil.readVersion(buffer);
 
-    final var currentEntry = recordReader.read(buffer, getNextIndex());
+    final var currentEntry = recordReader.read(buffer, getNextIndex(), verifyChecksum);
+    if (verifyChecksum && verifiedRegion != null) {
+      verifiedRegion.onRecordVerified(position, buffer.position());
+    }
+
     // currentEntry should not be null as hasNext returns true
     currentIndex = currentEntry.index();
     return currentEntry;
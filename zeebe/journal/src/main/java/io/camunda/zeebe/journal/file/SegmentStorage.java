@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Holds the content of a segment file, exposed as a buffer which the segment's writer and readers
+ * access directly. Implementations decide how the buffer is backed by the file, and how changes to
+ * it are persisted.
+ *
+ * <p>Data appended by the writer is persisted with {@link #flush(int)}. Any other change, e.g. to
+ * the descriptor or when truncating, must be marked via {@link #markDirty(int, int)}, or persisted
+ * immediately via {@link #flush(int, int)}.
+ *
+ * <p>Flushing may happen concurrently to the writer modifying the buffer.
+ *
+ * @see SegmentStorageType
+ */
+interface SegmentStorage {
+
+  /**
+   * Returns the segment's content. The buffer's capacity is the segment's size. Its position, limit
+   * and mark belong to the writer; readers must use their own view of it.
+   *
+   * @return the segment's content
+   */
+  ByteBuffer buffer();
+
+  /**
+   * Marks the given region as modified outside of the append path, such that it's persisted with
+   * the next {@link #flush(int)}.
+   *
+   * @param offset the start of the modified region
+   * @param length the length of the modified region
+   */
+  void markDirty(int offset, int length);
+
+  /**
+   * Sets the position before which appended data is already persisted, e.g. once the writer found
+   * the last entry of a loaded segment. Until then, all data before the position passed to {@link
+   * #flush(int)} is considered to be appended.
+   *
+   * @param position the position after the last persisted entry
+   */
+  void setFlushedPosition(int position);
+
+  /**
+   * Persists all data appended since the last flush and before the given position, as well as the
+   * regions marked as dirty.
+   *
+   * @param position the position after the last appended entry
+   * @throws UncheckedIOException if the data could not be persisted
+   */
+  void flush(int position);
+
+  /**
+   * Persists the given region immediately.
+   *
+   * @param offset the start of the region
+   * @param length the length of the region
+   * @throws UncheckedIOException if the region could not be persisted
+   */
+  void flush(int offset, int length);
+
+  /** Loads the segment's content in memory, to avoid page faults when first accessing it. */
+  void load();
+
+  /**
+   * Releases the resources held by this storage. Data which wasn't persisted may be lost, and the
+   * buffer must not be accessed anymore. Closing a storage multiple times has no effect.
+   */
+  void close();
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+/** The available {@link SegmentStorage} implementations a {@link SegmentedJournal} can use. */
+public enum SegmentStorageType {
+  /** Memory mapped segment files; see {@link MappedSegmentStorage}. */
+  MAPPED,
+
+  /**
+   * Privately mapped segment files, whose changes are written with positional file channel writes,
+   * bypassing the page cache via {@code O_DIRECT} where available; see {@link
+   * FileChannelSegmentStorage}.
+   */
+  FILE_CHANNEL;
+
+  /**
+   * Opens the storage for the given segment file.
+   *
+   * @param file the segment file
+   * @param size the size of the segment
+   * @param order the byte order of the segment
+   * @return the storage of the segment
+   * @throws IOException if the file cannot be opened
+   */
+  SegmentStorage open(final Path file, final int size, final ByteOrder order) throws IOException {
+    return switch (this) {
+      case MAPPED -> MappedSegmentStorage.open(file, size, order);
+      case FILE_CHANNEL -> FileChannelSegmentStorage.open(file, size, order);
+    };
+  }
+}
@@ -24,6 +24,8 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalException.SegmentFull;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.JournalMetrics.SegmentIndexLoadResult;
+import io.camunda.zeebe.journal.file.SegmentIndexFile.PersistedSegmentIndex;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
@@ -34,7 +36,7 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
-import java.nio.MappedByteBuffer;
+import java.nio.ByteBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -45,7 +47,8 @@ final class SegmentWriter {
 
   private static final Logger LOG = LoggerFactory.getLogger(SegmentWriter.class);
 
-  private final MappedByteBuffer buffer;
+  private final SegmentStorage storage;
+  private final ByteBuffer buffer;
   private final Segment segment;
   private final JournalIndex index;
   private final long firstIndex;
@@ -59,25 +62,42 @@ final class SegmentWriter {
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
+  // may be null if the segment index is not persisted
+  private final SegmentIndex segmentIndex;
+  // may be null if checksums are verified on every read
+  private final VerifiedRegion verifiedRegion;
+  // the position after the last appended entry, read when flushing, possibly from another thread
+  private volatile int writtenPosition;
 
   SegmentWriter(
-      final MappedByteBuffer buffer,
+      final SegmentStorage storage,
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final SegmentIndex segmentIndex,
+      final PersistedSegmentIndex persistedIndex,
+      final VerifiedRegion verifiedRegion) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
     firstIndex = segment.index();
-    this.buffer = buffer;
+    this.storage = storage;
+    buffer = storage.buffer();
     writeBuffer.wrap(buffer);
     firstAsqn = lastWrittenAsqn + 1;
     lastAsqn = lastWrittenAsqn;
     lastEntryPosition = segment.descriptor().lastPosition();
     this.metrics = metrics;
-    if (lastEntryPosition > 0) {
+    this.segmentIndex = segmentIndex;
+    this.verifiedRegion = verifiedRegion;
+    if (persistedIndex != null && restoreFromPersistedIndex(persistedIndex)) {
+      LOG.trace(
+          "Restored index of segment {} with last index {} from its persisted index.",
+          segment.descriptor().id(),
+          persistedIndex.lastIndex());
+    } else if (lastEntryPosition > 0) {
       LOG.trace(
           "Found lastEntryPosition {} and lastIndex {} in descriptor.",
           lastEntryPosition,
@@ -90,6 +110,13 @@ final class SegmentWriter {
       // iterate over all entries
       reset(0, false);
     }
+
+    if (verifiedRegion != null) {
+      verifiedRegion.onWriterReset(buffer.position());
+    }
+
+    writtenPosition = buffer.position();
+    storage.setFlushedPosition(writtenPosition);
   }
 
   long getLastIndex() {
@@ -100,6 +127,11 @@ final class SegmentWriter {
     return lastEntryPosition;
   }
 
+  /** Returns the position after the last appended entry, up to which the segment can be flushed. */
+  int getWrittenPosition() {
+    return writtenPosition;
+  }
+
   long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -112,6 +144,25 @@ final class SegmentWriter {
     return lastAsqn;
   }
 
+  /**
+   * Returns the current segment index with the information about the last entry, or null if there
+   * is nothing to persist, i.e. the segment index is not complete or the segment is empty.
+   */
+  PersistedSegmentIndex getPersistableIndex() {
+    if (segmentIndex == null || !segmentIndex.isComplete() || lastEntry == null) {
+      return null;
+    }
+
+    return new PersistedSegmentIndex(
+        segment.id(),
+        firstIndex,
+        lastEntry.index(),
+        lastEntryPosition,
+        lastEntry.checksum(),
+        lastAsqn,
+        segmentIndex);
+  }
+
   // Used to append records received from a leader that are at version 8.2.x or older.
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     final var entryIndex = record.index();
@@ -246,6 +297,7 @@ final class SegmentWriter {
 
     final int appendedBytes = frameLength + metadataLength + recordLength;
     buffer.position(startPosition + appendedBytes);
+    writtenPosition = buffer.position();
     metrics.observeAppend(appendedBytes);
   }
 
@@ -265,10 +317,17 @@ final class SegmentWriter {
             new UnsafeBuffer(
                 writeBuffer, startPosition + frameLength + metadataLength, recordLength));
     updateLastAsqn(lastEntry.asqn());
-    index.index(lastEntry, startPosition);
+    indexEntry(startPosition);
     lastEntryPosition = startPosition;
   }
 
+  private void indexEntry(final int position) {
+    index.index(lastEntry, position);
+    if (segmentIndex != null) {
+      segmentIndex.add(lastEntry.index(), position, lastEntry.asqn());
+    }
+  }
+
   private void updateLastAsqn(final long asqn) {
     lastAsqn = asqn != ASQN_IGNORE ? asqn : lastAsqn;
   }
@@ -313,6 +372,10 @@ final class SegmentWriter {
       } else {
         // Here normally we expect to jump to last entry directly. But to handle the case where new
         // entries where written after descriptor was updated, iterate until the end.
+        if (segmentIndex != null) {
+          // the entries before the last one are skipped, so they won't be part of the index
+          segmentIndex.markIncomplete();
+        }
         long nextIndex = lastIndex;
         while (FrameUtil.hasValidVersion(buffer)) {
           advanceToNextEntry(nextIndex);
@@ -342,12 +405,68 @@ final class SegmentWriter {
     lastEntry = recordUtil.read(buffer, nextIndex);
     updateLastAsqn(lastEntry.asqn());
     lastEntryPosition = position;
-    index.index(lastEntry, position);
+    indexEntry(position);
+    buffer.mark();
+  }
+
+  /**
+   * Jumps to the last entry recorded in the persisted index, and restores the journal index from it
+   * if the entry is valid and is indeed the last one in the segment.
+   *
+   * @return true if the index was restored, false if the persisted index cannot be trusted
+   */
+  private boolean restoreFromPersistedIndex(final PersistedSegmentIndex persistedIndex) {
+    final boolean restored = tryRestoreFromPersistedIndex(persistedIndex);
+    metrics.observeSegmentIndexLoad(
+        restored ? SegmentIndexLoadResult.RESTORED : SegmentIndexLoadResult.INVALID);
+    return restored;
+  }
+
+  private boolean tryRestoreFromPersistedIndex(final PersistedSegmentIndex persistedIndex) {
+    final JournalRecord entry;
+    try {
+      buffer.position(persistedIndex.lastPosition());
+      if (!FrameUtil.hasValidVersion(buffer)) {
+        return false;
+      }
+
+      FrameUtil.readVersion(buffer);
+      entry = recordUtil.read(buffer, persistedIndex.lastIndex());
+    } catch (final Exception e) {
+      LOG.trace(
+          "Failed to read last entry at position {} from the persisted index of segment {}",
+          persistedIndex.lastPosition(),
+          segment.descriptor().id(),
+          e);
+      return false;
+    }
+
+    if (entry.checksum() != persistedIndex.lastChecksum() || FrameUtil.hasValidVersion(buffer)) {
+      // the segment was modified after its index was persisted
+      return false;
+    }
+
     buffer.mark();
+    lastEntry = entry;
+    lastEntryPosition = persistedIndex.lastPosition();
+    updateLastAsqn(persistedIndex.lastAsqn());
+
+    final var entries = persistedIndex.entries();
+    entries.copyTo(index);
+    if (segmentIndex != null) {
+      for (int i = 0; i < entries.size(); i++) {
+        segmentIndex.add(entries.index(i), entries.position(i), entries.asqn(i));
+      }
+    }
+
+    return true;
   }
 
   private void reset(final long index, final boolean detectCorruption) {
     long nextIndex = firstIndex;
+    if (segmentIndex != null) {
+      segmentIndex.clear();
+    }
 
     buffer.position(descriptorLength);
     buffer.mark();
@@ -368,6 +487,11 @@ final class SegmentWriter {
     } finally {
       buffer.reset();
     }
+
+    if (verifiedRegion != null) {
+      // every entry up to the current position was read, and thus verified, from the start
+      verifiedRegion.onSegmentScanned(buffer.position());
+    }
   }
 
   private void resetPartiallyWrittenEntry(final CorruptedJournalException e, final int position) {
@@ -388,12 +512,17 @@ final class SegmentWriter {
 
     // Reset the last entry.
     lastEntry = null;
+    final int previousPosition = buffer.position();
 
     // Truncate the index.
     this.index.deleteAfter(index);
     lastAsqn = firstAsqn - 1;
+    segment.deletePersistedIndex();
 
     if (index < segment.index()) {
+      if (segmentIndex != null) {
+        segmentIndex.clear();
+      }
       buffer.position(descriptorLength);
       invalidateNextEntry(descriptorLength);
     } else {
@@ -406,5 +535,13 @@ final class SegmentWriter {
       reset(index, true);
       invalidateNextEntry(buffer.position());
     }
+
+    if (verifiedRegion != null) {
+      verifiedRegion.onWriterReset(buffer.position());
+    }
+
+    // everything between the new and the previous end of the segment may have been invalidated
+    writtenPosition = buffer.position();
+    storage.markDirty(writtenPosition, previousPosition + FrameUtil.getLength() - writtenPosition);
   }
 }
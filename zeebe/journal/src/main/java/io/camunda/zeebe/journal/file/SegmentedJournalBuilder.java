@@ -32,6 +32,12 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final JournalIndexType DEFAULT_JOURNAL_INDEX_TYPE = JournalIndexType.SKIP_LIST;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final boolean DEFAULT_LAZY_CHECKSUM_VERIFICATION = false;
+  private static final int DEFAULT_SEGMENT_POOL_SIZE = 1;
+  private static final boolean DEFAULT_PREFAULT_SEGMENTS = false;
+  private static final SegmentStorageType DEFAULT_SEGMENT_STORAGE_TYPE = SegmentStorageType.MAPPED;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -42,7 +48,13 @@ public class SegmentedJournalBuilder {
 
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private JournalIndexType journalIndexType = DEFAULT_JOURNAL_INDEX_TYPE;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private boolean lazyChecksumVerification = DEFAULT_LAZY_CHECKSUM_VERIFICATION;
+  private int segmentPoolSize = DEFAULT_SEGMENT_POOL_SIZE;
+  private boolean prefaultSegments = DEFAULT_PREFAULT_SEGMENTS;
+  private SegmentStorageType segmentStorageType = DEFAULT_SEGMENT_STORAGE_TYPE;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -126,6 +138,47 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets which {@link JournalIndex} implementation is used. By default, this is {@link
+   * JournalIndexType#SKIP_LIST}.
+   *
+   * @param journalIndexType the type of index to use
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withJournalIndexType(final JournalIndexType journalIndexType) {
+    this.journalIndexType = checkNotNull(journalIndexType, "journalIndexType cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets whether the index of a segment is persisted next to it once the segment is full. On
+   * restart, the journal index is then restored from these files instead of scanning every segment,
+   * which speeds up opening large journals. Files which are missing, corrupted or outdated are
+   * ignored, and the segment is scanned as usual. Disabled by default.
+   *
+   * @param persistSegmentIndex true to persist segment indexes, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the checksum of a record is only verified the first time it's read, instead of on
+   * every read. Records appended by this journal are checksummed when written, so with this
+   * enabled, only records which were already on disk when the journal was opened are verified by
+   * readers, once. Disabled by default.
+   *
+   * @param lazyChecksumVerification true to verify checksums only once, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withLazyChecksumVerification(
+      final boolean lazyChecksumVerification) {
+    this.lazyChecksumVerification = lazyChecksumVerification;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -140,6 +193,46 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how many segments are prepared ahead of time in the background, i.e. created, allocated
+   * and mapped, so that rolling over to a new segment doesn't block appends. A size of 0 disables
+   * this, and segments are then created when needed. By default, one segment is prepared.
+   *
+   * @param segmentPoolSize the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code segmentPoolSize} is negative
+   */
+  public SegmentedJournalBuilder withSegmentPoolSize(final int segmentPoolSize) {
+    checkArgument(segmentPoolSize >= 0, "segmentPoolSize must be non-negative");
+    this.segmentPoolSize = segmentPoolSize;
+    return this;
+  }
+
+  /**
+   * Sets whether segments prepared ahead of time (see {@link #withSegmentPoolSize(int)}) are also
+   * loaded into memory, to avoid page faults when first writing to them. Disabled by default.
+   *
+   * @param prefaultSegments true to pre-fault prepared segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPrefaultSegments(final boolean prefaultSegments) {
+    this.prefaultSegments = prefaultSegments;
+    return this;
+  }
+
+  /**
+   * Sets how segments are read and written. By default, segment files are memory mapped; see {@link
+   * SegmentStorageType} for the alternatives.
+   *
+   * @param segmentStorageType the storage type of the segments
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentStorageType(
+      final SegmentStorageType segmentStorageType) {
+    this.segmentStorageType = checkNotNull(segmentStorageType, "segmentStorageType cannot be null");
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -162,11 +255,18 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final var journalIndex = journalIndexType.createIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(
+            freeDiskSpace,
+            journalMetrics,
+            segmentAllocator,
+            persistSegmentIndex ? journalIndexDensity : 0,
+            lazyChecksumVerification,
+            segmentStorageType);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -175,7 +275,9 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            segmentPoolSize,
+            prefaultSegments);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
@@ -29,8 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,7 +44,6 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +52,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final SegmentPool segmentPool;
 
   private volatile Segment currentSegment;
 
@@ -66,6 +64,28 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        1,
+        false);
+  }
+
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final int segmentPoolSize,
+      final boolean prefaultSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +93,9 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    segmentPool =
+        new SegmentPool(
+            segmentPoolSize, prefaultSegments, this::createUninitializedSegment, journalMetrics);
   }
 
   @Override
@@ -85,16 +108,7 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
-      try {
-        nextSegment.join();
-      } catch (final Exception e) {
-        LOG.warn(
-            "Next segment preparation failed during close, ignoring and proceeding to close", e);
-      }
-      nextSegment = null;
-    }
-
+    segmentPool.close();
     currentSegment = null;
   }
 
@@ -119,6 +133,14 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    try (final var ignored = journalMetrics.observeSegmentRoll()) {
+      return rollSegment();
+    }
+  }
+
+  private Segment rollSegment() {
+    // the current segment is sealed from now on, so its index can be persisted once it's flushed
+    currentSegment.seal();
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -129,19 +151,14 @@ final class SegmentsManager implements AutoCloseable {
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
-    if (nextSegment != null) {
-      try {
-        currentSegment =
-            nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
-      } catch (final CompletionException e) {
-        LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
-        currentSegment = createSegment(descriptor, lastWrittenAsqn);
-      }
+    final var preparedSegment = segmentPool.acquire();
+    if (preparedSegment != null) {
+      currentSegment =
+          preparedSegment.initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
     } else {
       currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    segmentPool.fill(currentSegment.id());
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
@@ -266,6 +283,8 @@ final class SegmentsManager implements AutoCloseable {
   private void resetCurrentSegment() {
     final Segment lastSegment = getLastSegment();
     if (lastSegment != null) {
+      // the segment will be written to again, so its persisted index will soon be outdated
+      lastSegment.deletePersistedIndex();
       currentSegment = lastSegment;
     } else {
       final SegmentDescriptor descriptor =
@@ -294,6 +313,8 @@ final class SegmentsManager implements AutoCloseable {
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
       currentSegment = segments.lastEntry().getValue();
+      // the segment will be written to again, so its persisted index will soon be outdated
+      currentSegment.deletePersistedIndex();
     } else {
       final SegmentDescriptor descriptor =
           SegmentDescriptor.builder()
@@ -316,16 +337,6 @@ final class SegmentsManager implements AutoCloseable {
     deleteDeferredFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
-  }
-
   Collection<Segment> getTailSegments(final long index) {
     final var segment = getSegment(index);
     if (segment == null) {
@@ -335,7 +346,13 @@ final class SegmentsManager implements AutoCloseable {
     return Collections.unmodifiableSortedMap(segments.tailMap(segment.index(), true)).values();
   }
 
-  private UninitializedSegment createUninitializedSegment(final SegmentDescriptor descriptor) {
+  private UninitializedSegment createUninitializedSegment(final long segmentId) {
+    final var descriptor =
+        SegmentDescriptor.builder()
+            .withId(segmentId)
+            .withIndex(INITIAL_INDEX)
+            .withMaxSegmentSize(maxSegmentSize)
+            .build();
     final var segmentFile = SegmentFile.createSegmentFile(name, directory, descriptor.id());
     return segmentLoader.createUninitializedSegment(segmentFile.toPath(), descriptor, journalIndex);
   }
@@ -444,6 +461,7 @@ final class SegmentsManager implements AutoCloseable {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        Files.deleteIfExists(SegmentFile.getIndexFile(file.toPath()));
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -474,7 +492,9 @@ final class SegmentsManager implements AutoCloseable {
     try (final DirectoryStream<Path> segmentsToDelete =
         Files.newDirectoryStream(
             directory.toPath(),
-            path -> SegmentFile.isDeletedSegmentFile(name, path.getFileName().toString()))) {
+            path ->
+                SegmentFile.isDeletedSegmentFile(name, path.getFileName().toString())
+                    || isOrphanedSegmentIndexFile(path))) {
       segmentsToDelete.forEach(this::deleteDeferredFile);
     } catch (final IOException e) {
       LOG.warn(
@@ -484,6 +504,13 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  /** Index files are orphaned if their segment was deleted, e.g. if we crashed while deleting it */
+  private boolean isOrphanedSegmentIndexFile(final Path path) {
+    final var fileName = path.getFileName().toString();
+    return SegmentFile.isSegmentIndexFile(name, fileName)
+        && !Files.exists(path.resolveSibling(fileName.substring(0, fileName.lastIndexOf('.'))));
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
@@ -0,0 +1,343 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Arrays;
+
+/**
+ * A {@link JournalIndex} with the same sparse semantics as {@link SparseJournalIndex}, but which
+ * stores its entries in sorted runs of primitive arrays instead of skip lists. Indexing an entry
+ * does not allocate unless a run has to grow, and lookups are two binary searches: one over the
+ * runs, one within the run.
+ *
+ * <p>Mutations are serialized, as the writer and the readers (which index entries while seeking)
+ * may all modify the index. Lookups never block: they read the currently published runs, whose
+ * published slots are never overwritten. Appends write past the published tail of the last run and
+ * then publish the new tail; every other modification which would overwrite a slot (truncation,
+ * out-of-order inserts, growing) publishes a copy of the affected run only.
+ */
+final class SortedArrayJournalIndex implements JournalIndex {
+  private static final int INITIAL_RUN_CAPACITY = 64;
+  private static final int MAX_RUN_CAPACITY = 1024;
+
+  private final int density;
+
+  // index -> position
+  private final Runs positions = new Runs();
+  // index -> asqn; both columns are sorted, since the asqn grows monotonically with the index
+  private final Runs asqns = new Runs();
+
+  SortedArrayJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord indexedEntry, final int position) {
+    index(indexedEntry.index(), indexedEntry.asqn(), position);
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density == 0) {
+      add(index, asqn, position);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final Run[] runs = positions.runs;
+    final int runIndex = findRun(runs, index, true);
+    if (runIndex < 0) {
+      return null;
+    }
+
+    final Run run = runs[runIndex];
+    final int head = run.head;
+    final int slot = floor(run.keys, head, run.tail, index);
+    return slot >= head ? new IndexInfo(run.keys[slot], (int) run.values[slot]) : null;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final Run[] runs = asqns.runs;
+    int runIndex = findRun(runs, asqn, false);
+    if (runIndex < 0) {
+      return null;
+    }
+
+    Run run = runs[runIndex];
+    int head = run.head;
+    int slot = floor(run.values, head, run.tail, asqn);
+    if (slot < head) {
+      return null;
+    } else if (run.keys[slot] <= indexUpperBound) {
+      return run.keys[slot];
+    }
+
+    runIndex = findRun(runs, indexUpperBound, true);
+    if (runIndex < 0) {
+      return null;
+    }
+
+    run = runs[runIndex];
+    head = run.head;
+    slot = floor(run.keys, head, run.tail, indexUpperBound);
+    return slot >= head ? run.keys[slot] : null;
+  }
+
+  @Override
+  public synchronized void deleteAfter(final long indexExclusive) {
+    positions.truncateAfter(indexExclusive);
+    asqns.truncateAfter(indexExclusive);
+  }
+
+  @Override
+  public synchronized void deleteUntil(final long indexExclusive) {
+    positions.compactUntil(indexExclusive, false);
+    // keep the asqn entry at or before the given index, so asqn lookups can still resolve to it
+    asqns.compactUntil(indexExclusive, true);
+  }
+
+  @Override
+  public synchronized void clear() {
+    positions.runs = Runs.EMPTY;
+    asqns.runs = Runs.EMPTY;
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final Run[] runs = positions.runs;
+    final int runIndex = findRun(runs, index, true);
+    if (runIndex < 0) {
+      return false;
+    }
+
+    final Run run = runs[runIndex];
+    final int head = run.head;
+    final int slot = floor(run.keys, head, run.tail, index);
+    return slot >= head && run.keys[slot] > index - density;
+  }
+
+  private synchronized void add(final long index, final long asqn, final int position) {
+    positions.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      asqns.put(index, asqn);
+    }
+  }
+
+  /**
+   * Returns the position of the last run whose first key (or value) is less than or equal to the
+   * given one, or -1 if there is none. The first slot of a run is never modified, even if the run
+   * is compacted, so it's safe to use as a separator between runs.
+   */
+  private static int findRun(final Run[] runs, final long key, final boolean byKey) {
+    int low = 0;
+    int high = runs.length - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long first = byKey ? runs[mid].keys[0] : runs[mid].values[0];
+      if (first <= key) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return high;
+  }
+
+  /** Returns the slot of the greatest element less than or equal to the given key, or from - 1 */
+  private static int floor(final long[] array, final int from, final int to, final long key) {
+    final int found = Arrays.binarySearch(array, from, to, key);
+    return found >= 0 ? found : -(found + 1) - 1;
+  }
+
+  /** The sorted runs of one mapping; the published array is replaced, never modified. */
+  private static final class Runs {
+    private static final Run[] EMPTY = new Run[0];
+
+    private volatile Run[] runs = EMPTY;
+
+    private void put(final long key, final long value) {
+      final Run[] current = runs;
+      if (current.length == 0) {
+        runs = new Run[] {Run.of(INITIAL_RUN_CAPACITY, key, value)};
+        return;
+      }
+
+      final int lastIndex = current.length - 1;
+      final Run last = current[lastIndex];
+      final int tail = last.tail;
+      if (key > last.keys[tail - 1]) {
+        if (tail < last.keys.length) {
+          last.append(key, value);
+        } else if (last.keys.length < MAX_RUN_CAPACITY) {
+          final Run grown =
+              last.copy(last.head, tail, Math.min(last.keys.length * 2, MAX_RUN_CAPACITY));
+          grown.append(key, value);
+          runs = replace(current, lastIndex, grown);
+        } else {
+          final Run[] appended = Arrays.copyOf(current, current.length + 1);
+          appended[current.length] = Run.of(INITIAL_RUN_CAPACITY, key, value);
+          runs = appended;
+        }
+      } else {
+        insert(current, key, value);
+      }
+    }
+
+    private void insert(final Run[] current, final long key, final long value) {
+      final int runIndex = Math.max(findRun(current, key, true), 0);
+      final Run run = current[runIndex];
+      final int head = run.head;
+      final int tail = run.tail;
+      final int found = Arrays.binarySearch(run.keys, head, tail, key);
+      if (found >= 0 && run.values[found] == value) {
+        // entries are often re-indexed by readers while seeking; nothing to do
+        return;
+      }
+
+      final int slot = found >= 0 ? found : -(found + 1);
+      final int replaced = found >= 0 ? 1 : 0;
+      final int size = tail - head - replaced + 1;
+      final Run copy = new Run(capacityFor(size));
+      final int before = slot - head;
+      final int after = tail - slot - replaced;
+      System.arraycopy(run.keys, head, copy.keys, 0, before);
+      System.arraycopy(run.values, head, copy.values, 0, before);
+      copy.keys[before] = key;
+      copy.values[before] = value;
+      System.arraycopy(run.keys, slot + replaced, copy.keys, before + 1, after);
+      System.arraycopy(run.values, slot + replaced, copy.values, before + 1, after);
+      copy.tail = size;
+
+      if (size <= MAX_RUN_CAPACITY) {
+        runs = replace(current, runIndex, copy);
+      } else {
+        final int half = size / 2;
+        final Run[] split = new Run[current.length + 1];
+        System.arraycopy(current, 0, split, 0, runIndex);
+        split[runIndex] = copy.copy(0, half, half);
+        split[runIndex + 1] = copy.copy(half, size, size - half);
+        System.arraycopy(current, runIndex + 1, split, runIndex + 2, current.length - runIndex - 1);
+        runs = split;
+      }
+    }
+
+    private void truncateAfter(final long key) {
+      final Run[] current = runs;
+      final int runIndex = findRun(current, key, true);
+      if (runIndex < 0) {
+        runs = EMPTY;
+        return;
+      }
+
+      final Run run = current[runIndex];
+      final int head = run.head;
+      final int tail = run.tail;
+      final int slot = floor(run.keys, head, tail, key);
+      if (slot < head) {
+        runs = Arrays.copyOf(current, runIndex);
+      } else if (slot == tail - 1) {
+        if (runIndex < current.length - 1) {
+          runs = Arrays.copyOf(current, runIndex + 1);
+        }
+      } else {
+        final Run[] truncated = Arrays.copyOf(current, runIndex + 1);
+        truncated[runIndex] = run.copy(head, slot + 1, run.keys.length);
+        runs = truncated;
+      }
+    }
+
+    /**
+     * Removes every entry with a key lower than the given one. If {@code keepFloor} is true, the
+     * entry at or right before the given key is kept as well.
+     */
+    private void compactUntil(final long key, final boolean keepFloor) {
+      final Run[] current = runs;
+      final int runIndex = findRun(current, key, true);
+      if (runIndex < 0) {
+        return;
+      }
+
+      final Run run = current[runIndex];
+      final int head = run.head;
+      final int tail = run.tail;
+      final int floor = floor(run.keys, head, tail, key);
+      final int slot;
+      if (keepFloor) {
+        slot = Math.max(floor, head);
+      } else {
+        slot = floor >= head && run.keys[floor] == key ? floor : floor + 1;
+      }
+
+      if (slot >= tail) {
+        runs = Arrays.copyOfRange(current, runIndex + 1, current.length);
+      } else {
+        run.head = slot;
+        if (runIndex > 0) {
+          runs = Arrays.copyOfRange(current, runIndex, current.length);
+        }
+      }
+    }
+
+    private static Run[] replace(final Run[] current, final int index, final Run run) {
+      final Run[] replaced = current.clone();
+      replaced[index] = run;
+      return replaced;
+    }
+
+    private static int capacityFor(final int size) {
+      return Math.max(INITIAL_RUN_CAPACITY, Integer.highestOneBit(size - 1) << 1);
+    }
+  }
+
+  /**
+   * A sorted run of key/value pairs, whose live entries are the slots in [head, tail). Slots below
+   * the tail are immutable once published, so a reader which reads {@code head} and then {@code
+   * tail} always sees a consistent range.
+   */
+  private static final class Run {
+    private final long[] keys;
+    private final long[] values;
+    private volatile int head;
+    private volatile int tail;
+
+    private Run(final int capacity) {
+      keys = new long[capacity];
+      values = new long[capacity];
+    }
+
+    private static Run of(final int capacity, final long key, final long value) {
+      final Run run = new Run(capacity);
+      run.append(key, value);
+      return run;
+    }
+
+    private void append(final long key, final long value) {
+      final int slot = tail;
+      keys[slot] = key;
+      values[slot] = value;
+      tail = slot + 1;
+    }
+
+    private Run copy(final int from, final int to, final int capacity) {
+      final Run copy = new Run(Math.max(capacity, INITIAL_RUN_CAPACITY));
+      System.arraycopy(keys, from, copy.keys, 0, to - from);
+      System.arraycopy(values, from, copy.values, 0, to - from);
+      copy.tail = to - from;
+      return copy;
+    }
+  }
+}
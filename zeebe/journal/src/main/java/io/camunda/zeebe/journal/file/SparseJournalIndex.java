@@ -36,10 +36,13 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public void index(final JournalRecord indexedEntry, final int position) {
-    final long index = indexedEntry.index();
+    index(indexedEntry.index(), indexedEntry.asqn(), position);
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
     if (index % density == 0) {
       indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
         asqnToIndex.put(asqn, index);
         indexToAsqn.put(index, asqn);
@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.journal.file;
 
-import java.nio.MappedByteBuffer;
-
 /**
  * Holds a normal segment file that hasn't been written to and that has no {@link
  * SegmentDescriptor}.
@@ -17,8 +15,10 @@ public record UninitializedSegment(
     SegmentFile file,
     long segmentId,
     int maxSegmentSize,
-    MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    SegmentStorage storage,
+    JournalIndex journalIndex,
+    SegmentIndex segmentIndex,
+    boolean lazyChecksumVerification) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -32,7 +32,17 @@ public record UninitializedSegment(
             .withIndex(index)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
-    updatedDescriptor.copyTo(buffer);
-    return new Segment(file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    updatedDescriptor.copyTo(storage.buffer());
+    storage.markDirty(0, updatedDescriptor.length());
+    return new Segment(
+        file,
+        updatedDescriptor,
+        storage,
+        lastWrittenAsqn,
+        journalIndex,
+        metrics,
+        segmentIndex,
+        null,
+        lazyChecksumVerification);
   }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks which records of a segment had their checksum verified, so readers only need to verify
+ * each record once. Records appended by the writer are checksummed when written, including the ones
+ * replicated from another node, so only the records which were already in the segment when it was
+ * loaded (e.g. after a restart) need to be verified when read.
+ *
+ * <p>The verified records are tracked as a single region starting at the first record of the
+ * segment, which only grows when the record right after it is verified. Records read out of order
+ * are thus verified again until the region catches up with them.
+ *
+ * <p>This class is thread safe: the region is updated by the writer and by concurrent readers.
+ */
+final class VerifiedRegion {
+
+  // the end of the contiguous region of verified records, starting at the first record
+  private final AtomicInteger verifiedPosition;
+  // records starting at or after this position were written since the segment was loaded; only
+  // updated by the writer
+  private volatile int loadedPosition = Integer.MAX_VALUE;
+
+  VerifiedRegion(final int firstPosition) {
+    verifiedPosition = new AtomicInteger(firstPosition);
+  }
+
+  /**
+   * Returns true if the record starting at the given position does not need to be verified, i.e. it
+   * was either verified before, or written after the segment was loaded.
+   */
+  boolean isVerified(final int position) {
+    return position < verifiedPosition.get() || position >= loadedPosition;
+  }
+
+  /**
+   * Marks the record between the given positions as verified. This only has an effect if the record
+   * is the next one after the verified region.
+   */
+  void onRecordVerified(final int position, final int nextPosition) {
+    verifiedPosition.compareAndSet(position, nextPosition);
+  }
+
+  /** Marks all records before the given position as verified, e.g. after scanning the segment. */
+  void onSegmentScanned(final int nextPosition) {
+    verifiedPosition.accumulateAndGet(nextPosition, Math::max);
+  }
+
+  /**
+   * Marks the given position as the end of the records which were written before the segment was
+   * loaded, or which remain after truncating it. Everything written from there on is written by
+   * this process, so it's known to be valid.
+   */
+  void onWriterReset(final int nextPosition) {
+    loadedPosition = Math.min(loadedPosition, nextPosition);
+  }
+}
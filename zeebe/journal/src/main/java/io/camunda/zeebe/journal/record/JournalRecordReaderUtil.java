@@ -29,6 +29,18 @@ public final class JournalRecordReaderUtil {
    * position of {@code buffer} will be advanced to the next record.
    */
   public JournalRecord read(final ByteBuffer buffer, final long expectedIndex) {
+    return read(buffer, expectedIndex, true);
+  }
+
+  /**
+   * Reads the JournalRecord in the buffer at the current position. After the methods returns, the
+   * position of {@code buffer} will be advanced to the next record.
+   *
+   * @param verifyChecksum if false, the record's checksum is not verified; only use this for
+   *     records which were already verified before
+   */
+  public JournalRecord read(
+      final ByteBuffer buffer, final long expectedIndex, final boolean verifyChecksum) {
     // Mark the buffer so it can be reset if necessary.
     buffer.mark();
 
@@ -55,15 +67,8 @@ public final class JournalRecordReaderUtil {
               buffer.position(), metadata));
     }
 
-    // verify checksum
-    final long checksum =
-        checksumGenerator.compute(buffer, startPosition + metadataLength, recordLength);
-
-    if (checksum != metadata.checksum()) {
-      buffer.reset();
-      throw new CorruptedJournalException(
-          "Record's checksum (%d) doesn't match checksum stored in metadata (%d)."
-              .formatted(checksum, metadata.checksum()));
+    if (verifyChecksum) {
+      verifyChecksum(buffer, startPosition + metadataLength, recordLength, metadata);
     }
 
     // Read record
@@ -80,4 +85,19 @@ public final class JournalRecordReaderUtil {
     return new PersistedJournalRecord(
         metadata, record, new UnsafeBuffer(buffer, startPosition + metadataLength, recordLength));
   }
+
+  private void verifyChecksum(
+      final ByteBuffer buffer,
+      final int offset,
+      final int recordLength,
+      final RecordMetadata metadata) {
+    final long checksum = checksumGenerator.compute(buffer, offset, recordLength);
+
+    if (checksum != metadata.checksum()) {
+      buffer.reset();
+      throw new CorruptedJournalException(
+          "Record's checksum (%d) doesn't match checksum stored in metadata (%d)."
+              .formatted(checksum, metadata.checksum()));
+    }
+  }
 }
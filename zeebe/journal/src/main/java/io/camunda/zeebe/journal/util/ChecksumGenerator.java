@@ -10,15 +10,35 @@ package io.camunda.zeebe.journal.util;
 import java.nio.ByteBuffer;
 import java.util.zip.CRC32C;
 
+/**
+ * Computes CRC32C checksums over regions of a {@link ByteBuffer}. For direct (e.g. mapped) buffers,
+ * the checksum is computed straight from the buffer's memory using the JDK's intrinsic CRC32C
+ * implementation.
+ *
+ * <p>Computing a checksum does not allocate: a single view of the last checksummed buffer is kept
+ * and reused, so a view is only created when switching to another buffer. The given buffer's
+ * position, limit and mark are never modified.
+ *
+ * <p>This class is not thread safe.
+ */
 public final class ChecksumGenerator {
 
   private final CRC32C crc32 = new CRC32C();
 
+  private ByteBuffer source;
+  private ByteBuffer view;
+
   /** Compute checksum of given ByteBuffer */
   public long compute(final ByteBuffer buffer, final int offset, final int length) {
-    final var slice = buffer.asReadOnlyBuffer().position(offset).slice();
+    if (buffer != source) {
+      source = buffer;
+      view = buffer.duplicate();
+    }
+
+    // clear first, as the new limit may be lower than the view's current position
+    view.clear().limit(offset + length).position(offset);
     crc32.reset();
-    crc32.update(slice.limit(length));
+    crc32.update(view);
     return crc32.getValue();
   }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FileChannelSegmentStorageTest {
+  private static final int SIZE = 1024 * 1024;
+
+  private @TempDir Path directory;
+  private Path file;
+  private FileChannelSegmentStorage storage;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    file = directory.resolve("segment");
+    Files.write(file, new byte[SIZE]);
+    storage = FileChannelSegmentStorage.open(file, SIZE, ByteOrder.LITTLE_ENDIAN);
+  }
+
+  @AfterEach
+  void afterEach() {
+    storage.close();
+  }
+
+  @Test
+  void shouldPersistAppendedDataOnFlush() throws IOException {
+    // given
+    storage.setFlushedPosition(128);
+    storage.buffer().putLong(10_000, 0xCAFEL);
+
+    // when
+    storage.flush(10_008);
+
+    // then
+    assertThat(readPersisted().getLong(10_000)).isEqualTo(0xCAFEL);
+  }
+
+  @Test
+  void shouldNotPersistDataBeforeFlush() throws IOException {
+    // when
+    storage.buffer().putLong(10_000, 0xCAFEL);
+
+    // then
+    assertThat(readPersisted().getLong(10_000)).isZero();
+  }
+
+  @Test
+  void shouldPersistDirtyRegionsBeforeFlushedPosition() throws IOException {
+    // given
+    storage.setFlushedPosition(40_000);
+    storage.buffer().putLong(0, 0xCAFEL);
+    storage.buffer().putLong(20_000, 0xBEEFL);
+
+    // when
+    storage.markDirty(0, Long.BYTES);
+    storage.markDirty(20_000, Long.BYTES);
+    storage.flush(40_000);
+
+    // then
+    final var persisted = readPersisted();
+    assertThat(persisted.getLong(0)).isEqualTo(0xCAFEL);
+    assertThat(persisted.getLong(20_000)).isEqualTo(0xBEEFL);
+  }
+
+  @Test
+  void shouldPersistRegionImmediately() throws IOException {
+    // given
+    storage.buffer().putLong(30_000, 0xCAFEL);
+
+    // when
+    storage.flush(30_000, Long.BYTES);
+
+    // then
+    assertThat(readPersisted().getLong(30_000)).isEqualTo(0xCAFEL);
+  }
+
+  @Test
+  void shouldPersistRegionLargerThanWriteBuffer() throws IOException {
+    // given
+    storage.buffer().putLong(0, 0xCAFEL);
+    storage.buffer().putLong(SIZE - Long.BYTES, 0xBEEFL);
+
+    // when
+    storage.flush(0, SIZE);
+
+    // then
+    final var persisted = readPersisted();
+    assertThat(persisted.getLong(0)).isEqualTo(0xCAFEL);
+    assertThat(persisted.getLong(SIZE - Long.BYTES)).isEqualTo(0xBEEFL);
+  }
+
+  @Test
+  void shouldReadExistingContentOnOpen() throws IOException {
+    // given
+    storage.buffer().putLong(50_000, 0xCAFEL);
+    storage.flush(50_000, Long.BYTES);
+    storage.close();
+
+    // when
+    storage = FileChannelSegmentStorage.open(file, SIZE, ByteOrder.LITTLE_ENDIAN);
+
+    // then
+    assertThat(storage.buffer().getLong(50_000)).isEqualTo(0xCAFEL);
+  }
+
+  @Test
+  void shouldFailToFlushAfterClose() {
+    // given
+    storage.close();
+
+    // when - then
+    assertThatThrownBy(() -> storage.flush(SIZE / 2)).isInstanceOf(UncheckedIOException.class);
+  }
+
+  private ByteBuffer readPersisted() throws IOException {
+    return ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares the {@link JournalIndex} implementations. The index is pre-filled with {@link
+ * #ENTRY_COUNT} records at the default density before every iteration. Run the tests below to also
+ * get the allocation rates (via the GC profiler) of each benchmark.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final int DENSITY = 100;
+  private static final int ENTRY_COUNT = 1_000_000;
+  private static final int TRUNCATED_COUNT = 10 * DENSITY;
+  private static final int LOOKUP_COUNT = 1 << 16;
+
+  // the ops/s of the SKIP_LIST index, which the SORTED_ARRAY index is expected to match or beat;
+  // when running this test locally, you're likely to have different scores
+  private static final double APPEND_REFERENCE_SCORE = 70_000_000;
+  private static final double LOOKUP_REFERENCE_SCORE = 2_300_000;
+  private static final double LOOKUP_ASQN_REFERENCE_SCORE = 2_300_000;
+  private static final double DELETE_AFTER_REFERENCE_SCORE = 47_000;
+  private static final double DELETE_UNTIL_REFERENCE_SCORE = 400_000;
+
+  @Param({"SKIP_LIST", "SORTED_ARRAY"})
+  public JournalIndexType indexType;
+
+  private final MutableRecord record = new MutableRecord();
+  private final long[] lookups = new long[LOOKUP_COUNT];
+  private JournalIndex index;
+  private long firstIndex;
+  private long nextIndex;
+  private int lookupCursor;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    index = indexType.createIndex(DENSITY);
+    firstIndex = 1;
+    nextIndex = 1;
+    while (nextIndex <= ENTRY_COUNT) {
+      append();
+    }
+
+    final var random = ThreadLocalRandom.current();
+    for (int i = 0; i < LOOKUP_COUNT; i++) {
+      lookups[i] = random.nextLong(firstIndex, nextIndex);
+    }
+  }
+
+  @Benchmark
+  public long measureAppend() {
+    return append();
+  }
+
+  @Benchmark
+  public IndexInfo measureLookup() {
+    return index.lookup(nextLookup());
+  }
+
+  @Benchmark
+  public Long measureLookupAsqn() {
+    // records are appended with asqn == index
+    return index.lookupAsqn(nextLookup());
+  }
+
+  @Benchmark
+  public long measureDeleteAfter() {
+    // truncate the tail and append it again, leaving the index as it was
+    final long lastIndex = nextIndex - 1;
+    index.deleteAfter(lastIndex - TRUNCATED_COUNT);
+    nextIndex = lastIndex - TRUNCATED_COUNT + 1;
+    while (nextIndex <= lastIndex) {
+      append();
+    }
+
+    return nextIndex;
+  }
+
+  @Benchmark
+  public long measureDeleteUntil() {
+    // slide the window by one indexed entry, keeping the index size constant
+    for (int i = 0; i < DENSITY; i++) {
+      append();
+    }
+
+    firstIndex += DENSITY;
+    index.deleteUntil(firstIndex);
+    return firstIndex;
+  }
+
+  @JMHTest("measureAppend")
+  void shouldMeasureAppend(final JMHTestCase testCase) {
+    assertSortedArrayIndexIsAtLeast(testCase, APPEND_REFERENCE_SCORE);
+  }
+
+  @JMHTest("measureLookup")
+  void shouldMeasureLookup(final JMHTestCase testCase) {
+    assertSortedArrayIndexIsAtLeast(testCase, LOOKUP_REFERENCE_SCORE);
+  }
+
+  @JMHTest("measureLookupAsqn")
+  void shouldMeasureLookupAsqn(final JMHTestCase testCase) {
+    assertSortedArrayIndexIsAtLeast(testCase, LOOKUP_ASQN_REFERENCE_SCORE);
+  }
+
+  @JMHTest("measureDeleteAfter")
+  void shouldMeasureDeleteAfter(final JMHTestCase testCase) {
+    assertSortedArrayIndexIsAtLeast(testCase, DELETE_AFTER_REFERENCE_SCORE);
+  }
+
+  @JMHTest("measureDeleteUntil")
+  void shouldMeasureDeleteUntil(final JMHTestCase testCase) {
+    assertSortedArrayIndexIsAtLeast(testCase, DELETE_UNTIL_REFERENCE_SCORE);
+  }
+
+  private void assertSortedArrayIndexIsAtLeast(
+      final JMHTestCase testCase, final double referenceScore) {
+    // given - the GC profiler reports the allocation rate next to the score
+    testCase.withOptions(o -> o.addProfiler(GCProfiler.class).param("indexType", "SORTED_ARRAY"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private long append() {
+    record.index = nextIndex;
+    record.asqn = nextIndex;
+    index.index(record, (int) (nextIndex % Integer.MAX_VALUE));
+    return nextIndex++;
+  }
+
+  private long nextLookup() {
+    return lookups[lookupCursor++ & (LOOKUP_COUNT - 1)];
+  }
+
+  private static final class MutableRecord implements JournalRecord {
+    private long index;
+    private long asqn;
+
+    @Override
+    public long index() {
+      return index;
+    }
+
+    @Override
+    public long asqn() {
+      return asqn;
+    }
+
+    @Override
+    public long checksum() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return null;
+    }
+
+    @Override
+    public DirectBuffer serializedRecord() {
+      return null;
+    }
+  }
+}
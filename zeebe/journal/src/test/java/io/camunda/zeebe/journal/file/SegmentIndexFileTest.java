@@ -0,0 +1,228 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentIndexFile.PersistedSegmentIndex;
+import io.prometheus.client.CollectorRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SegmentIndexFileTest {
+  private static final int DENSITY = 1;
+
+  private @TempDir Path directory;
+
+  @Test
+  void shouldReadWrittenIndex() throws IOException {
+    // given
+    final var descriptor = descriptor(3, 10);
+    final var entries = new SegmentIndex(DENSITY);
+    entries.add(10, 64, 1);
+    entries.add(11, 128, 2);
+    final var file = directory.resolve("journal-3.log.idx");
+
+    // when
+    SegmentIndexFile.write(file, new PersistedSegmentIndex(3, 10, 11, 128, 42, 2, entries));
+    final var read = SegmentIndexFile.read(file, descriptor, DENSITY);
+
+    // then
+    assertThat(read).isPresent();
+    final var index = read.get();
+    assertThat(index)
+        .extracting(
+            PersistedSegmentIndex::segmentId,
+            PersistedSegmentIndex::firstIndex,
+            PersistedSegmentIndex::lastIndex,
+            PersistedSegmentIndex::lastPosition,
+            PersistedSegmentIndex::lastChecksum,
+            PersistedSegmentIndex::lastAsqn)
+        .containsExactly(3L, 10L, 11L, 128, 42L, 2L);
+    assertThat(index.entries().size()).isEqualTo(2);
+    assertThat(index.entries().index(1)).isEqualTo(11);
+    assertThat(index.entries().position(1)).isEqualTo(128);
+    assertThat(index.entries().asqn(1)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotReadIndexOfOtherSegment() throws IOException {
+    // given
+    final var file = directory.resolve("journal-3.log.idx");
+    SegmentIndexFile.write(
+        file, new PersistedSegmentIndex(3, 10, 11, 128, 42, 2, new SegmentIndex(DENSITY)));
+
+    // when - then
+    assertThat(SegmentIndexFile.read(file, descriptor(4, 10), DENSITY)).isEmpty();
+    assertThat(SegmentIndexFile.read(file, descriptor(3, 12), DENSITY)).isEmpty();
+    assertThat(SegmentIndexFile.read(file, descriptor(3, 10), DENSITY + 1)).isEmpty();
+  }
+
+  @Test
+  void shouldNotReadCorruptedIndex() throws IOException {
+    // given
+    final var file = directory.resolve("journal-3.log.idx");
+    SegmentIndexFile.write(
+        file, new PersistedSegmentIndex(3, 10, 11, 128, 42, 2, new SegmentIndex(DENSITY)));
+
+    // when
+    corrupt(file);
+
+    // then
+    assertThat(SegmentIndexFile.read(file, descriptor(3, 10), DENSITY)).isEmpty();
+  }
+
+  @Test
+  void shouldPersistIndexOfSealedSegments() {
+    // given
+    final var journalFactory = new TestJournalFactory(2);
+
+    // when
+    try (final var journal = openJournal(journalFactory)) {
+      for (int i = 0; i < 5; i++) {
+        journal.append(journalFactory.entry());
+      }
+    }
+
+    // then - only the two full segments were sealed
+    assertThat(indexFile(1)).exists();
+    assertThat(indexFile(2)).exists();
+    assertThat(indexFile(3)).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexOnReopen() {
+    // given
+    final var journalFactory = new TestJournalFactory(2);
+    try (final var journal = openJournal(journalFactory)) {
+      for (int i = 0; i < 5; i++) {
+        journal.append(journalFactory.entry());
+      }
+    }
+    final double restored = indexLoads("restored");
+
+    // when
+    final var reopenedFactory = new TestJournalFactory(2);
+    try (final var journal = openJournal(reopenedFactory);
+        final var reader = journal.openReader()) {
+      // then
+      assertThat(indexLoads("restored") - restored).isEqualTo(2);
+      assertThat(journal.getLastIndex()).isEqualTo(5);
+      assertThat(reader.seek(3)).isEqualTo(3);
+      assertThat(reader.next()).extracting(JournalRecord::index).isEqualTo(3L);
+
+      // the current segment's index is outdated as soon as it's written to again
+      assertThat(indexFile(2)).exists();
+      journal.append(reopenedFactory.entry());
+      assertThat(journal.getLastIndex()).isEqualTo(6);
+    }
+  }
+
+  @Test
+  void shouldIgnoreAndDeleteCorruptedIndexOnReopen() throws IOException {
+    // given
+    final var journalFactory = new TestJournalFactory(2);
+    try (final var journal = openJournal(journalFactory)) {
+      for (int i = 0; i < 5; i++) {
+        journal.append(journalFactory.entry());
+      }
+    }
+    corrupt(indexFile(1));
+    final double invalid = indexLoads("invalid");
+
+    // when
+    try (final var journal = openJournal(new TestJournalFactory(2));
+        final var reader = journal.openReader()) {
+      // then
+      assertThat(indexLoads("invalid") - invalid).isEqualTo(1);
+      assertThat(indexFile(1)).doesNotExist();
+      assertThat(reader.seek(1)).isEqualTo(1);
+      assertThat(reader.next()).extracting(JournalRecord::index).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  void shouldDeleteIndexOfTruncatedSegments() {
+    // given
+    final var journalFactory = new TestJournalFactory(2);
+    try (final var journal = openJournal(journalFactory)) {
+      for (int i = 0; i < 5; i++) {
+        journal.append(journalFactory.entry());
+      }
+
+      // when
+      journal.deleteAfter(1);
+
+      // then
+      assertThat(indexFile(1)).doesNotExist();
+      assertThat(indexFile(2)).doesNotExist();
+      assertThat(journal.getLastIndex()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldDeleteOrphanedIndexOnReopen() throws IOException {
+    // given
+    final var journalFactory = new TestJournalFactory(2);
+    try (final var journal = openJournal(journalFactory)) {
+      for (int i = 0; i < 3; i++) {
+        journal.append(journalFactory.entry());
+      }
+    }
+    final var orphan = indexFile(7);
+    Files.copy(indexFile(1), orphan);
+
+    // when
+    try (final var ignored = openJournal(new TestJournalFactory(2))) {
+      // then
+      assertThat(orphan).doesNotExist();
+      assertThat(indexFile(1)).exists();
+    }
+  }
+
+  private SegmentedJournal openJournal(final TestJournalFactory journalFactory) {
+    final var loader =
+        new SegmentLoader(
+            2L * journalFactory.maxSegmentSize(),
+            journalFactory.metrics(),
+            SegmentAllocator.noop(),
+            DENSITY);
+    return journalFactory.journal(journalFactory.segmentsManager(directory, loader));
+  }
+
+  private Path indexFile(final long segmentId) {
+    return SegmentFile.getIndexFile(
+        SegmentFile.createSegmentFile("journal", directory.resolve("data").toFile(), segmentId)
+            .toPath());
+  }
+
+  private static SegmentDescriptor descriptor(final long id, final long index) {
+    return SegmentDescriptor.builder().withId(id).withIndex(index).withMaxSegmentSize(1024).build();
+  }
+
+  private static void corrupt(final Path file) throws IOException {
+    final byte[] content = Files.readAllBytes(file);
+    content[content.length / 2] ^= (byte) 0xFF;
+    Files.write(file, content, StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  private static double indexLoads(final String result) {
+    return Objects.requireNonNullElse(
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "atomix_journal_segment_index_load_total",
+            new String[] {"partition", "result"},
+            new String[] {"test", result}),
+        0.0);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares the {@link SegmentStorageType} implementations by appending records of {@link
+ * #RECORD_SIZE} bytes to a journal, and flushing it every {@link #FLUSH_INTERVAL} records, similar
+ * to a leader flushing after each batch of appends. Scores heavily depend on the disk the temporary
+ * directory is on, so compare both types on the same machine rather than against the reference
+ * scores.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SegmentStoragePerformanceTest {
+  private static final int RECORD_SIZE = 1024;
+  private static final int FLUSH_INTERVAL = 16;
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  // the ops/s of the MAPPED storage; when running this test locally, you're likely to have
+  // different scores
+  private static final double APPEND_REFERENCE_SCORE = 35_000;
+
+  @Param({"MAPPED", "FILE_CHANNEL"})
+  public SegmentStorageType storageType;
+
+  private final DirectBufferWriter record = new DirectBufferWriter();
+  private Path directory;
+  private SegmentedJournal journal;
+  private int appendCount;
+
+  @Setup
+  public void setup() throws IOException {
+    final byte[] bytes = new byte[RECORD_SIZE];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    record.wrap(new UnsafeBuffer(bytes));
+
+    directory = Files.createTempDirectory("segment-storage");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withFreeDiskSpace(0)
+            .withSegmentStorageType(storageType)
+            .withMetaStore(new MockJournalMetastore())
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureAppend() {
+    final var appended = journal.append(record);
+    if (++appendCount % FLUSH_INTERVAL == 0) {
+      journal.flush();
+    }
+
+    return appended.index();
+  }
+
+  @JMHTest("measureAppend")
+  void shouldMeasureMappedAppend(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(o -> o.addProfiler(GCProfiler.class).param("storageType", "MAPPED"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(APPEND_REFERENCE_SCORE, 0.25);
+  }
+
+  @JMHTest("measureAppend")
+  void shouldMeasureFileChannelAppend(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(o -> o.addProfiler(GCProfiler.class).param("storageType", "FILE_CHANNEL"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(APPEND_REFERENCE_SCORE, 0.25);
+  }
+}
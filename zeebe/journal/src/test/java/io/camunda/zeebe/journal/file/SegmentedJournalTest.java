@@ -19,6 +19,7 @@ import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidAsqn;
 import io.camunda.zeebe.journal.JournalException.OutOfDiskSpace;
 import io.camunda.zeebe.journal.JournalReader;
@@ -915,6 +916,101 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  @Test
+  void shouldVerifyLoadedRecordOnFirstReadWithLazyChecksumVerification() throws Exception {
+    // given - the first segment is sealed, so its persisted index avoids scanning it on reopen
+    journal = openLazyJournal(2);
+    for (int i = 0; i < 3; i++) {
+      journal.append(journalFactory.entry());
+    }
+    journal.close();
+    assertThat(LogCorrupter.corruptRecord(segmentFile(1), 1)).isTrue();
+
+    // when
+    journal = openLazyJournal(2);
+    final var reader = journal.openReader();
+
+    // then
+    assertThatThrownBy(reader::next).isInstanceOf(CorruptedJournalException.class);
+  }
+
+  @Test
+  void shouldNotVerifyWrittenRecordOnReadWithLazyChecksumVerification() throws Exception {
+    // given
+    journal = openLazyJournal(2);
+    final var record = journal.append(journalFactory.entry());
+    final var reader = journal.openReader();
+
+    // when - corrupting the mapped file bypasses the writer
+    assertThat(LogCorrupter.corruptRecord(segmentFile(1), record.index())).isTrue();
+
+    // then
+    assertThat(reader.next()).extracting(JournalRecord::index).isEqualTo(record.index());
+  }
+
+  @Test
+  void shouldPersistSegmentIndexOnceSealedSegmentIsFlushed() {
+    // given
+    journal = openJournalWithPersistedIndex(2);
+    final var firstIndexFile = SegmentFile.getIndexFile(segmentFile(1).toPath());
+    final var secondIndexFile = SegmentFile.getIndexFile(segmentFile(2).toPath());
+
+    // when - the first segment is sealed
+    for (int i = 0; i < 3; i++) {
+      journal.append(journalFactory.entry());
+    }
+
+    // then - its index is only persisted once it's flushed
+    assertThat(firstIndexFile).doesNotExist();
+    journal.flush();
+    assertThat(firstIndexFile).exists();
+    assertThat(secondIndexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldRecoverFlushedEntriesWithFileChannelStorage() {
+    // given - entries spanning multiple segments
+    journal = openFileChannelJournal(2);
+    final List<Long> checksums = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      checksums.add(journal.append(journalFactory.entry()).checksum());
+    }
+    journal.flush();
+    journal.close();
+
+    // when
+    journal = openFileChannelJournal(2);
+    final var reader = journal.openReader();
+
+    // then
+    assertThat(journal.getLastIndex()).isEqualTo(5);
+    final List<Long> readChecksums = new ArrayList<>();
+    while (reader.hasNext()) {
+      readChecksums.add(reader.next().checksum());
+    }
+    assertThat(readChecksums).isEqualTo(checksums);
+  }
+
+  @Test
+  void shouldRecoverTruncatedSegmentWithFileChannelStorage() {
+    // given
+    journal = openFileChannelJournal(4);
+    journal.append(journalFactory.entry());
+    journal.append(journalFactory.entry());
+    journal.append(journalFactory.entry());
+    journal.flush();
+
+    // when
+    journal.deleteAfter(1);
+    journal.flush();
+    journal.close();
+    journal = openFileChannelJournal(4);
+
+    // then
+    assertThat(journal.getLastIndex()).isEqualTo(1);
+    assertThat(journal.append(journalFactory.entry()).index()).isEqualTo(2);
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
@@ -926,6 +1022,53 @@ class SegmentedJournalTest {
     return journal;
   }
 
+  private SegmentedJournal openLazyJournal(final int entriesPerSegment) {
+    journalFactory = new TestJournalFactory("test", entriesPerSegment);
+    final var loader =
+        new SegmentLoader(
+            2L * journalFactory.maxSegmentSize(),
+            journalFactory.metrics(),
+            SegmentAllocator.noop(),
+            1,
+            true);
+    final var journal = journalFactory.journal(journalFactory.segmentsManager(directory, loader));
+    closeables.add(journal);
+    return journal;
+  }
+
+  private SegmentedJournal openJournalWithPersistedIndex(final int entriesPerSegment) {
+    journalFactory = new TestJournalFactory("test", entriesPerSegment);
+    final var loader =
+        new SegmentLoader(
+            2L * journalFactory.maxSegmentSize(),
+            journalFactory.metrics(),
+            SegmentAllocator.noop(),
+            1);
+    final var journal = journalFactory.journal(journalFactory.segmentsManager(directory, loader));
+    closeables.add(journal);
+    return journal;
+  }
+
+  private SegmentedJournal openFileChannelJournal(final int entriesPerSegment) {
+    journalFactory = new TestJournalFactory("test", entriesPerSegment);
+    final var loader =
+        new SegmentLoader(
+            2L * journalFactory.maxSegmentSize(),
+            journalFactory.metrics(),
+            SegmentAllocator.fill(),
+            0,
+            false,
+            SegmentStorageType.FILE_CHANNEL);
+    final var journal = journalFactory.journal(journalFactory.segmentsManager(directory, loader));
+    closeables.add(journal);
+    return journal;
+  }
+
+  private File segmentFile(final long segmentId) {
+    return SegmentFile.createSegmentFile(
+        JOURNAL_NAME, directory.resolve("data").toFile(), segmentId);
+  }
+
   /**
    * Creates a segment allocator, which should fail after the given segments count has been reached.
    * Failing will be done via throwing an OutOfDiskException.
@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.prometheus.client.CollectorRegistry;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -293,6 +294,66 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldPrepareConfiguredNumberOfSegmentsAhead() {
+    // given
+    segments = journalFactory.segmentsManager(directory, 2);
+    segments.open();
+
+    // when
+    segments.getNextSegment();
+    segments.close();
+
+    // then - closing waits for the prepared segments
+    assertThat(directory.resolve("data"))
+        .isDirectoryContaining(path -> path.endsWith("journal-3.log"))
+        .isDirectoryContaining(path -> path.endsWith("journal-4.log"))
+        .isDirectoryNotContaining(path -> path.endsWith("journal-5.log"));
+  }
+
+  @Test
+  void shouldRollOverToPreparedSegmentsInOrder() {
+    // given
+    segments = journalFactory.segmentsManager(directory, 2);
+    segments.open();
+
+    // when
+    final var rolledSegments = new ArrayList<Segment>();
+    for (int i = 0; i < 3; i++) {
+      rolledSegments.add(segments.getNextSegment());
+    }
+
+    // then
+    assertThat(rolledSegments).extracting(Segment::id).containsExactly(2L, 3L, 4L);
+  }
+
+  @Test
+  void shouldCreateSegmentsOnRollOverWithoutPool() {
+    // given
+    segments = journalFactory.segmentsManager(directory, 0);
+    segments.open();
+    final double misses = segmentPoolAcquires("miss");
+
+    // when
+    segments.getNextSegment();
+    segments.getNextSegment();
+
+    // then
+    assertThat(segments.getCurrentSegment().id()).isEqualTo(3L);
+    assertThat(segmentPoolAcquires("miss") - misses).isEqualTo(2);
+    assertThat(directory.resolve("data"))
+        .isDirectoryNotContaining(path -> path.endsWith("journal-4.log"));
+  }
+
+  private static double segmentPoolAcquires(final String result) {
+    return Objects.requireNonNullElse(
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "atomix_journal_segment_pool_acquire_total",
+            new String[] {"partition", "result"},
+            new String[] {"test", result}),
+        0.0);
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
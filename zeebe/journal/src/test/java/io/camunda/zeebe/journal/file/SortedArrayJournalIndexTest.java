@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Runs the same tests as {@link SparseJournalIndexTest}, plus the array specific ones. */
+final class SortedArrayJournalIndexTest extends SparseJournalIndexTest {
+
+  @Override
+  JournalIndex createIndex(final int density) {
+    return new SortedArrayJournalIndex(density);
+  }
+
+  @Test
+  void shouldSpanMultipleRuns() {
+    // given
+    final JournalIndex index = createIndex(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(1)).isEqualTo(new IndexInfo(1, 2));
+    assertThat(index.lookup(5_000)).isEqualTo(new IndexInfo(5_000, 10_000));
+    assertThat(index.lookup(50_000)).isEqualTo(new IndexInfo(10_000, 20_000));
+    assertThat(index.lookupAsqn(49_995)).isEqualTo(4_999);
+    assertThat(index.lookupAsqn(49_995, 3_000)).isEqualTo(3_000);
+  }
+
+  @Test
+  void shouldTruncateAndCompactAcrossRuns() {
+    // given
+    final JournalIndex index = createIndex(1);
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteAfter(6_000);
+    index.deleteUntil(3_000);
+
+    // then
+    assertThat(index.lookup(2_999)).isNull();
+    assertThat(index.lookup(3_000)).isEqualTo(new IndexInfo(3_000, 6_000));
+    assertThat(index.lookup(10_000)).isEqualTo(new IndexInfo(6_000, 12_000));
+    assertThat(index.lookupAsqn(100_000)).isEqualTo(6_000);
+    assertThat(index.lookupAsqn(29_990)).isNull();
+  }
+
+  @Test
+  void shouldSplitFullRunOnOutOfOrderInsert() {
+    // given - only even indexes, enough to fill more than one run
+    final JournalIndex index = createIndex(1);
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i * 2L, i * 20L), i);
+    }
+
+    // when
+    index.index(asJournalRecord(3, 30), 100_000);
+
+    // then
+    assertThat(index.lookup(3)).isEqualTo(new IndexInfo(3, 100_000));
+    assertThat(index.lookup(5)).isEqualTo(new IndexInfo(4, 2));
+    assertThat(index.lookup(20_000)).isEqualTo(new IndexInfo(20_000, 10_000));
+    assertThat(index.lookupAsqn(35)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldKeepAppendingAfterCompaction() {
+    // given
+    final JournalIndex index = createIndex(1);
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i), i);
+      index.deleteUntil(i - 10);
+    }
+
+    // then
+    assertThat(index.lookup(989)).isNull();
+    assertThat(index.lookup(990)).isEqualTo(new IndexInfo(990, 990));
+    assertThat(index.lookup(1_000)).isEqualTo(new IndexInfo(1_000, 1_000));
+    assertThat(index.lookupAsqn(1_000)).isEqualTo(1_000);
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given
+    final JournalIndex index = createIndex(1);
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(20, 200), 40);
+
+    // when
+    index.index(asJournalRecord(15, 150), 30);
+    index.index(asJournalRecord(5, 50), 10);
+
+    // then
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(5, 10));
+    assertThat(index.lookup(17)).isEqualTo(new IndexInfo(15, 30));
+    assertThat(index.lookup(25)).isEqualTo(new IndexInfo(20, 40));
+    assertThat(index.lookupAsqn(160)).isEqualTo(15);
+    assertThat(index.lookupAsqn(60)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldReplaceReindexedEntry() {
+    // given
+    final JournalIndex index = createIndex(1);
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+
+    // when
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 8);
+
+    // then
+    assertThat(index.lookup(1)).isEqualTo(new IndexInfo(1, 2));
+    assertThat(index.lookup(2)).isEqualTo(new IndexInfo(2, 8));
+  }
+
+  @Test
+  void shouldAppendAfterTruncation() {
+    // given
+    final JournalIndex index = createIndex(1);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i * 10L), i);
+    }
+
+    // when
+    index.deleteAfter(5);
+    index.index(asJournalRecord(6, 65), 100);
+
+    // then
+    assertThat(index.lookup(10)).isEqualTo(new IndexInfo(6, 100));
+    assertThat(index.lookupAsqn(100)).isEqualTo(6);
+    assertThat(index.lookupAsqn(60)).isEqualTo(5);
+  }
+}
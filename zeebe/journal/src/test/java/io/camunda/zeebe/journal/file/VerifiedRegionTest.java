@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class VerifiedRegionTest {
+  private static final int FIRST_POSITION = 64;
+
+  private final VerifiedRegion region = new VerifiedRegion(FIRST_POSITION);
+
+  @Test
+  void shouldNotConsiderLoadedRecordsVerified() {
+    // when
+    region.onWriterReset(256);
+
+    // then
+    assertThat(region.isVerified(FIRST_POSITION)).isFalse();
+    assertThat(region.isVerified(128)).isFalse();
+  }
+
+  @Test
+  void shouldConsiderRecordsWrittenAfterLoadVerified() {
+    // when
+    region.onWriterReset(256);
+
+    // then
+    assertThat(region.isVerified(256)).isTrue();
+    assertThat(region.isVerified(512)).isTrue();
+  }
+
+  @Test
+  void shouldGrowRegionWithNextVerifiedRecord() {
+    // given
+    region.onWriterReset(256);
+
+    // when
+    region.onRecordVerified(FIRST_POSITION, 128);
+    region.onRecordVerified(128, 192);
+
+    // then
+    assertThat(region.isVerified(FIRST_POSITION)).isTrue();
+    assertThat(region.isVerified(128)).isTrue();
+    assertThat(region.isVerified(192)).isFalse();
+  }
+
+  @Test
+  void shouldNotGrowRegionWithRecordVerifiedOutOfOrder() {
+    // given
+    region.onWriterReset(256);
+
+    // when
+    region.onRecordVerified(128, 192);
+
+    // then
+    assertThat(region.isVerified(FIRST_POSITION)).isFalse();
+    assertThat(region.isVerified(128)).isFalse();
+  }
+
+  @Test
+  void shouldConsiderScannedRecordsVerified() {
+    // given
+    region.onWriterReset(256);
+
+    // when
+    region.onSegmentScanned(192);
+
+    // then
+    assertThat(region.isVerified(128)).isTrue();
+    assertThat(region.isVerified(192)).isFalse();
+  }
+
+  @Test
+  void shouldConsiderRecordsWrittenAfterTruncationVerified() {
+    // given
+    region.onWriterReset(256);
+
+    // when
+    region.onWriterReset(128);
+
+    // then
+    assertThat(region.isVerified(FIRST_POSITION)).isFalse();
+    assertThat(region.isVerified(128)).isTrue();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.util;
+
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures computing the checksum of records in a segment-sized direct buffer, similar to a mapped
+ * segment. The record sizes cover the usual range of journal records: single small commands,
+ * typical batches of follow-up events, and large batches with variables. Run the tests below to
+ * also get the allocation rates (via the GC profiler), which should be 0 for the {@link
+ * ChecksumGenerator}.
+ *
+ * <p>{@link #measureSlicedChecksum()} computes the checksum like the generator used to, by slicing
+ * a read-only view of the buffer for every record, as a baseline.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ChecksumGeneratorPerformanceTest {
+  private static final int SEGMENT_SIZE = 128 * 1024 * 1024;
+
+  // the ops/s for records of 1KB; when running this test locally, you're likely to have different
+  // scores
+  private static final double CHECKSUM_REFERENCE_SCORE = 8_000_000;
+
+  @Param({"256", "1024", "4096", "32768"})
+  public int recordSize;
+
+  private final ChecksumGenerator generator = new ChecksumGenerator();
+  private final CRC32C crc32 = new CRC32C();
+  private ByteBuffer segment;
+  private int recordCount;
+  private int recordCursor;
+
+  @Setup
+  public void setup() {
+    final byte[] bytes = new byte[SEGMENT_SIZE];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    segment = ByteBuffer.allocateDirect(SEGMENT_SIZE).put(bytes).clear();
+    recordCount = SEGMENT_SIZE / recordSize;
+  }
+
+  @Benchmark
+  public long measureChecksum() {
+    return generator.compute(segment, nextOffset(), recordSize);
+  }
+
+  @Benchmark
+  public long measureSlicedChecksum() {
+    final var slice = segment.asReadOnlyBuffer().position(nextOffset()).slice();
+    crc32.reset();
+    crc32.update(slice.limit(recordSize));
+    return crc32.getValue();
+  }
+
+  @JMHTest("measureChecksum")
+  void shouldMeasureChecksum(final JMHTestCase testCase) {
+    // given - the GC profiler reports the allocation rate next to the score
+    testCase.withOptions(o -> o.addProfiler(GCProfiler.class).param("recordSize", "1024"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(CHECKSUM_REFERENCE_SCORE, 0.25);
+  }
+
+  private int nextOffset() {
+    // iterate over the whole segment so the records are not always in the CPU caches
+    final int offset = recordCursor * recordSize;
+    recordCursor = (recordCursor + 1) % recordCount;
+    return offset;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.Test;
+
+final class ChecksumGeneratorTest {
+  private final ChecksumGenerator generator = new ChecksumGenerator();
+
+  @Test
+  void shouldComputeChecksumOfRegion() {
+    // given
+    final var buffer = randomBuffer(1024);
+
+    // when
+    final long checksum = generator.compute(buffer, 100, 200);
+
+    // then
+    assertThat(checksum).isEqualTo(expectedChecksum(buffer, 100, 200));
+  }
+
+  @Test
+  void shouldNotModifyBuffer() {
+    // given
+    final var buffer = randomBuffer(1024);
+    buffer.position(10).mark();
+    buffer.position(20).limit(50);
+
+    // when
+    generator.compute(buffer, 100, 200);
+
+    // then
+    assertThat(buffer.position()).isEqualTo(20);
+    assertThat(buffer.limit()).isEqualTo(50);
+    assertThat(buffer.reset().position()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldComputeChecksumOfDifferentBuffers() {
+    // given
+    final var buffer = randomBuffer(1024);
+    final var otherBuffer = randomBuffer(1024);
+
+    // when
+    final long checksum = generator.compute(buffer, 0, 1024);
+    final long otherChecksum = generator.compute(otherBuffer, 0, 1024);
+
+    // then
+    assertThat(checksum).isEqualTo(expectedChecksum(buffer, 0, 1024));
+    assertThat(otherChecksum).isEqualTo(expectedChecksum(otherBuffer, 0, 1024));
+  }
+
+  @Test
+  void shouldComputeChecksumOfPrecedingRegion() {
+    // given
+    final var buffer = randomBuffer(1024);
+    generator.compute(buffer, 500, 500);
+
+    // when
+    final long checksum = generator.compute(buffer, 0, 100);
+
+    // then
+    assertThat(checksum).isEqualTo(expectedChecksum(buffer, 0, 100));
+  }
+
+  private static ByteBuffer randomBuffer(final int length) {
+    final byte[] bytes = new byte[length];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    return ByteBuffer.allocateDirect(length).put(bytes).clear();
+  }
+
+  private static long expectedChecksum(
+      final ByteBuffer buffer, final int offset, final int length) {
+    final byte[] bytes = new byte[length];
+    buffer.get(offset, bytes);
+    final var crc = new CRC32C();
+    crc.update(bytes);
+    return crc.getValue();
+  }
+}
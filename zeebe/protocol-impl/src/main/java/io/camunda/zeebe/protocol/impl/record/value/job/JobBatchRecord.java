@@ -41,9 +41,13 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
   private final ArrayProperty<StringValue> variablesProp =
       new ArrayProperty<>("variables", StringValue::new);
   private final BooleanProperty truncatedProp = new BooleanProperty("truncated", false);
+  private final ArrayProperty<LongValue> rejectedJobKeysProp =
+      new ArrayProperty<>("rejectedJobKeys", LongValue::new);
+  private final ArrayProperty<StringValue> rejectionReasonsProp =
+      new ArrayProperty<>("rejectionReasons", StringValue::new);
 
   public JobBatchRecord() {
-    super(9);
+    super(11);
     declareProperty(typeProp)
         .declareProperty(workerProp)
         .declareProperty(timeoutProp)
@@ -52,7 +56,9 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
         .declareProperty(jobsProp)
         .declareProperty(variablesProp)
         .declareProperty(truncatedProp)
-        .declareProperty(tenantIdsProp);
+        .declareProperty(tenantIdsProp)
+        .declareProperty(rejectedJobKeysProp)
+        .declareProperty(rejectionReasonsProp);
   }
 
   public JobBatchRecord setType(final DirectBuffer buf, final int offset, final int length) {
@@ -77,6 +83,19 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
     return variablesProp;
   }
 
+  /**
+   * Adds a job which was not completed, along with the reason why it was rejected.
+   *
+   * @param jobKey the key of the job
+   * @param reason why the job was rejected
+   * @return this record for chaining
+   */
+  public JobBatchRecord addRejectedJob(final long jobKey, final String reason) {
+    rejectedJobKeysProp.add().setValue(jobKey);
+    rejectionReasonsProp.add().wrap(BufferUtil.wrapString(reason));
+    return this;
+  }
+
   public boolean getTruncated() {
     return truncatedProp.getValue();
   }
@@ -138,6 +157,21 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
         .collect(Collectors.toList());
   }
 
+  @Override
+  public List<Long> getRejectedJobKeys() {
+    return StreamSupport.stream(rejectedJobKeysProp.spliterator(), false)
+        .map(LongValue::getValue)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<String> getRejectionReasons() {
+    return StreamSupport.stream(rejectionReasonsProp.spliterator(), false)
+        .map(StringValue::getValue)
+        .map(BufferUtil::bufferAsString)
+        .collect(Collectors.toList());
+  }
+
   public JobBatchRecord setTenantIds(final List<String> tenantIds) {
     tenantIdsProp.reset();
     tenantIds.forEach(tenantId -> tenantIdsProp.add().wrap(BufferUtil.wrapString(tenantId)));
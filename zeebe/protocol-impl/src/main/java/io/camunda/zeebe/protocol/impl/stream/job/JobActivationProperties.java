@@ -48,4 +48,13 @@ public interface JobActivationProperties extends BufferWriter {
    * @return the identifiers of the tenants for which to activate jobs
    */
   Collection<String> tenantIds();
+
+  /**
+   * Returns the maximum number of jobs which may be pushed to the worker before it completed,
+   * failed, or yielded some of them, i.e. the credit window of the stream. If zero or less, the
+   * number of pushed jobs isn't limited.
+   *
+   * @return the maximum number of active jobs of the worker
+   */
+  int maxJobsActive();
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.protocol.impl.stream.job;
 
 import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.msgpack.value.StringValue;
@@ -25,13 +26,15 @@ public class JobActivationPropertiesImpl extends UnpackedObject implements JobAc
   private final ArrayProperty<StringValue> tenantIdsProp =
       new ArrayProperty<>(
           "tenantIds", () -> new StringValue(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+  private final IntegerProperty maxJobsActiveProp = new IntegerProperty("maxJobsActive", 0);
 
   public JobActivationPropertiesImpl() {
-    super(4);
+    super(5);
     declareProperty(workerProp)
         .declareProperty(timeoutProp)
         .declareProperty(fetchVariablesProp)
-        .declareProperty(tenantIdsProp);
+        .declareProperty(tenantIdsProp)
+        .declareProperty(maxJobsActiveProp);
   }
 
   public JobActivationPropertiesImpl setWorker(
@@ -57,6 +60,11 @@ public class JobActivationPropertiesImpl extends UnpackedObject implements JobAc
     return this;
   }
 
+  public JobActivationPropertiesImpl setMaxJobsActive(final int maxJobsActive) {
+    maxJobsActiveProp.setValue(maxJobsActive);
+    return this;
+  }
+
   @Override
   public DirectBuffer worker() {
     return workerProp.getValue();
@@ -76,4 +84,9 @@ public class JobActivationPropertiesImpl extends UnpackedObject implements JobAc
   public Collection<String> tenantIds() {
     return tenantIdsProp.stream().map(StringValue::toString).toList();
   }
+
+  @Override
+  public int maxJobsActive() {
+    return maxJobsActiveProp.getValue();
+  }
 }
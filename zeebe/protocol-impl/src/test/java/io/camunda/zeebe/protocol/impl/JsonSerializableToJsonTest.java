@@ -588,6 +588,7 @@ final class JsonSerializableToJsonTest {
                       .setTruncated(true);
 
               record.jobKeys().add().setValue(3L);
+              record.addRejectedJob(4L, "rejected");
               final JobRecord jobRecord = record.jobs().add();
 
               final String bpmnProcessId = "test-process";
@@ -652,7 +653,13 @@ final class JsonSerializableToJsonTest {
             }
           ],
           "timeout": 2,
-          "tenantIds": []
+          "tenantIds": [],
+          "rejectedJobKeys": [
+            4
+          ],
+          "rejectionReasons": [
+            "rejected"
+          ]
         }
         """
       },
@@ -675,7 +682,9 @@ final class JsonSerializableToJsonTest {
           "jobKeys": [],
           "jobs": [],
           "timeout": -1,
-          "tenantIds": []
+          "tenantIds": [],
+          "rejectedJobKeys": [],
+          "rejectionReasons": []
         }
         """
       },
@@ -52,11 +52,17 @@ public interface JobBatchRecordValue extends RecordValue {
   int getMaxJobsToActivate();
 
   /**
+   * When completing a batch of jobs, the command holds the keys of the jobs to complete, and the
+   * {@link JobBatchIntent#COMPLETED} event only the keys of the jobs which were completed.
+   *
    * @return list of the keys from the jobs assigned to this batch
    */
   List<Long> getJobKeys();
 
   /**
+   * When completing a batch of jobs, the command holds one job per job key, carrying the variables
+   * to complete it with.
+   *
    * @return the jobs assigned to this batch
    */
   List<JobRecordValue> getJobs();
@@ -75,4 +81,17 @@ public interface JobBatchRecordValue extends RecordValue {
    * @return the identifiers of the tenants that this job batch may contain jobs for
    */
   List<String> getTenantIds();
+
+  /**
+   * When completing a batch of jobs, the {@link JobBatchIntent#COMPLETED} event holds the keys of
+   * the jobs which were not completed, in the order of the command.
+   *
+   * @return the keys of the jobs of this batch which were rejected
+   */
+  List<Long> getRejectedJobKeys();
+
+  /**
+   * @return why the jobs of {@link #getRejectedJobKeys()} were rejected, one reason per key
+   */
+  List<String> getRejectionReasons();
 }
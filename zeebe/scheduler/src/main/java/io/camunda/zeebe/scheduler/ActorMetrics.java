@@ -47,6 +47,27 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter IDLE_ACTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_idle_actions_total")
+          .help("Number of spins, yields and parks of idle actor threads")
+          .labelNames("threadGroup", "action")
+          .register();
+
+  private static final Histogram WAKE_UP_LATENCY =
+      Histogram.build()
+          // from 1 µs up to ~4 seconds
+          .exponentialBuckets(1 / 1_000_000f, 4, 12)
+          .namespace("zeebe")
+          .name("actor_thread_wake_up_latency")
+          .help(
+              "Time between signalling an idle actor thread that work is available and executing"
+                  + " its next task")
+          .labelNames("threadGroup")
+          .register();
+
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -78,6 +99,29 @@ final class ActorMetrics {
     }
   }
 
+  void countIdleActions(
+      final String threadGroup, final long spins, final long yields, final long parks) {
+    if (!enabled) {
+      return;
+    }
+
+    if (spins > 0) {
+      IDLE_ACTIONS.labels(threadGroup, "spin").inc(spins);
+    }
+    if (yields > 0) {
+      IDLE_ACTIONS.labels(threadGroup, "yield").inc(yields);
+    }
+    if (parks > 0) {
+      IDLE_ACTIONS.labels(threadGroup, "park").inc(parks);
+    }
+  }
+
+  void observeWakeUpLatency(final String threadGroup, final long latencyNs) {
+    if (enabled) {
+      WAKE_UP_LATENCY.labels(threadGroup).observe(latencyNs / 1_000_000_000f);
+    }
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
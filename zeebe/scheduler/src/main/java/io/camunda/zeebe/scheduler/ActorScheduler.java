@@ -121,11 +121,27 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     /** 20 ms instead of {@link BackoffIdleStrategy#DEFAULT_MAX_PARK_PERIOD_NS}. */
     public static final long DEFAULT_MAX_PARK_PERIOD_NS = 20_000_000;
 
+    /**
+     * An adaptive idle strategy only spins while its thread is usually idle for at most 20 µs,
+     * which is well below the cost of parking and being unparked again.
+     *
+     * @see AdaptiveIdleStrategy
+     */
+    public static final long DEFAULT_SPIN_THRESHOLD_NS = 20_000;
+
+    /**
+     * An adaptive idle strategy only yields while its thread is usually idle for at most 200 µs.
+     *
+     * @see AdaptiveIdleStrategy
+     */
+    public static final long DEFAULT_YIELD_THRESHOLD_NS = 200_000;
+
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
+    private boolean ioBoundVirtualThreads = false;
     private ActorThreadGroup ioBoundActorGroup;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
@@ -133,6 +149,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private boolean enableMetrics = false;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
+    private Supplier<IdleStrategy> cpuBoundIdleStrategySupplier;
+    private Supplier<IdleStrategy> ioBoundIdleStrategySupplier;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -142,6 +160,16 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
           DEFAULT_MAX_PARK_PERIOD_NS);
     }
 
+    public static IdleStrategy adaptiveIdleStrategySupplier() {
+      return new AdaptiveIdleStrategy(
+          DEFAULT_MAX_SPINS,
+          DEFAULT_MAX_YIELDS,
+          DEFAULT_MIN_PARK_PERIOD_NS,
+          DEFAULT_MAX_PARK_PERIOD_NS,
+          DEFAULT_SPIN_THRESHOLD_NS,
+          DEFAULT_YIELD_THRESHOLD_NS);
+    }
+
     public String getSchedulerName() {
       return schedulerName;
     }
@@ -170,6 +198,38 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    /**
+     * @return the idle strategy supplier for the CPU bound threads, which falls back to {@link
+     *     #getIdleStrategySupplier()} if none was set
+     */
+    public Supplier<IdleStrategy> getCpuBoundIdleStrategySupplier() {
+      return cpuBoundIdleStrategySupplier != null
+          ? cpuBoundIdleStrategySupplier
+          : idleStrategySupplier;
+    }
+
+    public ActorSchedulerBuilder setCpuBoundIdleStrategySupplier(
+        final Supplier<IdleStrategy> cpuBoundIdleStrategySupplier) {
+      this.cpuBoundIdleStrategySupplier = cpuBoundIdleStrategySupplier;
+      return this;
+    }
+
+    /**
+     * @return the idle strategy supplier for the I/O bound threads, which falls back to {@link
+     *     #getIdleStrategySupplier()} if none was set
+     */
+    public Supplier<IdleStrategy> getIoBoundIdleStrategySupplier() {
+      return ioBoundIdleStrategySupplier != null
+          ? ioBoundIdleStrategySupplier
+          : idleStrategySupplier;
+    }
+
+    public ActorSchedulerBuilder setIoBoundIdleStrategySupplier(
+        final Supplier<IdleStrategy> ioBoundIdleStrategySupplier) {
+      this.ioBoundIdleStrategySupplier = ioBoundIdleStrategySupplier;
+      return this;
+    }
+
     public ActorTimerQueue getActorTimerQueue() {
       return actorTimerQueue;
     }
@@ -197,6 +257,20 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isIoBoundVirtualThreads() {
+      return ioBoundVirtualThreads;
+    }
+
+    /**
+     * Runs the I/O bound actor threads on virtual threads, such that actors blocking on I/O don't
+     * block a platform thread. Since an idle virtual thread is cheap, this is best combined with a
+     * higher {@link #setIoBoundActorThreadCount(int) I/O bound thread count}.
+     */
+    public ActorSchedulerBuilder setIoBoundVirtualThreads(final boolean ioBoundVirtualThreads) {
+      this.ioBoundVirtualThreads = ioBoundVirtualThreads;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
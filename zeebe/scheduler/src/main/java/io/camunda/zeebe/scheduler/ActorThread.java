@@ -27,6 +27,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
   private static final VarHandle STATE_HANDLE;
 
+  /** Only set on virtual threads, which cannot be represented by an {@link ActorThread}. */
+  private static final ThreadLocal<ActorThread> VIRTUAL_ACTOR_THREAD = new ThreadLocal<>();
+
   static {
     try {
       STATE_HANDLE =
@@ -50,6 +53,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
 
+  /** The thread executing this runner, which is a virtual thread if started as one. */
+  private volatile Thread executingThread = this;
+
   public ActorThread(
       final String name,
       final int id,
@@ -87,6 +93,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     this.taskScheduler = taskScheduler;
     actorMetrics = new ActorMetrics(metricsEnabled);
     this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
+
+    if (metricsEnabled && idleStrategy instanceof final AdaptiveIdleStrategy adaptiveIdleStrategy) {
+      final var groupName = threadGroup != null ? threadGroup.getGroupName() : name;
+      adaptiveIdleStrategy.setListener(
+          (idleNs, spins, yields, parks) ->
+              actorMetrics.countIdleActions(groupName, spins, yields, parks));
+    }
   }
 
   ActorMetrics getActorMetrics() {
@@ -168,9 +181,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    // virtual threads can't be subclassed, so we have to fall back to a thread-local for them
+    return thread.isVirtual() ? VIRTUAL_ACTOR_THREAD.get() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -217,6 +234,33 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  /**
+   * Starts this runner on a new virtual thread instead of this platform thread, which is then never
+   * started. Tasks executed by the runner see it as {@link #current()} as usual, so they keep the
+   * same semantics for jobs, timers and futures, but blocking calls unmount the virtual thread from
+   * its carrier instead of blocking a platform thread. Note that blocking while holding a monitor
+   * still pins the carrier.
+   */
+  public void startVirtual() {
+    if (!STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
+      throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
+    }
+
+    executingThread =
+        Thread.ofVirtual()
+            .name(getName())
+            .unstarted(
+                () -> {
+                  VIRTUAL_ACTOR_THREAD.set(this);
+                  try {
+                    run();
+                  } finally {
+                    VIRTUAL_ACTOR_THREAD.remove();
+                  }
+                });
+    executingThread.start();
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -279,24 +323,49 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   protected class ActorTaskRunnerIdleStrategy {
     private final IdleStrategy idleStrategy;
+    private final String groupName;
     private boolean isIdle;
 
+    /**
+     * When work was first signalled since the last executed task, or 0; only tracked with metrics
+     * enabled.
+     */
+    private volatile long workHintedAtNs;
+
+    /**
+     * Whether the thread is idle, as seen by threads signalling work; only tracked with metrics
+     * enabled, such that signals sent while the thread is busy anyway are not measured.
+     */
+    private volatile boolean idleForMetrics;
+
     protected ActorTaskRunnerIdleStrategy(final IdleStrategy idleStrategy) {
       this.idleStrategy = idleStrategy;
+      groupName = actorThreadGroup != null ? actorThreadGroup.getGroupName() : getName();
     }
 
     void init() {
       isIdle = true;
+      if (actorMetrics.isEnabled()) {
+        idleForMetrics = true;
+      }
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      if (actorMetrics.isEnabled() && idleForMetrics && workHintedAtNs == 0) {
+        workHintedAtNs = System.nanoTime();
+      }
+      LockSupport.unpark(executingThread);
     }
 
     protected void onIdle() {
       if (!isIdle) {
         clock.update();
         isIdle = true;
+        if (actorMetrics.isEnabled()) {
+          // drop signals received while busy, they would only measure the remaining busy time
+          workHintedAtNs = 0;
+          idleForMetrics = true;
+        }
       }
 
       idleStrategy.idle();
@@ -305,6 +374,16 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     protected void onTaskExecuted() {
       idleStrategy.reset();
       isIdle = false;
+      if (!actorMetrics.isEnabled()) {
+        return;
+      }
+
+      idleForMetrics = false;
+      final long hintedAtNs = workHintedAtNs;
+      if (hintedAtNs != 0) {
+        workHintedAtNs = 0;
+        actorMetrics.observeWakeUpLatency(groupName, System.nanoTime() - hintedAtNs);
+      }
     }
   }
 }
@@ -11,6 +11,8 @@ import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.agrona.concurrent.IdleStrategy;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
@@ -28,6 +30,15 @@ public abstract class ActorThreadGroup {
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, builder.getIdleStrategySupplier());
+  }
+
+  public ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final Supplier<IdleStrategy> idleStrategySupplier) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
@@ -49,7 +60,7 @@ public abstract class ActorThreadGroup {
                   builder.getActorClock(),
                   builder.getActorTimerQueue(),
                   builder.isMetricsEnabled(),
-                  builder.getIdleStrategySupplier().get());
+                  idleStrategySupplier.get());
 
       threads[t] = thread;
     }
@@ -72,6 +83,10 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  public String getGroupName() {
+    return groupName;
+  }
+
   public String getSchedulerName() {
     return schedulerName;
   }
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An idle strategy which learns how long its thread usually stays idle before new work arrives, and
+ * picks the cheapest way of waiting for that amount of time.
+ *
+ * <p>Like the {@link BackoffIdleStrategy}, it moves from spinning to yielding to parking with an
+ * exponentially growing park period. Unlike it, the spin and yield phases are only used while the
+ * smoothed idle period is short enough that they are likely to catch the next task: if tasks arrive
+ * every few microseconds, spinning avoids paying for a park/unpark round trip; if they arrive every
+ * few milliseconds, spinning and yielding only burn CPU, so the thread parks right away, starting
+ * with a park period close to the expected idle period.
+ *
+ * <p>Not thread safe; each actor thread must use its own instance.
+ */
+public final class AdaptiveIdleStrategy implements IdleStrategy {
+
+  /** The weight of the latest idle period is {@code 1 / 2^SMOOTHING_SHIFT}. */
+  private static final int SMOOTHING_SHIFT = 3;
+
+  private final long maxSpins;
+  private final long maxYields;
+  private final long minParkPeriodNs;
+  private final long maxParkPeriodNs;
+  private final long spinThresholdNs;
+  private final long yieldThresholdNs;
+
+  private IdleCycleListener listener = IdleCycleListener.NOOP;
+  private long averageIdleNs;
+  private boolean idle;
+  private long idleStartNs;
+  private long parkPeriodNs;
+  private long spins;
+  private long yields;
+  private long parks;
+
+  /**
+   * @param maxSpins upper bound of busy spins per idle period
+   * @param maxYields upper bound of {@link Thread#yield()} calls per idle period
+   * @param minParkPeriodNs the shortest park period
+   * @param maxParkPeriodNs the longest park period
+   * @param spinThresholdNs the thread only spins while the smoothed idle period is at most this
+   * @param yieldThresholdNs the thread only yields while the smoothed idle period is at most this
+   */
+  public AdaptiveIdleStrategy(
+      final long maxSpins,
+      final long maxYields,
+      final long minParkPeriodNs,
+      final long maxParkPeriodNs,
+      final long spinThresholdNs,
+      final long yieldThresholdNs) {
+    if (minParkPeriodNs <= 0 || maxParkPeriodNs < minParkPeriodNs) {
+      throw new IllegalArgumentException(
+          "Expected 0 < minParkPeriodNs <= maxParkPeriodNs, but got %d and %d"
+              .formatted(minParkPeriodNs, maxParkPeriodNs));
+    }
+
+    this.maxSpins = maxSpins;
+    this.maxYields = maxYields;
+    this.minParkPeriodNs = minParkPeriodNs;
+    this.maxParkPeriodNs = maxParkPeriodNs;
+    this.spinThresholdNs = spinThresholdNs;
+    this.yieldThresholdNs = yieldThresholdNs;
+  }
+
+  @Override
+  public void idle(final int workCount) {
+    if (workCount > 0) {
+      reset();
+    } else {
+      idle();
+    }
+  }
+
+  @Override
+  public void idle() {
+    if (!idle) {
+      idle = true;
+      idleStartNs = System.nanoTime();
+      parkPeriodNs = Math.clamp(averageIdleNs >> 1, minParkPeriodNs, maxParkPeriodNs);
+    }
+
+    if (spins < maxSpins && averageIdleNs <= spinThresholdNs) {
+      spins++;
+      Thread.onSpinWait();
+    } else if (yields < maxYields && averageIdleNs <= yieldThresholdNs) {
+      yields++;
+      Thread.yield();
+    } else {
+      parks++;
+      LockSupport.parkNanos(parkPeriodNs);
+      parkPeriodNs = Math.min(parkPeriodNs << 1, maxParkPeriodNs);
+    }
+  }
+
+  @Override
+  public void reset() {
+    if (!idle) {
+      return;
+    }
+
+    final long idleNs = System.nanoTime() - idleStartNs;
+    averageIdleNs += (idleNs - averageIdleNs) >> SMOOTHING_SHIFT;
+    listener.onIdleCycleCompleted(idleNs, spins, yields, parks);
+
+    idle = false;
+    spins = 0;
+    yields = 0;
+    parks = 0;
+  }
+
+  @Override
+  public String alias() {
+    return "adaptive";
+  }
+
+  long averageIdleNs() {
+    return averageIdleNs;
+  }
+
+  void setListener(final IdleCycleListener listener) {
+    this.listener = listener;
+  }
+
+  /** Notified on the owning thread each time an idle period ends. */
+  @FunctionalInterface
+  interface IdleCycleListener {
+    IdleCycleListener NOOP = (idleNs, spins, yields, parks) -> {};
+
+    void onIdleCycleCompleted(long idleNs, long spins, long yields, long parks);
+  }
+}
@@ -9,10 +9,32 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 
+/**
+ * Thread group for the blocking, I/O bound, tasks. Its threads can optionally be backed by virtual
+ * threads, see {@link ActorSchedulerBuilder#setIoBoundVirtualThreads(boolean)}.
+ */
 public final class IoThreadGroup extends ActorThreadGroup {
+  private final boolean virtualThreads;
 
   public IoThreadGroup(final ActorSchedulerBuilder builder) {
     super(
-        "zb-fs-workers", builder.getIoBoundActorThreadCount(), builder, builder.getSchedulerName());
+        "zb-fs-workers",
+        builder.getIoBoundActorThreadCount(),
+        builder,
+        builder.getSchedulerName(),
+        builder.getIoBoundIdleStrategySupplier());
+    virtualThreads = builder.isIoBoundVirtualThreads();
+  }
+
+  @Override
+  public void start() {
+    if (!virtualThreads) {
+      super.start();
+      return;
+    }
+
+    for (final ActorThread actorThread : threads) {
+      actorThread.startVirtual();
+    }
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.prometheus.client.CollectorRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorThreadMetricsTest {
+
+  private static final String THREAD_GROUP = "zb-actors";
+
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    // a single thread, such that all actors share it and it is either idle or busy
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setCpuBoundIdleStrategySupplier(ActorSchedulerBuilder::adaptiveIdleStrategySupplier)
+            .setMetricsEnabled(true)
+            .build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldCountIdleActions() {
+    // given
+    final var actor = submitActor();
+    final double idleActions = idleActions();
+
+    // when - then
+    await()
+        .untilAsserted(
+            () -> {
+              actor.actor.call(() -> null).join();
+              assertThat(idleActions()).isGreaterThan(idleActions);
+            });
+  }
+
+  @Test
+  void shouldMeasureWakeUpLatencyOfIdleThread() {
+    // given
+    final var actor = submitActor();
+    final double wakeUps = wakeUpLatencyCount();
+
+    // when - then
+    await()
+        .untilAsserted(
+            () -> {
+              actor.actor.call(() -> null).join();
+              assertThat(wakeUpLatencyCount()).isGreaterThan(wakeUps);
+            });
+  }
+
+  @Test
+  void shouldNotMeasureWakeUpLatencyOfBusyThread() throws InterruptedException {
+    // given - the thread is busy executing one actor
+    final var busyActor = submitActor();
+    final var idleActor = submitActor();
+    idleActor.actor.call(() -> null).join();
+
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var busy =
+        busyActor.actor.call(
+            () -> {
+              started.countDown();
+              release.await();
+              return null;
+            });
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+    final double wakeUps = wakeUpLatencyCount();
+
+    // when - work is signalled for the other actor while the thread is busy
+    final var call = idleActor.actor.call(() -> null);
+    release.countDown();
+
+    // then
+    busy.join(10, TimeUnit.SECONDS);
+    call.join(10, TimeUnit.SECONDS);
+    assertThat(wakeUpLatencyCount()).isEqualTo(wakeUps);
+  }
+
+  private Actor submitActor() {
+    final var actor = new Actor() {};
+    scheduler.submitActor(actor).join(10, TimeUnit.SECONDS);
+    return actor;
+  }
+
+  private static double idleActions() {
+    return idleActions("spin") + idleActions("yield") + idleActions("park");
+  }
+
+  private static double idleActions(final String action) {
+    return sampleValue(
+        "zeebe_actor_thread_idle_actions_total",
+        new String[] {"threadGroup", "action"},
+        new String[] {THREAD_GROUP, action});
+  }
+
+  private static double wakeUpLatencyCount() {
+    return sampleValue(
+        "zeebe_actor_thread_wake_up_latency_count",
+        new String[] {"threadGroup"},
+        new String[] {THREAD_GROUP});
+  }
+
+  private static double sampleValue(
+      final String name, final String[] labelNames, final String[] labelValues) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(name, labelNames, labelValues);
+    return value != null ? value : 0;
+  }
+}
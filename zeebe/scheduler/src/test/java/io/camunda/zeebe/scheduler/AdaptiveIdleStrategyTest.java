@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.NoOpIdleStrategy;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveIdleStrategyTest {
+
+  private static final long MIN_PARK_PERIOD_NS = Duration.ofNanos(1_000).toNanos();
+  private static final long MAX_PARK_PERIOD_NS = Duration.ofMillis(1).toNanos();
+  private static final long SPIN_THRESHOLD_NS = Duration.ofMillis(1).toNanos();
+  private static final long YIELD_THRESHOLD_NS = Duration.ofMillis(10).toNanos();
+
+  private final List<IdleCycle> cycles = new ArrayList<>();
+
+  @Test
+  void shouldSpinThenYieldThenParkWhileIdlePeriodsAreShort() {
+    // given
+    final var strategy = newStrategy(2, 2);
+
+    // when
+    for (int i = 0; i < 6; i++) {
+      strategy.idle();
+    }
+    strategy.reset();
+
+    // then
+    assertThat(cycles).singleElement().isEqualTo(new IdleCycle(2, 2, 2));
+  }
+
+  @Test
+  void shouldParkRightAwayOnceIdlePeriodsAreLong() throws InterruptedException {
+    // given
+    final var strategy = newStrategy(2, 2);
+
+    // when - every idle period is longer than both thresholds
+    while (strategy.averageIdleNs() <= YIELD_THRESHOLD_NS) {
+      strategy.idle();
+      Thread.sleep(Duration.ofMillis(20));
+      strategy.reset();
+    }
+    cycles.clear();
+    strategy.idle();
+    strategy.reset();
+
+    // then
+    assertThat(cycles).singleElement().isEqualTo(new IdleCycle(0, 0, 1));
+  }
+
+  @Test
+  void shouldSpinAgainOnceIdlePeriodsAreShortAgain() throws InterruptedException {
+    // given
+    final var strategy = newStrategy(2, 2);
+    while (strategy.averageIdleNs() <= YIELD_THRESHOLD_NS) {
+      strategy.idle();
+      Thread.sleep(Duration.ofMillis(20));
+      strategy.reset();
+    }
+
+    // when - work arrives right after becoming idle
+    while (strategy.averageIdleNs() > SPIN_THRESHOLD_NS) {
+      strategy.idle();
+      strategy.reset();
+    }
+    cycles.clear();
+    strategy.idle();
+    strategy.reset();
+
+    // then
+    assertThat(cycles).singleElement().isEqualTo(new IdleCycle(1, 0, 0));
+  }
+
+  @Test
+  void shouldNotReportCycleWithoutBeingIdle() {
+    // given
+    final var strategy = newStrategy(2, 2);
+
+    // when
+    strategy.reset();
+    strategy.idle(1);
+
+    // then
+    assertThat(cycles).isEmpty();
+  }
+
+  @Test
+  void shouldRejectInvalidParkPeriods() {
+    assertThatThrownBy(() -> new AdaptiveIdleStrategy(1, 1, 0, 1, 1, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveIdleStrategy(1, 1, 10, 1, 1, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldUseIdleStrategyPerThreadGroup() {
+    // given
+    final List<IdleStrategy> cpuStrategies = new ArrayList<>();
+    final List<IdleStrategy> ioStrategies = new ArrayList<>();
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .setCpuBoundIdleStrategySupplier(
+                () -> {
+                  final var strategy = ActorSchedulerBuilder.adaptiveIdleStrategySupplier();
+                  cpuStrategies.add(strategy);
+                  return strategy;
+                })
+            .setIoBoundIdleStrategySupplier(
+                () -> {
+                  final var strategy = new NoOpIdleStrategy();
+                  ioStrategies.add(strategy);
+                  return strategy;
+                });
+
+    // when
+    builder.build();
+
+    // then
+    assertThat(cpuStrategies).hasSize(2).allMatch(AdaptiveIdleStrategy.class::isInstance);
+    assertThat(ioStrategies).hasSize(1);
+  }
+
+  @Test
+  void shouldFallBackToCommonIdleStrategy() {
+    // given
+    final IdleStrategy strategy = new NoOpIdleStrategy();
+    final var builder = ActorScheduler.newActorScheduler().setIdleStrategySupplier(() -> strategy);
+
+    // when
+    builder.setCpuBoundIdleStrategySupplier(null);
+
+    // then
+    assertThat(builder.getCpuBoundIdleStrategySupplier().get()).isSameAs(strategy);
+    assertThat(builder.getIoBoundIdleStrategySupplier().get()).isSameAs(strategy);
+  }
+
+  private AdaptiveIdleStrategy newStrategy(final long maxSpins, final long maxYields) {
+    final var strategy =
+        new AdaptiveIdleStrategy(
+            maxSpins,
+            maxYields,
+            MIN_PARK_PERIOD_NS,
+            MAX_PARK_PERIOD_NS,
+            SPIN_THRESHOLD_NS,
+            YIELD_THRESHOLD_NS);
+    strategy.setListener(
+        (idleNs, spins, yields, parks) -> cycles.add(new IdleCycle(spins, yields, parks)));
+    return strategy;
+  }
+
+  private record IdleCycle(long spins, long yields, long parks) {}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of calls to an I/O bound actor while other I/O bound actors keep blocking
+ * their thread, e.g. on disk or network I/O. Each blocking actor sleeps for a millisecond, then
+ * yields and blocks again.
+ *
+ * <p>With fewer threads than blocking actors, the calls mostly wait for a blocking actor to yield
+ * its thread, regardless of the thread mode. Virtual threads only pay off by making many threads
+ * cheap, so compare both modes with the same thread count: the test below checks that, with enough
+ * threads, virtual threads answer calls about as quickly as platform threads.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IoThreadGroupPerformanceTest {
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  public ThreadMode threadMode;
+
+  @Param({"2", "64"})
+  public int ioThreadCount;
+
+  @Param({"8"})
+  public int blockingActorCount;
+
+  private ActorScheduler scheduler;
+  private final List<BlockingActor> blockingActors = new ArrayList<>();
+  private final ProbeActor probe = new ProbeActor();
+
+  @Setup
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(ioThreadCount)
+            .setIoBoundVirtualThreads(threadMode == ThreadMode.VIRTUAL)
+            .build();
+    scheduler.start();
+
+    for (int i = 0; i < blockingActorCount; i++) {
+      final var blockingActor = new BlockingActor();
+      scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+      blockingActors.add(blockingActor);
+    }
+    scheduler.submitActor(probe, SchedulingHints.ioBound()).join();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    blockingActors.forEach(BlockingActor::stop);
+    scheduler.close();
+  }
+
+  @Benchmark
+  public int measureIoActorCallLatency() {
+    return probe.call().join();
+  }
+
+  @JMHTest("measureIoActorCallLatency")
+  void shouldAnswerCallsOnVirtualThreadsAboutAsQuicklyAsOnPlatformThreads(
+      final JMHTestCase testCase) {
+    // given - the latency with as many platform threads as virtual threads
+    final double platformLatency =
+        JMHTestCase.of(
+                IoThreadGroupPerformanceTest.class,
+                "measureIoActorCallLatency",
+                o -> o.param("threadMode", "PLATFORM").param("ioThreadCount", "64"))
+            .run()
+            .score();
+    testCase.withOptions(o -> o.param("threadMode", "VIRTUAL").param("ioThreadCount", "64"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtMost(platformLatency, 0.5);
+  }
+
+  public enum ThreadMode {
+    PLATFORM,
+    VIRTUAL
+  }
+
+  private static final class BlockingActor extends Actor {
+    private volatile boolean stopped;
+
+    @Override
+    protected void onActorStarted() {
+      actor.submit(this::block);
+    }
+
+    private void block() {
+      if (stopped) {
+        return;
+      }
+
+      try {
+        Thread.sleep(1);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      actor.submit(this::block);
+    }
+
+    private void stop() {
+      stopped = true;
+    }
+  }
+
+  private static final class ProbeActor extends Actor {
+    private int calls;
+
+    private ActorFuture<Integer> call() {
+      return actor.call(() -> ++calls);
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoBoundActorsTest {
+  // the platform threads which the virtual threads are mounted on, see
+  // java.lang.VirtualThread#createDefaultScheduler
+  private static final int CARRIER_THREAD_COUNT =
+      Integer.getInteger(
+          "jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+  // more actors than carrier threads, such that they can only all block if blocking unmounts them
+  private static final int BLOCKING_ACTOR_COUNT = 2 * CARRIER_THREAD_COUNT;
+  // enough threads to run every blocking actor, and still have one left for other actors
+  private static final int IO_THREAD_COUNT = BLOCKING_ACTOR_COUNT + 1;
+
+  private final ActorSchedulerBuilder builder =
+      ActorScheduler.newActorScheduler()
+          .setCpuBoundActorThreadCount(1)
+          .setIoBoundActorThreadCount(IO_THREAD_COUNT)
+          .setIoBoundVirtualThreads(true);
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void beforeEach() {
+    scheduler = builder.build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when
+    final var result =
+        actor.call(
+            () ->
+                Thread.currentThread().isVirtual()
+                    && ActorThread.current().getActorThreadGroup()
+                        == builder.getIoBoundActorThreads());
+
+    // then
+    assertThat(result.join()).isTrue();
+  }
+
+  @Test
+  void shouldKeepCpuBoundActorsOnPlatformThreads() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.cpuBound()).join();
+
+    // when
+    final var result = actor.call(() -> Thread.currentThread().isVirtual());
+
+    // then
+    assertThat(result.join()).isFalse();
+  }
+
+  @Test
+  void shouldRunTimersOnVirtualThread() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final ActorFuture<Boolean> timerFired = new CompletableActorFuture<>();
+
+    // when
+    actor.run(
+        () ->
+            actor.schedule(
+                Duration.ofMillis(10),
+                () -> timerFired.complete(Thread.currentThread().isVirtual())));
+
+    // then
+    assertThat(timerFired.join()).isTrue();
+  }
+
+  @Test
+  void shouldCompleteFuturesOfOtherActorsOnVirtualThread() {
+    // given
+    final var cpuBoundActor = new TestActor();
+    final var ioBoundActor = new TestActor();
+    scheduler.submitActor(cpuBoundActor, SchedulingHints.cpuBound()).join();
+    scheduler.submitActor(ioBoundActor, SchedulingHints.ioBound()).join();
+    final ActorFuture<Boolean> callbackRun = new CompletableActorFuture<>();
+
+    // when
+    ioBoundActor.run(
+        () ->
+            ioBoundActor.runOnCompletion(
+                cpuBoundActor.call(() -> 1),
+                (value, error) -> callbackRun.complete(Thread.currentThread().isVirtual())));
+
+    // then
+    assertThat(callbackRun.join()).isTrue();
+  }
+
+  @Test
+  void shouldNotStarveIoBoundActorsWhileOthersBlock() throws InterruptedException {
+    // given
+    final var blocked = new CountDownLatch(BLOCKING_ACTOR_COUNT);
+    final var release = new CountDownLatch(1);
+    final List<TestActor> blockingActors = new ArrayList<>();
+    for (int i = 0; i < BLOCKING_ACTOR_COUNT; i++) {
+      final var blockingActor = new TestActor();
+      scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+      blockingActors.add(blockingActor);
+    }
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when - more actors block at the same time than there are carrier threads
+    blockingActors.forEach(
+        blockingActor ->
+            blockingActor.run(
+                () -> {
+                  blocked.countDown();
+                  awaitUninterruptibly(release);
+                }));
+
+    // then
+    try {
+      assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(actor.call(() -> true).join(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class TestActor extends Actor {}
+}
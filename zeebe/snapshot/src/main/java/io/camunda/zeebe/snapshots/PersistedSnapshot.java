@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot {
@@ -98,4 +99,15 @@ public interface PersistedSnapshot {
    * @return future with SnapshotReservation
    */
   ActorFuture<SnapshotReservation> reserve();
+
+  /**
+   * Returns the checksums of the immutable files of this snapshot, which a newer snapshot can
+   * reference instead of copying them. A receiver can pass them to the sender, such that these
+   * files are not transferred again; see {@link SnapshotChunkReader#setReusableFiles(Map)}.
+   *
+   * @return the checksums of the reusable files, by file name
+   */
+  default Map<String, Long> getReusableFiles() {
+    return Map.of();
+  }
 }
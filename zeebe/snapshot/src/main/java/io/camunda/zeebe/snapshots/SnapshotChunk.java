@@ -46,4 +46,15 @@ public interface SnapshotChunk {
   long getFileBlockPosition();
 
   long getTotalFileSize();
+
+  /**
+   * A file reference chunk carries no content. It stands for a whole file which the receiver
+   * already has in its latest snapshot, identified by the {@link #getChunkName() file name} and
+   * {@link #getChecksum() checksum} of the complete file.
+   *
+   * @return true if this chunk references a file instead of carrying its content
+   */
+  default boolean isFileReference() {
+    return false;
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,14 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Sets the files which the receiver already has, e.g. as part of its latest snapshot. Instead of
+   * reading such a file, the reader returns a single {@link SnapshotChunk#isFileReference() file
+   * reference chunk} for it, if the file of this snapshot has the same name and checksum. Replaces
+   * any previously set files.
+   *
+   * @param fileChecksums the checksums of the receiver's files, by file name
+   */
+  default void setReusableFiles(final Map<String, Long> fileChecksums) {}
 }
@@ -18,7 +18,9 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Objects;
@@ -90,7 +92,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    if (!snapshotChunk.isFileReference()) {
+      checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -101,13 +105,24 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    if (snapshotChunk.isFileReference()) {
+      LOGGER.trace("Reuse snapshot file {} for snapshot {}", chunkName, snapshotId);
+      linkReferencedFile(snapshotChunk, snapshotFile);
+      snapshotStore
+          .getSnapshotMetrics()
+          .observeReceivedFileReference(snapshotChunk.getTotalFileSize());
+      checksumCollection.updateFromChecksum(snapshotFile, snapshotChunk.getChecksum());
+      return;
+    }
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    snapshotStore.getSnapshotMetrics().observeReceivedChunk(snapshotChunk.getContent().length);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
-    }
     checksumCollection.updateFromBytes(
         snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
@@ -190,6 +205,40 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Hard links the referenced file of the latest snapshot into this snapshot, such that the file is
+   * only deleted once no snapshot references it anymore. Falls back to copying the file if the file
+   * system does not support hard links.
+   */
+  private void linkReferencedFile(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var referencedFile =
+        snapshotStore
+            .findReusableFile(
+                snapshotChunk.getChunkName(),
+                snapshotChunk.getChecksum(),
+                snapshotChunk.getTotalFileSize())
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse file %s with checksum %d of the latest snapshot, but no such file exists",
+                            snapshotChunk.getChunkName(), snapshotChunk.getChecksum())));
+
+    try {
+      Files.deleteIfExists(snapshotFile);
+      try {
+        Files.createLink(snapshotFile, referencedFile);
+      } catch (final UnsupportedOperationException | IOException e) {
+        LOGGER.debug("Failed to link {}, copying it instead", referencedFile, e);
+        Files.copy(referencedFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse snapshot file %s", referencedFile), e);
+    }
+  }
+
   private void writeReceivedSnapshotChunk(
       final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
 
@@ -21,8 +21,10 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +32,8 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   // version currently hardcoded, could be used for backwards compatibility
   private static final int VERSION = 1;
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedSnapshot.class);
+  // SST files are immutable, so a newer snapshot can share them with an older one
+  private static final String REUSABLE_FILE_EXTENSION = ".sst";
 
   private final Path directory;
   private final Path checksumFile;
@@ -37,11 +41,13 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   private final FileBasedSnapshotId snapshotId;
   private final SnapshotMetadata metadata;
   private final Consumer<FileBasedSnapshot> onSnapshotDeleted;
+  private final SnapshotMetrics snapshotMetrics;
 
   private final Set<FileBasedSnapshotReservation> reservations = new HashSet<>();
   private final ActorControl actor;
 
   private boolean deleted = false;
+  private volatile Map<String, Long> reusableFiles;
 
   FileBasedSnapshot(
       final Path directory,
@@ -50,6 +56,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
       final FileBasedSnapshotId snapshotId,
       final SnapshotMetadata metadata,
       final Consumer<FileBasedSnapshot> onSnapshotDeleted,
+      final SnapshotMetrics snapshotMetrics,
       final ActorControl actor) {
     this.directory = directory;
     this.checksumFile = checksumFile;
@@ -57,6 +64,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     this.snapshotId = snapshotId;
     this.metadata = metadata;
     this.onSnapshotDeleted = onSnapshotDeleted;
+    this.snapshotMetrics = snapshotMetrics;
     this.actor = actor;
   }
 
@@ -86,7 +94,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory, checksum);
+      return new FileBasedSnapshotChunkReader(directory, checksumFile, checksum, snapshotMetrics);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -142,6 +150,27 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return snapshotLocked;
   }
 
+  @Override
+  public Map<String, Long> getReusableFiles() {
+    if (reusableFiles == null) {
+      try {
+        reusableFiles =
+            SnapshotChecksum.read(checksumFile).getChecksums().entrySet().stream()
+                .filter(entry -> isReusableFile(entry.getKey()))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+      } catch (final IOException e) {
+        LOGGER.warn("Failed to read file checksums of snapshot {}", getId(), e);
+        return Map.of();
+      }
+    }
+
+    return reusableFiles;
+  }
+
+  static boolean isReusableFile(final String fileName) {
+    return fileName.endsWith(REUSABLE_FILE_EXTENSION);
+  }
+
   void delete() {
     // the checksum, as a mark file, should be deleted first
     try {
@@ -15,16 +15,26 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>Files which the receiver can reuse (see {@link #setReusableFiles(Map)}) are not read, but
+ * returned as a single file reference chunk.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedSnapshotChunkReader.class);
+
   private final Path directory;
+  private final Path checksumFile;
   private final NavigableSet<CharSequence> chunks;
 
   private long offset;
@@ -32,16 +42,28 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private final SnapshotMetrics snapshotMetrics;
   private long maximumChunkSize;
+  private Map<String, Long> reusableFiles = Map.of();
 
-  public FileBasedSnapshotChunkReader(final Path directory, final long checksum)
+  public FileBasedSnapshotChunkReader(
+      final Path directory,
+      final Path checksumFile,
+      final long checksum,
+      final SnapshotMetrics snapshotMetrics)
       throws IOException {
-    this(directory, checksum, Long.MAX_VALUE);
+    this(directory, checksumFile, checksum, Long.MAX_VALUE, snapshotMetrics);
   }
 
   FileBasedSnapshotChunkReader(
-      final Path directory, final long checksum, final long maximumChunkSize) throws IOException {
+      final Path directory,
+      final Path checksumFile,
+      final long checksum,
+      final long maximumChunkSize,
+      final SnapshotMetrics snapshotMetrics)
+      throws IOException {
     this.directory = directory;
+    this.checksumFile = checksumFile;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -51,6 +73,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     snapshotID = directory.getFileName().toString();
 
     this.maximumChunkSize = maximumChunkSize;
+    this.snapshotMetrics = snapshotMetrics;
   }
 
   private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
@@ -63,6 +86,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public void reset() {
+    offset = 0;
     chunksView = new TreeSet<>(chunks);
   }
 
@@ -93,6 +117,37 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void setReusableFiles(final Map<String, Long> fileChecksums) {
+    if (fileChecksums.isEmpty()) {
+      reusableFiles = Map.of();
+      return;
+    }
+
+    final Map<String, Long> ownChecksums;
+    try {
+      ownChecksums = SnapshotChecksum.read(checksumFile).getChecksums();
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to read file checksums from {}, will send all files of snapshot {}",
+          checksumFile,
+          snapshotID,
+          e);
+      reusableFiles = Map.of();
+      return;
+    }
+
+    final var matchingFiles = new HashMap<String, Long>();
+    ownChecksums.forEach(
+        (fileName, checksum) -> {
+          if (FileBasedSnapshot.isReusableFile(fileName)
+              && checksum.equals(fileChecksums.get(fileName))) {
+            matchingFiles.put(fileName, checksum);
+          }
+        });
+    reusableFiles = matchingFiles;
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -109,6 +164,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     final var fileName = chunksView.first().toString();
     final var filePath = directory.resolve(fileName).toString();
 
+    final var reusableFileChecksum = reusableFiles.get(fileName);
+    if (offset == 0 && reusableFileChecksum != null) {
+      return nextFileReference(fileName, reusableFileChecksum);
+    }
+
     try (final var file = new RandomAccessFile(filePath, "r")) {
       final var fileLength = file.length();
       final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
@@ -123,6 +183,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
         chunksView.pollFirst();
       }
 
+      snapshotMetrics.observeSentChunk(bytesToRead);
       return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
           snapshotID,
           totalCount,
@@ -135,4 +196,17 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  private SnapshotChunk nextFileReference(final String fileName, final long fileChecksum) {
+    try {
+      final var fileLength = Files.size(directory.resolve(fileName));
+      chunksView.pollFirst();
+
+      snapshotMetrics.observeSentFileReference(fileLength);
+      return SnapshotChunkUtil.createSnapshotChunkFromFileReference(
+          snapshotID, totalCount, snapshotChecksum, fileName, fileChecksum, fileLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
@@ -231,6 +231,7 @@ public final class FileBasedSnapshotStore extends Actor
           snapshotId,
           metadata,
           this::onSnapshotDeleted,
+          snapshotMetrics,
           actor);
     } catch (final Exception e) {
       LOGGER.warn("Could not load snapshot in {}", path, e);
@@ -573,6 +574,7 @@ public final class FileBasedSnapshotStore extends Actor
               snapshotId,
               metadata,
               this::onSnapshotDeleted,
+              snapshotMetrics,
               actor);
       final var failed =
           !currentPersistedSnapshotRef.compareAndSet(
@@ -655,6 +657,30 @@ public final class FileBasedSnapshotStore extends Actor
     return name.endsWith(CHECKSUM_SUFFIX);
   }
 
+  /**
+   * Returns the file with the given name of the latest persisted snapshot, if it can be reused by a
+   * received snapshot, i.e. if it is immutable and has the expected checksum and size.
+   */
+  Optional<Path> findReusableFile(final String fileName, final long checksum, final long size) {
+    final var currentPersistedSnapshot = currentPersistedSnapshotRef.get();
+    if (currentPersistedSnapshot == null) {
+      return Optional.empty();
+    }
+
+    final var expectedChecksum = currentPersistedSnapshot.getReusableFiles().get(fileName);
+    if (expectedChecksum == null || expectedChecksum != checksum) {
+      return Optional.empty();
+    }
+
+    final var file = currentPersistedSnapshot.getDirectory().resolve(fileName);
+    try {
+      return Files.size(file) == size ? Optional.of(file) : Optional.empty();
+    } catch (final IOException e) {
+      LOGGER.debug("Cannot reuse snapshot file {}", file, e);
+      return Optional.empty();
+    }
+  }
+
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
@@ -12,7 +12,11 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
-public record SnapshotChunkId(ByteBuffer id) {
+/**
+ * Identifies a chunk by the file it belongs to and its offset in that file. Chunk IDs are ordered
+ * the same way a {@link FileBasedSnapshotChunkReader} reads them: by file name, then by offset.
+ */
+public record SnapshotChunkId(ByteBuffer id) implements Comparable<SnapshotChunkId> {
   private static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
 
   SnapshotChunkId(final String fileName, final long offset) {
@@ -28,9 +32,20 @@ public record SnapshotChunkId(ByteBuffer id) {
   }
 
   public long offset() {
-    final var offset = Long.valueOf(ID_CHARSET.decode(id()).toString().split("__")[1]);
+    final var parts = ID_CHARSET.decode(id()).toString().split("__");
     id.clear();
-    return offset;
+    // IDs of chunks which are not split into blocks consist of the file name only
+    return parts.length > 1 ? Long.parseLong(parts[1]) : 0;
+  }
+
+  @Override
+  public int compareTo(final SnapshotChunkId other) {
+    final int fileNameComparison = CharSequence.compare(fileName(), other.fileName());
+    if (fileNameComparison != 0) {
+      return fileNameComparison;
+    }
+
+    return Long.compare(offset(), other.offset());
   }
 
   @Override
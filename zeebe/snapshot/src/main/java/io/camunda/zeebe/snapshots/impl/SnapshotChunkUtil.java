@@ -43,7 +43,27 @@ final class SnapshotChunkUtil {
         fileData,
         snapshotChecksum,
         fileBlockPosition,
-        totalFileSize);
+        totalFileSize,
+        false);
+  }
+
+  static SnapshotChunk createSnapshotChunkFromFileReference(
+      final String snapshotId,
+      final int totalCount,
+      final long snapshotChecksum,
+      final String fileName,
+      final long fileChecksum,
+      final long totalFileSize) {
+    return new SnapshotChunkImpl(
+        snapshotId,
+        totalCount,
+        fileName,
+        fileChecksum,
+        new byte[0],
+        snapshotChecksum,
+        0,
+        totalFileSize,
+        true);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -55,6 +75,7 @@ final class SnapshotChunkUtil {
     private final long checksum;
     private final long fileBlockPosition;
     private final long totalFileSize;
+    private final boolean fileReference;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -64,7 +85,8 @@ final class SnapshotChunkUtil {
         final byte[] content,
         final long snapshotChecksum,
         final long fileBlockPosition,
-        final long totalFileSize) {
+        final long totalFileSize,
+        final boolean fileReference) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
@@ -73,6 +95,7 @@ final class SnapshotChunkUtil {
       this.snapshotChecksum = snapshotChecksum;
       this.fileBlockPosition = fileBlockPosition;
       this.totalFileSize = totalFileSize;
+      this.fileReference = fileReference;
     }
 
     @Override
@@ -114,5 +137,10 @@ final class SnapshotChunkUtil {
     public long getTotalFileSize() {
       return totalFileSize;
     }
+
+    @Override
+    public boolean isFileReference() {
+      return fileReference;
+    }
   }
 }
@@ -16,6 +16,9 @@ import io.prometheus.client.Histogram.Timer;
 public final class SnapshotMetrics {
   private static final String NAMESPACE = "zeebe";
   private static final String PARTITION_LABEL_NAME = "partition";
+  private static final String DIRECTION_LABEL_NAME = "direction";
+  private static final String DIRECTION_SENT = "sent";
+  private static final String DIRECTION_RECEIVED = "received";
 
   private static final Counter SNAPSHOT_COUNT =
       Counter.build()
@@ -62,12 +65,41 @@ public final class SnapshotMetrics {
           .buckets(.01, .1, .5, 1, 5, 10, 25, 50, 100, 250, 500)
           .register();
 
+  private static final Counter SNAPSHOT_TRANSFER_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME, DIRECTION_LABEL_NAME)
+          .name("snapshot_transfer_bytes")
+          .help("Total uncompressed bytes of snapshot chunks sent to or received from other nodes")
+          .register();
+  private static final Counter SNAPSHOT_TRANSFER_CHUNKS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME, DIRECTION_LABEL_NAME)
+          .name("snapshot_transfer_chunks")
+          .help("Total count of snapshot chunks sent to or received from other nodes")
+          .register();
+  private static final Counter SNAPSHOT_TRANSFER_REUSED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME, DIRECTION_LABEL_NAME)
+          .name("snapshot_transfer_reused_bytes")
+          .help(
+              "Total bytes of snapshot files which were not transferred, because the receiver could reuse them from its previous snapshot")
+          .register();
+
   private final Histogram.Child snapshotPersistDuration;
   private final Histogram.Child snapshotFileSize;
   private final Histogram.Child snapshotDuration;
   private final Gauge.Child snapshotChunkCount;
   private final Gauge.Child snapshotSize;
   private final Child snapshotCount;
+  private final Child sentBytes;
+  private final Child sentChunks;
+  private final Child receivedBytes;
+  private final Child receivedChunks;
+  private final Child sentReusedBytes;
+  private final Child receivedReusedBytes;
 
   public SnapshotMetrics(final String partitionId) {
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
@@ -76,6 +108,12 @@ public final class SnapshotMetrics {
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
     snapshotCount = SNAPSHOT_COUNT.labels(partitionId);
+    sentBytes = SNAPSHOT_TRANSFER_BYTES.labels(partitionId, DIRECTION_SENT);
+    sentChunks = SNAPSHOT_TRANSFER_CHUNKS.labels(partitionId, DIRECTION_SENT);
+    receivedBytes = SNAPSHOT_TRANSFER_BYTES.labels(partitionId, DIRECTION_RECEIVED);
+    receivedChunks = SNAPSHOT_TRANSFER_CHUNKS.labels(partitionId, DIRECTION_RECEIVED);
+    sentReusedBytes = SNAPSHOT_TRANSFER_REUSED_BYTES.labels(partitionId, DIRECTION_SENT);
+    receivedReusedBytes = SNAPSHOT_TRANSFER_REUSED_BYTES.labels(partitionId, DIRECTION_RECEIVED);
   }
 
   void incrementSnapshotCount() {
@@ -94,6 +132,26 @@ public final class SnapshotMetrics {
     snapshotFileSize.observe(sizeInBytes / 1_000_000f);
   }
 
+  void observeSentChunk(final long sizeInBytes) {
+    sentChunks.inc();
+    sentBytes.inc(sizeInBytes);
+  }
+
+  void observeReceivedChunk(final long sizeInBytes) {
+    receivedChunks.inc();
+    receivedBytes.inc(sizeInBytes);
+  }
+
+  void observeSentFileReference(final long fileSizeInBytes) {
+    sentChunks.inc();
+    sentReusedBytes.inc(fileSizeInBytes);
+  }
+
+  void observeReceivedFileReference(final long fileSizeInBytes) {
+    receivedChunks.inc();
+    receivedReusedBytes.inc(fileSizeInBytes);
+  }
+
   Timer startTimer() {
     return snapshotDuration.startTimer();
   }
@@ -26,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -167,6 +168,7 @@ public class FileBasedReceivedSnapshotTest {
             persistedSnapshot.getSnapshotId(),
             null,
             s -> {},
+            new SnapshotMetrics("1"),
             null);
 
     // when
@@ -372,6 +374,70 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseUnchangedFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var firstSnapshot =
+        takePersistedSnapshot(1L, Map.of("000001.sst", "immutable", "CURRENT", "1"));
+    final var firstReceivedSnapshot = receiveSnapshot(firstSnapshot).persist().join();
+    final var secondSnapshot =
+        takePersistedSnapshot(
+            2L, Map.of("000001.sst", "immutable", "000002.sst", "new", "CURRENT", "2"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(firstReceivedSnapshot.getReusableFiles());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        chunks.add(chunk);
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+
+    // then
+    assertThat(chunks)
+        .filteredOn(SnapshotChunk::isFileReference)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("000001.sst");
+    assertThat(
+            Files.isSameFile(
+                receivedSnapshot.getPath().resolve("000001.sst"),
+                firstReceivedSnapshot.getPath().resolve("000001.sst")))
+        .describedAs("the unchanged file is shared with the previous snapshot")
+        .isTrue();
+
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(firstReceivedSnapshot.getPath()).doesNotExist();
+    assertThat(persistedSnapshot.getPath().resolve("000001.sst")).hasContent("immutable");
+    assertThat(persistedSnapshot.getPath().resolve("000002.sst")).hasContent("new");
+    assertThat(persistedSnapshot.getReusableFiles())
+        .isEqualTo(secondSnapshot.getReusableFiles())
+        .containsOnlyKeys("000001.sst", "000002.sst");
+  }
+
+  @Test
+  public void shouldNotApplyFileReferenceWithoutReusableFile() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L, Map.of("000001.sst", "immutable"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final SnapshotChunk reference;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(persistedSnapshot.getReusableFiles());
+      reference = snapshotChunkReader.next();
+    }
+
+    // then
+    assertThat(reference.isFileReference()).isTrue();
+    assertThatThrownBy(() -> receivedSnapshot.apply(reference).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -386,16 +452,21 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
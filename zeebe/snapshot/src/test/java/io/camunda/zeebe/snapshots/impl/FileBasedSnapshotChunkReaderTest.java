@@ -44,6 +44,7 @@ public final class FileBasedSnapshotChunkReaderTest {
           .collect(Collectors.toUnmodifiableList());
   @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
   private Path snapshotDirectory;
+  private Path checksumFile;
 
   @Test
   public void shouldAssignChunkIdsFromFileNames() throws IOException {
@@ -333,6 +334,68 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldOrderChunkIdsInReadOrder() throws IOException {
+    // given
+    final var reader = newReader(3);
+    final var chunkIds = new ArrayList<SnapshotChunkId>();
+
+    // when
+    while (reader.hasNext()) {
+      chunkIds.add(new SnapshotChunkId(reader.nextId()));
+      reader.next();
+    }
+
+    // then
+    assertThat(chunkIds).hasSizeGreaterThan(SNAPSHOT_CHUNK.size()).isSorted();
+    assertThat(new SnapshotChunkId("file10", 0)).isGreaterThan(new SnapshotChunkId("file1", 3));
+    assertThat(new SnapshotChunkId("file1", 3)).isGreaterThan(new SnapshotChunkId("file1", 0));
+  }
+
+  @Test
+  public void shouldReferenceReusableFilesInsteadOfReadingThem() throws IOException {
+    // given
+    final var reader =
+        newReader(Map.of("000001.sst", "immutable", "000002.sst", "changed", "CURRENT", "x"), 3);
+    final var ownChecksums = SnapshotChecksum.read(checksumFile).getChecksums();
+    reader.setReusableFiles(
+        Map.of(
+            "000001.sst", ownChecksums.get("000001.sst"),
+            "000002.sst", ownChecksums.get("000002.sst") + 1,
+            "CURRENT", ownChecksums.get("CURRENT")));
+
+    // when
+    final var chunks = getAllChunks(reader);
+
+    // then
+    final var reference = chunks.get(0);
+    assertThat(reference.isFileReference()).isTrue();
+    assertThat(reference.getChunkName()).isEqualTo("000001.sst");
+    assertThat(reference.getContent()).isEmpty();
+    assertThat(reference.getChecksum()).isEqualTo(ownChecksums.get("000001.sst"));
+    assertThat(reference.getTotalFileSize()).isEqualTo("immutable".length());
+    assertThat(chunks.subList(1, chunks.size()))
+        .allSatisfy(chunk -> assertThat(chunk.isFileReference()).isFalse())
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("000002.sst", "000002.sst", "000002.sst", "CURRENT");
+  }
+
+  @Test
+  public void shouldContinueWithNextFileAfterFileReference() throws IOException {
+    // given
+    final var reader = newReader(Map.of("000001.sst", "immutable", "000002.sst", "sent"), 3);
+    final var ownChecksums = SnapshotChecksum.read(checksumFile).getChecksums();
+    reader.setReusableFiles(Map.of("000001.sst", ownChecksums.get("000001.sst")));
+
+    // when
+    final var reference = reader.next();
+
+    // then
+    assertThat(reference.isFileReference()).isTrue();
+    assertThat(reader.nextId()).isEqualTo(asByteBuffer("000002.sst__0"));
+    assertThat(reader.next().getContent()).isEqualTo("sen".getBytes(StandardCharsets.UTF_8));
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -348,15 +411,23 @@ public final class FileBasedSnapshotChunkReaderTest {
   }
 
   private FileBasedSnapshotChunkReader newReader(final long chunkSize) throws IOException {
-    snapshotDirectory = temporaryFolder.getRoot().toPath();
+    return newReader(SNAPSHOT_CHUNK, chunkSize);
+  }
+
+  private FileBasedSnapshotChunkReader newReader(
+      final Map<String, String> files, final long chunkSize) throws IOException {
+    snapshotDirectory = temporaryFolder.newFolder("snapshot").toPath();
+    checksumFile = temporaryFolder.getRoot().toPath().resolve("snapshot.checksum");
 
-    for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
+    for (final var chunk : files.keySet()) {
       final var path = snapshotDirectory.resolve(chunk);
       Files.createFile(path);
-      Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
+      Files.writeString(path, files.get(chunk));
     }
+    SnapshotChecksum.persist(checksumFile, SnapshotChecksum.calculate(snapshotDirectory));
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM, chunkSize);
+    return new FileBasedSnapshotChunkReader(
+        snapshotDirectory, checksumFile, SNAPSHOT_CHECKSUM, chunkSize, new SnapshotMetrics("1"));
   }
 
   private FileBasedSnapshotChunkReader newReader() throws IOException {
@@ -83,4 +83,40 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that the result of this benchmark is at most the expected reference score. Use this
+   * instead of {@link #isAtLeast(double, double)} for benchmarks where a lower score is better,
+   * e.g. when measuring the average time per operation.
+   *
+   * @param referenceScore the expected reference score
+   * @param maxDeviation the maximum allowed deviation used to compute a real maximum score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert isAtMost(final double referenceScore, final double maxDeviation) {
+    final double score = actual.getPrimaryResult().getScore();
+    final double maximumScore = referenceScore + referenceScore * maxDeviation;
+
+    if (score > maximumScore) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected reference score to be at most %s (with %s max deviation, i.e. %s), but got %s",
+              DECIMAL_FORMAT.format(referenceScore),
+              DECIMAL_FORMAT.format(maxDeviation * 100) + "%",
+              DECIMAL_FORMAT.format(maximumScore),
+              DECIMAL_FORMAT.format(score)));
+    }
+
+    return myself;
+  }
+
+  /**
+   * Returns the primary score of the benchmark, e.g. to use it as reference score of another run.
+   *
+   * @return the primary score
+   */
+  public double score() {
+    return actual.getPrimaryResult().getScore();
+  }
 }
@@ -26,6 +26,12 @@ public interface RemoteStream<M, P extends BufferWriter> {
   /** Returns the stream's metadata */
   M metadata();
 
+  /**
+   * Returns the number of consumers which were aggregated into this stream, i.e. to which its
+   * payloads may be pushed.
+   */
+  int consumerCount();
+
   /**
    * Pushes the given payload to the stream. Implementations of this are likely asynchronous; it's
    * recommended that callers ensure that the given payload is immutable, and that the error handler
@@ -40,6 +40,11 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     return stream.logicalId().metadata();
   }
 
+  @Override
+  public int consumerCount() {
+    return stream.streamConsumers().size();
+  }
+
   @Override
   public void push(final P payload) {
     final var initialConsumer = pickInitialConsumer();
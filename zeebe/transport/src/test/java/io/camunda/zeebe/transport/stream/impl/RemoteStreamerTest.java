@@ -76,6 +76,21 @@ final class RemoteStreamerTest {
     assertThat(stream.metadata()).isSameAs(metadata);
   }
 
+  @Test
+  void shouldReportAggregatedConsumerCount() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var metadata = new TestMetadata(1);
+    registry.add(type, UUID.randomUUID(), MemberId.from("a"), metadata);
+    registry.add(type, UUID.randomUUID(), MemberId.from("b"), metadata);
+
+    // when
+    final var stream = streamer.streamFor(type).orElseThrow();
+
+    // then
+    assertThat(stream.consumerCount()).isEqualTo(2);
+  }
+
   @Test
   void shouldFilterStreamForWithPredicate() {
     // given
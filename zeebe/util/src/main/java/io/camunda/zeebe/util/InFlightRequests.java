@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Keeps track of requests which are sent asynchronously, in the order in which they were sent.
+ * Requests may be acknowledged in any order, but a request is only reported as acknowledged once
+ * all requests sent before it were acknowledged as well, e.g. such that an exporter never updates
+ * its position past a record which is not indexed yet.
+ *
+ * <p>Failed requests keep their place until they are retried. Each failed request is only retried
+ * after a backoff, which grows with every failure of the same request.
+ *
+ * <p>Requests are usually added and retried by one thread, and completed by other threads.
+ *
+ * @param <T> the type of the requests
+ */
+public final class InFlightRequests<T> {
+  private final Deque<InFlightRequest<T>> requests = new ArrayDeque<>();
+  private final int maxInFlightRequests;
+  private final LongUnaryOperator retryBackoff;
+
+  /**
+   * @param maxInFlightRequests the number of requests which may be in flight concurrently
+   */
+  public InFlightRequests(final int maxInFlightRequests) {
+    this(maxInFlightRequests, new ExponentialBackoff());
+  }
+
+  /**
+   * @param maxInFlightRequests the number of requests which may be in flight concurrently
+   * @param retryBackoff returns the delay in milliseconds before a failed request is retried, given
+   *     the previous delay of the same request, which is 0 after its first failure
+   */
+  public InFlightRequests(final int maxInFlightRequests, final LongUnaryOperator retryBackoff) {
+    this.maxInFlightRequests = maxInFlightRequests;
+    this.retryBackoff = retryBackoff;
+  }
+
+  /**
+   * Adds a request which is about to be sent.
+   *
+   * @param request the request
+   * @param onAcknowledged called once this request and all requests before it were acknowledged
+   * @return the added request
+   */
+  public synchronized InFlightRequest<T> add(final T request, final Runnable onAcknowledged) {
+    final var inFlight = new InFlightRequest<>(request, onAcknowledged);
+    requests.addLast(inFlight);
+    return inFlight;
+  }
+
+  public synchronized boolean hasCapacity() {
+    return requests.size() < maxInFlightRequests;
+  }
+
+  public synchronized boolean isEmpty() {
+    return requests.isEmpty();
+  }
+
+  /**
+   * Marks all failed requests whose backoff elapsed as in flight again, and returns them to be sent
+   * again.
+   */
+  public synchronized List<InFlightRequest<T>> takeRetryable() {
+    final long now = System.nanoTime();
+    final var retryable =
+        requests.stream()
+            .filter(request -> request.state == State.FAILED && request.retryAt - now <= 0)
+            .toList();
+    retryable.forEach(request -> request.state = State.IN_FLIGHT);
+    return retryable;
+  }
+
+  public synchronized void acknowledge(final InFlightRequest<T> request) {
+    request.state = State.ACKNOWLEDGED;
+
+    // the callbacks are run while holding the lock, so that they are called in order even when
+    // requests are acknowledged concurrently
+    while (!requests.isEmpty() && requests.peekFirst().state == State.ACKNOWLEDGED) {
+      requests.pollFirst().onAcknowledged.run();
+    }
+
+    notifyAll();
+  }
+
+  public synchronized void fail(final InFlightRequest<T> request) {
+    request.retryDelayMs = retryBackoff.applyAsLong(request.retryDelayMs);
+    request.retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(request.retryDelayMs);
+    request.state = State.FAILED;
+    notifyAll();
+  }
+
+  /**
+   * Waits until all requests were acknowledged, retrying failed requests once their backoff
+   * elapsed.
+   *
+   * @param timeout the maximum time to wait
+   * @param retry sends a failed request again; it's called without holding the lock
+   * @return false if there are still requests which weren't acknowledged after the given timeout,
+   *     true otherwise
+   */
+  public boolean awaitAcknowledged(final Duration timeout, final Consumer<InFlightRequest<T>> retry)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    while (true) {
+      takeRetryable().forEach(retry);
+
+      synchronized (this) {
+        final long now = System.nanoTime();
+        final long remaining = deadline - now;
+        if (requests.isEmpty() || remaining <= 0) {
+          return requests.isEmpty();
+        }
+
+        // wakes up once all requests are acknowledged, another request failed, or it's time to
+        // retry a failed request
+        final long wait = Math.max(0, Math.min(remaining, nanosUntilNextRetry(now)));
+        final int failed = count(State.FAILED);
+        await(Duration.ofNanos(wait), () -> requests.isEmpty() || count(State.FAILED) > failed);
+      }
+    }
+  }
+
+  private long nanosUntilNextRetry(final long now) {
+    return requests.stream()
+        .filter(request -> request.state == State.FAILED)
+        .mapToLong(request -> request.retryAt - now)
+        .min()
+        .orElse(Long.MAX_VALUE);
+  }
+
+  private boolean await(final Duration timeout, final BooleanSupplier condition)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    long remaining = timeout.toNanos();
+    while (!condition.getAsBoolean()) {
+      if (remaining <= 0) {
+        return false;
+      }
+
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      remaining = deadline - System.nanoTime();
+    }
+
+    return true;
+  }
+
+  private int count(final State state) {
+    return (int) requests.stream().filter(request -> request.state == state).count();
+  }
+
+  private enum State {
+    IN_FLIGHT,
+    ACKNOWLEDGED,
+    FAILED
+  }
+
+  public static final class InFlightRequest<T> {
+    private final T request;
+    private final Runnable onAcknowledged;
+    private State state = State.IN_FLIGHT;
+    private long retryDelayMs;
+    private long retryAt;
+
+    private InFlightRequest(final T request, final Runnable onAcknowledged) {
+      this.request = request;
+      this.onAcknowledged = onAcknowledged;
+    }
+
+    public T request() {
+      return request;
+    }
+  }
+}
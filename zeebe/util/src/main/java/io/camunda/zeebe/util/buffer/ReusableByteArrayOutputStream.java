@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.util.buffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A growable byte array output stream, which, unlike {@link java.io.ByteArrayOutputStream}, can be
+ * truncated to reuse its memory, gives access to parts of its content without copying everything,
+ * and is not synchronized.
+ *
+ * <p>Not thread safe.
+ */
+public final class ReusableByteArrayOutputStream extends OutputStream {
+  private static final int DEFAULT_INITIAL_CAPACITY = 64 * 1024;
+
+  private byte[] bytes;
+  private int length;
+
+  public ReusableByteArrayOutputStream() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public ReusableByteArrayOutputStream(final int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException(
+          "Expected initial capacity to be non-negative, but was " + initialCapacity);
+    }
+
+    bytes = new byte[initialCapacity];
+  }
+
+  @Override
+  public void write(final int b) {
+    ensureCapacity(length + 1);
+    bytes[length++] = (byte) b;
+  }
+
+  @Override
+  public void write(final byte[] source, final int offset, final int sourceLength) {
+    ensureCapacity(length + sourceLength);
+    System.arraycopy(source, offset, bytes, length, sourceLength);
+    length += sourceLength;
+  }
+
+  /** Returns the number of bytes written so far. */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Discards everything written after the given length, e.g. to drop a partially written entry, or
+   * to reuse the memory by truncating it to 0. The capacity is kept.
+   *
+   * @param newLength the new length, which must not be greater than the current one
+   */
+  public void truncate(final int newLength) {
+    if (newLength < 0 || newLength > length) {
+      throw new IllegalArgumentException(
+          "Expected to truncate to a length between 0 and %d, but was %d"
+              .formatted(length, newLength));
+    }
+
+    length = newLength;
+  }
+
+  /** Returns a copy of the given range of the written bytes. */
+  public byte[] copy(final int offset, final int copyLength) {
+    return Arrays.copyOfRange(bytes, offset, offset + copyLength);
+  }
+
+  /** Writes everything written so far to the given stream, in a single write. */
+  public void writeTo(final OutputStream outStream) throws IOException {
+    outStream.write(bytes, 0, length);
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (capacity > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+    }
+  }
+}
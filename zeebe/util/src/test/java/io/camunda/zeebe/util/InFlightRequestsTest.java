@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.util.InFlightRequests.InFlightRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class InFlightRequestsTest {
+
+  private final InFlightRequests<Integer> inFlightRequests =
+      new InFlightRequests<>(2, previousDelay -> 0);
+  private final List<Integer> acknowledged = new ArrayList<>();
+
+  @Test
+  void shouldAcknowledgeInOrder() {
+    // given
+    final var first = add(1);
+    final var second = add(2);
+
+    // when
+    inFlightRequests.acknowledge(second);
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    inFlightRequests.acknowledge(first);
+    assertThat(acknowledged).containsExactly(1, 2);
+    assertThat(inFlightRequests.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldNotAcknowledgePastFailedRequest() {
+    // given
+    final var first = add(1);
+    final var second = add(2);
+
+    // when
+    inFlightRequests.fail(first);
+    inFlightRequests.acknowledge(second);
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    assertThat(inFlightRequests.takeRetryable()).containsExactly(first);
+    inFlightRequests.acknowledge(first);
+    assertThat(acknowledged).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldLimitRequestsInFlight() {
+    // given
+    final var first = add(1);
+    add(2);
+
+    // when
+    final boolean hasCapacityWhenFull = inFlightRequests.hasCapacity();
+    inFlightRequests.acknowledge(first);
+
+    // then
+    assertThat(hasCapacityWhenFull).isFalse();
+    assertThat(inFlightRequests.hasCapacity()).isTrue();
+  }
+
+  @Test
+  void shouldNotRetryBeforeBackoffElapsed() {
+    // given
+    final var backedOff = new InFlightRequests<Integer>(2, previousDelay -> 60_000);
+    final var request = backedOff.add(1, () -> {});
+
+    // when
+    backedOff.fail(request);
+
+    // then
+    assertThat(backedOff.takeRetryable()).isEmpty();
+  }
+
+  @Test
+  void shouldIncreaseBackoffWithEveryFailure() {
+    // given
+    final List<Long> previousDelays = new ArrayList<>();
+    final var backedOff =
+        new InFlightRequests<Integer>(
+            2,
+            previousDelay -> {
+              previousDelays.add(previousDelay);
+              return previousDelay + 1;
+            });
+    final var request = backedOff.add(1, () -> {});
+
+    // when
+    backedOff.fail(request);
+    backedOff.fail(request);
+    backedOff.fail(request);
+
+    // then
+    assertThat(previousDelays).containsExactly(0L, 1L, 2L);
+  }
+
+  @Test
+  void shouldRetryFailedRequestsUntilAcknowledged() throws InterruptedException {
+    // given
+    final var first = add(1);
+    final var second = add(2);
+    inFlightRequests.fail(first);
+    inFlightRequests.acknowledge(second);
+    final List<InFlightRequest<Integer>> retried = new ArrayList<>();
+
+    // when
+    final boolean allAcknowledged =
+        inFlightRequests.awaitAcknowledged(
+            Duration.ofSeconds(10),
+            request -> {
+              retried.add(request);
+              if (retried.size() == 1) {
+                inFlightRequests.fail(request);
+              } else {
+                inFlightRequests.acknowledge(request);
+              }
+            });
+
+    // then
+    assertThat(allAcknowledged).isTrue();
+    assertThat(retried).containsExactly(first, first);
+    assertThat(acknowledged).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldStopAwaitingAcknowledgementsAfterTimeout() throws InterruptedException {
+    // given
+    add(1);
+
+    // when
+    final boolean allAcknowledged =
+        inFlightRequests.awaitAcknowledged(Duration.ofMillis(10), request -> {});
+
+    // then
+    assertThat(allAcknowledged).isFalse();
+    assertThat(acknowledged).isEmpty();
+  }
+
+  private InFlightRequest<Integer> add(final int id) {
+    return inFlightRequests.add(id, () -> acknowledged.add(id));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.util.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+final class ReusableByteArrayOutputStreamTest {
+
+  private final ReusableByteArrayOutputStream stream = new ReusableByteArrayOutputStream(4);
+
+  @Test
+  void shouldGrowWhenWritingBeyondCapacity() throws IOException {
+    // when
+    stream.write(bytes("foo"));
+    stream.write('-');
+    stream.write(bytes("bar"));
+
+    // then
+    assertThat(stream.length()).isEqualTo(7);
+    assertThat(writtenBytes()).isEqualTo(bytes("foo-bar"));
+  }
+
+  @Test
+  void shouldCopyRange() throws IOException {
+    // given
+    stream.write(bytes("foo-bar"));
+
+    // when
+    final byte[] copy = stream.copy(4, 3);
+
+    // then
+    assertThat(copy).isEqualTo(bytes("bar"));
+  }
+
+  @Test
+  void shouldOverwriteTruncatedBytes() throws IOException {
+    // given
+    stream.write(bytes("foo-bar"));
+
+    // when
+    stream.truncate(4);
+    stream.write(bytes("baz"));
+
+    // then
+    assertThat(writtenBytes()).isEqualTo(bytes("foo-baz"));
+  }
+
+  @Test
+  void shouldNotTruncateBeyondLength() throws IOException {
+    // given
+    stream.write(bytes("foo"));
+
+    // when - then
+    assertThatThrownBy(() -> stream.truncate(4)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> stream.truncate(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private byte[] writtenBytes() throws IOException {
+    final var output = new ByteArrayOutputStream();
+    stream.writeTo(output);
+    return output.toByteArray();
+  }
+
+  private static byte[] bytes(final String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.db;
 
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Represents an column family, where it is possible to store keys of type {@link KeyType} and
@@ -44,6 +45,18 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * The corresponding stored value in the column family to the given key, decoded into a new
+   * instance. Unlike {@link #get(DbKey)}, the returned value is owned by the caller, and isn't
+   * changed by further calls to the column family. Prefer this over copying the value returned by
+   * {@link #get(DbKey)}, which decodes it twice.
+   *
+   * @param key the key
+   * @param valueSupplier creates the instance into which the value is decoded
+   * @return if the key was found in the column family then the value, otherwise null
+   */
+  ValueType get(KeyType key, Supplier<ValueType> valueSupplier);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
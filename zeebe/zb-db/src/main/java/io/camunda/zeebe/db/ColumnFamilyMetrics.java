@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   Timer measureDeleteLatency();
 
   Timer measureIterateLatency();
+
+  /** Counts a lookup which was answered by the cache of the column family. */
+  void countCacheHit();
+
+  /** Counts a lookup which had to be read from the database, as it wasn't cached. */
+  void countCacheMiss();
 }
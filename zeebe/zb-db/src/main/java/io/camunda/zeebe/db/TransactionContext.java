@@ -34,4 +34,15 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Runs the given task once the current transaction is committed. If the transaction is rolled
+   * back instead, the task is discarded. If there is no current transaction, the task is run right
+   * away, as all writes are already committed.
+   *
+   * <p>This allows keeping in-memory state in sync with the committed state of the database.
+   *
+   * @param task the task to run after the commit
+   */
+  void runAfterCommit(Runnable task);
 }
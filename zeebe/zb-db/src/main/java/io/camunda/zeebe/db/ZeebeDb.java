@@ -51,6 +51,13 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
    */
   void createSnapshot(File snapshotDir);
 
+  /**
+   * Returns the value of the given RocksDB property for the whole database, i.e. numeric column
+   * family properties are summed up over all RocksDB column families.
+   *
+   * @param propertyName the name of the RocksDB property, e.g. {@code rocksdb.estimate-num-keys}
+   * @return the value of the property, or empty if it could not be read
+   */
   Optional<String> getProperty(String propertyName);
 
   TransactionContext createContext();
@@ -9,6 +9,7 @@ package io.camunda.zeebe.db.impl;
 
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 import io.prometheus.client.Histogram.Timer;
@@ -24,10 +25,20 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
           .help("Latency of RocksDB operations per column family")
           .register();
 
+  private static final Counter CACHE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_cache_lookups_total")
+          .labelNames("partition", "columnFamily", "result")
+          .help("Number of lookups in the cache of a column family, by whether they hit the cache")
+          .register();
+
   private final Child getLatency;
   private final Child putLatency;
   private final Child deleteLatency;
   private final Child iterateLatency;
+  private final Counter.Child cacheHits;
+  private final Counter.Child cacheMisses;
 
   public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
       FineGrainedColumnFamilyMetrics(final int partitionId, final ColumnFamilyNames columnFamily) {
@@ -37,6 +48,8 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
     putLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "put");
     deleteLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "delete");
     iterateLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "iterate");
+    cacheHits = CACHE_LOOKUPS.labels(partitionLabel, columnFamilyLabel, "hit");
+    cacheMisses = CACHE_LOOKUPS.labels(partitionLabel, columnFamilyLabel, "miss");
   }
 
   @Override
@@ -58,4 +71,14 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
   public Timer measureIterateLatency() {
     return iterateLatency.startTimer();
   }
+
+  @Override
+  public void countCacheHit() {
+    cacheHits.inc();
+  }
+
+  @Override
+  public void countCacheMiss() {
+    cacheMisses.inc();
+  }
 }
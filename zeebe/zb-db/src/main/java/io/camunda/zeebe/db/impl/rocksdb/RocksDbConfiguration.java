@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +45,18 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * By default, all column families share the default RocksDB column family, and are distinguished
+   * by their key prefix only.
+   */
+  public static final Set<String> DEFAULT_DEDICATED_COLUMN_FAMILIES = Set.of();
+
+  /**
+   * By default, transactions are backed by an optimistic RocksDB transaction, which checks for
+   * conflicting writes when committing.
+   */
+  public static final TransactionMode DEFAULT_TRANSACTION_MODE = TransactionMode.OPTIMISTIC;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +86,56 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * The names of the column families (e.g. {@code JOBS}) which are stored in their own RocksDB
+   * column family, instead of sharing the default one. This allows tuning them individually via
+   * {@link #dedicatedColumnFamilyOptions}, and keeps their iterations from scanning unrelated data.
+   *
+   * <p>Keys keep their column family prefix, so existing data is moved to (or back from) the
+   * dedicated RocksDB column families when opening the database, e.g. when recovering from a
+   * snapshot taken with a different configuration.
+   *
+   * <p>NOTE: each RocksDB column family has its own memtables, so memory usage grows with the
+   * number of dedicated column families.
+   */
+  private Set<String> dedicatedColumnFamilies = DEFAULT_DEDICATED_COLUMN_FAMILIES;
+
+  /**
+   * Options for the dedicated column families, by name. Like {@link #columnFamilyOptions}, these
+   * replace the default options completely. Dedicated column families without options use the same
+   * options as the default column family.
+   */
+  private Map<String, Properties> dedicatedColumnFamilyOptions = Map.of();
+
+  /**
+   * The length of the key prefix, after the column family prefix, which is used to build prefix
+   * bloom filters for the dedicated column families without user provided options, by name. For
+   * example, a length of 8 for a column family whose keys start with a long allows skipping all SST
+   * files which contain no key with that long when iterating over it. Dedicated column families
+   * without a prefix length only filter by their column family prefix, like the default one.
+   */
+  private Map<String, Integer> dedicatedColumnFamilyPrefixLengths = Map.of();
+
+  /**
+   * How transactions are applied to the database. See {@link TransactionMode} for the available
+   * modes. Both modes use the same on-disk format, so the mode can be changed between restarts.
+   */
+  private TransactionMode transactionMode = DEFAULT_TRANSACTION_MODE;
+
+  /**
+   * The capacity in bytes of the read-through caches of the column families, by name. Lookups of
+   * single keys in these column families are answered from the cache of their committed values,
+   * which is kept up to date with the writes of committed transactions, and shared by all
+   * transactions. This avoids the cost of reading frequently accessed values, e.g. element
+   * instances which are read many times while processing a command, from RocksDB.
+   *
+   * <p>The caches aren't thread-safe, so only column families which are accessed by a single thread
+   * at a time, e.g. those of the processing state of a partition, may be cached. Column families
+   * which aren't configured, or with a capacity of 0, aren't cached, which is the default. Unknown
+   * names are ignored.
+   */
+  private Map<String, Long> cachedColumnFamilies = Map.of();
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +219,69 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public Set<String> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilies(
+      final Set<String> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+    return this;
+  }
+
+  public Map<String, Properties> getDedicatedColumnFamilyOptions() {
+    return dedicatedColumnFamilyOptions;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilyOptions(
+      final Map<String, Properties> dedicatedColumnFamilyOptions) {
+    this.dedicatedColumnFamilyOptions = dedicatedColumnFamilyOptions;
+    return this;
+  }
+
+  public Map<String, Integer> getDedicatedColumnFamilyPrefixLengths() {
+    return dedicatedColumnFamilyPrefixLengths;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilyPrefixLengths(
+      final Map<String, Integer> dedicatedColumnFamilyPrefixLengths) {
+    this.dedicatedColumnFamilyPrefixLengths = dedicatedColumnFamilyPrefixLengths;
+    return this;
+  }
+
+  public Map<String, Long> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(
+      final Map<String, Long> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+    return this;
+  }
+
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  public RocksDbConfiguration setTransactionMode(final TransactionMode transactionMode) {
+    this.transactionMode = transactionMode;
+    return this;
+  }
+
+  public enum TransactionMode {
+    /**
+     * Each transaction is an optimistic RocksDB transaction, which tracks the keys it writes to,
+     * and fails on commit if any of them was changed concurrently.
+     */
+    OPTIMISTIC,
+
+    /**
+     * Each transaction stages its writes in an indexed write batch, which is written to the
+     * database at once on commit. Reads see the staged writes, but no conflicts are detected, so
+     * this must only be used if a single transaction writes to the database at a time, as is the
+     * case for the stream processor of a partition. Avoids the overhead of tracking written keys.
+     */
+    WRITE_BATCH
+  }
 }
@@ -17,8 +17,11 @@ import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
@@ -52,14 +55,29 @@ public final class ZeebeRocksDbFactory<
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
+  // may be null if no column family is dedicated
+  private final Class<ColumnFamilyType> columnFamilyType;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration metricsConfiguration) {
+    this(rocksDbConfiguration, consistencyChecksSettings, metricsConfiguration, null);
+  }
+
+  /**
+   * @param columnFamilyType the type of the column families, used to resolve the column families
+   *     configured via {@link RocksDbConfiguration#getDedicatedColumnFamilies()} by name
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration metricsConfiguration,
+      final Class<ColumnFamilyType> columnFamilyType) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
     metrics = metricsConfiguration;
+    this.columnFamilyType = columnFamilyType;
   }
 
   @Override
@@ -105,9 +123,70 @@ public final class ZeebeRocksDbFactory<
     // column family options have to be closed as last
     final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
     managedResources.add(columnFamilyOptions);
+    final var dedicatedColumnFamilyOptions =
+        createDedicatedColumnFamilyOptions(columnFamilyOptions, managedResources);
     final var dbOptions = createDefaultDbOptions(managedResources);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+
+    if (!dedicatedColumnFamilyOptions.isEmpty()) {
+      dbOptions
+          .setCreateMissingColumnFamilies(true)
+          // the WAL is usually disabled, so flushing all column families atomically is required to
+          // keep them consistent with each other, e.g. when taking a snapshot
+          .setAtomicFlush(true);
+    }
+
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, dedicatedColumnFamilyOptions);
+  }
+
+  /**
+   * @return the options of each dedicated column family, by column family value
+   */
+  Map<Integer, ColumnFamilyOptions> createDedicatedColumnFamilyOptions(
+      final ColumnFamilyOptions defaultOptions, final List<AutoCloseable> closeables) {
+    final var dedicatedColumnFamilies = rocksDbConfiguration.getDedicatedColumnFamilies();
+    if (dedicatedColumnFamilies.isEmpty()) {
+      return Map.of();
+    }
+
+    if (columnFamilyType == null) {
+      throw new IllegalStateException(
+          "Expected to resolve the dedicated column families %s, but no column family type was given"
+              .formatted(dedicatedColumnFamilies));
+    }
+
+    final Map<Integer, ColumnFamilyOptions> dedicatedColumnFamilyOptions = new HashMap<>();
+    for (final var name : dedicatedColumnFamilies) {
+      final var columnFamily =
+          Arrays.stream(columnFamilyType.getEnumConstants())
+              .filter(constant -> constant.name().equals(name))
+              .findFirst()
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          "Expected to dedicate column family '%s', but no such column family exists"
+                              .formatted(name)));
+      final var userProvidedOptions =
+          rocksDbConfiguration.getDedicatedColumnFamilyOptions().get(name);
+      final ColumnFamilyOptions options;
+      if (userProvidedOptions != null && !userProvidedOptions.isEmpty()) {
+        options = createFromUserOptions(userProvidedOptions);
+      } else {
+        // shares the table format, and thus the block cache, with the default options
+        options = new ColumnFamilyOptions(defaultOptions);
+        final var prefixLength =
+            rocksDbConfiguration.getDedicatedColumnFamilyPrefixLengths().get(name);
+        if (prefixLength != null && prefixLength > 0) {
+          // iterators only use the prefix bloom filters when it's safe to do so, i.e. when the
+          // whole iteration range shares the same prefix, so shorter prefix scans still work
+          options.useFixedLengthPrefixExtractor(Long.BYTES + prefixLength);
+        }
+      }
+      closeables.add(options);
+      dedicatedColumnFamilyOptions.put(columnFamily.getValue(), options);
+    }
+
+    return dedicatedColumnFamilyOptions;
   }
 
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
@@ -123,7 +202,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // only dedicated column families need to be created, see prepareOptions
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+
+/**
+ * A key of a {@link ColumnFamilyCache}, which compares the content of the first {@code length}
+ * bytes of its buffer. Mutable keys are only used for lookups, by wrapping the key buffer of a
+ * column family without copying it; keys stored in a map own an exact copy of the bytes and are
+ * never modified.
+ */
+final class CacheKey {
+  private byte[] bytes;
+  private int length;
+  private int hash;
+
+  static CacheKey copyOf(final byte[] bytes, final int length) {
+    return new CacheKey().wrap(Arrays.copyOf(bytes, length), length);
+  }
+
+  CacheKey wrap(final byte[] bytes, final int length) {
+    this.bytes = bytes;
+    this.length = length;
+
+    int result = 1;
+    for (int i = 0; i < length; i++) {
+      result = 31 * result + bytes[i];
+    }
+    hash = result;
+    return this;
+  }
+
+  int length() {
+    return length;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof final CacheKey other)) {
+      return false;
+    }
+    return hash == other.hash && Arrays.equals(bytes, 0, length, other.bytes, 0, other.length);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The writes of the current transaction to cached column families. They are kept apart from the
+ * {@link ColumnFamilyCache}, which only contains committed values, and are applied to it once the
+ * transaction is committed, or discarded on rollback.
+ *
+ * <p>As the transaction's own reads must see its writes, reads of cached column families check the
+ * writes of the transaction first, and only fall back to the cache for keys which weren't written.
+ */
+final class CachedWrites {
+
+  /** Returned by {@link #get(ColumnFamilyCache, byte[], int)} for keys which were deleted. */
+  static final byte[] DELETED = new byte[0];
+
+  private final Map<ColumnFamilyCache, HashMap<CacheKey, byte[]>> writes = new IdentityHashMap<>();
+  private final CacheKey lookupKey = new CacheKey();
+  private int count;
+
+  void put(
+      final ColumnFamilyCache cache,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    write(cache, key, keyLength, Arrays.copyOf(value, valueLength));
+  }
+
+  void delete(final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+    write(cache, key, keyLength, DELETED);
+  }
+
+  /**
+   * @return the value written by the current transaction, {@link #DELETED} if the key was deleted,
+   *     or null if the key wasn't written
+   */
+  byte[] get(final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+    if (count == 0) {
+      return null;
+    }
+
+    final var cacheWrites = writes.get(cache);
+    return cacheWrites != null ? cacheWrites.get(lookupKey.wrap(key, keyLength)) : null;
+  }
+
+  boolean isEmpty() {
+    return count == 0;
+  }
+
+  /** Applies the writes to their caches, once they were committed. */
+  void apply() {
+    writes.forEach(
+        (cache, cacheWrites) ->
+            cacheWrites.forEach((key, value) -> cache.apply(key, value == DELETED ? null : value)));
+  }
+
+  void clear() {
+    if (count == 0) {
+      return;
+    }
+
+    // keeps the maps of the caches, as the next transaction is likely to write to the same ones
+    writes.values().forEach(HashMap::clear);
+    count = 0;
+  }
+
+  private void write(
+      final ColumnFamilyCache cache, final byte[] key, final int keyLength, final byte[] value) {
+    final var cacheWrites = writes.computeIfAbsent(cache, c -> new HashMap<>());
+    if (cacheWrites.put(CacheKey.copyOf(key, keyLength), value) == null) {
+      count++;
+    }
+  }
+}
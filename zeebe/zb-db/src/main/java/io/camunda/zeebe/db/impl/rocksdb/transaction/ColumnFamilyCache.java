@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.LinkedHashMap;
+
+/**
+ * A bounded cache of the committed, serialized values of a column family, which is shared by all
+ * transactions of a database. Values are evicted in least recently used order once the cache
+ * exceeds its capacity in bytes.
+ *
+ * <p>The cache only ever contains committed values: transactions keep their own writes in {@link
+ * CachedWrites} and only apply them here after they were committed.
+ *
+ * <p>The cache holds serialized values, such that a hit skips the lookup in RocksDB, but not
+ * decoding the value, as callers modify the decoded value instances they get.
+ *
+ * <p>The cache is not thread-safe: the state of a partition is only written by its processing
+ * actor, which is the only one accessing column families which are cached.
+ */
+final class ColumnFamilyCache {
+
+  // rough estimate of the memory used by an entry besides its key and value, i.e. the map entry,
+  // the cache key, and the array headers
+  private static final int ENTRY_OVERHEAD = 96;
+  // values which would take up a large share of the cache are not cached, as they would evict many
+  // smaller, and likely more frequently accessed, values
+  private static final int MAX_ENTRY_SHARE = 16;
+
+  private final long capacity;
+  private final LinkedHashMap<CacheKey, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final CacheKey lookupKey = new CacheKey();
+  private long size;
+
+  ColumnFamilyCache(final long capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return the cached value of the given key, or null if it isn't cached
+   */
+  byte[] get(final byte[] key, final int keyLength) {
+    return entries.get(lookupKey.wrap(key, keyLength));
+  }
+
+  /** Adds a committed value which was read from the database. */
+  void populate(final byte[] key, final int keyLength, final byte[] value) {
+    store(CacheKey.copyOf(key, keyLength), value);
+  }
+
+  /**
+   * Applies a committed write.
+   *
+   * @param value the written value, or null if the key was deleted
+   */
+  void apply(final CacheKey key, final byte[] value) {
+    if (value == null) {
+      remove(key);
+    } else {
+      store(key, value);
+    }
+  }
+
+  int entryCount() {
+    return entries.size();
+  }
+
+  private void store(final CacheKey key, final byte[] value) {
+    final long entrySize = entrySize(key, value);
+    if (entrySize > capacity / MAX_ENTRY_SHARE) {
+      remove(key);
+      return;
+    }
+
+    final var previous = entries.put(key, value);
+    size += entrySize;
+    if (previous != null) {
+      size -= entrySize(key, previous);
+    }
+
+    final var iterator = entries.entrySet().iterator();
+    while (size > capacity && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      size -= entrySize(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+    }
+  }
+
+  private void remove(final CacheKey key) {
+    final var previous = entries.remove(key);
+    if (previous != null) {
+      size -= entrySize(key, previous);
+    }
+  }
+
+  private static long entrySize(final CacheKey key, final byte[] value) {
+    return ENTRY_OVERHEAD + key.length() + value.length;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Moves the entries of a column family between the default and a dedicated RocksDB column family.
+ * Keys always contain their column family prefix, so entries are copied as is.
+ *
+ * <p>Entries are first copied to the target, which is flushed, and only then deleted from the
+ * source, which is flushed as well. Range deletions are not supported by transactional databases,
+ * so entries are deleted one by one. Since the WAL may be disabled, this ensures that no entries
+ * are lost if the process is interrupted; the migration is simply repeated on the next start, as
+ * copying is idempotent.
+ *
+ * <p>This must only be used when opening the database, before any transaction is started.
+ */
+final class ColumnFamilyMigration {
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int BATCH_SIZE = 10_000;
+
+  private final RocksDB db;
+
+  ColumnFamilyMigration(final RocksDB db) {
+    this.db = db;
+  }
+
+  /**
+   * Moves all entries with the given column family prefix from the source to the target.
+   *
+   * @return the number of moved entries
+   */
+  long moveColumnFamily(
+      final ColumnFamilyHandle source, final ColumnFamilyHandle target, final int columnFamily)
+      throws RocksDBException {
+    final byte[] from = prefix(columnFamily);
+    final byte[] to = prefix(columnFamily + 1);
+    final long count = copy(source, target, from, to);
+    if (count > 0) {
+      flush(target);
+      delete(source, from, to);
+      flush(source);
+      LOG.info("Moved {} entries of column family {}", count, columnFamily);
+    }
+
+    return count;
+  }
+
+  /**
+   * Moves all entries of the source to the target. The source is expected to be dropped afterwards.
+   *
+   * @return the number of moved entries
+   */
+  long moveAll(final ColumnFamilyHandle source, final ColumnFamilyHandle target)
+      throws RocksDBException {
+    final long count = copy(source, target, null, null);
+    if (count > 0) {
+      flush(target);
+      LOG.info(
+          "Moved {} entries from column family {} back to the default column family",
+          count,
+          new String(source.getName(), StandardCharsets.UTF_8));
+    }
+
+    return count;
+  }
+
+  static byte[] prefix(final int columnFamily) {
+    return ByteBuffer.allocate(Long.BYTES)
+        .order(ZeebeDbConstants.ZB_DB_BYTE_ORDER)
+        .putLong(columnFamily)
+        .array();
+  }
+
+  private long copy(
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target,
+      final byte[] from,
+      final byte[] to)
+      throws RocksDBException {
+    return forEachInRange(source, from, to, (batch, key, value) -> batch.put(target, key, value));
+  }
+
+  private void delete(final ColumnFamilyHandle source, final byte[] from, final byte[] to)
+      throws RocksDBException {
+    forEachInRange(source, from, to, (batch, key, value) -> batch.delete(source, key));
+  }
+
+  /**
+   * Adds an operation to a write batch for each entry of the column family between {@code from}
+   * (inclusive) and {@code to} (exclusive), writing the batch whenever it's full.
+   *
+   * @param from the first key, or null to start at the first entry
+   * @param to the key after the last one, or null to end at the last entry
+   * @return the number of visited entries
+   */
+  private long forEachInRange(
+      final ColumnFamilyHandle columnFamily,
+      final byte[] from,
+      final byte[] to,
+      final BatchOperation operation)
+      throws RocksDBException {
+    long count = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final var iterator = db.newIterator(columnFamily, readOptions);
+        final var batch = new WriteBatch()) {
+      if (from == null) {
+        iterator.seekToFirst();
+      } else {
+        iterator.seek(from);
+      }
+
+      for (; iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (to != null && Arrays.compareUnsigned(key, to) >= 0) {
+          break;
+        }
+
+        operation.apply(batch, key, iterator.value());
+        count++;
+        if (batch.count() >= BATCH_SIZE) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+
+      iterator.status();
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+      }
+    }
+
+    return count;
+  }
+
+  private void flush(final ColumnFamilyHandle columnFamily) throws RocksDBException {
+    try (final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions, columnFamily);
+    }
+  }
+
+  @FunctionalInterface
+  private interface BatchOperation {
+    void apply(WriteBatch batch, byte[] key, byte[] value) throws RocksDBException;
+  }
+}
@@ -55,6 +55,15 @@ public final class DefaultTransactionContext implements TransactionContext {
     return transaction;
   }
 
+  @Override
+  public void runAfterCommit(final Runnable task) {
+    if (transaction.isInCurrentTransaction()) {
+      transaction.addCommitTask(task);
+    } else {
+      task.run();
+    }
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
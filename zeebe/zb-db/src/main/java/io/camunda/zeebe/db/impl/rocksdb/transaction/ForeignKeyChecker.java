@@ -56,9 +56,20 @@ public final class ForeignKeyChecker {
     final var keyBufferLength = Long.BYTES + foreignKey.getLength();
 
     switch (foreignKey.match()) {
-      case Full -> assertKeyExists(transaction, foreignKey, keyBuffer.byteArray(), keyBufferLength);
+      case Full ->
+          assertKeyExists(
+              transaction,
+              foreignKey,
+              transactionDb.getColumnFamily(columnFamilyValue),
+              keyBuffer.byteArray(),
+              keyBufferLength);
       case Prefix ->
-          assertPrefixExists(transaction, foreignKey, keyBuffer.byteArray(), keyBufferLength);
+          assertPrefixExists(
+              transaction,
+              foreignKey,
+              transactionDb.getColumnFamily(columnFamilyValue),
+              keyBuffer.byteArray(),
+              keyBufferLength);
       default ->
           throw new IllegalStateException("Unknown foreign key match type: " + foreignKey.match());
     }
@@ -67,12 +78,13 @@ public final class ForeignKeyChecker {
   private void assertKeyExists(
       final ZeebeTransaction transaction,
       final DbForeignKey<? extends DbKey> foreignKey,
+      final RocksDbColumnFamily columnFamily,
       final byte[] key,
       final int keyLength)
       throws Exception {
     final var exists =
         transaction.get(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamily.nativeHandle(),
                 transactionDb.getReadOptionsNativeHandle(),
                 key,
                 keyLength)
@@ -86,11 +98,11 @@ public final class ForeignKeyChecker {
   private void assertPrefixExists(
       final ZeebeTransaction transaction,
       final DbForeignKey<? extends DbKey> foreignKey,
+      final RocksDbColumnFamily columnFamily,
       final byte[] prefix,
       final int prefixLength) {
     try (final var iterator =
-        transaction.newIterator(
-            transactionDb.getPrefixReadOptions(), transactionDb.getDefaultHandle())) {
+        transaction.newIterator(transactionDb.getPrefixReadOptions(), columnFamily.handle())) {
 
       final ByteBuffer bufferView = ByteBuffer.wrap(prefix, 0, prefixLength);
       iterator.seek(bufferView);
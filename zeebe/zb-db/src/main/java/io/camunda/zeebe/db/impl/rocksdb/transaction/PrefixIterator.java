@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import org.rocksdb.DirectSlice;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksIterator;
+
+/**
+ * A reusable iterator over all keys with a given prefix. Instead of comparing each key with the
+ * prefix, the iterator is bounded by the exclusive upper bound of the prefix, such that RocksDB
+ * stops at the end of the prefix by itself, without having to step over any keys (or tombstones)
+ * which come after it.
+ *
+ * <p>RocksDB only keeps a pointer to the upper bound, so the bound is updated in place whenever the
+ * iterator is reused for a different prefix, and is only valid until the next call to {@link
+ * #seek(byte[], int, ByteBuffer)}. The iterator is bound to the transaction it was created in, and
+ * must be closed before that transaction is committed or rolled back.
+ */
+final class PrefixIterator implements AutoCloseable {
+  private static final int MIN_BOUND_CAPACITY = 64;
+
+  private final ReadOptions readOptions;
+  private final ByteBuffer upperBoundBuffer;
+  private final DirectSlice upperBound;
+  private final RocksIterator iterator;
+
+  private PrefixIterator(
+      final int boundCapacity, final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    upperBoundBuffer = ByteBuffer.allocateDirect(boundCapacity);
+    upperBound = new DirectSlice(upperBoundBuffer, boundCapacity);
+    readOptions =
+        new ReadOptions()
+            // uses prefix bloom filters whenever all keys up to the upper bound share the same
+            // prefix, as defined by the prefix extractor of the column family, without having to
+            // know how long that prefix is
+            .setAutoPrefixMode(true)
+            .setIterateUpperBound(upperBound)
+            // setting a positive value to read-ahead is only useful when using network storage with
+            // high latency, at the cost of making iterators more expensive (memory and computation
+            // wise)
+            .setReadaheadSize(0);
+    iterator = iteratorFactory.apply(readOptions);
+  }
+
+  /**
+   * Creates a new iterator, whose upper bound can hold prefixes up to the given length.
+   *
+   * @param prefixLength the length of the longest prefix the iterator can be used for
+   * @param iteratorFactory creates the underlying iterator with the given read options
+   */
+  static PrefixIterator create(
+      final int prefixLength, final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    final int capacity = Math.max(MIN_BOUND_CAPACITY, Integer.highestOneBit(prefixLength) << 1);
+    return new PrefixIterator(capacity, iteratorFactory);
+  }
+
+  /**
+   * @return true if this iterator can be used to iterate over prefixes of the given length
+   */
+  boolean canIterate(final int prefixLength) {
+    return prefixLength <= upperBoundBuffer.capacity();
+  }
+
+  /**
+   * Bounds the iterator to the keys starting with the given prefix, and seeks to the given target.
+   *
+   * @param prefix the buffer containing the prefix
+   * @param prefixLength the length of the prefix in the buffer
+   * @param target the key to seek to, which must start with the prefix
+   * @return the positioned iterator
+   */
+  RocksIterator seek(final byte[] prefix, final int prefixLength, final ByteBuffer target) {
+    upperBound.setLength(writeUpperBound(prefix, prefixLength));
+    iterator.seek(target);
+    return iterator;
+  }
+
+  /**
+   * Writes the smallest key which is greater than all keys starting with the given prefix, i.e. the
+   * prefix with its last byte which isn't 0xFF incremented, and everything after it removed.
+   *
+   * @return the length of the upper bound
+   */
+  private int writeUpperBound(final byte[] prefix, final int prefixLength) {
+    for (int i = prefixLength - 1; i >= 0; i--) {
+      if (prefix[i] != (byte) 0xFF) {
+        upperBoundBuffer.put(0, prefix, 0, i);
+        upperBoundBuffer.put(i, (byte) (prefix[i] + 1));
+        return i + 1;
+      }
+    }
+
+    // all keys are prefixed with their column family, whose most significant byte is always 0
+    throw new IllegalStateException(
+        "Expected prefix to have an upper bound, but all %d bytes are 0xFF"
+            .formatted(prefixLength));
+  }
+
+  @Override
+  public void close() {
+    iterator.close();
+    readOptions.close();
+    upperBound.close();
+  }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import org.rocksdb.ColumnFamilyHandle;
+
+/**
+ * A RocksDB column family in which one or more of Zeebe's column families are stored.
+ *
+ * @param handle the handle of the RocksDB column family
+ * @param nativeHandle the native handle, used to access the column family without going through the
+ *     RocksDB Java API
+ */
+record RocksDbColumnFamily(ColumnFamilyHandle handle, long nativeHandle) {
+
+  RocksDbColumnFamily(final ColumnFamilyHandle handle) {
+    this(handle, ZeebeTransactionDb.getNativeHandle(handle));
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import java.util.Map;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +16,20 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>By default, Zeebe only uses a single RocksDB column family for all of its column families.
+ * Column families which are configured to be dedicated get their own RocksDB column family, with
+ * their own options.
  *
  * @param dbOptions The database options used to open the RocksDB database
  * @param cfOptions The column family options used to open the RocksDB database
+ * @param dedicatedCfOptions The options of the dedicated column families, by column family value
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    Map<Integer, ColumnFamilyOptions> dedicatedCfOptions) {
+
+  public RocksDbOptions(final DBOptions dbOptions, final ColumnFamilyOptions cfOptions) {
+    this(dbOptions, cfOptions, Map.of());
+  }
+}
@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
-
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
@@ -24,7 +22,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +56,9 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final RocksDbColumnFamily rocksDbColumnFamily;
+  // may be null if the column family isn't cached
+  private final ColumnFamilyCache cache;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -73,6 +76,8 @@ class TransactionalColumnFamily<
     this.valueInstance = valueInstance;
     this.metrics = metrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
+    rocksDbColumnFamily = transactionDb.getColumnFamily(columnFamily.getValue());
+    cache = transactionDb.getCache(columnFamily);
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
 
@@ -86,12 +91,7 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -105,12 +105,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -123,12 +118,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -139,13 +129,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(readValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -156,6 +140,27 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public ValueType get(final KeyType key, final Supplier<ValueType> valueSupplier) {
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            columnFamilyContext.writeKey(key);
+            columnFamilyContext.wrapValueView(readValue(transaction));
+          });
+      final var valueBuffer = columnFamilyContext.getValueView();
+      if (valueBuffer == null) {
+        return null;
+      }
+
+      // the read bytes are never modified, so the new instance can wrap them without a copy, but
+      // it must not share the reused value view of the context
+      final var value = valueSupplier.get();
+      value.wrap(new UnsafeBuffer(valueBuffer.byteArray()), 0, valueBuffer.capacity());
+      return value;
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -225,10 +230,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteKey(transaction);
           });
     }
   }
@@ -239,10 +241,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteKey(transaction);
           });
     }
   }
@@ -253,13 +252,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(readValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -306,12 +299,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = readValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -322,18 +310,89 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = readValue(transaction);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  private void putValue(final ZeebeTransaction transaction, final int valueLength)
+      throws Exception {
+    transaction.put(
+        rocksDbColumnFamily.nativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        columnFamilyContext.getValueBufferArray(),
+        valueLength);
+    if (cache != null) {
+      transaction
+          .cachedWrites()
+          .put(
+              cache,
+              columnFamilyContext.getKeyBufferArray(),
+              columnFamilyContext.getKeyLength(),
+              columnFamilyContext.getValueBufferArray(),
+              valueLength);
+    }
+  }
+
+  private void deleteKey(final ZeebeTransaction transaction) throws Exception {
+    transaction.delete(
+        rocksDbColumnFamily.nativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+    if (cache != null) {
+      transaction
+          .cachedWrites()
+          .delete(
+              cache, columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    }
+  }
+
+  /**
+   * Reads the value of the key in the key buffer of the column family context. If the column family
+   * is cached, the value is taken from the writes of the transaction or the cache, and only read
+   * from the database if it's in neither of them.
+   *
+   * @return the value, or null if the key doesn't exist
+   */
+  private byte[] readValue(final ZeebeTransaction transaction) throws Exception {
+    final var key = columnFamilyContext.getKeyBufferArray();
+    final var keyLength = columnFamilyContext.getKeyLength();
+    if (cache == null) {
+      return transaction.get(
+          rocksDbColumnFamily.nativeHandle(),
+          transactionDb.getReadOptionsNativeHandle(),
+          key,
+          keyLength);
+    }
+
+    final var written = transaction.cachedWrites().get(cache, key, keyLength);
+    if (written != null) {
+      metrics.countCacheHit();
+      return written == CachedWrites.DELETED ? null : written;
+    }
+
+    final var cached = cache.get(key, keyLength);
+    if (cached != null) {
+      metrics.countCacheHit();
+      return cached;
+    }
+
+    metrics.countCacheMiss();
+    final var value =
+        transaction.get(
+            rocksDbColumnFamily.nativeHandle(),
+            transactionDb.getReadOptionsNativeHandle(),
+            key,
+            keyLength);
+    if (value != null) {
+      cache.populate(key, keyLength, value);
+    }
+    return value;
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -346,7 +405,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, rocksDbColumnFamily.handle());
   }
 
   /**
@@ -380,34 +439,23 @@ class TransactionalColumnFamily<
       Objects.requireNonNull(visitor);
 
       /*
-       * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-       * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-       * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-       * over all keys contained in those files, so we still need to make sure the key actually
-       * matches the prefix.
-       *
-       * <p>While iterating over subsequent keys we have to validate it.
+       * The iterator is bounded by the upper bound of the prefix, so it becomes invalid as soon as
+       * it reaches the end of the prefix, and we don't need to check whether each key matches it.
        */
       columnFamilyContext.withPrefixKey(
           prefix,
-          (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-              boolean shouldVisitNext = true;
-
-              for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                  iterator.isValid() && shouldVisitNext;
-                  iterator.next()) {
-                final byte[] keyBytes = iterator.key();
-                if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                  break;
-                }
-
-                shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
-              }
-            }
-          });
+          (prefixKey, prefixLength) ->
+              withPrefixIterator(
+                  prefixKey,
+                  prefixLength,
+                  seekTarget,
+                  iterator -> {
+                    boolean shouldVisitNext = true;
+                    while (iterator.isValid() && shouldVisitNext) {
+                      shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                      iterator.next();
+                    }
+                  }));
     }
   }
 
@@ -426,37 +474,46 @@ class TransactionalColumnFamily<
 
     final var count = new AtomicLong(0);
 
-    /*
-     * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-     * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-     * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-     * over all keys contained in those files, so we still need to make sure the key actually
-     * matches the prefix.
-     *
-     * <p>While iterating over subsequent keys we have to validate it.
-     */
     columnFamilyContext.withPrefixKey(
         prefix,
-        (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-            for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                iterator.isValid();
-                iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                break;
-              }
-
-              count.getAndIncrement();
-            }
-          }
-        });
+        (prefixKey, prefixLength) ->
+            withPrefixIterator(
+                prefixKey,
+                prefixLength,
+                seekTarget,
+                iterator -> {
+                  for (; iterator.isValid(); iterator.next()) {
+                    count.getAndIncrement();
+                  }
+                }));
 
     return count.get();
   }
 
+  /**
+   * Runs the given operation with an iterator over all keys starting with the given prefix, which
+   * is positioned at the given seek target. The iterator is taken from, and returned to, the pool
+   * of the current transaction, so it must not be used after the operation returns.
+   */
+  private void withPrefixIterator(
+      final byte[] prefixKey,
+      final int prefixLength,
+      final DbKey seekTarget,
+      final Consumer<RocksIterator> operation) {
+    final var transaction = (ZeebeTransaction) context.getCurrentTransaction();
+    final var columnFamilyHandle = rocksDbColumnFamily.nativeHandle();
+    final var prefixIterator =
+        transaction.acquireIterator(
+            columnFamilyHandle, prefixLength, options -> newIterator(context, options));
+    try {
+      operation.accept(
+          prefixIterator.seek(
+              prefixKey, prefixLength, columnFamilyContext.keyWithColumnFamily(seekTarget)));
+    } finally {
+      transaction.releaseIterator(columnFamilyHandle, prefixIterator);
+    }
+  }
+
   private boolean visit(
       final KeyType keyInstance,
       final ValueType valueInstance,
@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A {@link ZeebeTransaction} which stages its writes in a {@link WriteBatchWithIndex}, and commits
+ * them with a single write to the database. Reads and iterators see the staged writes on top of the
+ * database, as with a RocksDB transaction.
+ *
+ * <p>Unlike a RocksDB transaction, this doesn't track the written keys nor check them for conflicts
+ * on commit. This is only safe if there is a single writer, e.g. the stream processor of a
+ * partition, as concurrent transactions can overwrite each other's writes.
+ */
+final class WriteBatchTransaction extends ZeebeTransaction {
+
+  private final RocksDB db;
+  private final long dbHandle;
+  private final WriteOptions writeOptions;
+  // overwriting keys keeps a single entry per key in the batch's index, which keeps reads and
+  // iterators from having to skip over previous writes of the same key
+  private final WriteBatchWithIndex batch = new WriteBatchWithIndex(true);
+  private final long batchHandle;
+
+  WriteBatchTransaction(final RocksDB db, final WriteOptions writeOptions) {
+    this.db = db;
+    this.writeOptions = writeOptions;
+    dbHandle = ZeebeTransactionDb.getNativeHandle(db);
+    batchHandle = ZeebeTransactionDb.getNativeHandle(batch);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchPutWithHandle.invokeExact(
+          batch, batchHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    try {
+      return (byte[])
+          RocksDbInternal.batchGetWithHandle.invokeExact(
+              batch, batchHandle, dbHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchRemoveWithHandle.invokeExact(
+          batch, batchHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator takes ownership of the base iterator, and closes it with itself
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options), options);
+  }
+
+  @Override
+  protected void renewTransaction() {
+    // the batch is cleared when the previous transaction completes, so it can be reused as is
+  }
+
+  @Override
+  protected void commitTransaction() throws RocksDBException {
+    try {
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+      }
+    } finally {
+      batch.clear();
+    }
+  }
+
+  @Override
+  protected void rollbackTransaction() {
+    batch.clear();
+  }
+
+  @Override
+  protected void closeTransaction() {
+    batch.close();
+  }
+}
@@ -12,97 +12,130 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.agrona.CloseHelper;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
+/**
+ * A transaction on the state, through which all reads and writes happen. Writes are only visible to
+ * other transactions once committed, but are visible to the transaction's own reads and iterators
+ * right away.
+ *
+ * <p>A transaction is reused: after it was committed or rolled back, it is renewed via {@link
+ * #resetTransaction()} to start the next one. How the writes are staged and committed depends on
+ * the implementation.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+  // idle iterators by column family handle, which are only valid within the current transaction
+  private final Long2ObjectHashMap<ArrayDeque<PrefixIterator>> pooledIterators =
+      new Long2ObjectHashMap<>();
+  private int pooledIteratorCount;
+  private final CachedWrites cachedWrites = new CachedWrites();
+  // tasks to run once the current transaction is committed
+  private final List<Runnable> commitTasks = new ArrayList<>();
 
   private boolean inCurrentTransaction;
-  private Transaction transaction;
 
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
+  public abstract void put(
+      long columnFamilyHandle, byte[] key, int keyLength, byte[] value, int valueLength)
+      throws Exception;
+
+  public abstract byte[] get(
+      long columnFamilyHandle, long readOptionsHandle, byte[] key, int keyLength) throws Exception;
+
+  public abstract void delete(long columnFamilyHandle, byte[] key, int keyLength) throws Exception;
+
+  public abstract RocksIterator newIterator(ReadOptions options, ColumnFamilyHandle handle);
+
+  /** Prepares the underlying transaction to stage the writes of the next transaction. */
+  protected abstract void renewTransaction();
+
+  /** Atomically applies all staged writes of the current transaction. */
+  protected abstract void commitTransaction() throws RocksDBException;
 
-  public void put(
+  /** Discards all staged writes of the current transaction. */
+  protected abstract void rollbackTransaction() throws RocksDBException;
+
+  /** Releases the resources of the underlying transaction. */
+  protected abstract void closeTransaction();
+
+  /**
+   * Returns an idle iterator over the given column family, or creates a new one if there is none.
+   * The iterator can only be used within the current transaction, and must be returned via {@link
+   * #releaseIterator(long, PrefixIterator)} after use.
+   *
+   * @param columnFamilyHandle the native handle of the column family to iterate over
+   * @param prefixLength the length of the prefix the iterator will be used for
+   * @param iteratorFactory creates a new iterator with the given read options
+   */
+  PrefixIterator acquireIterator(
       final long columnFamilyHandle,
-      final byte[] key,
-      final int keyLength,
-      final byte[] value,
-      final int valueLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      final int valueOffset = 0;
-      RocksDbInternal.putWithHandle.invokeExact(
-          transaction,
-          nativeHandle,
-          key,
-          keyOffset,
-          keyLength,
-          value,
-          valueOffset,
-          valueLength,
-          columnFamilyHandle,
-          false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
+      final int prefixLength,
+      final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    final var idleIterators = pooledIterators.get(columnFamilyHandle);
+    final var iterator = idleIterators != null ? idleIterators.poll() : null;
+    if (iterator == null) {
+      return PrefixIterator.create(prefixLength, iteratorFactory);
+    }
+
+    pooledIteratorCount--;
+    if (!iterator.canIterate(prefixLength)) {
+      iterator.close();
+      return PrefixIterator.create(prefixLength, iteratorFactory);
     }
+
+    return iterator;
   }
 
-  public byte[] get(
-      final long columnFamilyHandle,
-      final long readOptionsHandle,
-      final byte[] key,
-      final int keyLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              transaction,
-              nativeHandle,
-              readOptionsHandle,
-              key,
-              keyOffset,
-              keyLength,
-              columnFamilyHandle);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
+  /** Returns an iterator acquired via {@link #acquireIterator(long, int, Function)} to the pool. */
+  void releaseIterator(final long columnFamilyHandle, final PrefixIterator iterator) {
+    if (!inCurrentTransaction) {
+      // the transaction was completed while iterating, so the iterator can't be reused
+      iterator.close();
+      return;
     }
+
+    pooledIterators
+        .computeIfAbsent(columnFamilyHandle, handle -> new ArrayDeque<>())
+        .push(iterator);
+    pooledIteratorCount++;
   }
 
-  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
-      throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
+  private void closePooledIterators() {
+    if (pooledIteratorCount == 0) {
+      return;
+    }
+
+    for (final var iterators : pooledIterators.values()) {
+      CloseHelper.closeAll(iterators);
+      iterators.clear();
     }
+    pooledIteratorCount = 0;
   }
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
+  /** Returns the writes of the current transaction to cached column families. */
+  CachedWrites cachedWrites() {
+    return cachedWrites;
+  }
+
+  /** Adds a task which is run once the current transaction is committed, see {@link #commit()}. */
+  void addCommitTask(final Runnable task) {
+    commitTasks.add(task);
   }
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    closePooledIterators();
+    cachedWrites.clear();
+    commitTasks.clear();
+    renewTransaction();
     inCurrentTransaction = true;
   }
 
@@ -150,17 +183,47 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void commitInternal() throws RocksDBException {
+    closePooledIterators();
     inCurrentTransaction = false;
-    transaction.commit();
+    if (cachedWrites.isEmpty()) {
+      commitTransaction();
+    } else {
+      try {
+        commitTransaction();
+        cachedWrites.apply();
+      } finally {
+        cachedWrites.clear();
+      }
+    }
+
+    runCommitTasks();
+  }
+
+  private void runCommitTasks() {
+    if (commitTasks.isEmpty()) {
+      return;
+    }
+
+    try {
+      for (final Runnable task : commitTasks) {
+        task.run();
+      }
+    } finally {
+      commitTasks.clear();
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
+    closePooledIterators();
     inCurrentTransaction = false;
-    transaction.rollback();
+    cachedWrites.clear();
+    commitTasks.clear();
+    rollbackTransaction();
   }
 
   @Override
   public void close() {
-    transaction.close();
+    closePooledIterators();
+    closeTransaction();
   }
 }
@@ -20,17 +20,25 @@ import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -43,36 +51,82 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     implements ZeebeDb<ColumnFamilyNames>, TransactionRenovator {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
+
+  /**
+   * Properties of the whole database, or of the block cache which all column families share by
+   * default; unlike per column family properties, these must not be summed up.
+   */
+  private static final Set<String> DATABASE_PROPERTIES =
+      Set.of(
+          "rocksdb.block-cache-capacity",
+          "rocksdb.block-cache-usage",
+          "rocksdb.block-cache-pinned-usage",
+          "rocksdb.is-write-stopped",
+          "rocksdb.actual-delayed-write-rate",
+          "rocksdb.num-running-flushes",
+          "rocksdb.num-running-compactions");
+
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
-  private final OptimisticTransactionDB optimisticTransactionDB;
+  private final RocksDB db;
+  private final TransactionMode transactionMode;
+  private final Map<String, Long> cacheCapacities;
+  private final Int2ObjectHashMap<ColumnFamilyCache> caches = new Int2ObjectHashMap<>();
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final RocksDbColumnFamily defaultColumnFamily;
+  private final Int2ObjectHashMap<RocksDbColumnFamily> dedicatedColumnFamilies;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
-      final OptimisticTransactionDB optimisticTransactionDB,
+      final RocksDB db,
+      final List<AutoCloseable> closables,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration accessMetricsConfiguration) {
+    this(
+        defaultHandle,
+        new Int2ObjectHashMap<>(),
+        db,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        accessMetricsConfiguration);
+  }
+
+  protected ZeebeTransactionDb(
+      final ColumnFamilyHandle defaultHandle,
+      final Int2ObjectHashMap<ColumnFamilyHandle> dedicatedHandles,
+      final RocksDB db,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
-    this.optimisticTransactionDB = optimisticTransactionDB;
+    defaultColumnFamily = new RocksDbColumnFamily(defaultHandle, defaultNativeHandle);
+    dedicatedColumnFamilies = new Int2ObjectHashMap<>();
+    dedicatedHandles.forEach(
+        (columnFamily, handle) ->
+            dedicatedColumnFamilies.put(columnFamily, new RocksDbColumnFamily(handle)));
+    this.db = db;
+    transactionMode = rocksDbConfiguration.getTransactionMode();
+    cacheCapacities = rocksDbConfiguration.getCachedColumnFamilies();
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
 
     prefixReadOptions =
         new ReadOptions()
-            .setPrefixSameAsStart(true)
-            .setTotalOrderSeek(false)
+            // dedicated column families may use a longer prefix extractor than the prefixes we
+            // seek to, so we let RocksDB decide whether it's safe to use the prefix bloom filters
+            .setAutoPrefixMode(true)
             // setting a positive value to read-ahead is only useful when using network storage with
             // high latency, at the cost of making iterators more expensive (memory and computation
             // wise)
@@ -93,32 +147,126 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final var dedicatedCfOptions = options.dedicatedCfOptions();
+    final var staleColumnFamilies = listStaleColumnFamilies(options, path);
+
+    final List<ColumnFamilyDescriptor> cfDescriptors = new ArrayList<>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final List<Integer> dedicatedColumnFamilies = new ArrayList<>(dedicatedCfOptions.keySet());
+    for (final var columnFamily : dedicatedColumnFamilies) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              dedicatedColumnFamilyName(columnFamily), dedicatedCfOptions.get(columnFamily)));
+    }
+    // column families which were dedicated before must be opened too, to move their data back
+    for (final var staleColumnFamily : staleColumnFamilies) {
+      cfDescriptors.add(new ColumnFamilyDescriptor(staleColumnFamily, options.cfOptions()));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
-    final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
-    closables.add(optimisticTransactionDB);
+    // both modes share the same on-disk format, only how transactions are applied differs
+    final RocksDB db =
+        switch (rocksDbConfiguration.getTransactionMode()) {
+          case OPTIMISTIC ->
+              OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+          case WRITE_BATCH -> RocksDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+        };
+    closables.add(db);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
 
+    final var dedicatedHandles = new Int2ObjectHashMap<ColumnFamilyHandle>();
+    for (int i = 0; i < dedicatedColumnFamilies.size(); i++) {
+      final var handle = cfHandles.get(i + 1);
+      closables.add(handle);
+      dedicatedHandles.put(dedicatedColumnFamilies.get(i), handle);
+    }
+
+    final var staleHandles =
+        cfHandles.subList(dedicatedColumnFamilies.size() + 1, cfHandles.size());
+    // dropped and closed once migrated; closing them again is a no-op
+    closables.addAll(staleHandles);
+    migrateColumnFamilies(db, defaultColumnFamilyHandle, dedicatedHandles, staleHandles);
+
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
-        optimisticTransactionDB,
+        dedicatedHandles,
+        db,
         closables,
         rocksDbConfiguration,
         consistencyChecksSettings,
         metrics);
   }
 
+  /**
+   * Returns the name of the RocksDB column family dedicated to the given column family. The name is
+   * derived from the column family's value, which is also its key prefix, and thus stable.
+   */
+  static byte[] dedicatedColumnFamilyName(final int columnFamily) {
+    return String.valueOf(columnFamily).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the names of the RocksDB column families which exist in the database, but are not
+   * dedicated to a column family anymore, e.g. because the database was created with a different
+   * configuration.
+   */
+  private static List<byte[]> listStaleColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return List.of();
+    }
+
+    final List<byte[]> existingColumnFamilies;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      existingColumnFamilies = RocksDB.listColumnFamilies(listOptions, path);
+    }
+
+    final List<byte[]> staleColumnFamilies = new ArrayList<>();
+    for (final var name : existingColumnFamilies) {
+      final boolean isDedicated =
+          options.dedicatedCfOptions().keySet().stream()
+              .anyMatch(
+                  columnFamily -> Arrays.equals(dedicatedColumnFamilyName(columnFamily), name));
+      if (!isDedicated && !Arrays.equals(RocksDB.DEFAULT_COLUMN_FAMILY, name)) {
+        staleColumnFamilies.add(name);
+      }
+    }
+
+    return staleColumnFamilies;
+  }
+
+  /**
+   * Moves the data of stale column families back to the default column family, and the data of
+   * dedicated column families out of the default column family, such that a database can be opened
+   * with a different set of dedicated column families than it was created with.
+   */
+  private static void migrateColumnFamilies(
+      final RocksDB db,
+      final ColumnFamilyHandle defaultHandle,
+      final Int2ObjectHashMap<ColumnFamilyHandle> dedicatedHandles,
+      final List<ColumnFamilyHandle> staleHandles)
+      throws RocksDBException {
+    final var migration = new ColumnFamilyMigration(db);
+    for (final var staleHandle : staleHandles) {
+      migration.moveAll(staleHandle, defaultHandle);
+      db.dropColumnFamily(staleHandle);
+      staleHandle.close();
+    }
+
+    for (final var entry : dedicatedHandles.entrySet()) {
+      migration.moveColumnFamily(defaultHandle, entry.getValue(), entry.getKey());
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -144,6 +292,29 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultNativeHandle;
   }
 
+  /**
+   * Returns the RocksDB column family in which the given column family is stored, i.e. its
+   * dedicated one if configured, or the default one otherwise.
+   */
+  RocksDbColumnFamily getColumnFamily(final int columnFamily) {
+    return dedicatedColumnFamilies.getOrDefault(columnFamily, defaultColumnFamily);
+  }
+
+  /**
+   * Returns the cache of the given column family, or null if it isn't cached. The cache is shared
+   * by all instances of the column family, regardless of their transaction context, such that they
+   * all see the committed writes of each other.
+   */
+  ColumnFamilyCache getCache(final ColumnFamilyNames columnFamily) {
+    final var capacity = cacheCapacities.get(columnFamily.name());
+    if (capacity == null || capacity <= 0) {
+      return null;
+    }
+
+    return caches.computeIfAbsent(
+        columnFamily.getValue(), value -> new ColumnFamilyCache(capacity));
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -170,7 +341,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public void createSnapshot(final File snapshotDir) {
-    try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
+    try (final Checkpoint checkpoint = Checkpoint.create(db)) {
       try {
         checkpoint.createCheckpoint(snapshotDir.getAbsolutePath());
       } catch (final RocksDBException rocksException) {
@@ -184,17 +355,47 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = db.getProperty(defaultHandle, propertyName);
+      if (propertyValue != null
+          && !dedicatedColumnFamilies.isEmpty()
+          && !DATABASE_PROPERTIES.contains(propertyName)) {
+        propertyValue = aggregateProperty(propertyName, propertyValue);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  /**
+   * Sums up a numeric column family property over the default and all dedicated column families,
+   * such that it covers the whole database. Other properties are only read from the default column
+   * family.
+   */
+  private String aggregateProperty(final String propertyName, final String defaultValue)
+      throws RocksDBException {
+    long value;
+    try {
+      value = Long.parseLong(defaultValue);
+    } catch (final NumberFormatException e) {
+      return defaultValue;
+    }
+
+    for (final var columnFamily : dedicatedColumnFamilies.values()) {
+      value += Long.parseLong(db.getProperty(columnFamily.handle(), propertyName));
+    }
+    return String.valueOf(value);
+  }
+
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        switch (transactionMode) {
+          case OPTIMISTIC ->
+              new OptimisticTransaction(
+                  ((OptimisticTransactionDB) db).beginTransaction(defaultWriteOptions), this);
+          case WRITE_BATCH -> new WriteBatchTransaction(db, defaultWriteOptions);
+        };
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -208,7 +409,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public Transaction renewTransaction(final Transaction oldTransaction) {
-    return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
+    return ((OptimisticTransactionDB) db).beginTransaction(defaultWriteOptions, oldTransaction);
   }
 
   @Override
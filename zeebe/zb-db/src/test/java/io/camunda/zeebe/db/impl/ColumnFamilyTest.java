@@ -76,6 +76,36 @@ public final class ColumnFamilyTest {
     assertThat(zbLong).isNull();
   }
 
+  @Test
+  public void shouldGetValueIntoNewInstance() {
+    // given
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(456789, 12345);
+
+    // when
+    key.wrapLong(1213);
+    final DbLong first = columnFamily.get(key, DbLong::new);
+    key.wrapLong(456789);
+    final DbLong second = columnFamily.get(key, DbLong::new);
+
+    // then
+    assertThat(first).isNotSameAs(value).isNotSameAs(second);
+    assertThat(first.getValue()).isEqualTo(255);
+    assertThat(second.getValue()).isEqualTo(12345);
+  }
+
+  @Test
+  public void shouldReturnNullIfNotExistWhenGettingIntoNewInstance() {
+    // given
+    key.wrapLong(1213);
+
+    // when
+    final DbLong zbLong = columnFamily.get(key, DbLong::new);
+
+    // then
+    assertThat(zbLong).isNull();
+  }
+
   @Test
   public void shouldPutMultipleValues() {
     // given
@@ -17,7 +17,9 @@ import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -477,6 +479,49 @@ public final class DbTransactionTest {
         .isSameAs(exception);
   }
 
+  @Test
+  public void shouldRunTaskAfterCommit() throws Exception {
+    // given
+    final List<String> tasks = new ArrayList<>();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> transactionContext.runAfterCommit(() -> tasks.add("committed")));
+
+    // when
+    final List<String> tasksBeforeCommit = new ArrayList<>(tasks);
+    transaction.commit();
+
+    // then
+    assertThat(tasksBeforeCommit).isEmpty();
+    assertThat(tasks).containsExactly("committed");
+  }
+
+  @Test
+  public void shouldDiscardTaskOnRollback() throws Exception {
+    // given
+    final List<String> tasks = new ArrayList<>();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> transactionContext.runAfterCommit(() -> tasks.add("rolled back")));
+
+    // when
+    transaction.rollback();
+    transactionContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(tasks).isEmpty();
+  }
+
+  @Test
+  public void shouldRunTaskRightAwayWithoutTransaction() {
+    // given
+    final List<String> tasks = new ArrayList<>();
+
+    // when
+    transactionContext.runAfterCommit(() -> tasks.add("no transaction"));
+
+    // then
+    assertThat(tasks).containsExactly("no transaction");
+  }
+
   private enum ColumnFamilies implements EnumValue {
     DEFAULT, // rocksDB needs a default column family
     ONE,
@@ -0,0 +1,277 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+final class DedicatedColumnFamilyTest {
+
+  private static final int ENTRY_COUNT = 100;
+
+  private @TempDir File path;
+
+  @Test
+  void shouldStoreDedicatedColumnFamilyInOwnRocksDbColumnFamily() throws Exception {
+    // given
+    final var factory = createFactory(Set.of("FIRST"));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      insertEntries(db);
+    }
+
+    // then
+    assertThat(listColumnFamilies()).containsExactlyInAnyOrder("default", "1");
+    try (final var db = factory.createDb(path)) {
+      assertEntries(db);
+    }
+  }
+
+  @Test
+  void shouldMoveExistingEntriesToDedicatedColumnFamily() throws Exception {
+    // given
+    try (final var db = createFactory(Set.of()).createDb(path)) {
+      insertEntries(db);
+    }
+
+    // when
+    try (final var db = createFactory(Set.of("FIRST")).createDb(path)) {
+      // then
+      assertEntries(db);
+    }
+
+    assertThat(listColumnFamilies()).containsExactlyInAnyOrder("default", "1");
+  }
+
+  @Test
+  void shouldMoveEntriesBackWhenNoLongerDedicated() throws Exception {
+    // given
+    try (final var db = createFactory(Set.of("FIRST", "SECOND")).createDb(path)) {
+      insertEntries(db);
+    }
+
+    // when
+    try (final var db = createFactory(Set.of("SECOND")).createDb(path)) {
+      // then
+      assertEntries(db);
+    }
+
+    assertThat(listColumnFamilies()).containsExactlyInAnyOrder("default", "2");
+    try (final var db = createFactory(Set.of()).createDb(path)) {
+      assertEntries(db);
+    }
+
+    assertThat(listColumnFamilies()).containsExactly("default");
+  }
+
+  @Test
+  void shouldRecoverSnapshotWithDifferentDedicatedColumnFamilies(final @TempDir File snapshotsDir)
+      throws Exception {
+    // given
+    final var factory = createFactory(Set.of("FIRST"));
+    final var snapshot = new File(snapshotsDir, "snapshot");
+    final var snapshotOnlySnapshot = new File(snapshotsDir, "snapshotOnly");
+    try (final var db = factory.createDb(path)) {
+      insertEntries(db);
+      db.createSnapshot(snapshot);
+    }
+
+    // when
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotOnlySnapshot);
+    }
+
+    // then
+    try (final var db = createFactory(Set.of("SECOND")).createDb(snapshot)) {
+      assertEntries(db);
+    }
+    try (final var db = createFactory(Set.of()).createDb(snapshotOnlySnapshot)) {
+      assertEntries(db);
+    }
+  }
+
+  @Test
+  void shouldUseUserProvidedOptionsForDedicatedColumnFamily() throws Exception {
+    // given
+    final var options = new Properties();
+    options.put("write_buffer_size", "1048576");
+    final var factory =
+        new ZeebeRocksDbFactory<>(
+            new RocksDbConfiguration()
+                .setDedicatedColumnFamilies(Set.of("FIRST"))
+                .setDedicatedColumnFamilyOptions(Map.of("FIRST", options)),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            TestColumnFamilies.class);
+
+    // when
+    final var dedicatedOptions =
+        factory.createDedicatedColumnFamilyOptions(
+            factory.createColumnFamilyOptions(new ArrayList<>()), new ArrayList<>());
+
+    // then
+    assertThat(dedicatedOptions).containsOnlyKeys(TestColumnFamilies.FIRST.getValue());
+    assertThat(dedicatedOptions.get(TestColumnFamilies.FIRST.getValue()).writeBufferSize())
+        .isEqualTo(1048576L);
+  }
+
+  @Test
+  void shouldIterateDedicatedColumnFamilyWithLongerPrefix(final @TempDir File snapshotDir)
+      throws Exception {
+    // given
+    final var factory =
+        new ZeebeRocksDbFactory<>(
+            new RocksDbConfiguration()
+                .setDedicatedColumnFamilies(Set.of("FIRST"))
+                .setDedicatedColumnFamilyPrefixLengths(Map.of("FIRST", Long.BYTES)),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            TestColumnFamilies.class);
+    final var firstKey = new DbLong();
+    final var secondKey = new DbLong();
+    final var compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+
+    try (final var db = factory.createDb(path)) {
+      final var column =
+          db.createColumnFamily(
+              TestColumnFamilies.FIRST, db.createContext(), compositeKey, DbNil.INSTANCE);
+      for (long first = 0; first < 10; first++) {
+        firstKey.wrapLong(first);
+        for (long second = 0; second < 10; second++) {
+          secondKey.wrapLong(second);
+          column.insert(compositeKey, DbNil.INSTANCE);
+        }
+      }
+      // flushes the memtables, such that the prefix bloom filters of the SST files are used
+      db.createSnapshot(new File(snapshotDir, "snapshot"));
+
+      // when
+      firstKey.wrapLong(3);
+      final var prefixCount = column.countEqualPrefix(firstKey);
+      firstKey.wrapLong(10);
+      final var missingPrefixCount = column.countEqualPrefix(firstKey);
+      final var count = column.count();
+
+      // then
+      assertThat(prefixCount).isEqualTo(10);
+      assertThat(missingPrefixCount).isZero();
+      assertThat(count).isEqualTo(100);
+    }
+  }
+
+  @Test
+  void shouldAggregatePropertiesOverDedicatedColumnFamilies() throws Exception {
+    // given
+    try (final var db = createFactory(Set.of("FIRST")).createDb(path)) {
+      // when
+      insertEntries(db);
+
+      // then - keys are counted in all column families, but the shared block cache only once
+      assertThat(db.getProperty("rocksdb.estimate-num-keys"))
+          .hasValue(String.valueOf(TestColumnFamilies.values().length * ENTRY_COUNT));
+      assertThat(db.getProperty("rocksdb.block-cache-capacity"))
+          .hasValue(String.valueOf(new RocksDbConfiguration().getMemoryLimit() / 3));
+    }
+  }
+
+  @Test
+  void shouldFailOnUnknownDedicatedColumnFamily() {
+    // given
+    final var factory = createFactory(Set.of("UNKNOWN"));
+
+    // when - then
+    //noinspection resource
+    assertThatThrownBy(() -> factory.createDb(path))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("UNKNOWN");
+  }
+
+  private ZeebeRocksDbFactory<TestColumnFamilies> createFactory(
+      final Set<String> dedicatedColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setDedicatedColumnFamilies(dedicatedColumnFamilies),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1),
+        TestColumnFamilies.class);
+  }
+
+  private void insertEntries(final ZeebeDb<TestColumnFamilies> db) {
+    final var context = db.createContext();
+    final var key = new DbLong();
+    final var value = new DbString();
+    for (final var columnFamily : TestColumnFamilies.values()) {
+      final var column = db.createColumnFamily(columnFamily, context, key, value);
+      for (int i = 0; i < ENTRY_COUNT; i++) {
+        key.wrapLong(i);
+        value.wrapString(columnFamily.name() + i);
+        column.insert(key, value);
+      }
+    }
+  }
+
+  private void assertEntries(final ZeebeDb<TestColumnFamilies> db) {
+    final var context = db.createContext();
+    for (final var columnFamily : TestColumnFamilies.values()) {
+      final var column = db.createColumnFamily(columnFamily, context, new DbLong(), new DbString());
+      final List<String> values = new ArrayList<>();
+      column.forEach(value -> values.add(value.toString()));
+
+      assertThat(values)
+          .hasSize(ENTRY_COUNT)
+          .allMatch(value -> value.startsWith(columnFamily.name()));
+    }
+  }
+
+  private List<String> listColumnFamilies() throws RocksDBException {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    DEFAULT(0),
+    FIRST(1),
+    SECOND(2);
+
+    private final int value;
+
+    TestColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the cost of prefix scans, e.g. iterating over the variables of a scope, when each
+ * scanned prefix is directly followed by a large range of unrelated keys which were deleted. Such
+ * deleted ranges are common, e.g. for completed element instances, and must not be stepped over
+ * when reaching the end of a prefix.
+ *
+ * <p>A single operation scans all {@link #SCOPE_COUNT} scopes within one transaction, similar to
+ * processing a command which accesses the state multiple times.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class PrefixIterationPerformanceTest {
+  private static final int SCOPE_COUNT = 100;
+  private static final int ENTRIES_PER_SCOPE = 10;
+  private static final int DELETED_ENTRIES_PER_NEIGHBOUR = 1_000;
+
+  // the ops/s with iterators bounded by the end of the prefix; when running this test locally,
+  // you're likely to have different scores
+  private static final double PREFIX_SCAN_REFERENCE_SCORE = 1_300;
+
+  private final DbLong scopeKey = new DbLong();
+  private final DbLong entryKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(scopeKey, entryKey);
+  private final DbLong value = new DbLong();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("prefix-iteration");
+    db =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory().createDb(directory.toFile());
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    // every scanned scope is followed by a neighbouring scope whose entries were all deleted
+    for (long scope = 0; scope < SCOPE_COUNT; scope++) {
+      scopeKey.wrapLong(scope * 2);
+      insertEntries(ENTRIES_PER_SCOPE);
+
+      scopeKey.wrapLong(scope * 2 + 1);
+      insertEntries(DELETED_ENTRIES_PER_NEIGHBOUR);
+      context.runInTransaction(
+          () -> {
+            for (long entry = 0; entry < DELETED_ENTRIES_PER_NEIGHBOUR; entry++) {
+              entryKey.wrapLong(entry);
+              columnFamily.deleteExisting(key);
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measurePrefixScan(final Blackhole blackhole) {
+    context.runInTransaction(
+        () -> {
+          for (long scope = 0; scope < SCOPE_COUNT; scope++) {
+            scopeKey.wrapLong(scope * 2);
+            columnFamily.whileEqualPrefix(
+                scopeKey,
+                (k, v) -> {
+                  blackhole.consume(v.getValue());
+                });
+          }
+        });
+  }
+
+  @JMHTest("measurePrefixScan")
+  void shouldMeasurePrefixScan(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(o -> o.addProfiler(GCProfiler.class));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(PREFIX_SCAN_REFERENCE_SCORE, 0.25);
+  }
+
+  private void insertEntries(final int count) {
+    context.runInTransaction(
+        () -> {
+          for (long entry = 0; entry < count; entry++) {
+            entryKey.wrapLong(entry);
+            value.wrapLong(entry);
+            columnFamily.insert(key, value);
+          }
+        });
+  }
+}
@@ -228,5 +228,8 @@ final class ZeebeRocksDbFactoryTest {
     public ZeebeDbTransaction getCurrentTransaction() {
       return null;
     }
+
+    @Override
+    public void runAfterCommit(final Runnable task) {}
   }
 }
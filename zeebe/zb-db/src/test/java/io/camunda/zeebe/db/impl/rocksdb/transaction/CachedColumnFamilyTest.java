@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.prometheus.client.CollectorRegistry;
+import java.io.File;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CachedColumnFamilyTest {
+
+  private static final int PARTITION_ID = 1042;
+  private static final long CACHE_CAPACITY = 64 * 1024;
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+
+  private @TempDir File path;
+  private ZeebeTransactionDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+
+  @BeforeEach
+  void setup() {
+    db =
+        (ZeebeTransactionDb<DefaultColumnFamily>)
+            new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                    new RocksDbConfiguration()
+                        .setCachedColumnFamilies(
+                            Map.of(DefaultColumnFamily.DEFAULT.name(), CACHE_CAPACITY)),
+                    new ConsistencyChecksSettings(true, true),
+                    new AccessMetricsConfiguration(Kind.FINE, PARTITION_ID))
+                .createDb(path);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldReadOwnWritesBeforeCommit() throws Exception {
+    // given
+    upsertCommitted(1, "committed");
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          upsert(1, "updated");
+          upsert(2, "inserted");
+        });
+
+    // then
+    transaction.run(
+        () -> {
+          assertThat(get(1)).isEqualTo("updated");
+          assertThat(get(2)).isEqualTo("inserted");
+        });
+    assertThat(readFromOtherContext(1)).isEqualTo("committed");
+    assertThat(readFromOtherContext(2)).isNull();
+    transaction.rollback();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    upsertCommitted(1, "committed");
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, "updated");
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo("committed");
+    assertThat(readFromOtherContext(1)).isEqualTo("committed");
+  }
+
+  @Test
+  void shouldSeeCommittedWritesFromOtherContexts() {
+    // given
+    upsertCommitted(1, "committed");
+    assertThat(readFromOtherContext(1)).isEqualTo("committed");
+
+    // when
+    upsertCommitted(1, "updated");
+    context.runInTransaction(
+        () -> {
+          upsert(2, "inserted");
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+        });
+
+    // then
+    assertThat(readFromOtherContext(1)).isEqualTo("updated");
+    assertThat(readFromOtherContext(2)).isNull();
+  }
+
+  @Test
+  void shouldNotExceedCapacity() {
+    // given
+    final var largeValue = "x".repeat(1024);
+
+    // when
+    for (int i = 0; i < 1_000; i++) {
+      upsertCommitted(i, largeValue);
+    }
+
+    // then
+    final var cache = db.getCache(DefaultColumnFamily.DEFAULT);
+    assertThat(cache.entryCount()).isPositive().isLessThan((int) (CACHE_CAPACITY / 1024));
+    assertThat(get(0)).isEqualTo(largeValue);
+    assertThat(get(999)).isEqualTo(largeValue);
+  }
+
+  @Test
+  void shouldCountCacheHitsAndMisses() {
+    // given
+    upsertCommitted(1, "committed");
+    final var hits = lookups("hit");
+    final var misses = lookups("miss");
+
+    // when
+    assertThat(readFromOtherContext(2)).isNull();
+    assertThat(get(1)).isEqualTo("committed");
+
+    // then
+    assertThat(lookups("hit")).isEqualTo(hits + 1);
+    assertThat(lookups("miss")).isEqualTo(misses + 1);
+  }
+
+  private void upsertCommitted(final long k, final String v) {
+    context.runInTransaction(() -> upsert(k, v));
+  }
+
+  private void upsert(final long k, final String v) {
+    key.wrapLong(k);
+    value.wrapString(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private String get(final long k) {
+    key.wrapLong(k);
+    final var found = columnFamily.get(key);
+    return found == null ? null : found.toString();
+  }
+
+  private String readFromOtherContext(final long k) {
+    final var otherColumnFamily =
+        db.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, db.createContext(), new DbLong(), new DbString());
+    final var otherKey = new DbLong();
+    otherKey.wrapLong(k);
+    final var found = otherColumnFamily.get(otherKey);
+    return found == null ? null : found.toString();
+  }
+
+  private double lookups(final String result) {
+    final var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_cache_lookups_total",
+            new String[] {"partition", "columnFamily", "result"},
+            new String[] {
+              String.valueOf(PARTITION_ID), DefaultColumnFamily.DEFAULT.name(), result
+            });
+    return value == null ? 0 : value;
+  }
+}
@@ -34,7 +34,7 @@ final class ForeignKeyCheckerTest {
   @Test
   void shouldFailOnMissingForeignKey() throws Exception {
     // given
-    final var db = mock(ZeebeTransactionDb.class);
+    final var db = mockTransactionDb();
     final var tx = mock(ZeebeTransaction.class);
     final var check = new ForeignKeyChecker(db, new ConsistencyChecksSettings(true, true));
     final var key = new DbLong();
@@ -54,7 +54,7 @@ final class ForeignKeyCheckerTest {
   @Test
   void shouldSucceedOnExistingForeignKey() throws Exception {
     // given
-    final var db = mock(ZeebeTransactionDb.class);
+    final var db = mockTransactionDb();
     final var tx = mock(ZeebeTransaction.class);
     final var check = new ForeignKeyChecker(db, new ConsistencyChecksSettings(true, true));
     final var key = new DbLong();
@@ -70,7 +70,7 @@ final class ForeignKeyCheckerTest {
   @Test
   void shouldRespectSkipCondition() throws Exception {
     // given
-    final var db = mock(ZeebeTransactionDb.class);
+    final var db = mockTransactionDb();
     final var tx = mock(ZeebeTransaction.class);
     final var check = new ForeignKeyChecker(db, new ConsistencyChecksSettings(true, true));
     final var key = new DbLong();
@@ -98,7 +98,7 @@ final class ForeignKeyCheckerTest {
   @Test
   void shouldCheckIfKeyIsNotSkipped() throws Exception {
     // given
-    final var db = mock(ZeebeTransactionDb.class);
+    final var db = mockTransactionDb();
     final var tx = mock(ZeebeTransaction.class);
     final var check = new ForeignKeyChecker(db, new ConsistencyChecksSettings(true, true));
     final var key = new DbLong();
@@ -215,6 +215,12 @@ final class ForeignKeyCheckerTest {
     db.close();
   }
 
+  private static ZeebeTransactionDb<?> mockTransactionDb() {
+    final var db = mock(ZeebeTransactionDb.class);
+    when(db.getColumnFamily(anyInt())).thenReturn(new RocksDbColumnFamily(null, 0));
+    return db;
+  }
+
   private enum TestColumnFamilies implements EnumValue {
     TEST_COLUMN_FAMILY;
 
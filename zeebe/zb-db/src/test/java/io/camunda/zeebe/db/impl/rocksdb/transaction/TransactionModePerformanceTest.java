@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares the throughput of the transaction modes, by running transactions which resemble
+ * processing a command: a few entries are inserted, read back, updated and deleted again, such that
+ * the state doesn't grow over time.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TransactionModePerformanceTest {
+  private static final int ENTRIES_PER_TRANSACTION = 10;
+
+  // the ops/s of the write batch mode, compared to ~8_500 ops/s of the optimistic mode; when
+  // running this test locally, you're likely to have different scores
+  private static final double WRITE_BATCH_REFERENCE_SCORE = 11_000;
+
+  @Param({"OPTIMISTIC", "WRITE_BATCH"})
+  public TransactionMode transactionMode;
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private long nextKey;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("transaction-mode");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration().setTransactionMode(transactionMode),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureTransaction(final Blackhole blackhole) {
+    final long firstKey = nextKey;
+    nextKey += ENTRIES_PER_TRANSACTION;
+
+    context.runInTransaction(
+        () -> {
+          for (long k = firstKey; k < nextKey; k++) {
+            key.wrapLong(k);
+            value.wrapLong(k);
+            columnFamily.insert(key, value);
+          }
+          for (long k = firstKey; k < nextKey; k++) {
+            key.wrapLong(k);
+            blackhole.consume(columnFamily.get(key).getValue());
+            value.wrapLong(k + 1);
+            columnFamily.update(key, value);
+          }
+        });
+    context.runInTransaction(
+        () -> {
+          for (long k = firstKey; k < nextKey; k++) {
+            key.wrapLong(k);
+            columnFamily.deleteExisting(key);
+          }
+        });
+  }
+
+  @JMHTest("measureTransaction")
+  void shouldMeasureWriteBatchTransaction(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(
+        o -> o.addProfiler(GCProfiler.class).param("transactionMode", "WRITE_BATCH"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(WRITE_BATCH_REFERENCE_SCORE, 0.25);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class WriteBatchTransactionTest {
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private @TempDir File path;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void setup() {
+    db = createFactory(TransactionMode.WRITE_BATCH).createDb(path);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldReadOwnWritesBeforeCommit() throws Exception {
+    // given
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> upsert(1, 10));
+
+    // then
+    transaction.run(() -> assertThat(get(1)).isEqualTo(10));
+    assertThat(readCommitted(1)).isNull();
+    transaction.commit();
+    assertThat(readCommitted(1)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldIterateOverOwnAndCommittedWrites() throws Exception {
+    // given
+    context.runInTransaction(
+        () -> {
+          upsert(1, 10);
+          upsert(3, 30);
+        });
+    final var transaction = context.getCurrentTransaction();
+    final List<Long> keys = new ArrayList<>();
+
+    // when
+    transaction.run(
+        () -> {
+          upsert(2, 20);
+          key.wrapLong(3);
+          columnFamily.deleteExisting(key);
+          columnFamily.forEach((k, v) -> keys.add(k.getValue()));
+        });
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L);
+    transaction.rollback();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    context.runInTransaction(() -> upsert(1, 10));
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, 11);
+          upsert(2, 20);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(readCommitted(1)).isEqualTo(10);
+    assertThat(readCommitted(2)).isNull();
+  }
+
+  @Test
+  void shouldKeepDataWhenSwitchingTransactionMode() throws Exception {
+    // given
+    context.runInTransaction(() -> upsert(1, 10));
+    db.close();
+
+    // when
+    db = createFactory(TransactionMode.OPTIMISTIC).createDb(path);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    context.runInTransaction(() -> upsert(2, 20));
+    db.close();
+    db = createFactory(TransactionMode.WRITE_BATCH).createDb(path);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    // then
+    assertThat(readCommitted(1)).isEqualTo(10);
+    assertThat(readCommitted(2)).isEqualTo(20);
+  }
+
+  private void upsert(final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private Long get(final long k) {
+    key.wrapLong(k);
+    final var found = columnFamily.get(key);
+    return found == null ? null : found.getValue();
+  }
+
+  private Long readCommitted(final long k) {
+    final var otherContext = db.createContext();
+    final var otherColumnFamily =
+        db.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, new DbLong(), new DbLong());
+    final var otherKey = new DbLong();
+    otherKey.wrapLong(k);
+    final var found = otherColumnFamily.get(otherKey);
+    return found == null ? null : found.getValue();
+  }
+
+  private static ZeebeRocksDbFactory<DefaultColumnFamily> createFactory(
+      final TransactionMode transactionMode) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setTransactionMode(transactionMode),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+}
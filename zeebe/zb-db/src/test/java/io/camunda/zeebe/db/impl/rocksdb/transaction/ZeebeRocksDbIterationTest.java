@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -35,6 +39,7 @@ public final class ZeebeRocksDbIterationTest {
   private DbLong firstKey;
   private DbLong secondKey;
   private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private TransactionContext transactionContext;
 
   @Before
   public void setup() throws Exception {
@@ -44,14 +49,12 @@ public final class ZeebeRocksDbIterationTest {
     firstKey = new DbLong();
     secondKey = new DbLong();
     compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    transactionContext = zeebeDb.createContext();
     columnFamily =
         Mockito.spy(
             (TransactionalColumnFamily)
                 zeebeDb.createColumnFamily(
-                    DefaultColumnFamily.DEFAULT,
-                    zeebeDb.createContext(),
-                    compositeKey,
-                    DbNil.INSTANCE));
+                    DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, DbNil.INSTANCE));
   }
 
   @Test
@@ -85,4 +88,148 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldReuseIteratorWithinTransaction() {
+    // given
+    insertKeys(3, 5);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          for (long prefix = 0; prefix < 3; prefix++) {
+            firstKey.wrapLong(prefix);
+            columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+          }
+        });
+
+    // then
+    Mockito.verify(columnFamily, Mockito.times(1))
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+  }
+
+  @Test
+  public void shouldNotReuseIteratorAcrossTransactions() {
+    // given
+    insertKeys(3, 5);
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+
+    // when
+    firstKey.wrapLong(1);
+    secondKey.wrapLong(5);
+    columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+
+    // then
+    assertThat(columnFamily.countEqualPrefix(firstKey)).isEqualTo(6);
+    Mockito.verify(columnFamily, Mockito.times(2))
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+  }
+
+  @Test
+  public void shouldSeeOwnWritesWithReusedIterator() {
+    // given
+    insertKeys(3, 5);
+    final List<Long> counts = new ArrayList<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(1);
+          counts.add(columnFamily.countEqualPrefix(firstKey));
+
+          secondKey.wrapLong(5);
+          columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+          firstKey.wrapLong(2);
+          secondKey.wrapLong(0);
+          columnFamily.deleteExisting(compositeKey);
+
+          firstKey.wrapLong(1);
+          counts.add(columnFamily.countEqualPrefix(firstKey));
+          firstKey.wrapLong(2);
+          counts.add(columnFamily.countEqualPrefix(firstKey));
+        });
+
+    // then
+    assertThat(counts).containsExactly(5L, 6L, 4L);
+  }
+
+  @Test
+  public void shouldStopAtPrefixBoundaryOfFlushedKeys() throws Exception {
+    // given
+    insertKeys(3, 5);
+    // taking a snapshot flushes the memtables, such that the keys are read from SST files
+    zeebeDb.createSnapshot(new File(temporaryFolder.getRoot(), "snapshot"));
+
+    // when
+    final List<Long> counts = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          for (long prefix = 3; prefix >= 0; prefix--) {
+            firstKey.wrapLong(prefix);
+            counts.add(columnFamily.countEqualPrefix(firstKey));
+          }
+        });
+
+    // then
+    assertThat(counts).containsExactly(0L, 5L, 5L, 5L);
+  }
+
+  @Test
+  public void shouldStopAtPrefixBoundaryWhenPrefixEndsWithMaxBytes() {
+    // given
+    final long[] prefixes = {0xFFL, 0x100L, -1L};
+    for (final long prefix : prefixes) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < 2; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+
+    // when
+    final List<Long> visitedPrefixes = new ArrayList<>();
+    for (final long prefix : prefixes) {
+      firstKey.wrapLong(prefix);
+      columnFamily.whileEqualPrefix(
+          firstKey,
+          (key, value) -> {
+            visitedPrefixes.add(key.first().getValue());
+          });
+    }
+
+    // then
+    assertThat(visitedPrefixes).containsExactly(0xFFL, 0xFFL, 0x100L, 0x100L, -1L, -1L);
+  }
+
+  @Test
+  public void shouldIterateNestedOverSameColumnFamily() {
+    // given
+    insertKeys(2, 3);
+    final var outerKey = new DbLong();
+    final List<Long> innerCounts = new ArrayList<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () ->
+            columnFamily.whileTrue(
+                (key, value) -> {
+                  outerKey.wrapLong(key.first().getValue());
+                  innerCounts.add(columnFamily.countEqualPrefix(outerKey));
+                  return true;
+                }));
+
+    // then
+    assertThat(innerCounts).containsExactly(3L, 3L, 3L, 3L, 3L, 3L);
+  }
+
+  private void insertKeys(final long prefixes, final long suffixes) {
+    for (long prefix = 0; prefix < prefixes; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+  }
 }